@@ -0,0 +1,121 @@
+package de.unipassau.allocationsystem.aspect;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.service.audit.AuditLogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of the audit aspect and of reading record IDs.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuditAspectBenchmark {
+
+    private static final String NON_NUMERIC = "winter-term";
+
+    private Subject subject;
+    private SubjectOperations direct;
+    private SubjectOperations audited;
+
+    /**
+     * Operation audited like the service layer does it.
+     */
+    public static class SubjectOperations {
+        private final Subject subject;
+
+        public SubjectOperations(Subject subject) {
+            this.subject = subject;
+        }
+
+        /**
+         * Returns the subject as an audited create would.
+         *
+         * @param id the subject ID
+         * @return the subject
+         */
+        @Audited(action = AuditAction.CREATE, entityName = "Subject")
+        public Subject load(Long id) {
+            return subject;
+        }
+    }
+
+    /**
+     * Audit service that drops every event, so only the aspect itself is measured.
+     */
+    static final class DiscardingAuditLogService extends AuditLogService {
+        DiscardingAuditLogService() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public void logWithCurrentUser(AuditAction action, String targetEntity, String targetRecordId,
+                                       Object previousValue, Object newValue, String description) {
+            // discarded
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        subject = new Subject();
+        subject.setId(42L);
+        subject.setSubjectCode("MATH");
+        subject.setSubjectTitle("Mathematics");
+        subject.setIsActive(true);
+
+        direct = new SubjectOperations(subject);
+        AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new AuditAspect(new DiscardingAuditLogService(), null));
+        audited = factory.getProxy();
+    }
+
+    @Benchmark
+    public Subject directCall() {
+        return direct.load(42L);
+    }
+
+    @Benchmark
+    public Subject auditedCall() {
+        return audited.load(42L);
+    }
+
+    @Benchmark
+    public Object idByCachedAccessor() {
+        return IdAccessors.idOf(subject);
+    }
+
+    @Benchmark
+    public Object idByReflection() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        Method getId = subject.getClass().getMethod("getId");
+        return getId.invoke(subject);
+    }
+
+    @Benchmark
+    public boolean numericIdByScan() {
+        return IdAccessors.isNumericId(NON_NUMERIC);
+    }
+
+    @Benchmark
+    public boolean numericIdByParse() {
+        try {
+            Long.parseLong(NON_NUMERIC);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
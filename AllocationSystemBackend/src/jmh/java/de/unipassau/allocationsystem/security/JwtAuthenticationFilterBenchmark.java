@@ -0,0 +1,123 @@
+package de.unipassau.allocationsystem.security;
+
+import de.unipassau.allocationsystem.entity.User;
+import de.unipassau.allocationsystem.service.CustomUserDetailsService;
+import de.unipassau.allocationsystem.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the JWT filter per authenticated request, with and without the cache of verified tokens,
+ * against parsing a token the way every {@link JwtService} call did before (the filter made three such calls).
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "dGhpc0lzQVZlcnlTZWN1cmVTZWNyZXRLZXlGb3JKV1RBdXRoZW50aWNhdGlvbjEyMzQ1Njc4OTA=";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    private User user;
+    private String header;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+
+    /**
+     * User details service answering from memory, so only the filter itself is measured.
+     */
+    static final class FixedUserDetailsService extends CustomUserDetailsService {
+        private final User user;
+
+        FixedUserDetailsService(User user) {
+            super(null);
+            this.user = user;
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String email) {
+            return user;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setEmail("teacher@uni-passau.de");
+        user.setRole(User.UserRole.USER);
+
+        JwtService cached = jwtService(10_000);
+        header = "Bearer " + cached.generateToken(user);
+        cachedFilter = new JwtAuthenticationFilter(cached, new FixedUserDetailsService(user));
+        uncachedFilter = new JwtAuthenticationFilter(jwtService(0), new FixedUserDetailsService(user));
+    }
+
+    @Benchmark
+    public Authentication withoutToken() throws ServletException, IOException {
+        return filter(cachedFilter, null);
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws ServletException, IOException {
+        return filter(cachedFilter, header);
+    }
+
+    @Benchmark
+    public Authentication uncachedToken() throws ServletException, IOException {
+        return filter(uncachedFilter, header);
+    }
+
+    @Benchmark
+    public Claims parseWithParserPerCall() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(header.substring("Bearer ".length()))
+                .getPayload();
+    }
+
+    private static Authentication filter(JwtAuthenticationFilter filter, String authorization)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/teachers");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static JwtService jwtService(int cacheMaxSize) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        ReflectionTestUtils.setField(service, "expiration", TimeUnit.DAYS.toMillis(1));
+        ReflectionTestUtils.setField(service, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
@@ -4,6 +4,7 @@ import de.unipassau.allocationsystem.dto.allocation.AllocationParameters;
 import de.unipassau.allocationsystem.entity.InternshipCombinationRule;
 import de.unipassau.allocationsystem.entity.InternshipDemand;
 import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Subject;
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.TeacherAvailability;
@@ -13,6 +14,7 @@ import de.unipassau.allocationsystem.entity.TeacherSubjectExclusion;
 import de.unipassau.allocationsystem.entity.ZoneConstraint;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +26,11 @@ import java.util.stream.Collectors;
  * Context object holding all data and state needed during the allocation process.
  */
 class AllocationContext {
+    /**
+     * Assignment count at which a teacher counts as filled for budget purposes (2 assignments = 1 hour).
+     */
+    static final int FILLED_ASSIGNMENTS = 2;
+
     private AllocationParameters params;
     private List<Teacher> teachers;
     private List<InternshipDemand> demands;
@@ -42,6 +49,10 @@ class AllocationContext {
     private final Map<Long, Set<String>> uniqueAssignments = new HashMap<>();
 
     private final Map<Long, Integer> subjectCandidateCount = new HashMap<>();
+    /**
+     * Number of teachers per school type that reached {@link #FILLED_ASSIGNMENTS}, maintained in {@link #recordAssignment}.
+     */
+    private final Map<School.SchoolType, Integer> filledTeachersBySchoolType = new EnumMap<>(School.SchoolType.class);
     private int totalAssignmentsCreated = 0;
     // Accessors to satisfy visibility rules and for external use
     AllocationParameters getParams() {
@@ -182,7 +193,11 @@ class AllocationContext {
      * @param s The subject
      */
     public void recordAssignment(Teacher t, InternshipType type, Subject s) {
-        currentAssignmentCount.put(t.getId(), currentAssignmentCount.get(t.getId()) + 1);
+        int count = currentAssignmentCount.get(t.getId()) + 1;
+        currentAssignmentCount.put(t.getId(), count);
+        if (count == FILLED_ASSIGNMENTS && t.getSchool() != null && t.getSchool().getSchoolType() != null) {
+            filledTeachersBySchoolType.merge(t.getSchool().getSchoolType(), 1, Integer::sum);
+        }
         assignedTypes.get(t).add(type);
         uniqueAssignments.get(t.getId()).add(type.getId() + "-" + s.getId());
         totalAssignmentsCreated++;
@@ -211,6 +226,16 @@ class AllocationContext {
         return currentAssignmentCount.getOrDefault(t.getId(), 0);
     }
 
+    /**
+     * Gets the number of teachers of a school type with at least {@link #FILLED_ASSIGNMENTS} assignments.
+     * 
+     * @param schoolType The school type
+     * @return Number of filled teachers
+     */
+    public int getFilledTeacherCount(School.SchoolType schoolType) {
+        return filledTeachersBySchoolType.getOrDefault(schoolType, 0);
+    }
+
     /**
      * Gets target assignment count for teacher based on credit balance.
      * 
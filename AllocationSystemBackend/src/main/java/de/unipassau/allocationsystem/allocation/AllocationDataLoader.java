@@ -9,6 +9,7 @@ import de.unipassau.allocationsystem.entity.TeacherQualification;
 import de.unipassau.allocationsystem.entity.TeacherSubject;
 import de.unipassau.allocationsystem.entity.TeacherSubjectExclusion;
 import de.unipassau.allocationsystem.entity.ZoneConstraint;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 public class AllocationDataLoader {
 
     private final EntityManager entityManager;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Loads all available teachers for the academic year.
@@ -104,38 +106,25 @@ public class AllocationDataLoader {
     }
 
     /**
-     * Loads all internship types.
+     * Loads all internship types from the reference data cache.
      */
     public List<InternshipType> loadInternshipTypes() {
-        return entityManager.createQuery(
-                        "SELECT it FROM InternshipType it",
-                        InternshipType.class)
-                .getResultList();
+        return referenceDataCache.getAll(InternshipType.class);
     }
 
     /**
-     * Loads all zone constraints grouped by zone number.
+     * Loads all zone constraints from the reference data cache, grouped by zone number.
      */
     public Map<Integer, List<ZoneConstraint>> loadZoneConstraints() {
-        List<ZoneConstraint> constraints = entityManager.createQuery(
-                        "SELECT z FROM ZoneConstraint z",
-                        ZoneConstraint.class)
-                .getResultList();
-
-        return constraints.stream()
+        return referenceDataCache.getAll(ZoneConstraint.class).stream()
                 .collect(Collectors.groupingBy(ZoneConstraint::getZoneNumber));
     }
 
     /**
-     * Loads all internship combination rules grouped by first internship type ID.
+     * Loads all internship combination rules from the reference data cache, grouped by first internship type ID.
      */
     public Map<Long, List<InternshipCombinationRule>> loadCombinationRules() {
-        List<InternshipCombinationRule> rules = entityManager.createQuery(
-                        "SELECT r FROM InternshipCombinationRule r",
-                        InternshipCombinationRule.class)
-                .getResultList();
-
-        return rules.stream()
+        return referenceDataCache.getAll(InternshipCombinationRule.class).stream()
                 .collect(Collectors.groupingBy(r -> r.getInternshipType1().getId()));
     }
 }
@@ -176,17 +176,14 @@ class AllocationService {
 
     /**
      * Validates budget allocation.
+     * Uses the filled-teacher counters maintained by the context instead of rescanning all teachers.
      * 
      * @param ctx The allocation context
      * @param year The academic year
      */
     public void validateBudget(AllocationContext ctx, AcademicYear year) {
-        long primaryFilled = ctx.getTeachers().stream()
-                .filter(t -> t.getSchool().getSchoolType() == de.unipassau.allocationsystem.entity.School.SchoolType.PRIMARY)
-                .filter(t -> ctx.getAssignmentCount(t) >= 2).count();
-        long middleFilled = ctx.getTeachers().stream()
-                .filter(t -> t.getSchool().getSchoolType() == de.unipassau.allocationsystem.entity.School.SchoolType.MIDDLE)
-                .filter(t -> ctx.getAssignmentCount(t) >= 2).count();
+        int primaryFilled = ctx.getFilledTeacherCount(de.unipassau.allocationsystem.entity.School.SchoolType.PRIMARY);
+        int middleFilled = ctx.getFilledTeacherCount(de.unipassau.allocationsystem.entity.School.SchoolType.MIDDLE);
 
         log.info("BUDGET: Primary {}/{}, Middle {}/{}", primaryFilled, year.getElementarySchoolHours(), middleFilled, year.getMiddleSchoolHours());
     }
@@ -8,12 +8,16 @@ import de.unipassau.allocationsystem.entity.InternshipType;
 import de.unipassau.allocationsystem.entity.Subject;
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
 import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import de.unipassau.allocationsystem.service.archive.PlanArchivedEvent;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -37,6 +41,9 @@ public class ImprovedTeacherAllocationService {
     private final AllocationDataLoader dataLoader;
     private final AllocationService allocationService;
     private final TeacherAssignmentRepository teacherAssignmentRepository;
+    private final AllocationPlanRepository allocationPlanRepository;
+    private final DataVersionService dataVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Performs teacher allocation for the specified academic year.
@@ -277,11 +284,17 @@ public class ImprovedTeacherAllocationService {
     }
 
     private void archiveExistingPlans(Long yearId, Long planId) {
+        List<Long> planIds = allocationPlanRepository.findIdsByAcademicYearId(yearId);
         entityManager.createQuery("UPDATE AllocationPlan p SET p.isCurrent = false, p.status = 'ARCHIVED' "
                 + "WHERE p.academicYear.id = :yearId AND p.id != :planId")
                 .setParameter("yearId", yearId)
                 .setParameter("planId", planId)
                 .executeUpdate();
+        // The bulk update bypasses the entity listeners that bump data versions and the archive export
+        dataVersionService.bumpPlansAfterCommit(planIds);
+        planIds.stream()
+                .filter(id -> !id.equals(planId))
+                .forEach(id -> eventPublisher.publishEvent(new PlanArchivedEvent(id)));
     }
 
     private void activatePlan(AllocationPlan plan) {
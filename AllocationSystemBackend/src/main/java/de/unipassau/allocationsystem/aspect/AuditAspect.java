@@ -4,14 +4,22 @@ import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.service.audit.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
 import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * Aspect for automatically capturing audit events from service layer operations.
  * Intercepts methods annotated with @Audited and create audit log entries.
+ * Values are recorded as flat {@link PropertySnapshots}; with {@link Audited#capturePreviousValue()} only the
+ * fields changed by the method are stored.
  */
 @Aspect
 @Component
@@ -20,15 +28,22 @@ import org.springframework.stereotype.Component;
 public class AuditAspect {
 
     private final AuditLogService auditLogService;
+    private final EntityManager entityManager;
 
     /**
      * Intercept methods annotated with @Audited and create audit log entries.
      */
-    @AfterReturning(
-        pointcut = "@annotation(audited)",
-        returning = "result"
-    )
-    public void auditMethodExecution(JoinPoint joinPoint, Audited audited, Object result) {
+    @Around("@annotation(audited)")
+    public Object auditMethodExecution(ProceedingJoinPoint joinPoint, Audited audited) throws Throwable {
+        Class<?> entityClass = resolveEntityClass(joinPoint, audited);
+        Object argumentId = extractIdFromArguments(joinPoint.getArgs());
+        Map<String, Object> before = null;
+        if (audited.capturePreviousValue() && entityClass != null && argumentId != null) {
+            before = loadSnapshot(entityClass, argumentId);
+        }
+
+        Object result = joinPoint.proceed();
+
         String entityName;
         if (audited.entityName().isEmpty()) {
             entityName = extractEntityNameFromMethod(joinPoint);
@@ -45,9 +60,21 @@ public class AuditAspect {
         }
 
         Object recordId = extractRecordId(joinPoint, result);
-        // Note: Previous value capture not yet implemented - would require database query or ThreadLocal
-        Object previousValue = audited.capturePreviousValue() ? null : null;
-        Object newValue = audited.captureNewValue() ? result : null;
+        Object previousValue = null;
+        Object newValue = null;
+        Map<String, Object> after = null;
+        if (before != null) {
+            after = snapshotAfter(entityClass, argumentId, result);
+        }
+        if (after != null) {
+            PropertySnapshots.Changes changes = PropertySnapshots.changes(before, after);
+            previousValue = changes.previous();
+            if (audited.captureNewValue()) {
+                newValue = changes.current();
+            }
+        } else if (audited.captureNewValue()) {
+            newValue = toAuditValue(result);
+        }
 
         try {
             auditLogService.logWithCurrentUser(
@@ -61,6 +88,56 @@ public class AuditAspect {
         } catch (SecurityException e) {
             log.error("Security error creating audit log for method: {}", joinPoint.getSignature().getName(), e);
         }
+        return result;
+    }
+
+    private Class<?> resolveEntityClass(JoinPoint joinPoint, Audited audited) {
+        if (audited.entityClass() != void.class) {
+            return audited.entityClass();
+        }
+        Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (returnType.isAnnotationPresent(Entity.class)) {
+            return returnType;
+        }
+        return null;
+    }
+
+    /**
+     * Snapshots the state of an entity before the audited method changes it.
+     */
+    private Map<String, Object> loadSnapshot(Class<?> entityClass, Object id) {
+        try {
+            Object entity = entityManager.find(entityClass, id);
+            if (entity == null) {
+                return null;
+            }
+            return PropertySnapshots.snapshot(entity);
+        } catch (IllegalArgumentException e) {
+            log.debug("Could not load {} {} for audit snapshot: {}", entityClass.getSimpleName(), id, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Snapshots the state after the method, from its result if that is the entity, otherwise by reloading it.
+     */
+    private Map<String, Object> snapshotAfter(Class<?> entityClass, Object id, Object result) {
+        if (entityClass.isInstance(result)) {
+            return PropertySnapshots.snapshot(result);
+        }
+        return loadSnapshot(entityClass, id);
+    }
+
+    /**
+     * Converts a method result into the value stored in the audit log: simple values and collections as they are,
+     * entities and DTOs as flat snapshots.
+     */
+    private Object toAuditValue(Object result) {
+        if (result == null || PropertySnapshots.isSimpleType(result.getClass())
+                || result instanceof Iterable<?> || result instanceof Map<?, ?> || result.getClass().isArray()) {
+            return result;
+        }
+        return PropertySnapshots.snapshot(result);
     }
 
     private String extractEntityNameFromMethod(JoinPoint joinPoint) {
@@ -98,25 +175,7 @@ public class AuditAspect {
             return result;
         }
         
-        // Try to extract ID from result using getId() method
-        Object id = tryExtractIdByMethod(result, "getId");
-        if (id != null) {
-            return id;
-        }
-        
-        // Try alternative ID field names
-        return tryExtractIdByMethod(result, "id");
-    }
-    
-    private Object tryExtractIdByMethod(Object result, String methodName) {
-        try {
-            java.lang.reflect.Method getIdMethod = result.getClass().getMethod(methodName);
-            return getIdMethod.invoke(result);
-        } catch (NoSuchMethodException | IllegalAccessException | 
-                 java.lang.reflect.InvocationTargetException e) {
-            log.debug("Could not extract ID using method {}: {}", methodName, e.getMessage());
-            return null;
-        }
+        return IdAccessors.idOf(result);
     }
     
     private Object extractIdFromArguments(Object[] args) {
@@ -132,7 +191,7 @@ public class AuditAspect {
             
             // For String, check if it looks like an ID (numeric)
             if (arg instanceof String strArg && !strArg.isEmpty()) {
-                if (isNumericId(strArg)) {
+                if (IdAccessors.isNumericId(strArg)) {
                     return strArg;
                 }
             }
@@ -140,13 +199,4 @@ public class AuditAspect {
         
         return null;
     }
-    
-    private boolean isNumericId(String str) {
-        try {
-            Long.parseLong(str);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
-    }
 }
@@ -43,7 +43,8 @@ public @interface Audited {
     
     /**
      * Whether to capture the previous value before the operation.
-     * Note: This may require additional implementation to fetch the before-state.
+     * The entity identified by the method's ID argument is loaded and snapshotted before the method runs;
+     * the audit log then stores only the changed fields, with their previous and new values.
      */
     boolean capturePreviousValue() default false;
     
@@ -51,4 +52,10 @@ public @interface Audited {
      * Whether to capture the new value (result) after the operation.
      */
     boolean captureNewValue() default true;
+
+    /**
+     * Entity type loaded for {@link #capturePreviousValue()}.
+     * If not specified, the method's return type is used when it is an entity.
+     */
+    Class<?> entityClass() default void.class;
 }
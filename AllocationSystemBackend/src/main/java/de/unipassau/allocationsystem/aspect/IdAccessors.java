@@ -0,0 +1,127 @@
+package de.unipassau.allocationsystem.aspect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Reads the ID of entities, DTOs and records for audit logging.
+ * <p>
+ * The accessor of a class, {@code getId()} or else a record-style {@code id()}, is looked up once and cached
+ * as a method handle. Classes without an accessor are cached as well, so they are never looked up again.
+ * </p>
+ */
+public final class IdAccessors {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final String[] ACCESSOR_NAMES = {"getId", "id"};
+    private static final int MAX_LONG_DIGITS = 19;
+
+    private static final ClassValue<Optional<MethodHandle>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            return resolveAccessor(type);
+        }
+    };
+
+    private IdAccessors() {
+    }
+
+    /**
+     * Reads the ID of an object.
+     *
+     * @param bean the entity, DTO or record
+     * @return the ID, or {@code null} if the object is {@code null} or its class has no ID accessor
+     */
+    public static Object idOf(Object bean) {
+        if (bean == null) {
+            return null;
+        }
+        Optional<MethodHandle> accessor = ACCESSORS.get(bean.getClass());
+        if (accessor.isEmpty()) {
+            return null;
+        }
+        try {
+            return (Object) accessor.get().invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read ID of " + bean.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Checks whether a class has an ID accessor.
+     *
+     * @param type the class
+     * @return true if {@link #idOf(Object)} can read IDs of instances
+     */
+    public static boolean hasId(Class<?> type) {
+        return ACCESSORS.get(type).isPresent();
+    }
+
+    /**
+     * Checks whether a string is a decimal number that fits into a {@code long}, without parsing it.
+     *
+     * @param value the string
+     * @return true if {@link Long#parseLong(String)} would accept the ASCII digits of the string
+     */
+    public static boolean isNumericId(String value) {
+        int start = 0;
+        if (!value.isEmpty() && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            start = 1;
+        }
+        int digits = value.length() - start;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (digits < MAX_LONG_DIGITS) {
+            return true;
+        }
+        // Only 19-digit values can overflow
+        try {
+            Long.parseLong(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Optional<MethodHandle> resolveAccessor(Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return Optional.empty();
+        }
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        for (String name : ACCESSOR_NAMES) {
+            Method method = findAccessor(type, name);
+            if (method == null) {
+                continue;
+            }
+            try {
+                return Optional.of(lookup.unreflect(method).asType(GETTER_TYPE));
+            } catch (IllegalAccessException e) {
+                // declared in a class outside the public lookup, try the next name
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Method findAccessor(Class<?> type, String name) {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 0
+                    && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,179 @@
+package de.unipassau.allocationsystem.aspect;
+
+import jakarta.persistence.Entity;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Flat, field-level snapshots of entities and DTOs for audit logging.
+ * <p>
+ * A snapshot maps each readable property with a simple value (numbers, text, enums, dates) to its value,
+ * and each reference to another entity to that entity's ID; collections, nested objects and credentials
+ * (properties named like passwords, secrets or tokens) are left out.
+ * The getters of a class are resolved once into method handles and cached per class, so taking a snapshot
+ * costs a few handle invocations instead of reflective lookups or a full JSON serialization.
+ * </p>
+ */
+public final class PropertySnapshots {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final List<String> SENSITIVE_NAME_PARTS = List.of("password", "secret", "token");
+
+    private static final ClassValue<List<Property>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+            return resolveProperties(type);
+        }
+    };
+
+    private PropertySnapshots() {
+    }
+
+    /**
+     * Property of a class with its cached getter.
+     *
+     * @param name property name
+     * @param getter getter of type {@code (Object)Object}
+     * @param reference true if the property refers to another entity, whose ID is recorded
+     */
+    private record Property(String name, MethodHandle getter, boolean reference) {
+    }
+
+    /**
+     * Field-level difference of two snapshots.
+     *
+     * @param previous previous values of the changed properties
+     * @param current new values of the changed properties
+     */
+    public record Changes(Map<String, Object> previous, Map<String, Object> current) {
+
+        /**
+         * Checks whether any property changed.
+         *
+         * @return true if both snapshots are equal
+         */
+        public boolean isEmpty() {
+            return previous.isEmpty() && current.isEmpty();
+        }
+    }
+
+    /**
+     * Takes a snapshot of an object.
+     *
+     * @param bean the entity or DTO
+     * @return property values by property name
+     */
+    public static Map<String, Object> snapshot(Object bean) {
+        List<Property> properties = PROPERTIES.get(bean.getClass());
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Property property : properties) {
+            Object value = read(property, bean);
+            if (property.reference() && value != null) {
+                value = IdAccessors.idOf(value);
+            }
+            values.put(property.name(), value);
+        }
+        return values;
+    }
+
+    /**
+     * Computes the properties whose values differ between two snapshots of the same type.
+     *
+     * @param before snapshot taken before the change
+     * @param after snapshot taken after the change
+     * @return previous and new values of the changed properties only
+     */
+    public static Changes changes(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> previous = new LinkedHashMap<>();
+        Map<String, Object> current = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            Object old = before.get(entry.getKey());
+            if (!Objects.equals(old, entry.getValue())) {
+                previous.put(entry.getKey(), old);
+                current.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new Changes(previous, current);
+    }
+
+    /**
+     * Checks whether a value is recorded as is in a snapshot.
+     *
+     * @param type the value type
+     * @return true for primitives, numbers, text, booleans, enums, dates and UUIDs
+     */
+    public static boolean isSimpleType(Class<?> type) {
+        return type.isPrimitive()
+                || Number.class.isAssignableFrom(type)
+                || CharSequence.class.isAssignableFrom(type)
+                || type == Boolean.class
+                || type == Character.class
+                || type.isEnum()
+                || Temporal.class.isAssignableFrom(type)
+                || Date.class.isAssignableFrom(type)
+                || type == UUID.class;
+    }
+
+    private static boolean isSensitive(String propertyName) {
+        String name = propertyName.toLowerCase(Locale.ROOT);
+        return SENSITIVE_NAME_PARTS.stream().anyMatch(name::contains);
+    }
+
+    private static Object read(Property property, Object bean) {
+        try {
+            return (Object) property.getter().invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read property " + property.name(), e);
+        }
+    }
+
+    private static List<Property> resolveProperties(Class<?> type) {
+        PropertyDescriptor[] descriptors;
+        try {
+            descriptors = Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            return List.of();
+        }
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<Property> properties = new ArrayList<>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            Method getter = descriptor.getReadMethod();
+            if (getter == null || !Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                continue;
+            }
+            Class<?> propertyType = getter.getReturnType();
+            if (propertyType == String.class && isSensitive(descriptor.getName())) {
+                continue;
+            }
+            boolean reference = propertyType.isAnnotationPresent(Entity.class);
+            if (!reference && !isSimpleType(propertyType)) {
+                continue;
+            }
+            try {
+                MethodHandle handle = lookup.unreflect(getter).asType(GETTER_TYPE);
+                properties.add(new Property(descriptor.getName(), handle, reference));
+            } catch (IllegalAccessException e) {
+                // not accessible through the public lookup, left out of snapshots
+            }
+        }
+        return List.copyOf(properties);
+    }
+}
@@ -0,0 +1,44 @@
+package de.unipassau.allocationsystem.config;
+
+import de.unipassau.allocationsystem.service.cache.EntityVersionListener;
+import de.unipassau.allocationsystem.service.search.SearchIndexListener;
+import de.unipassau.allocationsystem.service.summary.PlanSummaryListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers application-level Hibernate event listeners on the session factory.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HibernateListenerConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityVersionListener entityVersionListener;
+    private final PlanSummaryListener planSummaryListener;
+    private final SearchIndexListener searchIndexListener;
+
+    /**
+     * Appends the post-commit listeners that maintain content version counters and search indexes
+     * and the in-transaction listeners that maintain plan assignment summaries.
+     */
+    @PostConstruct
+    public void registerListeners() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, entityVersionListener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, entityVersionListener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, entityVersionListener);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, searchIndexListener);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, searchIndexListener);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, searchIndexListener);
+        registry.appendListeners(EventType.POST_INSERT, planSummaryListener);
+        registry.appendListeners(EventType.POST_UPDATE, planSummaryListener);
+        registry.appendListeners(EventType.POST_DELETE, planSummaryListener);
+    }
+}
@@ -0,0 +1,12 @@
+package de.unipassau.allocationsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration enabling scheduled maintenance jobs such as audit log retention.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
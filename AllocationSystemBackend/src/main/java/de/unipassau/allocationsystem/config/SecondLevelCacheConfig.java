@@ -0,0 +1,100 @@
+package de.unipassau.allocationsystem.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the in-process JCache (Caffeine) regions behind the Hibernate second-level and query caches.
+ * <p>
+ * Every cacheable entity gets its own region, bounded in size with Caffeine's frequency-based eviction and
+ * expiring entries after {@code l2cache.entity.ttl-seconds} so that changes made outside Hibernate are eventually
+ * seen. Query results get a separate, smaller region. The update timestamps region, which Hibernate uses to
+ * invalidate cached query results after writes, is neither bounded nor expiring, as losing an entry could serve
+ * stale results.
+ * </p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Entities marked {@code @Cacheable}; their regions are named after the entity class.
+     */
+    private static final List<Class<?>> CACHED_ENTITIES = List.of(
+            AcademicYear.class, InternshipType.class, School.class, Subject.class, SubjectCategory.class
+    );
+
+    @Value("${l2cache.entity.max-size:1000}")
+    private long entityMaxSize;
+
+    @Value("${l2cache.entity.ttl-seconds:3600}")
+    private long entityTtlSeconds;
+
+    @Value("${l2cache.query.max-size:500}")
+    private long queryMaxSize;
+
+    @Value("${l2cache.query.ttl-seconds:600}")
+    private long queryTtlSeconds;
+
+    /**
+     * Creates the cache manager holding the second-level cache regions.
+     * <p>
+     * The manager is private to this application context rather than the JVM-wide default one, so that closing
+     * the context, as Spring does with this bean, never closes or shares regions with another context in the same
+     * JVM, such as a second test context.
+     * </p>
+     *
+     * @return the JCache cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()),
+                SecondLevelCacheConfig.class.getClassLoader());
+        for (Class<?> entity : CACHED_ENTITIES) {
+            cacheManager.createCache(entity.getName(), bounded(entityMaxSize, entityTtlSeconds));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                bounded(queryMaxSize, queryTtlSeconds));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate's JCache region factory.
+     *
+     * @param hibernateCacheManager the cache manager holding the regions
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        return configuration;
+    }
+}
@@ -5,6 +5,10 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -27,6 +31,7 @@ import lombok.RequiredArgsConstructor;
  * 
  * Main responsibilities:
  * - Enables web and method-level security annotations via EnableWebSecurity and EnableMethodSecurity.
+ * - Resolves hasPermission expressions with the in-memory RolePermissionEvaluator.
  * - Sets up the CustomUserDetailsService for loading user details from the database.
  * - Configures an AuthenticationProvider using BCrypt password encoding.
  * - Defines JWT authentication and exception handling using JwtAuthenticationFilter and JwtAuthenticationEntryPoint.
@@ -58,6 +63,20 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Expression handler that evaluates {@code hasPermission} in method security annotations against the
+     * role-permission tables. Static and lazy, so method security does not initialize the repositories early.
+     *
+     * @param permissionEvaluator the role permission evaluator
+     * @return MethodSecurityExpressionHandler using the evaluator
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(@Lazy PermissionEvaluator permissionEvaluator) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(permissionEvaluator);
+        return handler;
+    }
+
     /**
      * Configures the authentication manager for processing authentication requests.
      * 
@@ -1,7 +1,13 @@
 package de.unipassau.allocationsystem.controller;
 
 import de.unipassau.allocationsystem.utils.ResponseHandler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.function.Supplier;
 
 /**
  * Base class for REST API controllers providing common response handling methods.
@@ -21,6 +27,40 @@ public abstract class ApiControllerSupport {
         return ResponseHandler.success(message, data);
     }
 
+    /**
+     * Returns a 200 (OK) response tagged with {@code etag}, or a 304 (Not Modified) response if the
+     * request's {@code If-None-Match} header matches. The payload is not computed for a matching tag. For
+     * {@code If-None-Match: *} it is computed first, so a missing resource still fails (e.g. with 404) instead of
+     * answering 304. Without an ETag this behaves like {@link #ok(String, Object)}.
+     *
+     * @param etag current quoted entity tag (may be {@code null} to disable conditional handling)
+     * @param message success message to include in the response
+     * @param data supplier of the payload, invoked only if the client's copy is stale
+     * @return a {@link ResponseEntity} with HTTP 200 (OK) or 304 (Not Modified)
+     */
+    protected ResponseEntity<?> okIfModified(String etag, String message, Supplier<?> data) {
+        if (etag == null) {
+            return ok(message, data.get());
+        }
+        String ifNoneMatch = currentIfNoneMatch();
+        if (ResponseHandler.isNotModified(ifNoneMatch, etag)) {
+            return ResponseHandler.notModified(etag);
+        }
+        Object payload = data.get();
+        if (ResponseHandler.matchesAnyRepresentation(ifNoneMatch)) {
+            return ResponseHandler.notModified(etag);
+        }
+        return ResponseHandler.success(message, payload, etag);
+    }
+
+    private String currentIfNoneMatch() {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs instanceof ServletRequestAttributes servletAttrs) {
+            return servletAttrs.getRequest().getHeader(HttpHeaders.IF_NONE_MATCH);
+        }
+        return null;
+    }
+
     /**
      * Returns a 201 (Created) response produced by {@link ResponseHandler#created(String, Object)}.
      *
@@ -1,13 +1,20 @@
 package de.unipassau.allocationsystem.controller;
 
+import de.unipassau.allocationsystem.dto.auditlog.AuditArchiveDto;
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogCursorPageDto;
 import de.unipassau.allocationsystem.dto.auditlog.AuditLogDto;
 import de.unipassau.allocationsystem.dto.auditlog.AuditLogFilterDto;
 import de.unipassau.allocationsystem.dto.auditlog.AuditLogStatsDto;
+import de.unipassau.allocationsystem.dto.auditlog.AuditPipelineStatsDto;
 import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.mapper.AuditLogMapper;
+import de.unipassau.allocationsystem.service.audit.AuditLogCursor;
+import de.unipassau.allocationsystem.service.audit.AuditLogCursorPage;
 import de.unipassau.allocationsystem.service.audit.AuditLogExportService;
 import de.unipassau.allocationsystem.service.audit.AuditLogQueryService;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveService;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditEventCoalescer;
 import de.unipassau.allocationsystem.utils.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,17 +30,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,9 +59,13 @@ import java.util.stream.Collectors;
 @SecurityRequirement(name = "bearerAuth")
 public class AuditLogController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final AuditLogQueryService queryService;
     private final AuditLogExportService exportService;
     private final AuditLogMapper auditLogMapper;
+    private final AuditEventCoalescer auditEventCoalescer;
+    private final AuditArchiveService archiveService;
 
     /**
      * Get all audit logs with pagination and optional filters.
@@ -67,7 +78,9 @@ public class AuditLogController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
             summary = "Get audit logs",
-            description = "Retrieve audit logs with optional filtering and pagination. Admin access required."
+            description = "Retrieve audit logs with optional filtering and pagination. With q, only audit logs "
+                    + "whose description or values contain all words of q are returned, ranked by relevance. "
+                    + "Admin access required."
     )
         @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Audit logs retrieved successfully",
@@ -79,18 +92,87 @@ public class AuditLogController {
         int page = Optional.ofNullable(filterDto.getPage()).orElse(0);
         int size = Optional.ofNullable(filterDto.getSize()).orElse(10);
         Pageable pageable = createPageable(page, size, filterDto.getSortBy(), filterDto.getSortDirection());
-        Page<AuditLog> auditLogs = queryService.getAuditLogs(
-            filterDto.getUserId(), 
-            filterDto.getAction(), 
-            filterDto.getTargetEntity(), 
-            filterDto.getStartDate(), 
-            filterDto.getEndDate(), 
-            pageable
-        );
+        Page<AuditLog> auditLogs;
+        if (filterDto.getQ() != null && !filterDto.getQ().isBlank()) {
+            auditLogs = queryService.searchAuditLogs(
+                filterDto.getQ(),
+                filterDto.getUserId(),
+                filterDto.getAction(),
+                filterDto.getTargetEntity(),
+                filterDto.getStartDate(),
+                filterDto.getEndDate(),
+                pageable
+            );
+        } else {
+            auditLogs = queryService.getAuditLogs(
+                filterDto.getUserId(), 
+                filterDto.getAction(), 
+                filterDto.getTargetEntity(), 
+                filterDto.getStartDate(), 
+                filterDto.getEndDate(), 
+                pageable
+            );
+        }
 
         return ResponseHandler.success("Audit logs retrieved successfully", auditLogs.map(auditLogMapper::toDto));
     }
 
+    /**
+     * Get audit logs with keyset pagination and optional filters, newest first.
+     *
+     * @param filterDto DTO containing the filter parameters and the page size
+     * @param cursor opaque cursor returned as {@code nextCursor} by the previous page
+     * @param includeTotal whether to count all matching audit logs
+     * @return ResponseEntity containing one page of audit logs and the cursor of the next page
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Get audit logs by cursor",
+            description = "Retrieve audit logs newest first with keyset pagination. Pass the returned nextCursor "
+                    + "to read the following page; every page costs the same regardless of depth. "
+                    + "The total count is only computed on request. Admin access required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit logs retrieved successfully",
+                content = @Content(schema = @Schema(implementation = AuditLogCursorPageDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or filter parameters"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> getAuditLogsByCursor(
+        @ModelAttribute AuditLogFilterDto filterDto,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        int size = Optional.ofNullable(filterDto.getSize()).orElse(10);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        AuditLogCursorPage page = queryService.getAuditLogPage(
+            filterDto.getUserId(),
+            filterDto.getAction(),
+            filterDto.getTargetEntity(),
+            filterDto.getStartDate(),
+            filterDto.getEndDate(),
+            AuditLogCursor.decode(cursor),
+            size,
+            includeTotal
+        );
+
+        String nextCursor = null;
+        if (page.next() != null) {
+            nextCursor = page.next().encode();
+        }
+        AuditLogCursorPageDto dto = AuditLogCursorPageDto.builder()
+                .content(page.content().stream().map(auditLogMapper::toDto).toList())
+                .size(size)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .totalElements(page.totalElements())
+                .build();
+        return ResponseHandler.success("Audit logs retrieved successfully", dto);
+    }
+
     /**
      * Get audit logs for a specific entity and record.
      */
@@ -208,40 +290,91 @@ public class AuditLogController {
     }
 
     /**
-     * Export audit logs as CSV.
+     * Get metrics of the audit log write pipeline.
+     */
+    @GetMapping("/pipeline")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get audit pipeline metrics",
+        description = "Retrieve queue depth, batch sizes, write latency and overflow counters of the audit writer, "
+                + "and the number of coalesced and sampled out view events. Admin access required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved successfully",
+                content = @Content(schema = @Schema(implementation = AuditPipelineStatsDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> getPipelineStats() {
+        return ResponseHandler.success("Audit pipeline metrics retrieved successfully", auditEventCoalescer.getStats());
+    }
+
+    /**
+     * List the compressed archives of audit logs past the retention period.
+     */
+    @GetMapping("/archives")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "List audit log archives",
+        description = "Retrieve the monthly archives of audit logs past the retention period. Admin access required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archives retrieved successfully",
+                content = @Content(schema = @Schema(implementation = AuditArchiveDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> getArchives() {
+        return ResponseHandler.success("Audit log archives retrieved successfully", archiveService.listArchives());
+    }
+
+    /**
+     * Archive all audit logs past the retention period now instead of waiting for the scheduled run.
+     */
+    @PostMapping("/archives/compact")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Compact audit logs",
+        description = "Move audit logs past the retention period into compressed monthly archives. Admin access required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Compaction completed",
+                content = @Content(schema = @Schema(implementation = AuditArchiveDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> compactArchives() {
+        List<AuditArchiveDto> archived = archiveService.compact();
+        return ResponseHandler.success("Archived " + archived.size() + " month(s) of audit logs", archived);
+    }
+
+    /**
+     * Export audit logs as CSV, streamed from a database cursor.
      */
     @GetMapping("/export")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
         summary = "Export audit logs", 
-        description = "Export audit logs as CSV file with optional filters. Admin access required."
+        description = "Export audit logs as CSV file with optional filters, optionally gzip-compressed. "
+                + "Rows are streamed, so exports of any size are supported. Admin access required."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "CSV export generated successfully"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<byte[]> exportAuditLogs(
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
         @RequestParam(required = false) Long userId,
         @RequestParam(required = false) AuditAction action,
         @RequestParam(required = false) String targetEntity,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-        @RequestParam(defaultValue = "1000") int maxRecords
+        @Parameter(description = "Maximum number of rows; all matching rows if omitted")
+        @RequestParam(required = false) Integer maxRecords,
+        @RequestParam(defaultValue = "false") boolean gzip
     ) {
-            Pageable pageable = PageRequest.of(0, maxRecords,
-                    Sort.by(Sort.Direction.DESC, "eventTimestamp"));
-            Page<AuditLog> auditLogs = queryService.getAuditLogs(
-                    userId, action, targetEntity, startDate, endDate, pageable);
-
-            byte[] csvBytes = exportService.exportToCsv(auditLogs.getContent());
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment",
-                    exportService.generateFileName());
-            headers.setContentLength(csvBytes.length);
-
-            return new ResponseEntity<>(csvBytes, headers, HttpStatus.OK);
+        MediaType contentType = MediaType.parseMediaType("text/csv");
+        if (gzip) {
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+        return ResponseHandler.download(contentType, exportService.generateFileName(gzip),
+                out -> exportService.writeCsv(userId, action, targetEntity, startDate, endDate, maxRecords, out, gzip));
     }
 
     private Pageable createPageable(int page, int size, String sortBy, String sortDirection) {
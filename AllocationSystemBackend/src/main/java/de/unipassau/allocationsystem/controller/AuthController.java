@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,7 @@ public class AuthController {
      * login: authenticates the user with provided credentials and returns access tokens.
      * 
      * @param request Login request containing email and password
+     * @param httpRequest the HTTP request, whose remote address is throttled
      * @return ResponseEntity containing authentication tokens and user information
      */
     @Operation(summary = "Login", description = "Authenticate user and return access tokens")
@@ -51,12 +53,13 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Login successful",
                     content = @Content(schema = @Schema(implementation = LoginResponseDto.class))),
             @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto request) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto request, HttpServletRequest httpRequest) {
                 log.info("Login attempt for email: {}", request.getEmail());
-                LoginResponseDto response = authService.login(request);
+                LoginResponseDto response = authService.login(request, httpRequest.getRemoteAddr());
                 return ResponseHandler.success("Login successful", response);
         }
 
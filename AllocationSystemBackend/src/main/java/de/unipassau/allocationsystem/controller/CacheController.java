@@ -0,0 +1,52 @@
+package de.unipassau.allocationsystem.controller;
+
+import de.unipassau.allocationsystem.dto.cache.SecondLevelCacheStatsDto;
+import de.unipassau.allocationsystem.service.cache.SecondLevelCacheStatsService;
+import de.unipassau.allocationsystem.utils.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for monitoring the Hibernate second-level cache.
+ * Access restricted to admin users only.
+ */
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Second-level cache monitoring APIs")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheController {
+
+    private final SecondLevelCacheStatsService secondLevelCacheStatsService;
+
+    /**
+     * Get hit, miss and put counts of the second-level and query caches, overall and per region.
+     */
+    @GetMapping("/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+        summary = "Get second-level cache statistics",
+        description = "Retrieve hit, miss and put counts of the entity and query caches since startup, overall "
+                + "and per cache region. Admin access required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                content = @Content(schema = @Schema(implementation = SecondLevelCacheStatsDto.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> getStatistics() {
+        return ResponseHandler.success("Cache statistics retrieved successfully",
+                secondLevelCacheStatsService.getStats());
+    }
+}
@@ -75,6 +75,18 @@ public abstract class CrudControllerBase<Entity, CreateDto, UpdateDto, ResponseD
      */
     protected abstract BaseMapper<Entity, CreateDto, UpdateDto, ResponseDto> getMapper();
 
+    /**
+     * Current ETag for read responses, usually built with
+     * {@link de.unipassau.allocationsystem.service.cache.DataVersionService#tableETag(List)} over the tables
+     * reflected in this controller's read responses. Override to enable ETag / If-None-Match handling on the
+     * read endpoints; the default disables conditional responses.
+     *
+     * @return quoted ETag, or {@code null} if this controller does not support conditional responses
+     */
+    protected String getVersionETag() {
+        return null;
+    }
+
     /**
      * Get available sort fields for the entity.
      */
@@ -90,14 +102,15 @@ public abstract class CrudControllerBase<Entity, CreateDto, UpdateDto, ResponseD
     @GetByIdDocs
     @GetMapping("/{id}")
     public ResponseEntity<?> getById(@PathVariable Long id) {
-        ResponseDto dto = getService().getById(id)
+        return okIfModified(getVersionETag(), "Entity retrieved successfully", () -> getService().getById(id)
                 .map(getMapper()::toResponseDto)
-                .orElseThrow(() -> new ResourceNotFoundException("Entity not found with id: " + id));
-        return ok("Entity retrieved successfully", dto);
+                .orElseThrow(() -> new ResourceNotFoundException("Entity not found with id: " + id)));
     }
 
     /**
      * Get paginated entities.
+     * Pass {@code after} (empty for the first page, then the returned {@code nextCursor}) for keyset pagination,
+     * which skips the count query unless {@code includeTotal=true}.
      */
     @GetPaginatedDocs
     @GetMapping("/paginate")
@@ -105,8 +118,8 @@ public abstract class CrudControllerBase<Entity, CreateDto, UpdateDto, ResponseD
             @RequestParam Map<String, String> queryParams,
             @RequestParam(value = "searchValue", required = false) String searchValue
     ) {
-        return ok("Entities retrieved successfully (paginated)",
-                  getService().getPaginated(queryParams, searchValue));
+        return okIfModified(getVersionETag(), "Entities retrieved successfully (paginated)",
+                  () -> getService().getPaginated(queryParams, searchValue));
     }
 
     /**
@@ -115,8 +128,8 @@ public abstract class CrudControllerBase<Entity, CreateDto, UpdateDto, ResponseD
     @GetAllDocs
     @GetMapping("")
     public ResponseEntity<?> getAll() {
-        List<ResponseDto> list = getMapper().toResponseDtoList(getService().getAll());
-        return ok("Entities retrieved successfully", list);
+        return okIfModified(getVersionETag(), "Entities retrieved successfully",
+                () -> getMapper().toResponseDtoList(getService().getAll()));
     }
 
     /**
@@ -96,13 +96,6 @@ public ResponseEntity<?> getPaginate(
         @RequestParam(value = "searchValue", required = false) String searchValue
 ) {
         var result = service.getPaginated(queryParams, searchValue);
-        // Convert items to DTOs to avoid lazy loading serialization issues
-        if (result.containsKey("items")) {
-                @SuppressWarnings("unchecked")
-                List<InternshipDemand> items = (List<InternshipDemand>) result.get("items");
-                List<InternshipDemandResponseDto> dtoItems = internshipDemandMapper.toResponseDtoList(items);
-                result.put("items", dtoItems);
-        }
         return ResponseHandler.success("Internship demands retrieved successfully (paginated)", result);
 }
 
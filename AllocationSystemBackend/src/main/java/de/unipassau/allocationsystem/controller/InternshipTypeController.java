@@ -8,11 +8,14 @@ import de.unipassau.allocationsystem.mapper.BaseMapper;
 import de.unipassau.allocationsystem.mapper.InternshipTypeMapper;
 import de.unipassau.allocationsystem.service.CrudService;
 import de.unipassau.allocationsystem.service.InternshipTypeService;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for managing internship types.
  * Provides CRUD operations for internship type entities.
@@ -26,6 +29,7 @@ public class InternshipTypeController
 
     private final InternshipTypeService internshipTypeService;
     private final InternshipTypeMapper internshipTypeMapper;
+    private final DataVersionService dataVersionService;
 
     @Override
     protected CrudService<InternshipType, Long> getService() {
@@ -36,4 +40,9 @@ public class InternshipTypeController
     protected BaseMapper<InternshipType, InternshipTypeCreateDto, InternshipTypeUpdateDto, InternshipTypeResponseDto> getMapper() {
         return internshipTypeMapper;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected String getVersionETag() {
+        return dataVersionService.tableETag(List.of(InternshipType.class));
+    }
+}
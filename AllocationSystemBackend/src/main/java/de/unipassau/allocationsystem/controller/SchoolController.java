@@ -8,11 +8,14 @@ import de.unipassau.allocationsystem.mapper.BaseMapper;
 import de.unipassau.allocationsystem.mapper.SchoolMapper;
 import de.unipassau.allocationsystem.service.CrudService;
 import de.unipassau.allocationsystem.service.SchoolService;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for managing schools.
  * Provides CRUD operations for school entities.
@@ -26,6 +29,7 @@ public class SchoolController
 
     private final SchoolService schoolService;
     private final SchoolMapper schoolMapper;
+    private final DataVersionService dataVersionService;
 
     @Override
     protected CrudService<School, Long> getService() {
@@ -36,4 +40,9 @@ public class SchoolController
     protected BaseMapper<School, SchoolCreateDto, SchoolUpdateDto, SchoolResponseDto> getMapper() {
         return schoolMapper;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected String getVersionETag() {
+        return dataVersionService.tableETag(List.of(School.class));
+    }
+}
@@ -4,15 +4,19 @@ import de.unipassau.allocationsystem.dto.subject.SubjectCreateDto;
 import de.unipassau.allocationsystem.dto.subject.SubjectResponseDto;
 import de.unipassau.allocationsystem.dto.subject.SubjectUpdateDto;
 import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
 import de.unipassau.allocationsystem.mapper.BaseMapper;
 import de.unipassau.allocationsystem.mapper.SubjectMapper;
 import de.unipassau.allocationsystem.service.CrudService;
 import de.unipassau.allocationsystem.service.SubjectService;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST Controller for comprehensive subject management operations.
  * Provides endpoints for CRUD operations on subjects with pagination, search, and validation.
@@ -26,6 +30,7 @@ public class SubjectController
 
     private final SubjectService subjectService;
     private final SubjectMapper subjectMapper;
+    private final DataVersionService dataVersionService;
 
     @Override
     protected CrudService<Subject, Long> getService() {
@@ -36,5 +41,9 @@ public class SubjectController
     protected BaseMapper<Subject, SubjectCreateDto, SubjectUpdateDto, SubjectResponseDto> getMapper() {
         return subjectMapper;
     }
-}
 
+    @Override
+    protected String getVersionETag() {
+        return dataVersionService.tableETag(List.of(Subject.class, SubjectCategory.class));
+    }
+}
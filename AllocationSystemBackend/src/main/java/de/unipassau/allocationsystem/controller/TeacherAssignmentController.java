@@ -8,10 +8,18 @@ import de.unipassau.allocationsystem.mapper.BaseMapper;
 import de.unipassau.allocationsystem.mapper.TeacherAssignmentMapper;
 import de.unipassau.allocationsystem.service.CrudService;
 import de.unipassau.allocationsystem.service.TeacherAssignmentService;
+import de.unipassau.allocationsystem.service.report.AllocationReportStreamingService;
+import de.unipassau.allocationsystem.utils.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing teacher assignments.
@@ -26,6 +34,7 @@ public class TeacherAssignmentController
 
     private final TeacherAssignmentService assignmentService;
     private final TeacherAssignmentMapper assignmentMapper;
+    private final AllocationReportStreamingService streamingService;
 
     @Override
     protected CrudService<TeacherAssignment, Long> getService() {
@@ -36,4 +45,23 @@ public class TeacherAssignmentController
     protected BaseMapper<TeacherAssignment, TeacherAssignmentCreateDto, TeacherAssignmentUpdateDto, TeacherAssignmentResponseDto> getMapper() {
         return assignmentMapper;
     }
-}
\ No newline at end of file
+
+    /**
+     * Streams all assignments of an allocation plan.
+     * Rows are read through a database cursor and written one at a time.
+     *
+     * @param planId the allocation plan ID
+     * @param format output format: "json" (default, enveloped array) or "ndjson" (one assignment per line)
+     * @return ResponseEntity whose body is written while rows are read
+     */
+    @Operation(summary = "Stream plan assignments",
+            description = "Streams all assignments of a plan as JSON or newline-delimited JSON (format=ndjson).")
+    @GetMapping("/plan/{planId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamPlanAssignments(
+            @PathVariable Long planId,
+            @RequestParam(defaultValue = "json") String format) {
+        streamingService.assertPlanExists(planId);
+        boolean ndjson = ResponseHandler.isNdjson(format);
+        return ResponseHandler.streaming(ndjson, out -> streamingService.writePlanAssignments(planId, out, ndjson));
+    }
+}
@@ -19,7 +19,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -65,16 +64,6 @@ public class TeacherAvailabilityController extends CrudControllerBase<TeacherAva
             @RequestParam(value = "searchValue", required = false) String searchValue
     ) {
         Map<String, Object> result = teacherAvailabilityService.getPaginated(queryParams, searchValue);
-
-        Object itemsObj = result.get("items");
-        if (itemsObj instanceof List<?> items && !items.isEmpty() && items.get(0) instanceof TeacherAvailability) {
-            @SuppressWarnings("unchecked")
-            List<TeacherAvailability> entities = (List<TeacherAvailability>) itemsObj;
-
-            List<TeacherAvailabilityResponseDto> dtoItems = teacherAvailabilityMapper.toResponseDtoList(entities);
-            result.put("items", dtoItems);
-        }
-
         return ok("Teacher availability retrieved successfully (paginated)", result);
     }
 }
\ No newline at end of file
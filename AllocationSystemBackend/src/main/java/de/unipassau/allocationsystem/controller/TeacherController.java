@@ -5,8 +5,6 @@ import de.unipassau.allocationsystem.dto.teacher.TeacherResponseDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherStatusUpdateDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherUpdateDto;
 import de.unipassau.allocationsystem.dto.teacher.BulkImportResponseDto;
-import de.unipassau.allocationsystem.entity.Teacher;
-import de.unipassau.allocationsystem.mapper.TeacherMapper;
 import de.unipassau.allocationsystem.service.TeacherService;
 import de.unipassau.allocationsystem.utils.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -50,7 +48,6 @@ import java.util.Set;
 public class TeacherController {
 
     private final TeacherService teacherService;
-    private final TeacherMapper teacherMapper;
 
     /**
      * Retrieves available fields for sorting teachers.
@@ -122,15 +119,6 @@ public class TeacherController {
             @RequestParam(value = "searchValue", required = false) String searchValue
     ) {
         Map<String, Object> result = teacherService.getPaginated(queryParams, searchValue);
-        
-        // Map Teacher entities to DTOs
-        @SuppressWarnings("unchecked")
-        List<Teacher> teachers = (List<Teacher>) result.get("items");
-        if (teachers != null) {
-            List<TeacherResponseDto> teacherDtos = teacherMapper.toResponseDtoList(teachers);
-            result.put("items", teacherDtos);
-        }
-        
         return ResponseHandler.success("Teachers retrieved successfully (paginated)", result);
     }
 
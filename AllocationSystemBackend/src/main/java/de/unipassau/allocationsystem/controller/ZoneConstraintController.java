@@ -4,10 +4,12 @@ import de.unipassau.allocationsystem.dto.zoneconstraint.ZoneConstraintCreateDto;
 import de.unipassau.allocationsystem.dto.zoneconstraint.ZoneConstraintResponseDto;
 import de.unipassau.allocationsystem.dto.zoneconstraint.ZoneConstraintUpdateDto;
 import de.unipassau.allocationsystem.entity.ZoneConstraint;
+import de.unipassau.allocationsystem.entity.InternshipType;
 import de.unipassau.allocationsystem.mapper.BaseMapper;
 import de.unipassau.allocationsystem.mapper.ZoneConstraintMapper;
 import de.unipassau.allocationsystem.service.CrudService;
 import de.unipassau.allocationsystem.service.ZoneConstraintService;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,6 +37,7 @@ public class ZoneConstraintController
 
     private final ZoneConstraintService zoneConstraintService;
     private final ZoneConstraintMapper zoneConstraintMapper;
+    private final DataVersionService dataVersionService;
 
     @Override
     protected CrudService<ZoneConstraint, Long> getService() {
@@ -48,8 +52,8 @@ public class ZoneConstraintController
     @GetMapping("")
     @Override
     public org.springframework.http.ResponseEntity<?> getAll() {
-        var list = getMapper().toResponseDtoList(getService().getAll());
-        return ok("Zone constraints retrieved successfully", list);
+        return okIfModified(getVersionETag(), "Zone constraints retrieved successfully",
+                () -> getMapper().toResponseDtoList(getService().getAll()));
     }
 
     @GetMapping("/paginate")
@@ -58,15 +62,16 @@ public class ZoneConstraintController
             @RequestParam Map<String, String> queryParams,
             @RequestParam(value = "searchValue", required = false) String searchValue
     ) {
-        return ok("Zone constraints retrieved successfully (paginated)", getService().getPaginated(queryParams, searchValue));
+        return okIfModified(getVersionETag(), "Zone constraints retrieved successfully (paginated)",
+                () -> getService().getPaginated(queryParams, searchValue));
     }
 
     @GetMapping("/{id}")
     @Override
     public org.springframework.http.ResponseEntity<?> getById(@PathVariable Long id) {
-        ZoneConstraint dto = getService().getById(id)
-                .orElseThrow(() -> new de.unipassau.allocationsystem.exception.ResourceNotFoundException("ZoneConstraint not found with id: " + id));
-        return ok("Zone constraint retrieved successfully", getMapper().toResponseDto(dto));
+        return okIfModified(getVersionETag(), "Zone constraint retrieved successfully", () -> getService().getById(id)
+                .map(getMapper()::toResponseDto)
+                .orElseThrow(() -> new de.unipassau.allocationsystem.exception.ResourceNotFoundException("ZoneConstraint not found with id: " + id)));
     }
 
     @PostMapping
@@ -82,4 +87,9 @@ public class ZoneConstraintController
         ZoneConstraint updated = getService().update(id, getMapper().toEntityUpdate(dto));
         return updated("Zone constraint updated successfully", getMapper().toResponseDto(updated));
     }
+
+    @Override
+    protected String getVersionETag() {
+        return dataVersionService.tableETag(List.of(ZoneConstraint.class, InternshipType.class));
+    }
 }
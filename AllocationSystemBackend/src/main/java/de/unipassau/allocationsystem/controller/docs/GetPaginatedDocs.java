@@ -16,7 +16,8 @@ import java.lang.annotation.Target;
  */
 @Target({ ElementType.METHOD })
 @Retention(RetentionPolicy.RUNTIME)
-@Operation(summary = "Get paginated entities", description = "Retrieves entities with pagination, sorting, and optional search")
+@Operation(summary = "Get paginated entities", description = "Retrieves entities with pagination, sorting, and optional search. "
+        + "Pass 'after' (empty, then the returned nextCursor) for keyset pagination without a count query.")
 @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Entities retrieved successfully"),
     @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
@@ -1,19 +1,26 @@
 package de.unipassau.allocationsystem.controller.report;
 
-import de.unipassau.allocationsystem.dto.report.allocation.AllocationReportDto;
+import de.unipassau.allocationsystem.controller.ApiControllerSupport;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import de.unipassau.allocationsystem.service.report.AllocationReportService;
 import de.unipassau.allocationsystem.service.report.AllocationReportExcelService;
+import de.unipassau.allocationsystem.service.report.AllocationReportStreamingService;
+import de.unipassau.allocationsystem.service.report.PlanDiffExportService;
+import de.unipassau.allocationsystem.service.report.PlanDiffService;
 import de.unipassau.allocationsystem.utils.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 
@@ -26,27 +33,33 @@ import java.io.IOException;
 @RequestMapping("/reports")
 @RequiredArgsConstructor
 @Tag(name = "Allocation Reports", description = "Generate statistics and final reports for allocation plans")
-public class AllocationReportController {
+public class AllocationReportController extends ApiControllerSupport {
 
     private final AllocationReportService reportService;
     private final AllocationReportExcelService excelService;
+    private final AllocationReportStreamingService streamingService;
+    private final DataVersionService dataVersionService;
+    private final PlanDiffService planDiffService;
+    private final PlanDiffExportService planDiffExportService;
 
     /**
      * Retrieves the latest allocation report.
      * Generates a report for the current or most recent approved allocation plan.
+     * Honors {@code If-None-Match}: if nothing relevant changed, 304 is returned without generating the report.
      * 
      * @return ResponseEntity containing the allocation report
      */
     @Operation(summary = "Get Latest Allocation Report", description = "Generates a report for the current or most recent approved allocation plan.")
     @GetMapping("/allocation/latest")
     public ResponseEntity<?> getLatestAllocationReport() {
-        AllocationReportDto report = reportService.generateReportForLatest();
-        return ResponseHandler.success("Report generated successfully", report);
+        return okIfModified(dataVersionService.latestReportETag(), "Report generated successfully",
+                reportService::generateReportForLatest);
     }
 
     /**
      * Retrieves a full allocation report for a specific plan.
      * Generates a detailed report of assignments, budget usage, and teacher utilization.
+     * Honors {@code If-None-Match}: if the plan content is unchanged, 304 is returned without generating the report.
      * 
      * @param planId The ID of the allocation plan
      * @return ResponseEntity containing the allocation report
@@ -54,8 +67,63 @@ public class AllocationReportController {
     @Operation(summary = "Get Full Allocation Report", description = "Generates a detailed report of assignments, budget usage, and teacher utilization.")
     @GetMapping("/allocation/{planId}")
     public ResponseEntity<?> getAllocationReport(@PathVariable Long planId) {
-        AllocationReportDto report = reportService.generateReport(planId);
-        return ResponseHandler.success("Report generated successfully", report);
+        return okIfModified(dataVersionService.planReportETag(planId), "Report generated successfully",
+                () -> reportService.generateReport(planId));
+    }
+
+    /**
+     * Streams a full allocation report for a specific plan.
+     * Assignments are written incrementally from a database cursor, so memory use and time to first byte
+     * do not depend on the size of the plan.
+     *
+     * @param planId The ID of the allocation plan
+     * @param format Output format: "json" (default, same shape as the regular report) or "ndjson"
+     * @return ResponseEntity whose body is written while the report is generated
+     */
+    @Operation(summary = "Stream Full Allocation Report",
+            description = "Streams the allocation report as JSON or newline-delimited JSON (format=ndjson).")
+    @GetMapping("/allocation/{planId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllocationReport(
+            @PathVariable Long planId,
+            @RequestParam(defaultValue = "json") String format) {
+        streamingService.assertPlanExists(planId);
+        boolean ndjson = ResponseHandler.isNdjson(format);
+        return ResponseHandler.streaming(ndjson, out -> streamingService.writeReport(planId, out, ndjson));
+    }
+
+    /**
+     * Compares two allocation plans.
+     * Assignments are matched by teacher, internship type and subject and reported as added, removed or changed,
+     * followed by totals and per-teacher and per-subject deltas. Both plans are read as sorted streams
+     * and merge-joined, so plans of any size are compared in constant memory.
+     *
+     * @param basePlanId The ID of the plan to compare from
+     * @param targetPlanId The ID of the plan to compare to
+     * @param format Output format: "json" (default), "ndjson", "csv" or "xlsx"
+     * @return ResponseEntity whose body is written while the diff is computed
+     */
+    @Operation(summary = "Compare Allocation Plans",
+            description = "Streams the differences between two plans as JSON, NDJSON, CSV or Excel (format=json|ndjson|csv|xlsx).")
+    @GetMapping("/plan-diff/{basePlanId}/{targetPlanId}")
+    public ResponseEntity<StreamingResponseBody> diffPlans(
+            @PathVariable Long basePlanId,
+            @PathVariable Long targetPlanId,
+            @RequestParam(defaultValue = "json") String format) {
+        planDiffService.assertPlansExist(basePlanId, targetPlanId);
+        String fileName = "plan_diff_" + basePlanId + "_" + targetPlanId;
+
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseHandler.download(MediaType.parseMediaType("text/csv"), fileName + ".csv",
+                    out -> planDiffExportService.writeCsv(basePlanId, targetPlanId, out));
+        }
+        if ("xlsx".equalsIgnoreCase(format)) {
+            return ResponseHandler.download(
+                    MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+                    fileName + ".xlsx",
+                    out -> planDiffExportService.writeExcel(basePlanId, targetPlanId, out));
+        }
+        boolean ndjson = ResponseHandler.isNdjson(format);
+        return ResponseHandler.streaming(ndjson, out -> planDiffExportService.writeJson(basePlanId, targetPlanId, out, ndjson));
     }
 
     /**
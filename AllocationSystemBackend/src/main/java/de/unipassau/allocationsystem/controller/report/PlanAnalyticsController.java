@@ -0,0 +1,75 @@
+package de.unipassau.allocationsystem.controller.report;
+
+import de.unipassau.allocationsystem.service.archive.PlanAnalyticsService;
+import de.unipassau.allocationsystem.service.archive.PlanArchiveService;
+import de.unipassau.allocationsystem.service.archive.PlanColumns;
+import de.unipassau.allocationsystem.utils.ResponseHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST controller for cross-plan and cross-year analytics over the columnar plan archives.
+ */
+@RestController
+@RequestMapping("/reports/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Plan Analytics", description = "Cross-plan and cross-year analytics over archived plans")
+public class PlanAnalyticsController {
+
+    private final PlanArchiveService archiveService;
+    private final PlanAnalyticsService analyticsService;
+
+    /**
+     * Exports an approved or archived plan to its archive file, replacing an existing one.
+     *
+     * @param planId The ID of the allocation plan
+     * @return ResponseEntity containing the archive metadata
+     * @throws IOException if the archive cannot be written
+     */
+    @Operation(summary = "Export plan archive",
+            description = "Writes the columnar archive of an approved or archived plan. Archived plans are exported automatically.")
+    @PostMapping("/archive/{planId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportPlan(@PathVariable Long planId) throws IOException {
+        return ResponseHandler.success("Plan archive exported successfully", archiveService.exportPlan(planId));
+    }
+
+    /**
+     * Lists all exported plan archives.
+     *
+     * @return ResponseEntity containing the archive metadata
+     * @throws IOException if the archive directory cannot be read
+     */
+    @Operation(summary = "List plan archives", description = "Returns the metadata of all exported plan archives.")
+    @GetMapping("/archives")
+    public ResponseEntity<?> listArchives() throws IOException {
+        return ResponseHandler.success("Plan archives retrieved successfully", archiveService.listArchives());
+    }
+
+    /**
+     * Retrieves assignment and student totals per column value across all archived plans.
+     *
+     * @param column The column to group by
+     * @param value Optional column value to restrict the trend to
+     * @return ResponseEntity containing the trend points ordered by academic year
+     * @throws IOException if an archive cannot be read
+     */
+    @Operation(summary = "Get cross-year trends",
+            description = "Returns assignments, students and share per column value for every archived plan.")
+    @GetMapping("/trends")
+    public ResponseEntity<?> getTrends(@RequestParam(defaultValue = "SUBJECT") PlanColumns.Column column,
+                                       @RequestParam(required = false) String value) throws IOException {
+        return ResponseHandler.success("Plan trends generated successfully", analyticsService.trends(column, value));
+    }
+}
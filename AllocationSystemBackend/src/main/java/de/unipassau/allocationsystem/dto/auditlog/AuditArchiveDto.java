@@ -0,0 +1,26 @@
+package de.unipassau.allocationsystem.dto.auditlog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing one compressed audit log archive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditArchiveDto {
+
+    private String month;
+    private int part;
+    private long records;
+    private int blocks;
+    private long compressedBytes;
+    private LocalDateTime firstEvent;
+    private LocalDateTime lastEvent;
+}
@@ -0,0 +1,25 @@
+package de.unipassau.allocationsystem.dto.auditlog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of audit logs read with keyset pagination.
+ * {@code nextCursor} is passed back as {@code cursor} to read the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogCursorPageDto {
+
+    private List<AuditLogDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+}
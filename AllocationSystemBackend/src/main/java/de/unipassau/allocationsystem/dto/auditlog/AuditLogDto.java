@@ -28,5 +28,6 @@ public class AuditLogDto {
     private String newValue;
     private String description;
     private String ipAddress;
+    private int eventCount;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,28 @@
+package de.unipassau.allocationsystem.dto.auditlog;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the audit log columns included in exports.
+ * Leaves out the previous and new value snapshots, so exports never load those large text columns.
+ *
+ * @param id audit log ID
+ * @param userIdentifier email of the acting user or {@code SYSTEM}
+ * @param eventTimestamp time the event occurred
+ * @param action the audit action
+ * @param targetEntity the target entity type name
+ * @param targetRecordId the target record identifier
+ * @param description human-readable description
+ * @param ipAddress client IP address
+ */
+public record AuditLogExportRow(Long id,
+                                String userIdentifier,
+                                LocalDateTime eventTimestamp,
+                                AuditAction action,
+                                String targetEntity,
+                                String targetRecordId,
+                                String description,
+                                String ipAddress) {
+}
@@ -25,6 +25,9 @@ public class AuditLogFilterDto {
     private String targetRecordId;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
+
+    // Full-text search over description and values, results ranked by relevance
+    private String q;
     
     // Pagination parameters
     private Integer page;
@@ -0,0 +1,27 @@
+package de.unipassau.allocationsystem.dto.auditlog;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat projection of the audit log columns read by the full-text search index.
+ *
+ * @param id audit log ID
+ * @param userId ID of the acting user, {@code null} for system actions
+ * @param eventTimestamp time the event occurred
+ * @param action the audit action
+ * @param targetEntity the target entity type name
+ * @param description human-readable description
+ * @param previousValue previous value as JSON
+ * @param newValue new value as JSON
+ */
+public record AuditLogIndexRow(Long id,
+                               Long userId,
+                               LocalDateTime eventTimestamp,
+                               AuditAction action,
+                               String targetEntity,
+                               String description,
+                               String previousValue,
+                               String newValue) {
+}
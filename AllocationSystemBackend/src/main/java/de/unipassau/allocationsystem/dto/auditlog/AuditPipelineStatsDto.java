@@ -0,0 +1,34 @@
+package de.unipassau.allocationsystem.dto.auditlog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the metrics of the audit log write pipeline.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditPipelineStatsDto {
+
+    private String overflowPolicy;
+    private int queueCapacity;
+    private int queueDepth;
+    private long enqueued;
+    private long written;
+    private long dropped;
+    private long spilled;
+    private long failed;
+    private long batches;
+    private int lastBatchSize;
+    private int maxBatchSize;
+    private double averageBatchSize;
+    private double averageWriteMillis;
+    private double maxWriteMillis;
+    private long coalesced;
+    private long sampledOut;
+    private int openWindows;
+}
@@ -0,0 +1,23 @@
+package de.unipassau.allocationsystem.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the statistics of one second-level cache region.
+ * Element counts are -1 when the cache provider does not report them.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDto {
+
+    private String regionName;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+}
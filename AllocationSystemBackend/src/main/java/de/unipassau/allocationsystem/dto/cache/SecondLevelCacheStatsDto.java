@@ -0,0 +1,28 @@
+package de.unipassau.allocationsystem.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the Hibernate second-level and query cache statistics since startup.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SecondLevelCacheStatsDto {
+
+    private boolean statisticsEnabled;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+    private long queryCacheHitCount;
+    private long queryCacheMissCount;
+    private long queryCachePutCount;
+    private List<CacheRegionStatsDto> regions;
+}
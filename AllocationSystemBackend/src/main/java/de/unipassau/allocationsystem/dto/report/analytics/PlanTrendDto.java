@@ -0,0 +1,21 @@
+package de.unipassau.allocationsystem.dto.report.analytics;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for one data point of a cross-plan trend.
+ * Holds the assignments and students of one column value in one archived plan.
+ */
+@Data
+@Builder
+public class PlanTrendDto {
+    private String academicYear;
+    private Long planId;
+    private String planName;
+    private String planVersion;
+    private String value;
+    private long assignments;
+    private long students;
+    private double share; // assignments / total assignments of the plan
+}
@@ -0,0 +1,24 @@
+package de.unipassau.allocationsystem.dto.report.plandiff;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the aggregated difference of one teacher or subject between two allocation plans.
+ * Only teachers and subjects with at least one difference are reported.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanDiffDeltaDto {
+    private Long id;
+    private String label;
+    private int added;
+    private int removed;
+    private int changed;
+    private int assignmentDelta; // added - removed
+    private int studentDelta; // target - base student group size
+}
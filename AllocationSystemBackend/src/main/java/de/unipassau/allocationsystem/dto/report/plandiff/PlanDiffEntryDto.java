@@ -0,0 +1,40 @@
+package de.unipassau.allocationsystem.dto.report.plandiff;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for a single difference between two allocation plans.
+ * Identified by teacher, internship type and subject; base and target values are {@code null}
+ * on the side where the assignment does not exist.
+ */
+@Data
+@Builder
+public class PlanDiffEntryDto {
+
+    /**
+     * Kind of difference.
+     */
+    public enum ChangeType {
+        ADDED,
+        REMOVED,
+        CHANGED
+    }
+
+    private ChangeType changeType;
+    private Long teacherId;
+    private String teacherName;
+    private Long internshipTypeId;
+    private String internshipCode;
+    private Long subjectId;
+    private String subjectCode;
+    private Integer baseStudentGroupSize;
+    private Integer targetStudentGroupSize;
+    private String baseStatus;
+    private String targetStatus;
+    private Boolean baseManualOverride;
+    private Boolean targetManualOverride;
+    private List<String> changedFields;
+}
@@ -0,0 +1,57 @@
+package de.unipassau.allocationsystem.dto.report.plandiff;
+
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+
+/**
+ * Flat projection of a teacher assignment used by the plan diff.
+ * Rows of a plan are read ordered by {@link #compareKey(PlanDiffRow)}, i.e. by teacher, internship type and subject ID.
+ *
+ * @param teacherId teacher ID
+ * @param teacherFirstName teacher first name
+ * @param teacherLastName teacher last name
+ * @param internshipTypeId internship type ID
+ * @param internshipCode internship type code
+ * @param subjectId subject ID
+ * @param subjectCode subject code
+ * @param studentGroupSize student group size
+ * @param assignmentStatus assignment status
+ * @param manualOverride whether the assignment was set manually
+ */
+public record PlanDiffRow(Long teacherId,
+                          String teacherFirstName,
+                          String teacherLastName,
+                          Long internshipTypeId,
+                          String internshipCode,
+                          Long subjectId,
+                          String subjectCode,
+                          Integer studentGroupSize,
+                          TeacherAssignment.AssignmentStatus assignmentStatus,
+                          Boolean manualOverride) {
+
+    /**
+     * Compares the (teacher, internship type, subject) key of this row with another row.
+     *
+     * @param other row to compare with
+     * @return negative, zero or positive as this key is less than, equal to or greater than the other key
+     */
+    public int compareKey(PlanDiffRow other) {
+        int cmp = Long.compare(teacherId, other.teacherId);
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = Long.compare(internshipTypeId, other.internshipTypeId);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return Long.compare(subjectId, other.subjectId);
+    }
+
+    /**
+     * Returns the teacher's display name.
+     *
+     * @return first and last name
+     */
+    public String teacherName() {
+        return teacherFirstName + " " + teacherLastName;
+    }
+}
@@ -0,0 +1,22 @@
+package de.unipassau.allocationsystem.dto.report.plandiff;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO summarizing the differences between a base and a target allocation plan.
+ */
+@Data
+@Builder
+public class PlanDiffSummaryDto {
+    private Long basePlanId;
+    private Long targetPlanId;
+    private long added;
+    private long removed;
+    private long changed;
+    private long unchanged;
+    private List<PlanDiffDeltaDto> teacherDeltas;
+    private List<PlanDiffDeltaDto> subjectDeltas;
+}
@@ -30,10 +30,10 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_audit_user", columnList = "user_id"),
-    @Index(name = "idx_audit_entity", columnList = "target_entity"),
-    @Index(name = "idx_audit_action", columnList = "action"),
-    @Index(name = "idx_audit_timestamp", columnList = "event_timestamp")
+    @Index(name = "idx_audit_user_time", columnList = "user_id, event_timestamp, id"),
+    @Index(name = "idx_audit_entity_time", columnList = "target_entity, event_timestamp, id"),
+    @Index(name = "idx_audit_action_time", columnList = "action, event_timestamp, id"),
+    @Index(name = "idx_audit_time", columnList = "event_timestamp, id")
 })
 @Getter
 @Setter
@@ -125,6 +125,14 @@ public class AuditLog {
     @Column(name = "user_agent", length = USER_AGENT_LENGTH)
     private String userAgent;
 
+    /**
+     * Number of events this entry stands for.
+     * Repeated events coalesced by the audit pipeline are stored once with their count.
+     */
+    @Builder.Default
+    @Column(name = "event_count", nullable = false)
+    private int eventCount = 1;
+
     /**
      * Timestamp when this audit record was created (usually same as eventTimestamp).
      */
@@ -0,0 +1,58 @@
+package de.unipassau.allocationsystem.entity;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of audit events in one hour for one combination of action, target entity and user.
+ * Rows are written by the rollup compactor once an hour is closed and are kept when the raw audit logs
+ * are moved into archives, so statistics over any range can be summed hour by hour.
+ */
+@Entity
+@Table(name = "audit_log_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_audit_log_rollup_key",
+                columnNames = {"bucket_hour", "action", "target_entity", "user_identifier"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Start of the hour.
+     */
+    @Column(name = "bucket_hour", nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action", nullable = false, length = 50)
+    private AuditAction action;
+
+    @Column(name = "target_entity", nullable = false, length = 100)
+    private String targetEntity;
+
+    @Column(name = "user_identifier", nullable = false, length = 255)
+    private String userIdentifier;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
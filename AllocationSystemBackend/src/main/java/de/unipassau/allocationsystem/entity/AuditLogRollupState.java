@@ -0,0 +1,39 @@
+package de.unipassau.allocationsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the audit log rollup compactor, stored as a single row.
+ * All audit events before {@code compactedUntil} are contained in the {@link AuditLogRollup} rows.
+ */
+@Entity
+@Table(name = "audit_log_rollup_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogRollupState {
+
+    /**
+     * ID of the single state row.
+     */
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    /**
+     * Exclusive end of the compacted range, always the start of an hour.
+     */
+    @Column(name = "compacted_until", nullable = false)
+    private LocalDateTime compactedUntil;
+}
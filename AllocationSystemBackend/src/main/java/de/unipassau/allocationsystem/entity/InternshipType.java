@@ -1,5 +1,6 @@
 package de.unipassau.allocationsystem.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -16,6 +17,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -24,6 +27,8 @@ import java.time.LocalDateTime;
  * Defines the different types of internships that teachers can be assigned to.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "internship_types", indexes = {
         @Index(name = "idx_internship_type_code", columnList = "internship_code"),
         @Index(name = "idx_internship_type_priority", columnList = "priority_order"),
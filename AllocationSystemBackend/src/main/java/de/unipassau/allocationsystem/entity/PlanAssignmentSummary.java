@@ -0,0 +1,67 @@
+package de.unipassau.allocationsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated assignment count of an allocation plan for one value of one dimension,
+ * e.g. the number of assignments of plan 3 at PRIMARY schools.
+ * Rows are maintained incrementally when teacher assignments are written; a plan's summary is complete
+ * if and only if its {@link Dimension#TOTAL} row exists and no {@link Dimension#STALE} row does.
+ * {@link Dimension#SCHOOL_TYPE} and {@link Dimension#ZONE}
+ * counts are derived from the {@link Dimension#TEACHER} rows on read and never stored.
+ */
+@Entity
+@Table(name = "plan_assignment_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_plan_assignment_summary_key", columnNames = {"plan_id", "dimension", "dimension_key"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanAssignmentSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 30)
+    private Dimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 100)
+    private String dimensionKey;
+
+    @Column(name = "assignment_count", nullable = false)
+    private long assignmentCount;
+
+    /**
+     * Dimension an assignment count is grouped by. Keys are the enum name for school type and status,
+     * the zone number for zones, the entity ID for internship types, subjects and teachers, and empty for TOTAL
+     * and STALE. A STALE row marks a summary that missed a change; it is rebuilt on the next read.
+     */
+    public enum Dimension {
+        TOTAL,
+        SCHOOL_TYPE,
+        ZONE,
+        INTERNSHIP_TYPE,
+        SUBJECT,
+        TEACHER,
+        STATUS,
+        STALE
+    }
+}
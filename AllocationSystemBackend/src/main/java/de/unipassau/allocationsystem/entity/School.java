@@ -1,5 +1,6 @@
 package de.unipassau.allocationsystem.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -21,6 +22,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,6 +33,8 @@ import java.time.LocalDateTime;
  * Schools are the primary locations where teachers are assigned for internships.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "schools", indexes = {
         @Index(name = "idx_school_type", columnList = "school_type"),
         @Index(name = "idx_zone_number", columnList = "zone_number"),
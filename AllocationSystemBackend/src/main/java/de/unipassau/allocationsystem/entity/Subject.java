@@ -1,5 +1,6 @@
 package de.unipassau.allocationsystem.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -20,6 +21,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -28,6 +31,8 @@ import java.time.LocalDateTime;
  * Defines subjects that can be assigned to teachers for internships.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "subjects", indexes = {
         @Index(name = "idx_subject_code", columnList = "subject_code"),
         @Index(name = "idx_subject_category_id", columnList = "subject_category_id"),
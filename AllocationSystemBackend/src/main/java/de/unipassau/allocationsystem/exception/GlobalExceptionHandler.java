@@ -102,6 +102,17 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), "WARN");
     }
 
+    /**
+     * Handles requests rejected by a rate limit.
+     * 
+     * @param ex the too many requests exception
+     * @return response entity with 429 too many requests status
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+        return createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), "WARN");
+    }
+
     /**
      * Handles data integrity constraint violations from the database.
      * 
@@ -0,0 +1,15 @@
+package de.unipassau.allocationsystem.exception;
+
+/**
+ * Exception thrown when a client exceeds the allowed rate of requests.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    /**
+     * Constructs a new TooManyRequestsException with the specified detail message.
+     * 
+     * @param message the detail message explaining which limit was exceeded
+     */
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -48,6 +48,7 @@ public class AuditLogMapper {
                 .newValue(dto.getNewValue())
                 .description(dto.getDescription())
                 .ipAddress(dto.getIpAddress())
+                .eventCount(Math.max(1, dto.getEventCount()))
                 .createdAt(dto.getCreatedAt());
 
         if (dto.getId() != null && dto.getId() > 0) {
@@ -79,6 +80,7 @@ public class AuditLogMapper {
                 .newValue(entity.getNewValue())
                 .description(entity.getDescription())
                 .ipAddress(entity.getIpAddress())
+                .eventCount(entity.getEventCount())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
@@ -12,6 +12,7 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.projection.InternshipDemandRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -117,6 +118,29 @@ public class InternshipDemandMapper implements BaseMapper<InternshipDemand, Inte
         return r;
     }
 
+    /**
+     * Maps a demand list row to a response DTO.
+     *
+     * @param row the demand row
+     * @return the response DTO
+     */
+    public InternshipDemandResponseDto toResponseDto(InternshipDemandRow row) {
+        InternshipDemandResponseDto r = new InternshipDemandResponseDto();
+        r.setId(row.id());
+        r.setAcademicYearId(row.academicYearId());
+        r.setInternshipTypeId(row.internshipTypeId());
+        r.setInternshipTypeCode(row.internshipTypeCode());
+        r.setSubjectId(row.subjectId());
+        r.setSubjectCode(row.subjectCode());
+        r.setSchoolType(row.schoolType() != null ? row.schoolType().name() : null);
+        r.setRequiredTeachers(row.requiredTeachers());
+        r.setStudentCount(row.studentCount());
+        r.setIsForecasted(row.isForecasted());
+        r.setCreatedAt(row.createdAt());
+        r.setUpdatedAt(row.updatedAt());
+        return r;
+    }
+
     @Override
     public List<InternshipDemandResponseDto> toResponseDtoList(List<InternshipDemand> entities) {
         if (entities == null) {
@@ -13,6 +13,7 @@ import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.projection.TeacherAssignmentRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -146,6 +147,39 @@ public class TeacherAssignmentMapper implements BaseMapper<TeacherAssignment, Te
         }
     }
 
+    /**
+     * Maps an assignment list row to a response DTO, building the same titles as for entities.
+     *
+     * @param row the assignment row
+     * @return the response DTO
+     */
+    public TeacherAssignmentResponseDto toResponseDto(TeacherAssignmentRow row) {
+        TeacherAssignmentResponseDto dto = new TeacherAssignmentResponseDto();
+        dto.setId(row.id());
+        dto.setPlanId(row.planId());
+        if (row.planYearName() != null) {
+            dto.setPlanTitle(row.planYearName() + " (" + row.planVersion() + ")");
+        }
+        if (row.teacherId() != null) {
+            dto.setTeacherId(row.teacherId());
+            dto.setTeacherTitle(row.teacherFirstName() + " " + row.teacherLastName());
+        }
+        if (row.internshipTypeId() != null) {
+            dto.setInternshipTypeId(row.internshipTypeId());
+            dto.setInternshipTypeTitle(row.internshipTypeCode() + " " + row.internshipTypePeriodType());
+        }
+        dto.setSubjectId(row.subjectId());
+        dto.setSubjectTitle(row.subjectTitle());
+        dto.setStudentGroupSize(row.studentGroupSize());
+        dto.setAssignmentStatus(Optional.ofNullable(row.assignmentStatus()).map(Enum::name).orElse(null));
+        dto.setIsManualOverride(row.isManualOverride());
+        dto.setNotes(row.notes());
+        dto.setAssignedAt(row.assignedAt());
+        dto.setCreatedAt(row.createdAt());
+        dto.setUpdatedAt(row.updatedAt());
+        return dto;
+    }
+
     @Override
     public List<TeacherAssignmentResponseDto> toResponseDtoList(List<TeacherAssignment> entities) {
         if (entities == null) {
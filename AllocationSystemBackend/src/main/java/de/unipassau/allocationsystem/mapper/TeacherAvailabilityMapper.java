@@ -10,6 +10,7 @@ import de.unipassau.allocationsystem.entity.InternshipType;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
+import de.unipassau.allocationsystem.repository.projection.TeacherAvailabilityRow;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -124,6 +125,33 @@ public class TeacherAvailabilityMapper implements BaseMapper<TeacherAvailability
                 .build();
     }
 
+    /**
+     * Maps an availability list row to a response DTO.
+     *
+     * @param row the availability row
+     * @return the response DTO
+     */
+    public TeacherAvailabilityResponseDto toResponseDto(TeacherAvailabilityRow row) {
+        return TeacherAvailabilityResponseDto.builder()
+                .id(row.id())
+                .teacherId(row.teacherId())
+                .teacherFirstName(row.teacherFirstName())
+                .teacherLastName(row.teacherLastName())
+                .teacherEmail(row.teacherEmail())
+                .academicYearId(row.academicYearId())
+                .academicYearName(row.academicYearName())
+                .internshipTypeId(row.internshipTypeId())
+                .internshipTypeName(row.internshipTypeName())
+                .internshipTypeCode(row.internshipTypeCode())
+                .status(row.status())
+                .isAvailable(row.isAvailable())
+                .preferenceRank(row.preferenceRank())
+                .notes(row.notes())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     @Override
     public List<TeacherAvailabilityResponseDto> toResponseDtoList(List<TeacherAvailability> entities) {
         if (entities == null) {
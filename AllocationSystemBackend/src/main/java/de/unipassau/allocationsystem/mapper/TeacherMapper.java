@@ -14,6 +14,7 @@ import de.unipassau.allocationsystem.dto.teacher.TeacherUpdateDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherUpsertDto;
 import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.repository.projection.TeacherRow;
 
 /**
  * Mapper for converting between Teacher entity and DTOs.
@@ -80,6 +81,33 @@ public class TeacherMapper implements BaseMapper<Teacher, TeacherCreateDto, Teac
                 .build();
     }
 
+    /**
+     * Maps a teacher list row and its subjects to a response DTO.
+     *
+     * @param row the teacher row
+     * @param subjects the subjects of the teacher
+     * @return the response DTO
+     */
+    public TeacherResponseDto toResponseDto(TeacherRow row, List<SubjectSimpleDto> subjects) {
+        return TeacherResponseDto.builder()
+                .id(row.id())
+                .schoolId(row.schoolId())
+                .schoolName(row.schoolName())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .email(row.email())
+                .phone(row.phone())
+                .isPartTime(row.isPartTime())
+                .workingHoursPerWeek(row.workingHoursPerWeek())
+                .employmentStatus(row.employmentStatus())
+                .usageCycle(row.usageCycle())
+                .creditHourBalance(row.creditHourBalance())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .subjects(subjects)
+                .build();
+    }
+
     @Override
     public List<TeacherResponseDto> toResponseDtoList(List<Teacher> entities) {
         if (entities == null) {
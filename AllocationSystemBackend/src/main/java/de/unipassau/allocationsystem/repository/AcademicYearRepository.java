@@ -1,8 +1,11 @@
 package de.unipassau.allocationsystem.repository;
 
 import de.unipassau.allocationsystem.entity.AcademicYear;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,5 +21,6 @@ public interface AcademicYearRepository extends JpaRepository<AcademicYear, Long
      * @param yearName the year name (e.g., "2025/2026")
      * @return optional containing the academic year if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<AcademicYear> findByYearName(String yearName);
 }
@@ -67,9 +67,16 @@ public interface AllocationPlanRepository extends JpaRepository<AllocationPlan,
      */
     long countByAcademicYearIdAndStatus(Long yearId, PlanStatus status);
 
+    /**
+     * Find the IDs of all plans of a specific academic year.
+     */
+    @Query("SELECT ap.id FROM AllocationPlan ap WHERE ap.academicYear.id = :yearId")
+    List<Long> findIdsByAcademicYearId(@Param("yearId") Long yearId);
+
     /**
      * Set is_current to false for all plans of a specific academic year.
-     * This is used when setting a new plan as current.
+     * This is used when setting a new plan as current. Bypasses the entity listeners,
+     * so callers have to bump the plans' data versions.
      */
     @Modifying
     @Query("UPDATE AllocationPlan ap SET ap.isCurrent = false WHERE ap.academicYear.id = :yearId")
@@ -77,6 +84,7 @@ public interface AllocationPlanRepository extends JpaRepository<AllocationPlan,
 
     /**
      * Set is_current to false for all plans of a specific academic year except the given plan ID.
+     * Bypasses the entity listeners, so callers have to bump the plans' data versions.
      */
     @Modifying
     @Query("UPDATE AllocationPlan ap SET ap.isCurrent = false " +
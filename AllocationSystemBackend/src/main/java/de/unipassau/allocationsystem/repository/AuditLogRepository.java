@@ -1,17 +1,27 @@
 package de.unipassau.allocationsystem.repository;
 
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogExportRow;
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow;
 import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing AuditLog entities.
@@ -77,9 +87,77 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     );
 
     /**
-     * Get audit log count by action type for reporting.
+     * Keyset page of the audit logs matching the same filters as {@link #findByFilters}, newest first.
+     * Starts behind the position ({@code afterTimestamp}, {@code afterId}), or at the newest entry if
+     * {@code afterTimestamp} is null, so the cost of a page does not depend on its depth.
      */
-    @Query("SELECT a.action, COUNT(a) FROM AuditLog a " +
+    @Query("SELECT a FROM AuditLog a WHERE " +
+           "(:userId IS NULL OR (a.user IS NOT NULL AND a.user.id = :userId)) AND " +
+           "(:action IS NULL OR a.action = :action) AND " +
+           "(:targetEntity IS NULL OR a.targetEntity = :targetEntity) AND " +
+           "(:startDate IS NULL OR a.eventTimestamp >= :startDate) AND " +
+           "(:endDate IS NULL OR a.eventTimestamp <= :endDate) AND " +
+           "(:afterTimestamp IS NULL OR a.eventTimestamp < :afterTimestamp OR " +
+           "(a.eventTimestamp = :afterTimestamp AND a.id < :afterId)) " +
+           "ORDER BY a.eventTimestamp DESC, a.id DESC")
+    List<AuditLog> findPageByFilters(
+        @Param("userId") Long userId,
+        @Param("action") AuditAction action,
+        @Param("targetEntity") String targetEntity,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("afterTimestamp") LocalDateTime afterTimestamp,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    /**
+     * Count the audit logs matching the same filters as {@link #findByFilters}.
+     */
+    @Query("SELECT COUNT(a) FROM AuditLog a WHERE " +
+           "(:userId IS NULL OR (a.user IS NOT NULL AND a.user.id = :userId)) AND " +
+           "(:action IS NULL OR a.action = :action) AND " +
+           "(:targetEntity IS NULL OR a.targetEntity = :targetEntity) AND " +
+           "(:startDate IS NULL OR a.eventTimestamp >= :startDate) AND " +
+           "(:endDate IS NULL OR a.eventTimestamp <= :endDate)")
+    long countByFilters(
+        @Param("userId") Long userId,
+        @Param("action") AuditAction action,
+        @Param("targetEntity") String targetEntity,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * Stream the export columns of the audit logs matching the same filters as {@link #findByFilters},
+     * newest first, without loading the value snapshots. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new de.unipassau.allocationsystem.dto.auditlog.AuditLogExportRow(" +
+           "a.id, a.userIdentifier, a.eventTimestamp, a.action, a.targetEntity, a.targetRecordId, " +
+           "a.description, a.ipAddress) FROM AuditLog a WHERE " +
+           "(:userId IS NULL OR (a.user IS NOT NULL AND a.user.id = :userId)) AND " +
+           "(:action IS NULL OR a.action = :action) AND " +
+           "(:targetEntity IS NULL OR a.targetEntity = :targetEntity) AND " +
+           "(:startDate IS NULL OR a.eventTimestamp >= :startDate) AND " +
+           "(:endDate IS NULL OR a.eventTimestamp <= :endDate) " +
+           "ORDER BY a.eventTimestamp DESC, a.id DESC")
+    Stream<AuditLogExportRow> streamExportRows(
+        @Param("userId") Long userId,
+        @Param("action") AuditAction action,
+        @Param("targetEntity") String targetEntity,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        Limit limit
+    );
+
+    /**
+     * Get audit event count by action type for reporting, coalesced entries counted with their event count.
+     */
+    @Query("SELECT a.action, SUM(a.eventCount) FROM AuditLog a " +
            "WHERE a.eventTimestamp BETWEEN :startDate AND :endDate " +
            "GROUP BY a.action")
     List<Object[]> getActionStatistics(
@@ -88,9 +166,9 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     );
 
     /**
-     * Get audit log count by entity type for reporting.
+     * Get audit event count by entity type for reporting, coalesced entries counted with their event count.
      */
-    @Query("SELECT a.targetEntity, COUNT(a) FROM AuditLog a " +
+    @Query("SELECT a.targetEntity, SUM(a.eventCount) FROM AuditLog a " +
            "WHERE a.eventTimestamp BETWEEN :startDate AND :endDate " +
            "GROUP BY a.targetEntity")
     List<Object[]> getEntityStatistics(
@@ -99,17 +177,32 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     );
 
     /**
-     * Get audit log count by user for reporting.
+     * Get audit event count by user for reporting, coalesced entries counted with their event count.
      */
-    @Query("SELECT a.userIdentifier, COUNT(a) FROM AuditLog a " +
+    @Query("SELECT a.userIdentifier, SUM(a.eventCount) FROM AuditLog a " +
            "WHERE a.eventTimestamp BETWEEN :startDate AND :endDate " +
            "GROUP BY a.userIdentifier " +
-           "ORDER BY COUNT(a) DESC")
+           "ORDER BY SUM(a.eventCount) DESC")
     List<Object[]> getUserActivityStatistics(
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * Count audit events per hour, action type, entity type and user, for building hourly rollups.
+     * Coalesced entries count with their event count.
+     * Returns year, month, day, hour, action, entity type, user identifier and count.
+     */
+    @Query("SELECT year(a.eventTimestamp), month(a.eventTimestamp), day(a.eventTimestamp), " +
+           "hour(a.eventTimestamp), a.action, a.targetEntity, a.userIdentifier, SUM(a.eventCount) FROM AuditLog a " +
+           "WHERE (:from IS NULL OR a.eventTimestamp >= :from) AND a.eventTimestamp < :to " +
+           "GROUP BY year(a.eventTimestamp), month(a.eventTimestamp), day(a.eventTimestamp), " +
+           "hour(a.eventTimestamp), a.action, a.targetEntity, a.userIdentifier")
+    List<Object[]> countByHour(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
     /**
      * Find recent audit logs (for dashboard/monitoring).
      */
@@ -123,4 +216,71 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
         LocalDateTime startDate, 
         LocalDateTime endDate
     );
+
+    /**
+     * Find the oldest audit log.
+     */
+    Optional<AuditLog> findFirstByOrderByEventTimestampAsc();
+
+    /**
+     * Stream the audit logs of a time range in event timestamp order, with the user ID available
+     * without loading users. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM AuditLog a " +
+           "WHERE a.eventTimestamp >= :from AND a.eventTimestamp < :to " +
+           "ORDER BY a.eventTimestamp, a.id")
+    Stream<AuditLog> streamByEventTimestampRange(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Read the audit logs after an ID in ID order, as indexed by the full-text search.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow(" +
+           "a.id, a.user.id, a.eventTimestamp, a.action, a.targetEntity, " +
+           "a.description, a.previousValue, a.newValue) " +
+           "FROM AuditLog a WHERE a.id > :afterId ORDER BY a.id")
+    List<AuditLogIndexRow> findIndexRows(
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    /**
+     * Read the audit logs with the given IDs in ID order, as indexed by the full-text search.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow(" +
+           "a.id, a.user.id, a.eventTimestamp, a.action, a.targetEntity, " +
+           "a.description, a.previousValue, a.newValue) " +
+           "FROM AuditLog a WHERE a.id IN :ids ORDER BY a.id")
+    List<AuditLogIndexRow> findIndexRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Read the audit log IDs after an ID up to a maximum ID in ID order.
+     */
+    @Query("SELECT a.id FROM AuditLog a WHERE a.id > :afterId AND a.id <= :maxId ORDER BY a.id")
+    List<Long> findIdsBetween(
+        @Param("afterId") Long afterId,
+        @Param("maxId") Long maxId,
+        Limit limit
+    );
+
+    /**
+     * Find the lowest audit log ID still in the table.
+     */
+    @Query("SELECT MIN(a.id) FROM AuditLog a")
+    Optional<Long> findMinId();
+
+    /**
+     * Delete audit logs by ID.
+     */
+    @Modifying
+    @Query("DELETE FROM AuditLog a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
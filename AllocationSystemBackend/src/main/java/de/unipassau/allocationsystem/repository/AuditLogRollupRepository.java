@@ -0,0 +1,51 @@
+package de.unipassau.allocationsystem.repository;
+
+import de.unipassau.allocationsystem.entity.AuditLogRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for hourly audit log rollups.
+ * The sums mirror the statistics queries of {@link AuditLogRepository} for a range of whole hours.
+ */
+@Repository
+public interface AuditLogRollupRepository extends JpaRepository<AuditLogRollup, Long> {
+
+    /**
+     * Sum event counts by action type for the hours from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    @Query("SELECT r.action, SUM(r.eventCount) FROM AuditLogRollup r " +
+           "WHERE r.bucketHour >= :from AND r.bucketHour < :to " +
+           "GROUP BY r.action")
+    List<Object[]> sumByAction(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Sum event counts by entity type for the hours from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    @Query("SELECT r.targetEntity, SUM(r.eventCount) FROM AuditLogRollup r " +
+           "WHERE r.bucketHour >= :from AND r.bucketHour < :to " +
+           "GROUP BY r.targetEntity")
+    List<Object[]> sumByEntity(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Sum event counts by user for the hours from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    @Query("SELECT r.userIdentifier, SUM(r.eventCount) FROM AuditLogRollup r " +
+           "WHERE r.bucketHour >= :from AND r.bucketHour < :to " +
+           "GROUP BY r.userIdentifier")
+    List<Object[]> sumByUser(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+}
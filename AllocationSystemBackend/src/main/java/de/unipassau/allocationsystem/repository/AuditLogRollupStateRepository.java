@@ -0,0 +1,28 @@
+package de.unipassau.allocationsystem.repository;
+
+import de.unipassau.allocationsystem.entity.AuditLogRollupState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for the progress of the audit log rollup compactor.
+ */
+@Repository
+public interface AuditLogRollupStateRepository extends JpaRepository<AuditLogRollupState, Long> {
+
+    /**
+     * Find the state row and lock it until the end of the transaction, so only one compaction runs at a time.
+     *
+     * @param id the state row ID
+     * @return the state if compaction has run before
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AuditLogRollupState s WHERE s.id = :id")
+    Optional<AuditLogRollupState> findForUpdate(@Param("id") Long id);
+}
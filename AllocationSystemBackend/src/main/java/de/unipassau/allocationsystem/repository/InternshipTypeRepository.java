@@ -1,8 +1,11 @@
 package de.unipassau.allocationsystem.repository;
 
 import de.unipassau.allocationsystem.entity.InternshipType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,6 +21,7 @@ public interface InternshipTypeRepository extends JpaRepository<InternshipType,
      * @param internshipCode the internship code
      * @return optional containing the internship type if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<InternshipType> findByInternshipCode(String internshipCode);
     
     /**
@@ -0,0 +1,79 @@
+package de.unipassau.allocationsystem.repository;
+
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for pre-aggregated plan assignment counts.
+ */
+@Repository
+public interface PlanAssignmentSummaryRepository extends JpaRepository<PlanAssignmentSummary, Long> {
+
+    /**
+     * Find all counts of a plan.
+     *
+     * @param planId the allocation plan ID
+     * @return summary rows of the plan
+     */
+    List<PlanAssignmentSummary> findByPlanId(Long planId);
+
+    /**
+     * Find the counts of a plan for one dimension.
+     *
+     * @param planId the allocation plan ID
+     * @param dimension the dimension
+     * @return summary rows of the dimension
+     */
+    List<PlanAssignmentSummary> findByPlanIdAndDimension(Long planId, PlanAssignmentSummary.Dimension dimension);
+
+    /**
+     * Find a single count.
+     *
+     * @param planId the allocation plan ID
+     * @param dimension the dimension
+     * @param dimensionKey the dimension value
+     * @return the summary row if present
+     */
+    Optional<PlanAssignmentSummary> findByPlanIdAndDimensionAndDimensionKey(
+            Long planId, PlanAssignmentSummary.Dimension dimension, String dimensionKey);
+
+    /**
+     * Find the IDs of all plans whose summary is missing or marked stale.
+     *
+     * @param total the dimension of the total row
+     * @param stale the dimension of the stale marker
+     * @return plan IDs
+     */
+    @Query("SELECT p.id FROM AllocationPlan p "
+            + "WHERE NOT EXISTS (SELECT s FROM PlanAssignmentSummary s WHERE s.planId = p.id AND s.dimension = :total) "
+            + "OR EXISTS (SELECT s FROM PlanAssignmentSummary s WHERE s.planId = p.id AND s.dimension = :stale)")
+    List<Long> findPlanIdsWithoutCompleteSummary(@Param("total") PlanAssignmentSummary.Dimension total,
+                                                 @Param("stale") PlanAssignmentSummary.Dimension stale);
+
+    /**
+     * Find the completeness rows of a plan.
+     *
+     * @param planId the allocation plan ID
+     * @param dimensions the dimensions to find
+     * @return summary rows of the dimensions
+     */
+    List<PlanAssignmentSummary> findByPlanIdAndDimensionIn(
+            Long planId, Collection<PlanAssignmentSummary.Dimension> dimensions);
+
+    /**
+     * Delete all counts of a plan.
+     *
+     * @param planId the allocation plan ID
+     */
+    @Modifying
+    @Query("DELETE FROM PlanAssignmentSummary s WHERE s.planId = :planId")
+    void deleteByPlanId(@Param("planId") Long planId);
+}
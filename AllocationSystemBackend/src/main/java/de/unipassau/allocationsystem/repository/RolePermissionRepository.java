@@ -3,6 +3,7 @@ package de.unipassau.allocationsystem.repository;
 import de.unipassau.allocationsystem.entity.RolePermission;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -38,4 +39,12 @@ public interface RolePermissionRepository extends JpaRepository<RolePermission,
      * @return list of role-permission associations
      */
     List<RolePermission> findByPermissionId(Long permissionId);
+
+    /**
+     * Find all role-permission associations with their role and permission loaded in the same query.
+     *
+     * @return all role-permission associations
+     */
+    @Query("SELECT rp FROM RolePermission rp JOIN FETCH rp.role JOIN FETCH rp.permission")
+    List<RolePermission> findAllWithRoleAndPermission();
 }
@@ -3,9 +3,12 @@ package de.unipassau.allocationsystem.repository;
 import de.unipassau.allocationsystem.dto.report.school.SchoolProfileDto;
 import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.School.SchoolType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,6 +23,7 @@ public interface SchoolRepository extends JpaRepository<School, Long>, JpaSpecif
     /**
      * Find school by name.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<School> findBySchoolName(String schoolName);
 
     /**
@@ -1,8 +1,11 @@
 package de.unipassau.allocationsystem.repository;
 
 import de.unipassau.allocationsystem.entity.SubjectCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,6 +21,7 @@ public interface SubjectCategoryRepository extends JpaRepository<SubjectCategory
      * @param categoryTitle the category title
      * @return optional containing the category if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SubjectCategory> findByCategoryTitle(String categoryTitle);
 }
 
@@ -1,8 +1,11 @@
 package de.unipassau.allocationsystem.repository;
 
 import de.unipassau.allocationsystem.entity.Subject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,6 +21,7 @@ public interface SubjectRepository extends JpaRepository<Subject, Long>, JpaSpec
      * @param subjectCode the subject code
      * @return optional containing the subject if found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Subject> findBySubjectCode(String subjectCode);
     
     /**
@@ -1,16 +1,21 @@
 package de.unipassau.allocationsystem.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffRow;
 import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository for TeacherAssignment entity operations.
@@ -87,6 +92,73 @@ public interface TeacherAssignmentRepository extends JpaRepository<TeacherAssign
             "WHERE ta.allocationPlan.id = :planId")
     List<TeacherAssignment> findAllByPlanIdWithDetails(@Param("planId") Long planId);
 
+    /**
+     * Stream all assignments for a plan with teacher, school, internship type and subject fetched.
+     * Rows are read through a forward-only cursor so callers can process plans of any size
+     * without materializing the full result list. Must be consumed inside a transaction and closed.
+     * On MySQL the fetch size only takes effect with {@code useCursorFetch=true} on the JDBC URL;
+     * without it the driver reads the whole result set into memory before the first row is returned.
+     *
+     * @param planId the allocation plan ID
+     * @return stream of teacher assignments ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ta FROM TeacherAssignment ta " +
+            "JOIN FETCH ta.teacher t " +
+            "JOIN FETCH t.school s " +
+            "JOIN FETCH ta.internshipType it " +
+            "JOIN FETCH ta.subject sub " +
+            "WHERE ta.allocationPlan.id = :planId " +
+            "ORDER BY ta.id")
+    Stream<TeacherAssignment> streamAllByPlanIdWithDetails(@Param("planId") Long planId);
+
+    /**
+     * Stream all assignments for a plan with every relation needed by the response mapper fetched.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param planId the allocation plan ID
+     * @return stream of teacher assignments ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ta FROM TeacherAssignment ta " +
+            "JOIN FETCH ta.allocationPlan p " +
+            "LEFT JOIN FETCH p.academicYear ay " +
+            "JOIN FETCH ta.teacher t " +
+            "JOIN FETCH ta.internshipType it " +
+            "JOIN FETCH ta.subject sub " +
+            "WHERE p.id = :planId " +
+            "ORDER BY ta.id")
+    Stream<TeacherAssignment> streamByPlanIdForResponse(@Param("planId") Long planId);
+
+    /**
+     * Stream the assignments of a plan as flat diff rows, ordered by teacher, internship type and subject ID.
+     * The ordering matches the unique key of the table, so the database can serve it from that index.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @param planId the allocation plan ID
+     * @return stream of diff rows in key order
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffRow(" +
+            "t.id, t.firstName, t.lastName, it.id, it.internshipCode, sub.id, sub.subjectCode, " +
+            "ta.studentGroupSize, ta.assignmentStatus, ta.isManualOverride) " +
+            "FROM TeacherAssignment ta " +
+            "JOIN ta.teacher t " +
+            "JOIN ta.internshipType it " +
+            "JOIN ta.subject sub " +
+            "WHERE ta.allocationPlan.id = :planId " +
+            "ORDER BY t.id, it.id, sub.id")
+    Stream<PlanDiffRow> streamDiffRowsByPlanId(@Param("planId") Long planId);
+
     /**
      * Count assignments grouped by school type for a specific plan.
      * 
@@ -2,6 +2,7 @@ package de.unipassau.allocationsystem.repository;
 
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.Teacher.EmploymentStatus;
+import de.unipassau.allocationsystem.repository.projection.TeacherSubjectRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -99,6 +100,17 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long>, JpaSpec
             "LEFT JOIN FETCH q.subject sub")
     List<Teacher> findAllWithDetails();
 
+    /**
+     * Find the subjects of the given teachers as rows, for building list responses without loading entities.
+     *
+     * @param teacherIds IDs of the teachers
+     * @return subject rows ordered by teacher and subject ID
+     */
+    @Query("SELECT new de.unipassau.allocationsystem.repository.projection.TeacherSubjectRow(" +
+            "t.id, s.id, s.subjectTitle) " +
+            "FROM Teacher t JOIN t.subjects s WHERE t.id IN :teacherIds ORDER BY t.id, s.id")
+    List<TeacherSubjectRow> findSubjectRowsByTeacherIdIn(@Param("teacherIds") Collection<Long> teacherIds);
+
     /**
      * Count part-time teachers.
      * 
@@ -3,11 +3,15 @@ package de.unipassau.allocationsystem.repository;
 import de.unipassau.allocationsystem.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -23,6 +27,16 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      * @return optional containing the user if found
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Find user by email address with the role entity loaded in the same query,
+     * so the user can be used after the persistence context is closed.
+     *
+     * @param email the email address
+     * @return optional containing the user if found
+     */
+    @EntityGraph(attributePaths = "roleEntity")
+    Optional<User> findWithRoleByEmail(String email);
     
     /**
      * Check if a user with the given email exists.
@@ -101,4 +115,15 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("SELECT u FROM User u WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) " +
            "OR LOWER(u.fullName) LIKE LOWER(CONCAT('%', :search, '%'))")
     Page<User> searchUsers(String search, Pageable pageable);
+
+    /**
+     * Add the same number of failed login attempts to several users in one statement.
+     *
+     * @param delta the number of attempts to add
+     * @param ids the user IDs
+     * @return number of updated users
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.failedLoginAttempts = u.failedLoginAttempts + :delta WHERE u.id IN :ids")
+    int addFailedLoginAttempts(@Param("delta") int delta, @Param("ids") Collection<Long> ids);
 }
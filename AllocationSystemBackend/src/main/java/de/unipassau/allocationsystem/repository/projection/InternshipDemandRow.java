@@ -0,0 +1,52 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import de.unipassau.allocationsystem.entity.InternshipDemand;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School.SchoolType;
+import de.unipassau.allocationsystem.entity.Subject;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Internship demand list row with the codes of its internship type and subject.
+ */
+public record InternshipDemandRow(
+        Long id,
+        Long academicYearId,
+        Long internshipTypeId,
+        String internshipTypeCode,
+        SchoolType schoolType,
+        Long subjectId,
+        String subjectCode,
+        Integer requiredTeachers,
+        Integer studentCount,
+        Boolean isForecasted,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Selects demand rows, left joining internship type and subject. The academic year ID is its foreign key.
+     */
+    public static final ListProjection<InternshipDemand, InternshipDemandRow> PROJECTION =
+            new ListProjection<>(InternshipDemand.class, InternshipDemandRow.class, root -> {
+                Join<InternshipDemand, InternshipType> type = root.join("internshipType", JoinType.LEFT);
+                Join<InternshipDemand, Subject> subject = root.join("subject", JoinType.LEFT);
+                return List.of(
+                        root.get("id"),
+                        root.get("academicYear").get("id"),
+                        type.get("id"),
+                        type.get("internshipCode"),
+                        root.get("schoolType"),
+                        subject.get("id"),
+                        subject.get("subjectCode"),
+                        root.get("requiredTeachers"),
+                        root.get("studentCount"),
+                        root.get("isForecasted"),
+                        root.get("createdAt"),
+                        root.get("updatedAt"));
+            });
+}
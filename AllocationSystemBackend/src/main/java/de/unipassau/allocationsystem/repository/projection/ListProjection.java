@@ -0,0 +1,20 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Describes a list row selected straight from the columns of an entity and its to-one associations.
+ *
+ * @param entityType the entity the rows are read from
+ * @param rowType the record each row is constructed as
+ * @param columns creates the selected columns, in the order of the record components, adding the joins they need
+ * @param <T> entity type
+ * @param <R> row type
+ */
+public record ListProjection<T, R>(Class<T> entityType, Class<R> rowType,
+                                   Function<Root<T>, List<Selection<?>>> columns) {
+}
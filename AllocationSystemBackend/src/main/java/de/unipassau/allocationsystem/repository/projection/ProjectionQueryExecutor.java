@@ -0,0 +1,135 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import de.unipassau.allocationsystem.utils.PaginationUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Runs list queries that select {@link ListProjection} rows instead of entities.
+ * <p>
+ * The same {@link Specification}s as for entity queries filter the rows, but the result is a single statement
+ * selecting exactly the listed columns with their joins. No entity is loaded or managed, so mapping the rows can
+ * never trigger lazy loads of associations.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectionQueryExecutor {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Finds a page of rows. As for repositories, the count query is skipped when the page itself tells the total.
+     *
+     * @param projection the row projection
+     * @param spec the filter specification, or null for all rows
+     * @param pageable page number, size and sort
+     * @param <T> entity type
+     * @param <R> row type
+     * @return the page of rows
+     */
+    public <T, R> Page<R> findPage(ListProjection<T, R> projection, Specification<T> spec, Pageable pageable) {
+        TypedQuery<R> query = createQuery(projection, spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+                () -> count(projection.entityType(), spec));
+    }
+
+    /**
+     * Finds the first rows matching a specification.
+     *
+     * @param projection the row projection
+     * @param spec the filter specification, or null for all rows
+     * @param sort the order of the rows
+     * @param limit the maximum number of rows
+     * @param <T> entity type
+     * @param <R> row type
+     * @return the matching rows
+     */
+    public <T, R> List<R> findAll(ListProjection<T, R> projection, Specification<T> spec, Sort sort, int limit) {
+        return createQuery(projection, spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Counts the entities matching a specification, dropping any order the specification applied.
+     *
+     * @param entityType the entity type
+     * @param spec the filter specification, or null for all rows
+     * @param <T> entity type
+     * @return the number of matching entities
+     */
+    public <T> long count(Class<T> entityType, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        applySpecification(spec, root, query, cb);
+        query.orderBy(List.of());
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Adapts a projection for {@link PaginationUtils#findKeysetPage(PaginationUtils.KeysetQuery, Specification,
+     * PaginationUtils.PaginationParams, java.util.function.Function)}.
+     *
+     * @param projection the row projection
+     * @param <T> entity type
+     * @param <R> row type
+     * @return a keyset query reading the projected rows
+     */
+    public <T, R> PaginationUtils.KeysetQuery<T, R> keysetQuery(ListProjection<T, R> projection) {
+        return new PaginationUtils.KeysetQuery<>() {
+            @Override
+            public List<R> find(Specification<T> spec, Sort sort, int limit) {
+                return findAll(projection, spec, sort, limit);
+            }
+
+            @Override
+            public long count(Specification<T> spec) {
+                return ProjectionQueryExecutor.this.count(projection.entityType(), spec);
+            }
+        };
+    }
+
+    private <T, R> TypedQuery<R> createQuery(ListProjection<T, R> projection, Specification<T> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(projection.rowType());
+        Root<T> root = query.from(projection.entityType());
+        List<Selection<?>> columns = projection.columns().apply(root);
+        query.select(cb.construct(projection.rowType(), columns.toArray(new Selection<?>[0])));
+        applySpecification(spec, root, query, cb);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static <T> void applySpecification(Specification<T> spec, Root<T> root, CriteriaQuery<?> query,
+                                               CriteriaBuilder cb) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
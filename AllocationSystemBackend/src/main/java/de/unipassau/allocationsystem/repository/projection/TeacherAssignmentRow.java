@@ -0,0 +1,72 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.entity.TeacherAssignment.AssignmentStatus;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Teacher assignment list row with the columns its plan, teacher, internship type and subject titles are built from.
+ */
+public record TeacherAssignmentRow(
+        Long id,
+        Long planId,
+        String planVersion,
+        String planYearName,
+        Long teacherId,
+        String teacherFirstName,
+        String teacherLastName,
+        Long internshipTypeId,
+        String internshipTypeCode,
+        String internshipTypePeriodType,
+        Long subjectId,
+        String subjectTitle,
+        Integer studentGroupSize,
+        AssignmentStatus assignmentStatus,
+        Boolean isManualOverride,
+        String notes,
+        LocalDateTime assignedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Selects assignment rows, left joining plan with its academic year, teacher, internship type and subject.
+     */
+    public static final ListProjection<TeacherAssignment, TeacherAssignmentRow> PROJECTION =
+            new ListProjection<>(TeacherAssignment.class, TeacherAssignmentRow.class, root -> {
+                Join<TeacherAssignment, AllocationPlan> plan = root.join("allocationPlan", JoinType.LEFT);
+                Join<AllocationPlan, AcademicYear> year = plan.join("academicYear", JoinType.LEFT);
+                Join<TeacherAssignment, Teacher> teacher = root.join("teacher", JoinType.LEFT);
+                Join<TeacherAssignment, InternshipType> type = root.join("internshipType", JoinType.LEFT);
+                Join<TeacherAssignment, Subject> subject = root.join("subject", JoinType.LEFT);
+                return List.of(
+                        root.get("id"),
+                        plan.get("id"),
+                        plan.get("planVersion"),
+                        year.get("yearName"),
+                        teacher.get("id"),
+                        teacher.get("firstName"),
+                        teacher.get("lastName"),
+                        type.get("id"),
+                        type.get("internshipCode"),
+                        type.get("periodType"),
+                        subject.get("id"),
+                        subject.get("subjectTitle"),
+                        root.get("studentGroupSize"),
+                        root.get("assignmentStatus"),
+                        root.get("isManualOverride"),
+                        root.get("notes"),
+                        root.get("assignedAt"),
+                        root.get("createdAt"),
+                        root.get("updatedAt"));
+            });
+}
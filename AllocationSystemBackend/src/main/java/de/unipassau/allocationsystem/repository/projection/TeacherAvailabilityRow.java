@@ -0,0 +1,62 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAvailability;
+import de.unipassau.allocationsystem.entity.TeacherAvailability.AvailabilityStatus;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Teacher availability list row with the names of its teacher, academic year and internship type.
+ */
+public record TeacherAvailabilityRow(
+        Long id,
+        Long teacherId,
+        String teacherFirstName,
+        String teacherLastName,
+        String teacherEmail,
+        Long academicYearId,
+        String academicYearName,
+        Long internshipTypeId,
+        String internshipTypeName,
+        String internshipTypeCode,
+        AvailabilityStatus status,
+        Boolean isAvailable,
+        Integer preferenceRank,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Selects availability rows, left joining teacher, academic year and internship type.
+     */
+    public static final ListProjection<TeacherAvailability, TeacherAvailabilityRow> PROJECTION =
+            new ListProjection<>(TeacherAvailability.class, TeacherAvailabilityRow.class, root -> {
+                Join<TeacherAvailability, Teacher> teacher = root.join("teacher", JoinType.LEFT);
+                Join<TeacherAvailability, AcademicYear> year = root.join("academicYear", JoinType.LEFT);
+                Join<TeacherAvailability, InternshipType> type = root.join("internshipType", JoinType.LEFT);
+                return List.of(
+                        root.get("id"),
+                        teacher.get("id"),
+                        teacher.get("firstName"),
+                        teacher.get("lastName"),
+                        teacher.get("email"),
+                        year.get("id"),
+                        year.get("yearName"),
+                        type.get("id"),
+                        type.get("fullName"),
+                        type.get("internshipCode"),
+                        root.get("status"),
+                        root.get("isAvailable"),
+                        root.get("preferenceRank"),
+                        root.get("notes"),
+                        root.get("createdAt"),
+                        root.get("updatedAt"));
+            });
+}
@@ -0,0 +1,55 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.Teacher.EmploymentStatus;
+import de.unipassau.allocationsystem.entity.Teacher.UsageCycle;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Teacher list row with the name of its school. Subjects are loaded separately as {@link TeacherSubjectRow}s.
+ */
+public record TeacherRow(
+        Long id,
+        Long schoolId,
+        String schoolName,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        Boolean isPartTime,
+        Integer workingHoursPerWeek,
+        EmploymentStatus employmentStatus,
+        UsageCycle usageCycle,
+        Integer creditHourBalance,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    /**
+     * Selects teacher rows, left joining the school.
+     */
+    public static final ListProjection<Teacher, TeacherRow> PROJECTION =
+            new ListProjection<>(Teacher.class, TeacherRow.class, root -> {
+                Join<Teacher, School> school = root.join("school", JoinType.LEFT);
+                return List.of(
+                        root.get("id"),
+                        school.get("id"),
+                        school.get("schoolName"),
+                        root.get("firstName"),
+                        root.get("lastName"),
+                        root.get("email"),
+                        root.get("phone"),
+                        root.get("isPartTime"),
+                        root.get("workingHoursPerWeek"),
+                        root.get("employmentStatus"),
+                        root.get("usageCycle"),
+                        root.get("creditHourBalance"),
+                        root.get("createdAt"),
+                        root.get("updatedAt"));
+            });
+}
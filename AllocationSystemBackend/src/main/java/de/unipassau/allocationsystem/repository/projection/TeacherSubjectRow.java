@@ -0,0 +1,11 @@
+package de.unipassau.allocationsystem.repository.projection;
+
+/**
+ * Subject of a teacher, selected for a page of {@link TeacherRow}s at once.
+ *
+ * @param teacherId the teacher ID
+ * @param subjectId the subject ID
+ * @param subjectTitle the subject title
+ */
+public record TeacherSubjectRow(Long teacherId, Long subjectId, String subjectTitle) {
+}
@@ -31,7 +31,7 @@ import java.util.Map;
  * Key responsibilities:
  * <ul>
  *   <li>Checks for the presence of a Bearer JWT token in the "Authorization" header.</li>
- *   <li>Validates the JWT and extracts the username using {@link JWTUtil}.</li>
+ *   <li>Verifies the JWT once and extracts the username using {@link JwtService#verify(String)}.</li>
  *   <li>Loads user details from the database with {@link CustomUserDetailsService}.</li>
  *   <li>If the token is valid and matches the user, sets up security authentication for the request.</li>
  *   <li>For failed JWT validation, returns a JSON error response with 401 status.</li>
@@ -65,7 +65,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String username;
 
         try {
-            username = jwtService.extractUsername(jwt);
+            // Rejects malformed, forged and expired tokens; the signature is only checked once per token
+            username = jwtService.verify(jwt).username();
         } catch (JwtException e) {
             sendErrorResponse(response, "Invalid JWT token: " + e.getMessage());
             return;
@@ -74,7 +75,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
 
-            if (jwtService.validateToken(jwt, userDetails)) {
+            if (username.equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -0,0 +1,141 @@
+package de.unipassau.allocationsystem.security;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory throttle for login attempts, checked before the user is loaded and the password hash is computed.
+ * <p>
+ * Every attempt takes a token from the bucket of its email and from the bucket of its client address. A bucket
+ * holds up to a burst of tokens and regains one per interval. It is stored as a single theoretical arrival time
+ * (the generic cell rate algorithm) in a map per key type, keyed on the full email or address, so different keys
+ * never share a bucket. A bucket that has refilled is equivalent to no entry, so such entries are dropped once
+ * the map reaches {@code auth.throttle.max-keys}. If it is still full, the bucket closest to refilling is evicted,
+ * so memory stays bounded during a flood of distinct keys without locking out new legitimate keys.
+ * </p>
+ */
+@Component
+public class LoginThrottle {
+
+    @Value("${auth.throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.throttle.max-keys:100000}")
+    private int maxKeys;
+
+    @Value("${auth.throttle.email.burst:10}")
+    private int emailBurst;
+
+    @Value("${auth.throttle.email.interval-ms:6000}")
+    private long emailIntervalMillis;
+
+    @Value("${auth.throttle.address.burst:30}")
+    private int addressBurst;
+
+    @Value("${auth.throttle.address.interval-ms:1000}")
+    private long addressIntervalMillis;
+
+    private Buckets emailBuckets;
+    private Buckets addressBuckets;
+
+    /**
+     * Allocates the bucket arrays.
+     */
+    @PostConstruct
+    void init() {
+        emailBuckets = new Buckets(maxKeys, emailBurst, emailIntervalMillis);
+        addressBuckets = new Buckets(maxKeys, addressBurst, addressIntervalMillis);
+    }
+
+    /**
+     * Takes a token for a login attempt from the bucket of the client address and then from the bucket of the
+     * email. An attempt rejected for its address does not charge the email, so a flood from one address cannot
+     * lock the owner of an email out from other addresses.
+     *
+     * @param email the email the attempt is for, or null
+     * @param clientAddress the remote address of the client, or null if unknown
+     * @return true if the attempt may proceed
+     */
+    public boolean tryAcquire(String email, String clientAddress) {
+        if (!enabled) {
+            return true;
+        }
+        if (clientAddress != null && !addressBuckets.tryAcquire(clientAddress)) {
+            return false;
+        }
+        return email == null || emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Token buckets by key, each holding the time its bucket is full again plus one interval.
+     */
+    static final class Buckets {
+        private final Map<String, Long> arrivals = new ConcurrentHashMap<>();
+        private final int maxKeys;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final long origin = System.nanoTime();
+
+        Buckets(int maxKeys, int burst, long intervalMillis) {
+            if (maxKeys < 1 || burst < 1 || intervalMillis < 1) {
+                throw new IllegalArgumentException("Login throttle max keys, burst and interval must be positive");
+            }
+            this.maxKeys = maxKeys;
+            this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+            this.toleranceNanos = intervalNanos * (burst - 1);
+        }
+
+        boolean tryAcquire(String key) {
+            return tryAcquire(key, System.nanoTime() - origin);
+        }
+
+        /**
+         * @param key the bucket key
+         * @param now nanoseconds since this instance was created
+         * @return true if a token was taken
+         */
+        boolean tryAcquire(String key, long now) {
+            if (arrivals.size() >= maxKeys && !arrivals.containsKey(key)) {
+                // Refilled buckets hold no state, so dropping them changes no decision
+                arrivals.values().removeIf(arrival -> arrival <= now);
+                if (arrivals.size() >= maxKeys) {
+                    evictClosestToRefill();
+                }
+            }
+            boolean[] allowed = new boolean[1];
+            arrivals.compute(key, (k, arrival) -> {
+                long start = arrival == null ? now : Math.max(arrival, now);
+                allowed[0] = start - now <= toleranceNanos;
+                return allowed[0] ? start + intervalNanos : arrival;
+            });
+            return allowed[0];
+        }
+
+        /**
+         * Drops the bucket with the earliest arrival time, whose state is the least restrictive.
+         */
+        private void evictClosestToRefill() {
+            String oldest = null;
+            long earliest = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : arrivals.entrySet()) {
+                if (entry.getValue() < earliest) {
+                    earliest = entry.getValue();
+                    oldest = entry.getKey();
+                }
+            }
+            if (oldest != null) {
+                arrivals.remove(oldest, earliest);
+            }
+        }
+
+        int size() {
+            return arrivals.size();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package de.unipassau.allocationsystem.security;
+
+import de.unipassau.allocationsystem.entity.RolePermission;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all role-permission assignments, compiled into one bitset per role.
+ * <p>
+ * Every permission title gets an index; bit {@code index * ACCESS_LEVELS.size() + level} of a role's bitset is
+ * set if the role holds that access level on the permission. A check is therefore two hash lookups and one array
+ * access. Role and permission titles are matched case-insensitively.
+ * </p>
+ */
+final class PermissionMatrix {
+
+    /**
+     * Access levels a role permission can grant, in bit order.
+     */
+    static final List<String> ACCESS_LEVELS = List.of("view", "edit", "update", "delete");
+
+    static final PermissionMatrix EMPTY = new PermissionMatrix(Map.of(), Map.of());
+
+    private final Map<String, Integer> permissionIndexes;
+    private final Map<String, long[]> roleBits;
+
+    private PermissionMatrix(Map<String, Integer> permissionIndexes, Map<String, long[]> roleBits) {
+        this.permissionIndexes = permissionIndexes;
+        this.roleBits = roleBits;
+    }
+
+    /**
+     * Compiles role-permission assignments. Role and permission must be loaded.
+     *
+     * @param assignments all role-permission assignments
+     * @return the compiled matrix
+     */
+    static PermissionMatrix build(List<RolePermission> assignments) {
+        Map<String, Integer> permissionIndexes = new HashMap<>();
+        for (RolePermission assignment : assignments) {
+            permissionIndexes.putIfAbsent(normalize(assignment.getPermission().getTitle()), permissionIndexes.size());
+        }
+        int words = (permissionIndexes.size() * ACCESS_LEVELS.size() + Long.SIZE - 1) / Long.SIZE;
+
+        Map<String, long[]> roleBits = new HashMap<>();
+        for (RolePermission assignment : assignments) {
+            long[] bits = roleBits.computeIfAbsent(normalize(assignment.getRole().getTitle()), k -> new long[words]);
+            int permission = permissionIndexes.get(normalize(assignment.getPermission().getTitle()));
+            for (String level : assignment.getAccessLevelSet()) {
+                int levelIndex = ACCESS_LEVELS.indexOf(level);
+                if (levelIndex >= 0) {
+                    int bit = permission * ACCESS_LEVELS.size() + levelIndex;
+                    bits[bit >>> 6] |= 1L << bit;
+                }
+            }
+        }
+        return new PermissionMatrix(Map.copyOf(permissionIndexes), Map.copyOf(roleBits));
+    }
+
+    /**
+     * Checks whether a role holds an access level on a permission.
+     *
+     * @param role the role title
+     * @param permission the permission title
+     * @param accessLevel the access level
+     * @return true if the role has been granted the access level
+     */
+    boolean allows(String role, String permission, String accessLevel) {
+        long[] bits = roleBits.get(normalize(role));
+        Integer permissionIndex = permissionIndexes.get(normalize(permission));
+        int levelIndex = ACCESS_LEVELS.indexOf(accessLevel.toLowerCase(Locale.ROOT));
+        if (bits == null || permissionIndex == null || levelIndex < 0) {
+            return false;
+        }
+        int bit = permissionIndex * ACCESS_LEVELS.size() + levelIndex;
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns the number of distinct permissions in the matrix.
+     *
+     * @return number of permissions
+     */
+    int permissionCount() {
+        return permissionIndexes.size();
+    }
+
+    private static String normalize(String title) {
+        return title.trim().toUpperCase(Locale.ROOT);
+    }
+}
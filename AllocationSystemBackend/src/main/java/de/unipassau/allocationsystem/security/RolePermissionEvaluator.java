@@ -0,0 +1,108 @@
+package de.unipassau.allocationsystem.security;
+
+import de.unipassau.allocationsystem.repository.RolePermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+
+/**
+ * Spring Security {@link PermissionEvaluator} backed by the role-permission tables.
+ * <p>
+ * Enables checks such as {@code @PreAuthorize("hasPermission('TEACHER', 'edit')")} or
+ * {@code hasPermission(#id, 'TEACHER', 'edit')}: the target (or target type) is a permission title, the
+ * permission an access level, and the roles are taken from the {@code ROLE_} authorities of the caller.
+ * The record ID is not considered, since permissions are granted per role, not per record.
+ * </p>
+ * <p>
+ * All assignments are compiled into an immutable {@link PermissionMatrix}, so a check never queries the
+ * database. Writes through {@code RolePermissionService}, {@code PermissionService} and {@code RoleService} build
+ * a new matrix after their transaction committed and swap it in atomically.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RolePermissionEvaluator implements PermissionEvaluator {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RolePermissionRepository rolePermissionRepository;
+
+    private volatile PermissionMatrix matrix = PermissionMatrix.EMPTY;
+
+    /**
+     * Builds the matrix from the current assignments and installs it.
+     * Runs serialized, so the matrix installed last was read last.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        try {
+            PermissionMatrix next = PermissionMatrix.build(rolePermissionRepository.findAllWithRoleAndPermission());
+            matrix = next;
+            log.debug("Rebuilt role permission matrix with {} permission(s)", next.permissionCount());
+        } catch (DataAccessException e) {
+            log.error("Failed to rebuild role permission matrix, keeping the previous one", e);
+        }
+    }
+
+    /**
+     * Rebuilds the matrix once the current transaction has committed, or right away outside a transaction.
+     */
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (targetDomainObject == null) {
+            return false;
+        }
+        if (targetDomainObject instanceof String title) {
+            return allows(authentication, title, permission);
+        }
+        return allows(authentication, targetDomainObject.getClass().getSimpleName(), permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+                                 Object permission) {
+        if (targetType == null) {
+            return false;
+        }
+        return allows(authentication, targetType, permission);
+    }
+
+    private boolean allows(Authentication authentication, String permissionTitle, Object permission) {
+        if (authentication == null || !(permission instanceof String accessLevel)) {
+            return false;
+        }
+        PermissionMatrix current = matrix;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(ROLE_PREFIX)
+                    && current.allows(name.substring(ROLE_PREFIX.length()), permissionTitle, accessLevel)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
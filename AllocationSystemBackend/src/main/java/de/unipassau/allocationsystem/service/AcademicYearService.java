@@ -10,6 +10,7 @@ import de.unipassau.allocationsystem.entity.AcademicYear;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -42,6 +43,7 @@ public class AcademicYearService implements CrudService<AcademicYear, Long> {
     private static final String[] SORT_KEYS = {"id", "yearName", "createdAt", "updatedAt"};
 
     private final AcademicYearRepository academicYearRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Returns all sortable field definitions (key/label pairs) for AcademicYear.
@@ -104,7 +106,7 @@ public class AcademicYearService implements CrudService<AcademicYear, Long> {
     @Transactional(readOnly = true)
     @Override
     public List<AcademicYear> getAll() {
-        return academicYearRepository.findAll();
+        return referenceDataCache.getAll(AcademicYear.class);
     }
 
     @AuditedAcademicYearViewById
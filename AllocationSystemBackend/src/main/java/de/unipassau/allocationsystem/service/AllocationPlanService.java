@@ -3,6 +3,7 @@ package de.unipassau.allocationsystem.service;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +26,7 @@ import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.AllocationPlanMapper;
 import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.service.archive.PlanArchivedEvent;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +47,7 @@ public class AllocationPlanService {
     private final TeacherAllocationService teacherAllocationService;
 
     private final AllocationPlanWriteSupport writeSupport;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get available sort fields for allocation plans.
@@ -142,7 +145,7 @@ public class AllocationPlanService {
         writeSupport.requireUniqueVersion(createDto.getYearId(), createDto.getPlanVersion());
 
         if (Boolean.TRUE.equals(createDto.getIsCurrent())) {
-            allocationPlanRepository.unsetCurrentForYear(createDto.getYearId());
+            writeSupport.unsetCurrentForYear(createDto.getYearId(), null);
         }
 
         AllocationPlan saved = writeSupport.createAndSavePlan(createDto, year);
@@ -182,7 +185,9 @@ public class AllocationPlanService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.ALLOCATION_PLAN,
             description = "Updated allocation plan",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = AllocationPlan.class,
+            capturePreviousValue = true
     )
     @Transactional
     public AllocationPlanResponseDto updatePlan(Long id, AllocationPlanUpdateDto updateDto) {
@@ -208,14 +213,16 @@ public class AllocationPlanService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.ALLOCATION_PLAN,
             description = "Set allocation plan as current",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = AllocationPlan.class,
+            capturePreviousValue = true
     )
     @Transactional
     public AllocationPlanResponseDto setCurrentPlan(Long id) {
         AllocationPlan plan = writeSupport.requirePlan(id);
         writeSupport.assertNotArchivedForCurrent(plan);
 
-        allocationPlanRepository.unsetCurrentForYearExcept(plan.getAcademicYear().getId(), id);
+        writeSupport.unsetCurrentForYear(plan.getAcademicYear().getId(), id);
 
         plan.setIsCurrent(true);
         AllocationPlan updated = allocationPlanRepository.save(plan);
@@ -241,7 +248,9 @@ public class AllocationPlanService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.ALLOCATION_PLAN,
             description = "Archived allocation plan",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = AllocationPlan.class,
+            capturePreviousValue = true
     )
     @Transactional
     public AllocationPlanResponseDto archivePlan(Long id) {
@@ -265,6 +274,7 @@ public class AllocationPlanService {
                 "status=" + AllocationPlan.PlanStatus.ARCHIVED,
                 "Archived allocation plan"
         );
+        eventPublisher.publishEvent(new PlanArchivedEvent(updated.getId()));
 
         return allocationPlanMapper.toResponseDto(updated);
     }
@@ -12,6 +12,7 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.AllocationPlanMapper;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -27,6 +28,7 @@ class AllocationPlanWriteSupport {
     private final AcademicYearRepository academicYearRepository;
     private final AllocationPlanMapper allocationPlanMapper;
     private final PlanChangeLogService planChangeLogService;
+    private final DataVersionService dataVersionService;
 
     /**
      * Retrieve academic year by ID or throw exception.
@@ -140,10 +142,27 @@ class AllocationPlanWriteSupport {
      */
     void applyCurrentFlagIfNeeded(Long id, AllocationPlan plan, AllocationPlanUpdateDto updateDto) {
         if (Boolean.TRUE.equals(updateDto.getIsCurrent()) && !Boolean.TRUE.equals(plan.getIsCurrent())) {
-            allocationPlanRepository.unsetCurrentForYearExcept(plan.getAcademicYear().getId(), id);
+            unsetCurrentForYear(plan.getAcademicYear().getId(), id);
         }
     }
 
+    /**
+     * Unset the current flag of the plans of an academic year with a bulk update.
+     * The update bypasses the entity listeners, so the data versions of the year's plans
+     * are bumped once the transaction commits.
+     *
+     * @param yearId the academic year ID
+     * @param exceptId the plan that keeps its flag, or null to unset it on all plans of the year
+     */
+    void unsetCurrentForYear(Long yearId, Long exceptId) {
+        if (exceptId == null) {
+            allocationPlanRepository.unsetCurrentForYear(yearId);
+        } else {
+            allocationPlanRepository.unsetCurrentForYearExcept(yearId, exceptId);
+        }
+        dataVersionService.bumpPlansAfterCommit(allocationPlanRepository.findIdsByAcademicYearId(yearId));
+    }
+
     /**
      * Log the update of an allocation plan.
      *
@@ -11,8 +11,10 @@ import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.PasswordResetToken;
 import de.unipassau.allocationsystem.entity.User;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.exception.TooManyRequestsException;
 import de.unipassau.allocationsystem.repository.PasswordResetTokenRepository;
 import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.security.LoginThrottle;
 import de.unipassau.allocationsystem.service.audit.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,9 +51,25 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final AuditLogService auditLogService;
     private final EmailService emailService;
+    private final LoginThrottle loginThrottle;
+    private final FailedLoginAttemptBuffer failedLoginAttemptBuffer;
+
+    /**
+     * Authenticates the user and returns a JWT-based {@link LoginResponseDto}.
+     * Attempts beyond the rate allowed per email and client address are rejected before any lookup or hashing.
+     * Failed attempts are not rolled back with the failed login, so a lockout persists.
+     *
+     * @param request the login credentials
+     * @param clientAddress the remote address of the client, or null if unknown
+     * @return the login response with the issued token
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public LoginResponseDto login(LoginRequestDto request, String clientAddress) {
+        if (!loginThrottle.tryAcquire(request.getEmail(), clientAddress)) {
+            log.warn("Throttled login attempt for email: {} from {}", request.getEmail(), clientAddress);
+            throw new TooManyRequestsException("Too many login attempts. Please try again later.");
+        }
 
-    /** Authenticates the user and returns a JWT-based {@link LoginResponseDto}. */
-    public LoginResponseDto login(LoginRequestDto request) {
         User user = requireUserByEmail(request.getEmail());
         assertAccountNotLocked(user);
 
@@ -132,6 +150,7 @@ public class AuthService {
         }
 
         User user = resetToken.getUser();
+        failedLoginAttemptBuffer.clear(user.getId());
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         user.setLastPasswordResetDate(LocalDateTime.now());
         user.setFailedLoginAttempts(0);
@@ -242,6 +261,7 @@ public class AuthService {
     }
 
     private void onSuccessfulLogin(User user) {
+        failedLoginAttemptBuffer.clear(user.getId());
         user.setFailedLoginAttempts(0);
         user.setLastLoginDate(LocalDateTime.now());
         userRepository.save(user);
@@ -256,15 +276,12 @@ public class AuthService {
     }
 
     private void onFailedLoginAttempt(User user) {
-        int attempts = user.getFailedLoginAttempts() + 1;
-        user.setFailedLoginAttempts(attempts);
+        int attempts = failedLoginAttemptBuffer.record(user);
 
         if (attempts >= MAX_FAILED_ATTEMPTS) {
             lockAccount(user, attempts);
         }
 
-        userRepository.save(user);
-
         auditLogService.logAction(
                 AuditLog.AuditAction.LOGIN_FAILED,
                 "User",
@@ -274,7 +291,10 @@ public class AuthService {
     }
 
     private void lockAccount(User user, int attempts) {
+        failedLoginAttemptBuffer.clear(user.getId());
+        user.setFailedLoginAttempts(attempts);
         user.setAccountLocked(true);
+        userRepository.save(user);
         emailService.sendAccountLockedEmail(user.getEmail(), user.getFullName());
 
         auditLogService.logAction(
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Abstract base service providing common CRUD implementations.
@@ -46,10 +47,13 @@ public abstract class BaseService<T, ID, R extends JpaRepository<T, ID> & JpaSpe
     @Transactional(readOnly = true)
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
         PaginationUtils.PaginationParams params = PaginationUtils.validatePaginationParams(queryParams);
+        Specification<T> spec = buildSearchSpecification(searchValue);
+        if (params.isKeyset()) {
+            return PaginationUtils.findKeysetPage(repository, spec, params, Function.identity());
+        }
+
         Sort sort = Sort.by(params.sortOrder(), params.sortBy());
         Pageable pageable = PageRequest.of(params.page() - 1, params.pageSize(), sort);
-
-        Specification<T> spec = buildSearchSpecification(searchValue);
         Page<T> page = repository.findAll(spec, pageable);
 
         return PaginationUtils.formatPaginationResponse(page);
@@ -174,7 +174,8 @@ public class CreditHourTrackingService implements CrudService<CreditHourTracking
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.CREDIT_HOUR_TRACKING,
             description = "Updated credit hour tracking entry",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
@@ -37,6 +37,8 @@ public interface CrudService<T, ID> {
      * - pageSize: Number of items per page
      * - sortBy: Field to sort by
      * - sortOrder: ASC or DESC
+     * - after: Cursor for keyset pagination, empty for the first page (optional)
+     * - includeTotal: Whether a keyset page also counts all items (optional)
      *
      * @param queryParams Pagination parameters
      * @param searchValue Search string to filter results (can be null)
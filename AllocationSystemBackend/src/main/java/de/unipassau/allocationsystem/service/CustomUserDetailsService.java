@@ -1,6 +1,6 @@
 package de.unipassau.allocationsystem.service;
 
-import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.service.cache.UserCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,15 +11,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 /**
  * Spring Security UserDetailsService implementation.
- * Loads user details for authentication and authorization.
+ * Loads user details for authentication and authorization through the {@link UserCache}, so authenticated
+ * requests do not query the user on every call.
  */
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        return userCache.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 }
\ No newline at end of file
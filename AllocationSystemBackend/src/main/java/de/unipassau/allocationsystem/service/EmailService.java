@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 /**
@@ -62,10 +63,12 @@ public class EmailService {
 
     /**
      * Send account locked notification.
+     * Sent on the mail executor, because the account is locked while a failed login request is still waiting.
      * 
      * @param toEmail recipient email
      * @param userName user's full name
      */
+    @Async("mailExecutor")
     public void sendAccountLockedEmail(String toEmail, String userName) {
         String subject = appName + " - Account Locked";
         String body = buildAccountLockedEmailBody(userName);
@@ -0,0 +1,113 @@
+package de.unipassau.allocationsystem.service;
+
+import de.unipassau.allocationsystem.entity.User;
+import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates failed login attempts in memory and adds them to the users table in batches.
+ * <p>
+ * A failed login no longer writes its user row. The attempts of a user are the persisted count plus the pending
+ * count kept here; {@code AuthService} writes the user itself only when it locks the account. A flush drains the
+ * pending counts and issues one update per distinct count, so a burst of failures costs a handful of statements.
+ * While a flush is in flight the drained attempts are briefly not counted, which can allow an attempt more, never
+ * lock an account early. Clearing waits for an in-flight flush, so attempts drained before a reset are written
+ * before the reset overwrites the count and never land on top of it.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailedLoginAttemptBuffer {
+
+    private final UserRepository userRepository;
+    private final DataVersionService dataVersionService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Records a failed login attempt.
+     *
+     * @param user the user whose login failed
+     * @return the number of failed attempts of the user including this one
+     */
+    public int record(User user) {
+        return user.getFailedLoginAttempts() + pending.merge(user.getId(), 1, Integer::sum);
+    }
+
+    /**
+     * Discards pending attempts of a user whose count is about to be reset or written directly. Waits for an
+     * in-flight flush, so callers must write the count afterwards.
+     *
+     * @param userId the user ID
+     */
+    public void clear(Long userId) {
+        synchronized (flushLock) {
+            pending.remove(userId);
+        }
+    }
+
+    /**
+     * Adds all pending attempts to the users table. Attempts that could not be written are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${auth.failed-attempts.flush-ms:5000}")
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        Map<Integer, List<Long>> usersByDelta = new HashMap<>();
+        for (Long userId : List.copyOf(pending.keySet())) {
+            Integer delta = pending.remove(userId);
+            if (delta != null) {
+                usersByDelta.computeIfAbsent(delta, k -> new ArrayList<>()).add(userId);
+            }
+        }
+        if (usersByDelta.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    usersByDelta.forEach(userRepository::addFailedLoginAttempts));
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush failed login attempts, retrying with the next flush", e);
+            usersByDelta.forEach((delta, userIds) -> userIds.forEach(id -> pending.merge(id, delta, Integer::sum)));
+            return;
+        }
+        // Bulk updates bypass the entity listeners that bump data versions
+        usersByDelta.values().forEach(userIds -> userIds.forEach(dataVersionService::bumpUser));
+        log.debug("Flushed failed login attempts of {} user(s) in {} update(s)",
+                usersByDelta.values().stream().mapToInt(List::size).sum(), usersByDelta.size());
+    }
+}
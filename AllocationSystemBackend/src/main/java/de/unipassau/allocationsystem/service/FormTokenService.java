@@ -1,31 +1,83 @@
 package de.unipassau.allocationsystem.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.unipassau.allocationsystem.repository.TeacherFormSubmissionRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import java.util.regex.Pattern;
-import java.io.IOException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.Optional;
 
 /**
  * Service for handling form token generation, encoding, and decoding.
  * Extracted from TeacherFormSubmissionService for better separation of concerns.
+ * <p>
+ * A token is a fixed-size binary payload (version, teacherId, yearId, random nonce, expiry) followed by a
+ * truncated HMAC-SHA256 over it, encoded as unpadded Base64 URL. Tokens are therefore unforgeable, unique by
+ * their nonce without any existence check and verifiable without JSON parsing or a database query.
+ * </p>
+ * <p>
+ * The key is {@code form.token.secret}. Without it, a separate key is derived as HMAC-SHA256(jwt.secret,
+ * "form-token"), so form tokens and JWTs are never signed with the same key.
+ * </p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FormTokenService {
 
-    private final TeacherFormSubmissionRepository teacherFormSubmissionRepository;
-    private final ObjectMapper objectMapper;
-    private static final Pattern BASE64URL_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+$");
+    private static final byte VERSION = 1;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES * 4;
+    private static final int MAC_LENGTH = 16;
+    private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + MAC_LENGTH;
+    private static final int ENCODED_LENGTH = (TOKEN_LENGTH * 4 + 2) / 3;
+    private static final String INVALID_TOKEN = "Invalid or corrupted form token";
+    private static final String KEY_DERIVATION_LABEL = "form-token";
+
+    private final SecureRandom random = new SecureRandom();
+    private final Clock clock;
+
+    @Value("${form.token.secret:}")
+    private String secret;
+
+    @Value("${jwt.secret:}")
+    private String jwtSecret;
+
+    @Value("${form.token.validity-days:180}")
+    private long validityDays;
+
+    /**
+     * Last day on which links issued before tokens were signed are still accepted; empty rejects them.
+     */
+    @Value("${form.token.legacy-accepted-until:}")
+    private LocalDate legacyAcceptedUntil;
+
+    private SecretKeySpec key;
+    private ThreadLocal<Mac> macs;
+
+    /**
+     * Creates the service using the system clock.
+     */
+    public FormTokenService() {
+        this(Clock.systemUTC());
+    }
+
+    FormTokenService(Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Decoded token payload containing the teacher ID and academic year ID.
@@ -33,16 +85,19 @@ public class FormTokenService {
     public static class TokenData {
         private final Long teacherId;
         private final Long yearId;
+        private final Instant expiresAt;
 
         /**
          * Creates a decoded token data holder.
          *
          * @param teacherId teacher identifier
          * @param yearId academic year identifier
+         * @param expiresAt instant after which the token is rejected
          */
-        public TokenData(Long teacherId, Long yearId) {
+        public TokenData(Long teacherId, Long yearId, Instant expiresAt) {
             this.teacherId = teacherId;
             this.yearId = yearId;
+            this.expiresAt = expiresAt;
         }
 
         public Long getTeacherId() {
@@ -52,100 +107,140 @@ public class FormTokenService {
         public Long getYearId() {
             return yearId;
         }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
     }
 
     /**
-     * Generate a unique form token encoding teacherId and yearId.
-     * Format: base64url(json({teacherId, yearId, uuid}))
-     * Retries up to 5 times if token collision occurs.
-     *
-     * @param teacherId The teacher ID
-     * @param yearId The academic year ID
-     * @return A unique form token
-     * @throws IllegalStateException if token uniqueness cannot be ensured (extremely unlikely)
+     * Prepares the signing key. A {@link Mac} is not thread-safe, so each thread keeps its own.
      */
-    public String generateUniqueFormToken(Long teacherId, Long yearId) {
-        final int maxRetries = 5;
-
-        Map<String, Object> tokenData = new HashMap<>();
-        tokenData.put("teacherId", teacherId);
-        tokenData.put("yearId", yearId);
-
-        for (int attempt = 0; attempt < maxRetries; attempt++) {
-            tokenData.put("uuid", UUID.randomUUID().toString());
-            String formToken = encodeToken(tokenData);
-
-            if (!teacherFormSubmissionRepository.existsByFormToken(formToken)) {
-                return formToken;
-            }
-
-            log.warn("Token collision detected on attempt {} for teacherId: {}, yearId: {}",
-                    attempt + 1, teacherId, yearId);
+    @PostConstruct
+    void init() {
+        if (secret != null && !secret.isBlank()) {
+            key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        } else if (jwtSecret != null && !jwtSecret.isBlank()) {
+            key = new SecretKeySpec(deriveKey(jwtSecret), ALGORITHM);
+        } else {
+            throw new IllegalStateException("No secret configured for form tokens");
         }
-
-        log.error("Failed to generate unique token after {} attempts for teacherId: {}, yearId: {}",
-                maxRetries, teacherId, yearId);
-        throw new IllegalStateException("Failed to generate unique form token after " + maxRetries + " attempts");
+        macs = ThreadLocal.withInitial(this::newMac);
     }
 
     /**
-     * Encode token data to a Base64 URL-safe string.
+     * Returns the instant until which unsigned tokens issued before this format are still accepted, provided
+     * they match a stored invitation.
      *
-     * @param tokenData The token data map
-     * @return Base64 URL-safe encoded token string
-     * @throws IllegalStateException if encoding fails
+     * @return the end of the transition window, or empty if legacy tokens are rejected
      */
-    public String encodeToken(Map<String, Object> tokenData) {
-        try {
-            String jsonData = objectMapper.writeValueAsString(tokenData);
-            byte[] bytes = jsonData.getBytes(StandardCharsets.UTF_8);
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to encode form token", e);
-            throw new IllegalStateException("Failed to encode form token", e);
+    public Optional<Instant> legacyTokensAcceptedUntil() {
+        if (legacyAcceptedUntil == null) {
+            return Optional.empty();
         }
+        Instant until = legacyAcceptedUntil.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return clock.instant().isBefore(until) ? Optional.of(until) : Optional.empty();
     }
 
     /**
-     * Decode a form token and extract teacherId and yearId.
+     * Generate a signed form token encoding teacherId and yearId.
+     * The random nonce makes the token unique, so no existence check is needed and tokens can be
+     * generated in bulk.
+     *
+     * @param teacherId The teacher ID
+     * @param yearId The academic year ID
+     * @return A signed form token
+     */
+    public String generateFormToken(Long teacherId, Long yearId) {
+        Instant expiresAt = clock.instant().plus(Duration.ofDays(validityDays));
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH)
+                .put(VERSION)
+                .putLong(teacherId)
+                .putLong(yearId)
+                .putLong(random.nextLong())
+                .putLong(expiresAt.getEpochSecond());
+        buffer.put(sign(buffer.array()), 0, MAC_LENGTH);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Verify a form token and extract teacherId and yearId.
      *
      * @param formToken The form token to decode
      * @return TokenData containing teacherId and yearId
-     * @throws IllegalArgumentException if token is invalid or corrupted
+     * @throws IllegalArgumentException if token is invalid, forged or expired
      */
     public TokenData decodeFormToken(String formToken) {
-    if (formToken == null || formToken.isBlank() || !BASE64URL_PATTERN.matcher(formToken).matches()) {
-        throw new IllegalArgumentException("Invalid or corrupted form token");
-    }
-
-    try {
-        byte[] decodedBytes = Base64.getUrlDecoder().decode(formToken);
-        String jsonData = new String(decodedBytes, StandardCharsets.UTF_8);
+        if (formToken == null || formToken.length() != ENCODED_LENGTH) {
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> tokenData = objectMapper.readValue(jsonData, Map.class);
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(formToken);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_TOKEN, e);
+        }
+        if (bytes.length != TOKEN_LENGTH || bytes[0] != VERSION) {
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
 
-        Long teacherId = parseRequiredLong(tokenData, "teacherId");
-        Long yearId = parseRequiredLong(tokenData, "yearId");
+        byte[] expected = Arrays.copyOf(sign(bytes), MAC_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, TOKEN_LENGTH);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            log.warn("Rejected form token with invalid signature");
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
 
-        return new TokenData(teacherId, yearId);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+        long teacherId = buffer.getLong();
+        long yearId = buffer.getLong();
+        buffer.getLong(); // nonce
+        Instant expiresAt = Instant.ofEpochSecond(buffer.getLong());
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new IllegalArgumentException("Form token has expired");
+        }
+        return new TokenData(teacherId, yearId, expiresAt);
+    }
 
-    } catch (IOException e) {
-        log.error("Failed to decode form token (invalid json)", e);
-        throw new IllegalArgumentException("Invalid or corrupted form token", e);
+    /**
+     * Checks whether a token has the unsigned format issued before tokens were signed: Base64 URL encoded JSON.
+     *
+     * @param formToken the form token
+     * @return true for a legacy token; its contents are not trusted and must be matched against a stored invitation
+     */
+    public boolean isLegacyFormat(String formToken) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(formToken);
+            return bytes.length > 0 && bytes[0] == '{';
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
-}
 
+    private byte[] sign(byte[] token) {
+        Mac mac = macs.get();
+        mac.update(token, 0, PAYLOAD_LENGTH);
+        return mac.doFinal();
+    }
 
-    private Long parseRequiredLong(Map<String, Object> tokenData, String key) {
-        Object value = tokenData.get(key);
-        if (value == null) {
-            throw new IllegalArgumentException("Invalid or corrupted form token");
+    private static byte[] deriveKey(String masterSecret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(masterSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(KEY_DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive form token key", e);
         }
+    }
+
+    private Mac newMac() {
         try {
-            return Long.valueOf(value.toString());
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid or corrupted form token", e);
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize form token signing", e);
         }
     }
 }
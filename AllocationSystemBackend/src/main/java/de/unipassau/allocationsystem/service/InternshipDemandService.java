@@ -10,11 +10,14 @@ import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Subject;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.mapper.InternshipDemandMapper;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.InternshipDemandAggregation;
 import de.unipassau.allocationsystem.repository.InternshipDemandRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.projection.InternshipDemandRow;
+import de.unipassau.allocationsystem.repository.projection.ProjectionQueryExecutor;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -56,6 +59,8 @@ public class InternshipDemandService implements CrudService<InternshipDemand, Lo
     private final InternshipTypeRepository internshipTypeRepository;
     private final SubjectRepository subjectRepository;
     private final AcademicYearRepository academicYearRepository;
+    private final InternshipDemandMapper internshipDemandMapper;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
 
     /**
      * Returns the sortable fields metadata.
@@ -103,9 +108,15 @@ public class InternshipDemandService implements CrudService<InternshipDemand, Lo
         Pageable pageRequest = PageRequest.of(pageParams.page() - 1, pageParams.pageSize(), orderBy);
 
         Specification<InternshipDemand> filterSpec = buildSearchSpecification(searchValue);
-        Page<InternshipDemand> pageResult = repository.findAll(filterSpec, pageRequest);
+        if (pageParams.isKeyset()) {
+            return PaginationUtils.findKeysetPage(
+                    projectionQueryExecutor.keysetQuery(InternshipDemandRow.PROJECTION), filterSpec, pageParams,
+                    rows -> rows.stream().map(internshipDemandMapper::toResponseDto).toList());
+        }
+        Page<InternshipDemandRow> pageResult =
+                projectionQueryExecutor.findPage(InternshipDemandRow.PROJECTION, filterSpec, pageRequest);
 
-        return PaginationUtils.formatPaginationResponse(pageResult);
+        return PaginationUtils.formatPaginationResponse(pageResult.map(internshipDemandMapper::toResponseDto));
     }
 
     @Audited(
@@ -184,7 +195,8 @@ public class InternshipDemandService implements CrudService<InternshipDemand, Lo
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.INTERNSHIP_DEMAND,
             description = "Updated internship demand",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
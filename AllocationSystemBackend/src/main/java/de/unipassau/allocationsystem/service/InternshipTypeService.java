@@ -10,6 +10,7 @@ import de.unipassau.allocationsystem.entity.InternshipType;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +47,7 @@ public class InternshipTypeService implements CrudService<InternshipType, Long>
     private static final String[] IMMUTABLE_FIELDS = {"id", "createdAt", "updatedAt"};
 
     private final InternshipTypeRepository internshipTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -177,7 +179,7 @@ public class InternshipTypeService implements CrudService<InternshipType, Long>
     @Transactional(readOnly = true)
     @Override
     public List<InternshipType> getAll() {
-        return internshipTypeRepository.findAll();
+        return referenceDataCache.getAll(InternshipType.class);
     }
 
     @AuditedInternshipTypeViewById
@@ -1,9 +1,11 @@
 package de.unipassau.allocationsystem.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -12,6 +14,7 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -19,6 +22,9 @@ import java.util.function.Function;
  *
  * Notes:
  * - Avoids java.util.Date entirely by setting standard JWT time claims (iat/exp) as epoch-seconds numbers.
+ * - The signing key and parser are built once. Tokens verified by {@link #verify(String)} are remembered until they
+ *   expire, so repeated requests with the same token skip parsing and signature checks. The cache is keyed on the
+ *   token string itself: a lookup compares the full token, which is far cheaper than hashing it.
  */
 @Service
 public class JwtService {
@@ -32,6 +38,36 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    /**
+     * Maximum number of remembered verified tokens; 0 verifies every token.
+     */
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Subject and expiry of a token whose signature has been verified.
+     *
+     * @param username the subject
+     * @param expiresAt the expiry
+     */
+    public record VerifiedToken(String username, Instant expiresAt) {
+    }
+
+    /**
+     * Decodes the secret and builds the parser once.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     /**
      * Generate JWT token for a user.
      */
@@ -63,10 +99,35 @@ public class JwtService {
         return Jwts.builder()
                 .claims(mergedClaims)
                 .subject(subject)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify a token and return its subject and expiry.
+     * The token is parsed and its signature checked only the first time it is seen; until it expires, later calls
+     * are answered from the cache of verified tokens.
+     *
+     * @param token the compact JWT
+     * @return the verified token
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, its signature is invalid or it has expired
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokens.get(token);
+        Instant now = Instant.now();
+        if (cached != null) {
+            if (now.isBefore(cached.expiresAt())) {
+                return cached;
+            }
+            verifiedTokens.remove(token);
+        }
+
+        Claims claims = extractAllClaims(token);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), expirationOf(claims));
+        remember(token, verified, now);
+        return verified;
+    }
+
     /**
      * Extract username (subject) from token.
      */
@@ -79,8 +140,10 @@ public class JwtService {
      * Supports both numeric and Date-based exp representations (in case older tokens exist).
      */
     public Instant extractExpirationInstant(String token) {
-        Claims claims = extractAllClaims(token);
+        return expirationOf(extractAllClaims(token));
+    }
 
+    private Instant expirationOf(Claims claims) {
         Object exp = claims.get(Claims.EXPIRATION);
         if (exp instanceof Number n) {
             return Instant.ofEpochSecond(n.longValue());
@@ -111,33 +174,27 @@ public class JwtService {
      * Extract all claims from token.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Check if token is expired.
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpirationInstant(token).isBefore(Instant.now());
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
      * Validate token against user details.
+     * The parser rejects expired tokens, so a token it accepts is valid if it belongs to the user.
      */
     public boolean validateToken(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return verify(token).username().equals(userDetails.getUsername());
     }
 
-    /**
-     * Get signing key from secret.
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private void remember(String token, VerifiedToken verified, Instant now) {
+        if (cacheMaxSize <= 0 || !now.isBefore(verified.expiresAt())) {
+            return;
+        }
+        if (verifiedTokens.size() >= cacheMaxSize) {
+            verifiedTokens.values().removeIf(t -> !now.isBefore(t.expiresAt()));
+            if (verifiedTokens.size() >= cacheMaxSize) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(token, verified);
     }
 }
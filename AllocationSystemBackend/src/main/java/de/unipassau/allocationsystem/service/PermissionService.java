@@ -7,6 +7,7 @@ import de.unipassau.allocationsystem.entity.Permission;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.PermissionRepository;
+import de.unipassau.allocationsystem.security.RolePermissionEvaluator;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ import java.util.Optional;
 public class PermissionService implements CrudService<Permission, Long> {
 
     private final PermissionRepository permissionRepository;
+    private final RolePermissionEvaluator permissionEvaluator;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -198,6 +200,7 @@ public class PermissionService implements CrudService<Permission, Long> {
     @Override
     public Permission create(Permission permission) {
         ensureUniqueTitle(permission.getTitle(), null);
+        permissionEvaluator.rebuildAfterCommit();
         return permissionRepository.save(permission);
     }
 
@@ -205,13 +208,15 @@ public class PermissionService implements CrudService<Permission, Long> {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.PERMISSION,
             description = "Updated permission",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
     public Permission update(Long id, Permission data) {
         Permission existing = getExistingOrThrow(id);
         applyFieldUpdates(existing, data);
+        permissionEvaluator.rebuildAfterCommit();
         return permissionRepository.save(existing);
     }
 
@@ -226,5 +231,6 @@ public class PermissionService implements CrudService<Permission, Long> {
     public void delete(Long id) {
         getExistingOrThrow(id);
         permissionRepository.deleteById(id);
+        permissionEvaluator.rebuildAfterCommit();
     }
 }
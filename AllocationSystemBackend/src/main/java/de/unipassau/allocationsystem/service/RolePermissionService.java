@@ -4,6 +4,7 @@ import de.unipassau.allocationsystem.aspect.Audited;
 import de.unipassau.allocationsystem.constant.AuditEntityNames;
 import de.unipassau.allocationsystem.entity.RolePermission;
 import de.unipassau.allocationsystem.repository.RolePermissionRepository;
+import de.unipassau.allocationsystem.security.RolePermissionEvaluator;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
@@ -32,6 +33,7 @@ import java.util.Optional;
 public class RolePermissionService implements CrudService<RolePermission, Long> {
 
     private final RolePermissionRepository rolePermissionRepository;
+    private final RolePermissionEvaluator permissionEvaluator;
 
     /**
      * Returns the sortable fields metadata.
@@ -160,6 +162,7 @@ public class RolePermissionService implements CrudService<RolePermission, Long>
                 rolePermission.getPermission().getId()).isPresent()) {
             throw new DuplicateResourceException("Role permission mapping already exists");
         }
+        permissionEvaluator.rebuildAfterCommit();
         return rolePermissionRepository.save(rolePermission);
     }
 
@@ -167,7 +170,8 @@ public class RolePermissionService implements CrudService<RolePermission, Long>
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.ROLE_PERMISSION,
             description = "Updated role permission",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
@@ -195,6 +199,7 @@ public class RolePermissionService implements CrudService<RolePermission, Long>
             existing.setAccessLevel(data.getAccessLevel());
         }
 
+        permissionEvaluator.rebuildAfterCommit();
         return rolePermissionRepository.save(existing);
     }
 
@@ -211,5 +216,6 @@ public class RolePermissionService implements CrudService<RolePermission, Long>
             throw new ResourceNotFoundException("Role permission not found with id: " + id);
         }
         rolePermissionRepository.deleteById(id);
+        permissionEvaluator.rebuildAfterCommit();
     }
 }
@@ -10,6 +10,7 @@ import de.unipassau.allocationsystem.entity.Role;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.RoleRepository;
+import de.unipassau.allocationsystem.security.RolePermissionEvaluator;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -38,6 +39,7 @@ import java.util.Optional;
 public class RoleService implements CrudService<Role, Long> {
 
     private final RoleRepository roleRepository;
+    private final RolePermissionEvaluator permissionEvaluator;
 
     /**
      * Returns the sortable fields metadata.
@@ -159,6 +161,8 @@ public class RoleService implements CrudService<Role, Long> {
     public Role update(Long id, Role data) {
         Role existing = getExistingOrThrow(id);
         applyFieldUpdates(existing, data);
+        // Permissions are matched by role title
+        permissionEvaluator.rebuildAfterCommit();
         return roleRepository.save(existing);
     }
 
@@ -168,5 +172,6 @@ public class RoleService implements CrudService<Role, Long> {
     public void delete(Long id) {
         getExistingOrThrow(id);
         roleRepository.deleteById(id);
+        permissionEvaluator.rebuildAfterCommit();
     }
 }
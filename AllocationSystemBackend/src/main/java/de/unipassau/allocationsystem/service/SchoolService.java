@@ -7,6 +7,9 @@ import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
+import de.unipassau.allocationsystem.service.search.SearchIndexService;
+import de.unipassau.allocationsystem.service.search.SearchMatch;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -39,6 +42,8 @@ import java.util.function.Consumer;
 public class SchoolService implements CrudService<School, Long> {
 
     private final SchoolRepository schoolRepository;
+    private final SearchIndexService searchIndexService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -117,22 +122,26 @@ public class SchoolService implements CrudService<School, Long> {
         return schoolRepository.save(school);
     }
 
-    private Pageable pageRequestFrom(Map<String, String> queryParams) {
+    private Pageable pageRequestFrom(Map<String, String> queryParams, Optional<SearchMatch> match) {
         PaginationUtils.PaginationParams params = PaginationUtils.validatePaginationParams(queryParams);
-        Sort sort = Sort.by(params.sortOrder(), params.sortBy());
+        Sort sort = SearchIndexService.pageSort(match, queryParams, params);
         return PageRequest.of(params.page() - 1, params.pageSize(), sort);
     }
 
-    private Specification<School> buildFilterSpecification(Map<String, String> queryParams, String searchValue) {
-        return (root, query, cb) -> cb.and(collectPredicates(queryParams, searchValue, root, cb)
-                .toArray(new Predicate[0]));
+    private Specification<School> buildFilterSpecification(Map<String, String> queryParams, String searchValue,
+                                                           Optional<SearchMatch> match) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = collectPredicates(queryParams, searchValue, match.isPresent(), root, cb);
+            match.ifPresent(m -> predicates.add(m.<School>toSpecification().toPredicate(root, query, cb)));
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
     }
 
-    private List<Predicate> collectPredicates(Map<String, String> queryParams, String searchValue,
+    private List<Predicate> collectPredicates(Map<String, String> queryParams, String searchValue, boolean indexed,
                                               Root<School> root, CriteriaBuilder cb) {
         List<Predicate> predicates = new ArrayList<>();
 
-        if (searchValue != null && !searchValue.trim().isEmpty()) {
+        if (!indexed && searchValue != null && !searchValue.trim().isEmpty()) {
             String likePattern = "%" + searchValue.trim().toLowerCase() + "%";
             predicates.add(cb.like(cb.lower(root.get("schoolName")), likePattern));
         }
@@ -184,8 +193,9 @@ public class SchoolService implements CrudService<School, Long> {
     @Transactional(readOnly = true)
     @Override
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
-        Pageable pageable = pageRequestFrom(queryParams);
-        Specification<School> spec = buildFilterSpecification(queryParams, searchValue);
+        Optional<SearchMatch> match = searchIndexService.find(School.class, searchValue);
+        Pageable pageable = pageRequestFrom(queryParams, match);
+        Specification<School> spec = buildFilterSpecification(queryParams, searchValue, match);
         Page<School> page = schoolRepository.findAll(spec, pageable);
         return PaginationUtils.formatPaginationResponse(page);
     }
@@ -215,7 +225,7 @@ public class SchoolService implements CrudService<School, Long> {
     }
 
     private List<School> getAllSchools() {
-        return schoolRepository.findAll();
+        return referenceDataCache.getAll(School.class);
     }
 
     private Optional<School> getSchoolById(Long id) {
@@ -238,7 +248,8 @@ public class SchoolService implements CrudService<School, Long> {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.SCHOOL,
             description = "Updated school",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Override
     public School update(Long id, School data) {
@@ -258,7 +269,8 @@ public class SchoolService implements CrudService<School, Long> {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.SCHOOL,
             description = "Updated school status",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     public School updateStatus(Long id, Boolean isActive) {
         School existing = loadSchool(id);
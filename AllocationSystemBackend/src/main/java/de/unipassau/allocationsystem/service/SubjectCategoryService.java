@@ -7,6 +7,7 @@ import de.unipassau.allocationsystem.entity.SubjectCategory;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -34,6 +35,7 @@ import java.util.Optional;
 public class SubjectCategoryService implements CrudService<SubjectCategory, Long> {
 
     private final SubjectCategoryRepository subjectCategoryRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -136,7 +138,7 @@ public class SubjectCategoryService implements CrudService<SubjectCategory, Long
     }
 
     private List<SubjectCategory> getAllSubjectCategories() {
-        return subjectCategoryRepository.findAll();
+        return referenceDataCache.getAll(SubjectCategory.class);
     }
 
     private Optional<SubjectCategory> getSubjectCategoryById(Long id) {
@@ -159,7 +161,8 @@ public class SubjectCategoryService implements CrudService<SubjectCategory, Long
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.SUBJECT_CATEGORY,
             description = "Updated subject category",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Override
     public SubjectCategory update(Long id, SubjectCategory data) {
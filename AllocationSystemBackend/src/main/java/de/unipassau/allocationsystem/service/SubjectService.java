@@ -7,6 +7,8 @@ import de.unipassau.allocationsystem.entity.Subject;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.service.search.SearchIndexService;
+import de.unipassau.allocationsystem.service.search.SearchMatch;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -25,6 +27,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import de.unipassau.allocationsystem.dto.subject.SubjectResponseDto;
 import de.unipassau.allocationsystem.mapper.SubjectMapper;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import org.springframework.data.domain.PageImpl;
 
 /**
@@ -39,6 +42,8 @@ public class SubjectService implements CrudService<Subject, Long> {
 
     private final SubjectRepository subjectRepository;
     private final SubjectMapper subjectMapper;
+    private final SearchIndexService searchIndexService;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -56,7 +61,10 @@ public class SubjectService implements CrudService<Subject, Long> {
         return getSortFields().stream().map(x -> x.get("key")).toList();
     }
 
-    private Specification<Subject> searchSpec(String searchValue) {
+    private Specification<Subject> searchSpec(String searchValue, Optional<SearchMatch> match) {
+        if (match.isPresent()) {
+            return match.get().toSpecification();
+        }
         return SearchSpecificationUtils.buildMultiFieldLikeSpecification(
                 new String[]{"subjectCode", "subjectTitle", "schoolType"}, searchValue
         );
@@ -111,14 +119,14 @@ public class SubjectService implements CrudService<Subject, Long> {
         return subjectRepository.existsById(id);
     }
 
-    private PageRequest buildPageRequestFrom(Map<String, String> queryParams) {
+    private PageRequest buildPageRequestFrom(Map<String, String> queryParams, Optional<SearchMatch> match) {
         PaginationUtils.PaginationParams p = PaginationUtils.validatePaginationParams(queryParams);
-        Sort sort = Sort.by(p.sortOrder(), p.sortBy());
+        Sort sort = SearchIndexService.pageSort(match, queryParams, p);
         return PageRequest.of(p.page() - 1, p.pageSize(), sort);
     }
 
-    private Page<Subject> querySubjects(String searchValue, PageRequest pageRequest) {
-        return subjectRepository.findAll(searchSpec(searchValue), pageRequest);
+    private Page<Subject> querySubjects(String searchValue, Optional<SearchMatch> match, PageRequest pageRequest) {
+        return subjectRepository.findAll(searchSpec(searchValue, match), pageRequest);
     }
 
     private static <T> void setIfPresent(T value, Consumer<T> setter) {
@@ -155,8 +163,9 @@ public class SubjectService implements CrudService<Subject, Long> {
     @Transactional(readOnly = true)
     @Override
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
-        PageRequest pageRequest = buildPageRequestFrom(queryParams);
-        Page<Subject> pageResult = querySubjects(searchValue, pageRequest);
+        Optional<SearchMatch> match = searchIndexService.find(Subject.class, searchValue);
+        PageRequest pageRequest = buildPageRequestFrom(queryParams, match);
+        Page<Subject> pageResult = querySubjects(searchValue, match, pageRequest);
         List<SubjectResponseDto> dtoItems = pageResult.getContent().stream()
             .map(subjectMapper::toResponseDto)
             .toList();
@@ -189,7 +198,7 @@ public class SubjectService implements CrudService<Subject, Long> {
     }
 
     private List<Subject> getAllSubjects() {
-        return subjectRepository.findAll();
+        return referenceDataCache.getAll(Subject.class);
     }
 
     private Optional<Subject> getSubjectById(Long id) {
@@ -212,7 +221,8 @@ public class SubjectService implements CrudService<Subject, Long> {
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.SUBJECT,
             description = "Updated subject information",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Override
     public Subject update(Long id, Subject data) {
@@ -19,7 +19,10 @@ import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.TeacherAssignment;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.mapper.TeacherAssignmentMapper;
 import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import de.unipassau.allocationsystem.repository.projection.ProjectionQueryExecutor;
+import de.unipassau.allocationsystem.repository.projection.TeacherAssignmentRow;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +40,8 @@ public class TeacherAssignmentService implements CrudService<TeacherAssignment,
 
     private final TeacherAssignmentRepository teacherAssignmentRepository;
     private final CreditHourTrackingService creditHourTrackingService;
+    private final TeacherAssignmentMapper teacherAssignmentMapper;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
 
     /**
      * Returns the sortable fields metadata.
@@ -157,13 +162,19 @@ public class TeacherAssignmentService implements CrudService<TeacherAssignment,
     @Override
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
         PaginationUtils.PaginationParams params = PaginationUtils.validatePaginationParams(queryParams);
+        Specification<TeacherAssignment> spec = buildSearchSpecification(searchValue);
+        if (params.isKeyset()) {
+            return PaginationUtils.findKeysetPage(
+                    projectionQueryExecutor.keysetQuery(TeacherAssignmentRow.PROJECTION), spec, params,
+                    rows -> rows.stream().map(teacherAssignmentMapper::toResponseDto).toList());
+        }
+
         Sort sort = Sort.by(params.sortOrder(), params.sortBy());
         Pageable pageable = PageRequest.of(params.page() - 1, params.pageSize(), sort);
+        Page<TeacherAssignmentRow> page =
+                projectionQueryExecutor.findPage(TeacherAssignmentRow.PROJECTION, spec, pageable);
 
-        Specification<TeacherAssignment> spec = buildSearchSpecification(searchValue);
-        Page<TeacherAssignment> page = teacherAssignmentRepository.findAll(spec, pageable);
-
-        return PaginationUtils.formatPaginationResponse(page);
+        return PaginationUtils.formatPaginationResponse(page.map(teacherAssignmentMapper::toResponseDto));
     }
 
     @Audited(
@@ -221,7 +232,8 @@ public class TeacherAssignmentService implements CrudService<TeacherAssignment,
         action = AuditLog.AuditAction.UPDATE,
         entityName = AuditEntityNames.TEACHER_ASSIGNMENT,
         description = "Updated teacher assignment",
-        captureNewValue = true
+        captureNewValue = true,
+        capturePreviousValue = true
     )
     @Transactional
     @Override
@@ -6,7 +6,10 @@ import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.entity.TeacherAvailability;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.mapper.TeacherAvailabilityMapper;
 import de.unipassau.allocationsystem.repository.TeacherAvailabilityRepository;
+import de.unipassau.allocationsystem.repository.projection.ProjectionQueryExecutor;
+import de.unipassau.allocationsystem.repository.projection.TeacherAvailabilityRow;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +39,8 @@ import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 public class TeacherAvailabilityService implements CrudService<TeacherAvailability, Long> {
 
     private final TeacherAvailabilityRepository teacherAvailabilityRepository;
+    private final TeacherAvailabilityMapper teacherAvailabilityMapper;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -142,13 +147,19 @@ public class TeacherAvailabilityService implements CrudService<TeacherAvailabili
     @Override
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
         PaginationUtils.PaginationParams params = PaginationUtils.validatePaginationParams(queryParams);
+        Specification<TeacherAvailability> spec = buildSearchSpecification(searchValue);
+        if (params.isKeyset()) {
+            return PaginationUtils.findKeysetPage(
+                    projectionQueryExecutor.keysetQuery(TeacherAvailabilityRow.PROJECTION), spec, params,
+                    rows -> rows.stream().map(teacherAvailabilityMapper::toResponseDto).toList());
+        }
+
         Sort sort = Sort.by(params.sortOrder(), params.sortBy());
         Pageable pageable = PageRequest.of(params.page() - 1, params.pageSize(), sort);
+        Page<TeacherAvailabilityRow> page =
+                projectionQueryExecutor.findPage(TeacherAvailabilityRow.PROJECTION, spec, pageable);
 
-        Specification<TeacherAvailability> spec = buildSearchSpecification(searchValue);
-        Page<TeacherAvailability> page = teacherAvailabilityRepository.findAll(spec, pageable);
-
-        return PaginationUtils.formatPaginationResponse(page);
+        return PaginationUtils.formatPaginationResponse(page.map(teacherAvailabilityMapper::toResponseDto));
     }
 
     @Audited(
@@ -205,7 +216,8 @@ public class TeacherAvailabilityService implements CrudService<TeacherAvailabili
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER_AVAILABILITY,
             description = "Updated teacher availability",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
@@ -33,6 +33,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -92,6 +93,11 @@ public class TeacherFormSubmissionService {
         spec = TeacherFormSubmissionSupport.addYearFilter(spec, yearId);
         spec = TeacherFormSubmissionSupport.addProcessedFilter(spec, isProcessed);
 
+        if (params.isKeyset()) {
+            return PaginationUtils.findKeysetPage(
+                    teacherFormSubmissionRepository, spec, params, teacherFormSubmissionMapper::toResponseDto);
+        }
+
         Pageable pageable = buildPageable(params);
 
         Page<TeacherFormSubmission> page = teacherFormSubmissionRepository.findAll(spec, pageable);
@@ -162,7 +168,9 @@ public class TeacherFormSubmissionService {
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER_FORM_SUBMISSION,
             description = "Updated teacher form submission processing status",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = TeacherFormSubmission.class,
+            capturePreviousValue = true
     )
     public TeacherFormSubmissionResponseDto updateFormSubmissionStatus(
             Long id, TeacherFormSubmissionStatusUpdateDto statusDto
@@ -203,7 +211,7 @@ public class TeacherFormSubmissionService {
                 teacherFormSubmissionRepository, request.getTeacherId(), request.getYearId(), log
         );
 
-        String formToken = formTokenService.generateUniqueFormToken(request.getTeacherId(), request.getYearId());
+        String formToken = formTokenService.generateFormToken(request.getTeacherId(), request.getYearId());
 
         TeacherFormSubmission saved = TeacherFormSubmissionSupport.createInvitationRecord(
                 teacherFormSubmissionRepository, teacher, academicYear, formToken
@@ -222,19 +230,20 @@ public class TeacherFormSubmissionService {
 
     /**
      * Submit a form via public endpoint using form token.
-     * This endpoint is public (no authentication required).
+     * This endpoint is public (no authentication required), so the token signature is verified before any query.
      */
     public TeacherFormSubmissionResponseDto submitFormByToken(String formToken, PublicFormSubmissionDto submissionDto) {
         log.info("Processing form submission for token: {}", formToken);
 
         TeacherFormSubmissionSupport.validateTokenNotBlank(formToken);
+        FormTokenService.TokenData tokenData = verifyToken(formToken);
 
         Optional<TeacherFormSubmission> existingOpt = teacherFormSubmissionRepository.findByFormToken(formToken);
         if (existingOpt.isPresent()) {
             return submitIntoExistingRecord(formToken, existingOpt.get(), submissionDto);
         }
 
-        return submitAsNewRecord(formToken, submissionDto);
+        return submitAsNewRecord(formToken, tokenData, submissionDto);
     }
 
     private TeacherFormSubmissionResponseDto submitIntoExistingRecord(
@@ -255,9 +264,9 @@ public class TeacherFormSubmissionService {
         return teacherFormSubmissionMapper.toResponseDto(saved);
     }
 
-    private TeacherFormSubmissionResponseDto submitAsNewRecord(String formToken, PublicFormSubmissionDto submissionDto) {
-        FormTokenService.TokenData tokenData = formTokenService.decodeFormToken(formToken);
-
+    private TeacherFormSubmissionResponseDto submitAsNewRecord(
+            String formToken, FormTokenService.TokenData tokenData, PublicFormSubmissionDto submissionDto
+    ) {
         Teacher teacher =
                 TeacherFormSubmissionSupport.validateAndGetTeacher(teacherRepository, tokenData.getTeacherId());
         AcademicYear academicYear =
@@ -288,9 +297,9 @@ public class TeacherFormSubmissionService {
         log.info("Fetching form details for token: {}", formToken);
 
         TeacherFormSubmissionSupport.validateTokenNotBlank(formToken);
+        FormTokenService.TokenData tokenData = verifyToken(formToken);
         TeacherFormSubmissionSupport.ensureNotSubmitted(teacherFormSubmissionRepository, formToken);
 
-        FormTokenService.TokenData tokenData = formTokenService.decodeFormToken(formToken);
         Teacher teacher =
                 TeacherFormSubmissionSupport.validateAndGetTeacher(teacherRepository, tokenData.getTeacherId());
         AcademicYear academicYear =
@@ -299,4 +308,24 @@ public class TeacherFormSubmissionService {
         String formUrl = TeacherFormSubmissionSupport.buildFormUrl(frontendUrl, formToken, log);
         return TeacherFormSubmissionSupport.buildFormLinkResponse(formToken, formUrl, teacher, academicYear);
     }
+
+    /**
+     * Verifies the token signature. During the transition window, links issued before tokens were signed are
+     * accepted if they match a stored invitation, and the teacher and year are taken from that invitation.
+     */
+    private FormTokenService.TokenData verifyToken(String formToken) {
+        try {
+            return formTokenService.decodeFormToken(formToken);
+        } catch (IllegalArgumentException e) {
+            Optional<Instant> legacyUntil = formTokenService.legacyTokensAcceptedUntil();
+            if (legacyUntil.isEmpty() || !formTokenService.isLegacyFormat(formToken)) {
+                throw e;
+            }
+            TeacherFormSubmission invitation = teacherFormSubmissionRepository.findByFormToken(formToken)
+                    .orElseThrow(() -> e);
+            log.info("Accepted legacy form token for submission ID: {}", invitation.getId());
+            return new FormTokenService.TokenData(invitation.getTeacher().getId(),
+                    invitation.getAcademicYear().getId(), legacyUntil.get());
+        }
+    }
 }
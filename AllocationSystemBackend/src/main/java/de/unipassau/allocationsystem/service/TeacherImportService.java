@@ -9,8 +9,8 @@ import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.TeacherMapper;
-import de.unipassau.allocationsystem.repository.SchoolRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import de.unipassau.allocationsystem.utils.ExcelParser;
 import de.unipassau.allocationsystem.utils.ParsedRow;
 import lombok.AllArgsConstructor;
@@ -42,8 +42,8 @@ import java.util.stream.Collectors;
 public class TeacherImportService {
 
     private final TeacherRepository teacherRepository;
-    private final SchoolRepository schoolRepository;
     private final TeacherMapper teacherMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Used to attach saved teacher entities back to the correct Excel row.
@@ -67,7 +67,9 @@ public class TeacherImportService {
         List<ParsedRow> parsedRows = ExcelParser.parseExcelFile(file);
 
         Map<Integer, ImportResultRowDto> resultMap = initResultMap(parsedRows);
-        List<School> activeSchools = schoolRepository.findByIsActive(true);
+        List<School> activeSchools = referenceDataCache.getAll(School.class).stream()
+                .filter(school -> Boolean.TRUE.equals(school.getIsActive()))
+                .toList();
 
         Map<String, School> schoolByName = indexByLowerName(activeSchools);
         Map<Long, School> schoolById = activeSchools.stream()
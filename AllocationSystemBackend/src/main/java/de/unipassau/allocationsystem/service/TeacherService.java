@@ -2,6 +2,7 @@ package de.unipassau.allocationsystem.service;
 
 import de.unipassau.allocationsystem.aspect.Audited;
 import de.unipassau.allocationsystem.constant.AuditEntityNames;
+import de.unipassau.allocationsystem.dto.subject.SubjectSimpleDto;
 import de.unipassau.allocationsystem.dto.teacher.BulkImportResponseDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherCreateDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherResponseDto;
@@ -16,6 +17,11 @@ import de.unipassau.allocationsystem.mapper.TeacherMapper;
 import de.unipassau.allocationsystem.repository.SchoolRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.repository.projection.ProjectionQueryExecutor;
+import de.unipassau.allocationsystem.repository.projection.TeacherRow;
+import de.unipassau.allocationsystem.repository.projection.TeacherSubjectRow;
+import de.unipassau.allocationsystem.service.search.SearchIndexService;
+import de.unipassau.allocationsystem.service.search.SearchMatch;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -23,6 +29,7 @@ import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,6 +40,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +63,8 @@ public class TeacherService implements CrudService<TeacherResponseDto, Long> {
     private final TeacherRepository teacherRepository;
     private final SchoolRepository schoolRepository;
     private final TeacherMapper teacherMapper;
+    private final ProjectionQueryExecutor projectionQueryExecutor;
+    private final SearchIndexService searchIndexService;
 
     /**
      * Bulk import implementation is moved to a dedicated service to keep this class below the file-size threshold.
@@ -105,19 +115,45 @@ public class TeacherService implements CrudService<TeacherResponseDto, Long> {
     @Override
     public Map<String, Object> getPaginated(Map<String, String> queryParams, String searchValue) {
         PaginationUtils.PaginationParams params = PaginationUtils.validatePaginationParams(queryParams);
-        Sort sort = Sort.by(params.sortOrder(), params.sortBy());
+        Optional<SearchMatch> match = searchIndexService.find(Teacher.class, searchValue);
+        Specification<Teacher> spec = buildFilterSpecification(queryParams, searchValue, match);
+        if (params.isKeyset()) {
+            return PaginationUtils.findKeysetPage(
+                    projectionQueryExecutor.keysetQuery(TeacherRow.PROJECTION), spec, params, this::toResponseDtos);
+        }
+
+        Sort sort = SearchIndexService.pageSort(match, queryParams, params);
         Pageable pageable = PageRequest.of(params.page() - 1, params.pageSize(), sort);
+        Page<TeacherRow> page = projectionQueryExecutor.findPage(TeacherRow.PROJECTION, spec, pageable);
+        return PaginationUtils.formatPaginationResponse(
+                new PageImpl<>(toResponseDtos(page.getContent()), pageable, page.getTotalElements()));
+    }
 
-        Specification<Teacher> spec = buildFilterSpecification(queryParams, searchValue);
-        Page<Teacher> page = teacherRepository.findAll(spec, pageable);
-        return PaginationUtils.formatPaginationResponse(page);
+    /**
+     * Maps teacher rows to response DTOs, loading the subjects of all of them with one query.
+     */
+    private List<TeacherResponseDto> toResponseDtos(List<TeacherRow> rows) {
+        Map<Long, List<SubjectSimpleDto>> subjectsByTeacher = new HashMap<>();
+        if (!rows.isEmpty()) {
+            List<Long> teacherIds = rows.stream().map(TeacherRow::id).toList();
+            for (TeacherSubjectRow subject : teacherRepository.findSubjectRowsByTeacherIdIn(teacherIds)) {
+                subjectsByTeacher.computeIfAbsent(subject.teacherId(), id -> new ArrayList<>())
+                        .add(new SubjectSimpleDto(subject.subjectId(), subject.subjectTitle()));
+            }
+        }
+        return rows.stream()
+                .map(row -> teacherMapper.toResponseDto(row, subjectsByTeacher.getOrDefault(row.id(), List.of())))
+                .toList();
     }
 
-    private Specification<Teacher> buildFilterSpecification(Map<String, String> queryParams, String searchValue) {
+    private Specification<Teacher> buildFilterSpecification(Map<String, String> queryParams, String searchValue,
+                                                            Optional<SearchMatch> match) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (searchValue != null && !searchValue.trim().isEmpty()) {
+            if (match.isPresent()) {
+                predicates.add(match.get().<Teacher>toSpecification().toPredicate(root, query, cb));
+            } else if (searchValue != null && !searchValue.trim().isEmpty()) {
                 Specification<Teacher> searchSpec = SearchSpecificationUtils.buildMultiFieldLikeSpecification(
                         new String[]{"firstName", "lastName", "email"}, searchValue
                 );
@@ -224,7 +260,9 @@ public class TeacherService implements CrudService<TeacherResponseDto, Long> {
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER,
             description = "Updated teacher",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = Teacher.class,
+            capturePreviousValue = true
     )
     @Override
     public TeacherResponseDto update(Long id, TeacherResponseDto dto) {
@@ -238,7 +276,9 @@ public class TeacherService implements CrudService<TeacherResponseDto, Long> {
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER,
             description = "Updated teacher",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = Teacher.class,
+            capturePreviousValue = true
     )
     public TeacherResponseDto updateTeacher(Long id, TeacherUpdateDto updateDto) {
         Teacher teacher = teacherRepository.findById(id)
@@ -275,7 +315,9 @@ public class TeacherService implements CrudService<TeacherResponseDto, Long> {
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER,
             description = "Updated teacher employment status",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = Teacher.class,
+            capturePreviousValue = true
     )
     public TeacherResponseDto updateEmploymentStatus(Long id, Teacher.EmploymentStatus employmentStatus) {
         Teacher existing = teacherRepository.findById(id)
@@ -176,7 +176,8 @@ public class TeacherSubjectService implements CrudService<TeacherSubject, Long>
             action = AuditLog.AuditAction.UPDATE,
             entityName = AuditEntityNames.TEACHER_SUBJECT,
             description = "Updated teacher-subject mapping",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Transactional
     @Override
@@ -83,7 +83,8 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Updated user",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     public User updateUser(Long userId, String newEmail, String newFullName) {
         User user = requireUser(userId);
@@ -141,7 +142,8 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Updated user enabled status",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     public User setUserEnabled(Long userId, boolean enabled) {
         User user = requireUser(userId);
@@ -202,7 +204,9 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Updated user with DTO",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = User.class,
+            capturePreviousValue = true
     )
     public UserResponseDto updateUserWithDto(Long userId, UserUpdateDto dto) {
         User user = requireUser(userId);
@@ -232,7 +236,9 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Activated user account",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = User.class,
+            capturePreviousValue = true
     )
     public UserResponseDto activateUser(Long userId) {
         User user = requireUser(userId);
@@ -252,7 +258,9 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Deactivated user account",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = User.class,
+            capturePreviousValue = true
     )
     public UserResponseDto deactivateUser(Long userId) {
         User user = requireUser(userId);
@@ -270,7 +278,9 @@ public class UserService {
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.USER,
             description = "Admin reset user password",
-            captureNewValue = true
+            captureNewValue = true,
+            entityClass = User.class,
+            capturePreviousValue = true
     )
     public UserResponseDto resetUserPassword(Long userId, PasswordResetDto dto) {
         User user = requireUser(userId);
@@ -13,6 +13,7 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.ZoneConstraintMapper;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.ZoneConstraintRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import de.unipassau.allocationsystem.utils.PaginationUtils;
 import de.unipassau.allocationsystem.utils.SearchSpecificationUtils;
 import de.unipassau.allocationsystem.utils.SortFieldUtils;
@@ -44,6 +45,7 @@ public class ZoneConstraintService implements CrudService<ZoneConstraint, Long>
     private final ZoneConstraintRepository zoneConstraintRepository;
     private final InternshipTypeRepository internshipTypeRepository;
     private final ZoneConstraintMapper zoneConstraintMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     @Override
     public List<Map<String, String>> getSortFields() {
@@ -194,7 +196,7 @@ public class ZoneConstraintService implements CrudService<ZoneConstraint, Long>
     }
 
     private List<ZoneConstraint> getAllZoneConstraints() {
-        return zoneConstraintRepository.findAll();
+        return referenceDataCache.getAll(ZoneConstraint.class);
     }
 
     private Optional<ZoneConstraint> getZoneConstraintById(Long id) {
@@ -231,7 +233,8 @@ public class ZoneConstraintService implements CrudService<ZoneConstraint, Long>
             action = AuditAction.UPDATE,
             entityName = AuditEntityNames.ZONE_CONSTRAINT,
             description = "Updated zone constraint",
-            captureNewValue = true
+            captureNewValue = true,
+            capturePreviousValue = true
     )
     @Override
     public ZoneConstraint update(Long id, ZoneConstraint data) {
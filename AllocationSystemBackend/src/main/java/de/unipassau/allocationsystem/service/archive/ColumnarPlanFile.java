@@ -0,0 +1,197 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads and writes the compact columnar archive format for allocation plans.
+ * <p>
+ * Layout (deflate-compressed as a whole): magic, format version, plan metadata, row count, then for every
+ * {@link PlanColumns.Column} its dictionary followed by one varint code per row, and finally the student group
+ * sizes as varints. Codes are small integers, so most rows take one byte per column before compression.
+ * </p>
+ */
+final class ColumnarPlanFile {
+
+    static final String EXTENSION = ".tsac";
+
+    private static final int MAGIC = 0x54534143; // "TSAC"
+    private static final short VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+
+    private ColumnarPlanFile() {
+    }
+
+    /**
+     * Writes a plan to {@code target}. The file is written to a unique temporary file next to the target and
+     * moved into place, so readers never observe a partially written archive and concurrent exports of the same
+     * plan never write to the same file.
+     *
+     * @param columns the plan columns
+     * @param target the archive file
+     * @throws IOException if writing fails
+     */
+    static void write(PlanColumns columns, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            writeTo(columns, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeTo(PlanColumns columns, Path temp) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), deflater, BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeMetadata(out, columns.getMetadata());
+            out.writeInt(columns.getRowCount());
+
+            for (PlanColumns.Column column : PlanColumns.Column.values()) {
+                String[] dictionary = columns.dictionary(column);
+                writeVarint(out, dictionary.length);
+                for (String value : dictionary) {
+                    out.writeUTF(value);
+                }
+                for (int code : columns.codes(column)) {
+                    writeVarint(out, code);
+                }
+            }
+            for (int size : columns.studentGroupSizes()) {
+                writeVarint(out, size);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Reads the header of an archive without decoding its columns.
+     *
+     * @param source the archive file
+     * @return the plan metadata
+     * @throws IOException if the file cannot be read or is not an archive
+     */
+    static PlanArchiveMetadata readMetadata(Path source) throws IOException {
+        try (DataInputStream in = open(source)) {
+            return readMetadata(in);
+        }
+    }
+
+    /**
+     * Reads a complete archive.
+     *
+     * @param source the archive file
+     * @return the decoded plan columns
+     * @throws IOException if the file cannot be read or is not an archive
+     */
+    static PlanColumns read(Path source) throws IOException {
+        try (DataInputStream in = open(source)) {
+            PlanArchiveMetadata metadata = readMetadata(in);
+            int rowCount = in.readInt();
+
+            Map<PlanColumns.Column, String[]> dictionaries = new EnumMap<>(PlanColumns.Column.class);
+            Map<PlanColumns.Column, int[]> codes = new EnumMap<>(PlanColumns.Column.class);
+            for (PlanColumns.Column column : PlanColumns.Column.values()) {
+                String[] dictionary = new String[readVarint(in)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = in.readUTF();
+                }
+                dictionaries.put(column, dictionary);
+                codes.put(column, readVarints(in, rowCount));
+            }
+            return new PlanColumns(metadata, rowCount, dictionaries, codes, readVarints(in, rowCount));
+        }
+    }
+
+    private static DataInputStream open(Path source) throws IOException {
+        InputStream raw = new BufferedInputStream(Files.newInputStream(source), BUFFER_SIZE);
+        DataInputStream in = new DataInputStream(new InflaterInputStream(raw));
+        if (in.readInt() != MAGIC) {
+            in.close();
+            throw new IOException("Not a plan archive: " + source);
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            in.close();
+            throw new IOException("Unsupported plan archive version " + version + ": " + source);
+        }
+        return in;
+    }
+
+    private static void writeMetadata(DataOutputStream out, PlanArchiveMetadata metadata) throws IOException {
+        out.writeLong(metadata.planId());
+        out.writeUTF(nullToEmpty(metadata.planName()));
+        out.writeUTF(nullToEmpty(metadata.planVersion()));
+        out.writeUTF(nullToEmpty(metadata.academicYear()));
+        out.writeUTF(nullToEmpty(metadata.status()));
+        out.writeLong(metadata.exportedAt().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private static PlanArchiveMetadata readMetadata(DataInputStream in) throws IOException {
+        long planId = in.readLong();
+        String planName = in.readUTF();
+        String planVersion = in.readUTF();
+        String academicYear = in.readUTF();
+        String status = in.readUTF();
+        LocalDateTime exportedAt = LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+        return new PlanArchiveMetadata(planId, planName, planVersion, academicYear, status, exportedAt);
+    }
+
+    private static void writeVarint(OutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b = in.readUnsignedByte();
+        while ((b & VARINT_CONTINUATION) != 0) {
+            value |= (b & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+            b = in.readUnsignedByte();
+        }
+        return value | (b << shift);
+    }
+
+    private static int[] readVarints(DataInputStream in, int count) throws IOException {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readVarint(in);
+        }
+        return values;
+    }
+
+    private static String nullToEmpty(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value;
+    }
+}
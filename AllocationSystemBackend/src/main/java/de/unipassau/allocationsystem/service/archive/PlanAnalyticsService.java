@@ -0,0 +1,69 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import de.unipassau.allocationsystem.dto.report.analytics.PlanTrendDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Service answering cross-plan and cross-year questions from the columnar plan archives.
+ * Each query scans the decoded columns of every archive instead of joining the operational tables.
+ * Decoded archives are cached by {@link PlanArchiveService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanAnalyticsService {
+
+    private final PlanArchiveService archiveService;
+
+    /**
+     * Returns the assignments and students per value of a column for every archived plan.
+     *
+     * @param column the column to group by
+     * @param value optional column value; if set, only this value is returned
+     * @return trend points ordered by academic year, plan and value
+     * @throws IOException if an archive cannot be read
+     */
+    public List<PlanTrendDto> trends(PlanColumns.Column column, String value) throws IOException {
+        List<PlanTrendDto> trends = new ArrayList<>();
+        for (Path file : archiveService.archiveFiles()) {
+            PlanColumns columns = archiveService.readColumns(file);
+            long[] counts = columns.countBy(column);
+            long[] students = columns.sumStudentsBy(column);
+            for (int code = 0; code < counts.length; code++) {
+                String codeValue = columns.valueOf(column, code);
+                if (counts[code] == 0 || (value != null && !value.equals(codeValue))) {
+                    continue;
+                }
+                trends.add(toTrend(columns, codeValue, counts[code], students[code]));
+            }
+        }
+        trends.sort(Comparator.comparing(PlanTrendDto::getAcademicYear)
+                .thenComparing(PlanTrendDto::getPlanId)
+                .thenComparing(PlanTrendDto::getValue));
+        return trends;
+    }
+
+    private PlanTrendDto toTrend(PlanColumns columns, String value, long count, long students) {
+        PlanArchiveMetadata metadata = columns.getMetadata();
+        double share = 0;
+        if (columns.getRowCount() > 0) {
+            share = (double) count / columns.getRowCount();
+        }
+        return PlanTrendDto.builder()
+                .academicYear(metadata.academicYear())
+                .planId(metadata.planId())
+                .planName(metadata.planName())
+                .planVersion(metadata.planVersion())
+                .value(value)
+                .assignments(count)
+                .students(students)
+                .share(share)
+                .build();
+    }
+}
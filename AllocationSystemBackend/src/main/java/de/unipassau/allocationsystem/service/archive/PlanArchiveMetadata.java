@@ -0,0 +1,21 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import java.time.LocalDateTime;
+
+/**
+ * Header information of an archived plan file.
+ *
+ * @param planId allocation plan ID
+ * @param planName plan name
+ * @param planVersion plan version label
+ * @param academicYear academic year name
+ * @param status plan status at export time
+ * @param exportedAt export timestamp
+ */
+public record PlanArchiveMetadata(Long planId,
+                                  String planName,
+                                  String planVersion,
+                                  String academicYear,
+                                  String status,
+                                  LocalDateTime exportedAt) {
+}
@@ -0,0 +1,233 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service exporting approved and archived allocation plans to columnar archive files.
+ * Archives are self-contained and read by {@link PlanAnalyticsService}, so cross-year analytics do not touch
+ * the operational tables. Exports are idempotent; exporting a plan again replaces its archive.
+ * Decoded archives are cached per file, up to {@code allocation.archive.cache.max-entries}; an export evicts the
+ * archive it replaces, and a file changed otherwise is reloaded when its modification time differs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanArchiveService {
+
+    /**
+     * Number of rows after which the persistence context is cleared to keep it bounded.
+     */
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final AllocationPlanRepository planRepository;
+    private final TeacherAssignmentRepository assignmentRepository;
+    private final EntityManager entityManager;
+
+    @Value("${allocation.archive.directory:./data/plan-archive}")
+    private String archiveDirectory;
+
+    @Value("${allocation.archive.cache.max-entries:64}")
+    private int cacheMaxEntries;
+
+    private final Map<Path, CachedColumns> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Exports a plan to its archive file.
+     *
+     * @param planId the allocation plan ID
+     * @return metadata of the written archive
+     * @throws ResourceNotFoundException if the plan does not exist
+     * @throws IllegalStateException if the plan is neither approved nor archived
+     * @throws IOException if the archive cannot be written
+     */
+    @Transactional(readOnly = true)
+    public PlanArchiveMetadata exportPlan(Long planId) throws IOException {
+        AllocationPlan plan = planRepository.findByIdWithAcademicYear(planId)
+                .orElseThrow(() -> new ResourceNotFoundException("Plan not found: " + planId));
+        if (plan.getStatus() != AllocationPlan.PlanStatus.APPROVED && plan.getStatus() != AllocationPlan.PlanStatus.ARCHIVED) {
+            throw new IllegalStateException("Only approved or archived plans can be exported, plan " + planId
+                    + " is " + plan.getStatus());
+        }
+
+        PlanArchiveMetadata metadata = new PlanArchiveMetadata(plan.getId(), plan.getPlanName(), plan.getPlanVersion(),
+                academicYearOf(plan), plan.getStatus().name(), LocalDateTime.now());
+        PlanColumns.Builder builder = PlanColumns.builder(metadata);
+
+        try (Stream<TeacherAssignment> rows = assignmentRepository.streamAllByPlanIdWithDetails(planId)) {
+            Iterator<TeacherAssignment> it = rows.iterator();
+            long count = 0;
+            while (it.hasNext()) {
+                TeacherAssignment assignment = it.next();
+                builder.add(valuesOf(assignment), groupSizeOf(assignment));
+                count++;
+                if (count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        PlanColumns columns = builder.build();
+        Path target = archivePath(planId);
+        Files.createDirectories(target.getParent());
+        ColumnarPlanFile.write(columns, target);
+        cache.remove(target);
+        log.info("Exported plan {} ({} assignments) to {} ({} bytes)", planId, columns.getRowCount(), target, Files.size(target));
+        return metadata;
+    }
+
+    /**
+     * Exports a plan once its archiving has been committed. Failures are logged and do not affect the plan.
+     *
+     * @param event the archive event
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPlanArchived(PlanArchivedEvent event) {
+        try {
+            exportPlan(event.planId());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to export archived plan {}", event.planId(), e);
+        }
+    }
+
+    /**
+     * Lists the metadata of all archive files, ordered by academic year and plan ID.
+     *
+     * @return archive metadata
+     * @throws IOException if the archive directory cannot be read
+     */
+    public List<PlanArchiveMetadata> listArchives() throws IOException {
+        List<PlanArchiveMetadata> archives = new ArrayList<>();
+        for (Path file : archiveFiles()) {
+            archives.add(ColumnarPlanFile.readMetadata(file));
+        }
+        archives.sort(Comparator.comparing(PlanArchiveMetadata::academicYear).thenComparing(PlanArchiveMetadata::planId));
+        return archives;
+    }
+
+    /**
+     * Returns all archive files.
+     *
+     * @return archive file paths, empty if nothing was exported yet
+     * @throws IOException if the archive directory cannot be read
+     */
+    List<Path> archiveFiles() throws IOException {
+        Path directory = Paths.get(archiveDirectory);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(ColumnarPlanFile.EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Returns the decoded columns of an archive file, from the cache if the file is unchanged.
+     *
+     * @param file the archive file
+     * @return the plan columns
+     * @throws IOException if the archive cannot be read
+     */
+    PlanColumns readColumns(Path file) throws IOException {
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        CachedColumns cached = cache.get(file);
+        if (cached != null && cached.lastModified() == lastModified) {
+            return cached.columns();
+        }
+        PlanColumns columns = ColumnarPlanFile.read(file);
+        if (cacheMaxEntries > 0) {
+            if (cache.size() >= cacheMaxEntries && !cache.containsKey(file)) {
+                evictOldest();
+            }
+            cache.put(file, new CachedColumns(lastModified, System.nanoTime(), columns));
+        }
+        log.debug("Loaded plan archive {} ({} rows)", file, columns.getRowCount());
+        return columns;
+    }
+
+    private void evictOldest() {
+        cache.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .ifPresent(entry -> cache.remove(entry.getKey(), entry.getValue()));
+    }
+
+    int cachedArchives() {
+        return cache.size();
+    }
+
+    private Path archivePath(Long planId) {
+        return Paths.get(archiveDirectory).resolve("plan-" + planId + ColumnarPlanFile.EXTENSION);
+    }
+
+    /**
+     * Returns the column values of an assignment. Missing values are left out and stored as empty strings,
+     * never as the string {@code "null"}.
+     */
+    static Map<PlanColumns.Column, String> valuesOf(TeacherAssignment assignment) {
+        Map<PlanColumns.Column, String> values = new EnumMap<>(PlanColumns.Column.class);
+        Teacher teacher = assignment.getTeacher();
+        putIfPresent(values, PlanColumns.Column.TEACHER, teacher.getId());
+        School school = teacher.getSchool();
+        if (school != null) {
+            putIfPresent(values, PlanColumns.Column.SCHOOL_TYPE, school.getSchoolType());
+            putIfPresent(values, PlanColumns.Column.ZONE, school.getZoneNumber());
+        }
+        putIfPresent(values, PlanColumns.Column.INTERNSHIP_TYPE, assignment.getInternshipType().getInternshipCode());
+        putIfPresent(values, PlanColumns.Column.SUBJECT, assignment.getSubject().getSubjectCode());
+        putIfPresent(values, PlanColumns.Column.STATUS, assignment.getAssignmentStatus());
+        return values;
+    }
+
+    private static void putIfPresent(Map<PlanColumns.Column, String> values, PlanColumns.Column column, Object value) {
+        if (value != null) {
+            values.put(column, value.toString());
+        }
+    }
+
+    private int groupSizeOf(TeacherAssignment assignment) {
+        if (assignment.getStudentGroupSize() == null) {
+            return 0;
+        }
+        return assignment.getStudentGroupSize();
+    }
+
+    private String academicYearOf(AllocationPlan plan) {
+        if (plan.getAcademicYear() == null || plan.getAcademicYear().getYearName() == null) {
+            return "Unknown";
+        }
+        return plan.getAcademicYear().getYearName();
+    }
+
+    private record CachedColumns(long lastModified, long loadedAt, PlanColumns columns) {
+    }
+}
@@ -0,0 +1,9 @@
+package de.unipassau.allocationsystem.service.archive;
+
+/**
+ * Published when an allocation plan was archived. Handled after commit to export the plan's columnar archive.
+ *
+ * @param planId the archived plan ID
+ */
+public record PlanArchivedEvent(Long planId) {
+}
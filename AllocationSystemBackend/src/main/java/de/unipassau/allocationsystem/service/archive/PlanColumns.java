@@ -0,0 +1,179 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column-oriented, dictionary-encoded copy of the assignments of one allocation plan.
+ * Every categorical column stores one dictionary code per assignment; the dictionary maps codes to values.
+ * Aggregations are tight loops over primitive arrays and never materialize per-assignment objects.
+ */
+public final class PlanColumns {
+
+    /**
+     * Dictionary-encoded columns of an archived plan.
+     */
+    public enum Column {
+        SCHOOL_TYPE,
+        ZONE,
+        INTERNSHIP_TYPE,
+        SUBJECT,
+        STATUS,
+        TEACHER
+    }
+
+    private final PlanArchiveMetadata metadata;
+    private final int rowCount;
+    private final Map<Column, String[]> dictionaries;
+    private final Map<Column, int[]> codes;
+    private final int[] studentGroupSizes;
+
+    PlanColumns(PlanArchiveMetadata metadata, int rowCount, Map<Column, String[]> dictionaries,
+                Map<Column, int[]> codes, int[] studentGroupSizes) {
+        this.metadata = metadata;
+        this.rowCount = rowCount;
+        this.dictionaries = dictionaries;
+        this.codes = codes;
+        this.studentGroupSizes = studentGroupSizes;
+    }
+
+    public PlanArchiveMetadata getMetadata() {
+        return metadata;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    String[] dictionary(Column column) {
+        return dictionaries.get(column);
+    }
+
+    int[] codes(Column column) {
+        return codes.get(column);
+    }
+
+    int[] studentGroupSizes() {
+        return studentGroupSizes;
+    }
+
+    /**
+     * Counts assignments per value of a column.
+     *
+     * @param column the column to group by
+     * @return assignment count indexed by dictionary code
+     */
+    public long[] countBy(Column column) {
+        int[] columnCodes = codes.get(column);
+        long[] counts = new long[dictionaries.get(column).length];
+        for (int i = 0; i < rowCount; i++) {
+            counts[columnCodes[i]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Sums student group sizes per value of a column.
+     *
+     * @param column the column to group by
+     * @return student total indexed by dictionary code
+     */
+    public long[] sumStudentsBy(Column column) {
+        int[] columnCodes = codes.get(column);
+        long[] sums = new long[dictionaries.get(column).length];
+        for (int i = 0; i < rowCount; i++) {
+            sums[columnCodes[i]] += studentGroupSizes[i];
+        }
+        return sums;
+    }
+
+    /**
+     * Returns the value behind a dictionary code.
+     *
+     * @param column the column
+     * @param code the dictionary code
+     * @return the decoded value
+     */
+    public String valueOf(Column column, int code) {
+        return dictionaries.get(column)[code];
+    }
+
+    /**
+     * Creates a builder for a plan.
+     *
+     * @param metadata plan metadata stored in the file header
+     * @return a new builder
+     */
+    public static Builder builder(PlanArchiveMetadata metadata) {
+        return new Builder(metadata);
+    }
+
+    /**
+     * Appends rows one by one, assigning dictionary codes in order of first appearance.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 256;
+
+        private final PlanArchiveMetadata metadata;
+        private final Map<Column, Map<String, Integer>> dictionaries = new EnumMap<>(Column.class);
+        private final Map<Column, int[]> codes = new EnumMap<>(Column.class);
+        private int[] studentGroupSizes = new int[INITIAL_CAPACITY];
+        private int rowCount;
+
+        private Builder(PlanArchiveMetadata metadata) {
+            this.metadata = metadata;
+            for (Column column : Column.values()) {
+                dictionaries.put(column, new HashMap<>());
+                codes.put(column, new int[INITIAL_CAPACITY]);
+            }
+        }
+
+        /**
+         * Appends one assignment.
+         *
+         * @param values column values of the assignment, keyed by column; missing values are stored as empty strings
+         * @param studentGroupSize student group size
+         * @return this builder
+         */
+        public Builder add(Map<Column, String> values, int studentGroupSize) {
+            if (rowCount == studentGroupSizes.length) {
+                grow();
+            }
+            for (Column column : Column.values()) {
+                String value = values.getOrDefault(column, "");
+                Map<String, Integer> dictionary = dictionaries.get(column);
+                int code = dictionary.computeIfAbsent(value, v -> dictionary.size());
+                codes.get(column)[rowCount] = code;
+            }
+            studentGroupSizes[rowCount] = studentGroupSize;
+            rowCount++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = studentGroupSizes.length * 2;
+            studentGroupSizes = Arrays.copyOf(studentGroupSizes, capacity);
+            codes.replaceAll((column, values) -> Arrays.copyOf(values, capacity));
+        }
+
+        /**
+         * Builds the immutable column set.
+         *
+         * @return the plan columns
+         */
+        public PlanColumns build() {
+            Map<Column, String[]> dictionaryArrays = new EnumMap<>(Column.class);
+            Map<Column, int[]> trimmedCodes = new EnumMap<>(Column.class);
+            for (Column column : Column.values()) {
+                String[] values = new String[dictionaries.get(column).size()];
+                dictionaries.get(column).forEach((value, code) -> values[code] = value);
+                dictionaryArrays.put(column, values);
+                trimmedCodes.put(column, Arrays.copyOf(codes.get(column), rowCount));
+            }
+            return new PlanColumns(metadata, rowCount, dictionaryArrays, trimmedCodes,
+                    Arrays.copyOf(studentGroupSizes, rowCount));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.unipassau.allocationsystem.service.audit;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of an audit log in the newest-first order by event timestamp and ID.
+ * Clients only see the opaque, URL-safe {@link #encode() encoded} form.
+ *
+ * @param eventTimestamp event timestamp of the last returned entry
+ * @param id ID of the last returned entry
+ */
+public record AuditLogCursor(LocalDateTime eventTimestamp, long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * Creates the cursor pointing behind an audit log.
+     *
+     * @param auditLog the last returned entry
+     * @return the cursor
+     */
+    public static AuditLogCursor of(AuditLog auditLog) {
+        return new AuditLogCursor(auditLog.getEventTimestamp(), auditLog.getId());
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(eventTimestamp.toEpochSecond(ZoneOffset.UTC))
+                .putInt(eventTimestamp.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param value the encoded cursor, may be {@code null} or blank for the first page
+     * @return the cursor, or {@code null} for the first page
+     * @throws IllegalArgumentException if the value is not a valid cursor
+     */
+    public static AuditLogCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(value);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new AuditLogCursor(timestamp, buffer.getLong());
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
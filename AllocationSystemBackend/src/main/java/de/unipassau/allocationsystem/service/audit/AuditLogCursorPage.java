@@ -0,0 +1,15 @@
+package de.unipassau.allocationsystem.service.audit;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+
+import java.util.List;
+
+/**
+ * One page of audit logs read with keyset pagination.
+ *
+ * @param content the entries, newest first
+ * @param next cursor of the following page, {@code null} on the last page
+ * @param totalElements number of all matching entries, {@code null} if not requested
+ */
+public record AuditLogCursorPage(List<AuditLog> content, AuditLogCursor next, Long totalElements) {
+}
@@ -1,22 +1,34 @@
 package de.unipassau.allocationsystem.service.audit;
 
-import de.unipassau.allocationsystem.entity.AuditLog;
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogExportRow;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveService;
+import de.unipassau.allocationsystem.utils.CsvStreamWriter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
-@Service
-@Slf4j
 /**
  * Service for exporting audit logs to various formats.
- * Provides CSV export functionality with proper formatting and timestamps.
+ * The CSV export streams rows from a forward-only database cursor straight to the output, so memory use does not
+ * depend on the number of exported rows. Matching archived entries follow the table rows when the date range
+ * reaches into archived months.
  */
+@Service
+@Slf4j
+@RequiredArgsConstructor
 public class AuditLogExportService {
     private static final String[] CSV_HEADERS = {
             "ID", "User", "Event Time", "Action", "Target Entity",
@@ -24,51 +36,94 @@ public class AuditLogExportService {
     };
 
     /**
-     * Export audit logs to CSV format.
+     * Rows written between flushes, so a slow client sees progress and buffers stay bounded.
      */
-    public byte[] exportToCsv(List<AuditLog> auditLogs) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (PrintWriter writer = new PrintWriter(outputStream, true, StandardCharsets.UTF_8)) {
-            writeCSVHeader(writer);
-            writeCSVData(writer, auditLogs);
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditArchiveService archiveService;
+
+    /**
+     * Writes the audit logs matching the filters as UTF-8 CSV with a header row, newest first.
+     *
+     * @param userId the acting user ID, or {@code null}
+     * @param action the audit action, or {@code null}
+     * @param targetEntity the target entity type name, or {@code null}
+     * @param startDate inclusive lower bound of the event timestamp, or {@code null}
+     * @param endDate inclusive upper bound of the event timestamp, or {@code null}
+     * @param maxRecords maximum number of rows to export, or {@code null} for all
+     * @param out target stream
+     * @param gzip true to gzip-compress the output
+     * @return number of exported rows
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public long writeCsv(Long userId, AuditAction action, String targetEntity,
+                         LocalDateTime startDate, LocalDateTime endDate, Integer maxRecords,
+                         OutputStream out, boolean gzip) throws IOException {
+        OutputStream target = out;
+        if (gzip) {
+            target = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
         }
-        return outputStream.toByteArray();
+        Limit limit = Limit.unlimited();
+        if (maxRecords != null) {
+            limit = Limit.of(maxRecords);
+        }
+
+        long written = 0;
+        try (CsvStreamWriter writer = CsvStreamWriter.open(target);
+             Stream<AuditLogExportRow> rows = auditLogRepository.streamExportRows(
+                     userId, action, targetEntity, startDate, endDate, limit)) {
+            writer.row(CSV_HEADERS);
+            Iterator<AuditLogExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, iterator.next());
+                written++;
+                if (written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+
+            if (archiveService.reaches(startDate) && (maxRecords == null || written < maxRecords)) {
+                long remaining = -1;
+                if (maxRecords != null) {
+                    remaining = maxRecords - written;
+                }
+                AuditArchiveQuery query = new AuditArchiveQuery(userId, action, targetEntity, startDate, endDate);
+                written += archiveService.scan(query, remaining, entry -> writeRow(writer, new AuditLogExportRow(
+                        entry.id(), entry.userIdentifier(), entry.eventTimestamp(), entry.action(),
+                        entry.targetEntity(), entry.targetRecordId(), entry.description(), entry.ipAddress())));
+            }
+        }
+        log.info("Exported {} audit log rows", written);
+        return written;
     }
 
     /**
      * Generate filename for export with timestamp.
+     *
+     * @param gzip true if the export is gzip-compressed
+     * @return the file name
      */
-    public String generateFileName() {
+    public String generateFileName(boolean gzip) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-        return String.format("audit-logs-%s.csv", timestamp);
-    }
-
-    private void writeCSVHeader(PrintWriter writer) {
-        writer.println(String.join(",", CSV_HEADERS));
-    }
-
-    private void writeCSVData(PrintWriter writer, List<AuditLog> auditLogs) {
-        for (AuditLog log : auditLogs) {
-            writer.printf("%d,%s,%s,%s,%s,%s,%s,%s%n",
-                    log.getId(),
-                    escapeCSV(log.getUserIdentifier()),
-                    log.getEventTimestamp().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
-                    log.getAction().name(),
-                    escapeCSV(log.getTargetEntity()),
-                    escapeCSV(log.getTargetRecordId()),
-                    escapeCSV(log.getDescription()),
-                    escapeCSV(log.getIpAddress())
-            );
+        if (gzip) {
+            return String.format("audit-logs-%s.csv.gz", timestamp);
         }
+        return String.format("audit-logs-%s.csv", timestamp);
     }
 
-    private String escapeCSV(String value) {
-        if (value == null) {
-            return "";
-        }
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
-        }
-        return value;
+    private void writeRow(CsvStreamWriter writer, AuditLogExportRow row) throws IOException {
+        writer.field(row.id())
+                .field(row.userIdentifier())
+                .field(row.eventTimestamp())
+                .field(row.action().name())
+                .field(row.targetEntity())
+                .field(row.targetRecordId())
+                .field(row.description())
+                .field(row.ipAddress())
+                .endRow();
     }
 }
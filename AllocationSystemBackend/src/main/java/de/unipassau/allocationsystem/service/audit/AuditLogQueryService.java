@@ -3,16 +3,34 @@ package de.unipassau.allocationsystem.service.audit;
 import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveRecord;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveService;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveSlice;
+import de.unipassau.allocationsystem.service.audit.rollup.AuditRollupService;
+import de.unipassau.allocationsystem.service.audit.rollup.AuditRollupService.Dimension;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +42,9 @@ import java.util.Map;
 public class AuditLogQueryService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditArchiveService archiveService;
+    private final AuditRollupService rollupService;
+    private final AuditSearchIndex searchIndex;
 
     /**
      * Get all audit logs with pagination.
@@ -34,12 +55,123 @@ public class AuditLogQueryService {
 
     /**
      * Get audit logs with multiple filters.
+     * If the start date reaches into archived months, matching archived entries are included as well.
+     * They are older than all table entries, so under an event timestamp sort they follow the table entries
+     * when sorting newest first and precede them otherwise. Any other sort merges both sources in memory.
      */
     public Page<AuditLog> getAuditLogs(Long userId, AuditAction action,
                                        String targetEntity, LocalDateTime startDate,
                                        LocalDateTime endDate, Pageable pageable) {
-        return auditLogRepository.findByFilters(userId, action, targetEntity,
-                startDate, endDate, pageable);
+        if (!archiveService.reaches(startDate)) {
+            return auditLogRepository.findByFilters(userId, action, targetEntity,
+                    startDate, endDate, pageable);
+        }
+
+        AuditArchiveQuery query = new AuditArchiveQuery(userId, action, targetEntity, startDate, endDate);
+        if (!sortsByTimestamp(pageable.getSort())) {
+            return mergedPage(query, pageable);
+        }
+        Sort.Order timestampOrder = pageable.getSort().getOrderFor("eventTimestamp");
+        boolean ascending = timestampOrder != null && timestampOrder.isAscending();
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<AuditLog> content = new ArrayList<>(size);
+        long total;
+        if (ascending) {
+            AuditArchiveSlice archived = archiveService.search(query, true, offset, size);
+            content.addAll(archived.rows());
+            Page<AuditLog> live = liveSlice(query, pageable.getSort(),
+                    Math.max(0, offset - archived.total()), size - content.size());
+            content.addAll(live.getContent());
+            total = archived.total() + live.getTotalElements();
+        } else {
+            Page<AuditLog> live = liveSlice(query, pageable.getSort(), offset, size);
+            content.addAll(live.getContent());
+            AuditArchiveSlice archived = archiveService.search(query, false,
+                    Math.max(0, offset - live.getTotalElements()), size - content.size());
+            content.addAll(archived.rows());
+            total = live.getTotalElements() + archived.total();
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Search audit logs by the words in their description and value snapshots, combined with the other filters.
+     * Results are ranked by relevance from the {@link AuditSearchIndex}, so the sort of the pageable is ignored;
+     * archived entries are not searched.
+     *
+     * @param q the search text
+     * @return the page of matching audit logs, best match first
+     */
+    public Page<AuditLog> searchAuditLogs(String q, Long userId, AuditAction action,
+                                          String targetEntity, LocalDateTime startDate,
+                                          LocalDateTime endDate, Pageable pageable) {
+        List<AuditSearchIndex.Hit> hits = searchIndex.search(q,
+                new AuditArchiveQuery(userId, action, targetEntity, startDate, endDate));
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream().map(AuditSearchIndex.Hit::id).toList();
+
+        Map<Long, AuditLog> byId = new HashMap<>();
+        for (AuditLog auditLog : auditLogRepository.findAllById(ids)) {
+            byId.put(auditLog.getId(), auditLog);
+        }
+        List<AuditLog> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            AuditLog auditLog = byId.get(id);
+            if (auditLog != null) {
+                content.add(auditLog);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.size());
+    }
+
+    /**
+     * Get a keyset page of audit logs with multiple filters, newest first.
+     * Each page is a single index range scan starting at the cursor, so deep pages cost the same as the first.
+     * Once the table entries are exhausted and the start date reaches into archived months, the page continues
+     * with the matching archived entries.
+     *
+     * @param cursor position returned with the previous page, or {@code null} for the first page
+     * @param size maximum number of entries
+     * @param includeTotal true to count all matching entries, which scans the whole filtered range
+     * @return the page
+     */
+    public AuditLogCursorPage getAuditLogPage(Long userId, AuditAction action,
+                                              String targetEntity, LocalDateTime startDate,
+                                              LocalDateTime endDate, AuditLogCursor cursor,
+                                              int size, boolean includeTotal) {
+        LocalDateTime afterTimestamp = null;
+        long afterId = 0;
+        if (cursor != null) {
+            afterTimestamp = cursor.eventTimestamp();
+            afterId = cursor.id();
+        }
+
+        // One extra entry tells whether a following page exists
+        List<AuditLog> rows = new ArrayList<>(auditLogRepository.findPageByFilters(userId, action, targetEntity,
+                startDate, endDate, afterTimestamp, afterId, Limit.of(size + 1)));
+        boolean reachesArchive = archiveService.reaches(startDate);
+        AuditArchiveQuery query = new AuditArchiveQuery(userId, action, targetEntity, startDate, endDate);
+        if (rows.size() <= size && reachesArchive) {
+            rows.addAll(archiveService.before(query, afterTimestamp, afterId, size + 1 - rows.size()));
+        }
+
+        AuditLogCursor next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            next = AuditLogCursor.of(rows.get(size - 1));
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            total = auditLogRepository.countByFilters(userId, action, targetEntity, startDate, endDate);
+            if (reachesArchive) {
+                total += archiveService.countEntries(query);
+            }
+        }
+        return new AuditLogCursorPage(rows, next, total);
     }
 
     /**
@@ -70,10 +202,10 @@ public class AuditLogQueryService {
      */
     public Map<String, Long> getActionStatistics(LocalDateTime startDate,
                                                  LocalDateTime endDate) {
-        return convertToMap(
-                auditLogRepository.getActionStatistics(startDate, endDate),
+        return statistics(startDate, endDate, Dimension.ACTION, (from, to) -> withArchived(convertToMap(
+                auditLogRepository.getActionStatistics(from, to),
                 result -> ((AuditAction) result[0]).name()
-        );
+        ), from, to, entry -> entry.action().name()));
     }
 
     /**
@@ -81,20 +213,142 @@ public class AuditLogQueryService {
      */
     public Map<String, Long> getEntityStatistics(LocalDateTime startDate,
                                                  LocalDateTime endDate) {
-        return convertToMap(
-                auditLogRepository.getEntityStatistics(startDate, endDate),
+        return statistics(startDate, endDate, Dimension.ENTITY, (from, to) -> withArchived(convertToMap(
+                auditLogRepository.getEntityStatistics(from, to),
                 result -> (String) result[0]
-        );
+        ), from, to, AuditArchiveRecord::targetEntity));
     }
 
     /**
      * Get user activity statistics for a date range.
      */
     public Map<String, Long> getUserActivityStatistics(LocalDateTime startDate, LocalDateTime endDate) {
-        return convertToMap(
-                auditLogRepository.getUserActivityStatistics(startDate, endDate),
+        return statistics(startDate, endDate, Dimension.USER, (from, to) -> withArchived(convertToMap(
+                auditLogRepository.getUserActivityStatistics(from, to),
                 result -> (String) result[0]
-        );
+        ), from, to, AuditArchiveRecord::userIdentifier));
+    }
+
+    /**
+     * Counts the events between two inclusive dates. Whole hours that are already compacted are summed from
+     * the hourly rollups; only the partial hours at either end and the hours not yet compacted are counted
+     * from the audit logs with {@code exact}.
+     */
+    private Map<String, Long> statistics(LocalDateTime startDate, LocalDateTime endDate, Dimension dimension,
+                                         BiFunction<LocalDateTime, LocalDateTime, Map<String, Long>> exact) {
+        Optional<LocalDateTime> compactedUntil = rollupService.compactedUntil();
+        LocalDateTime firstHour = startDate.truncatedTo(ChronoUnit.HOURS);
+        if (firstHour.isBefore(startDate)) {
+            firstHour = firstHour.plusHours(1);
+        }
+        LocalDateTime endHour = endDate.truncatedTo(ChronoUnit.HOURS);
+        if (compactedUntil.isPresent() && compactedUntil.get().isBefore(endHour)) {
+            endHour = compactedUntil.get();
+        }
+        if (compactedUntil.isEmpty() || !firstHour.isBefore(endHour)) {
+            return exact.apply(startDate, endDate);
+        }
+
+        Map<String, Long> counts = convertToMap(rollupService.sum(dimension, firstHour, endHour), this::keyOf);
+        if (startDate.isBefore(firstHour)) {
+            // The exact queries include both ends; timestamps are stored with microsecond precision
+            exact.apply(startDate, firstHour.minus(1, ChronoUnit.MICROS)).forEach((k, count) -> counts.merge(k, count, Long::sum));
+        }
+        exact.apply(endHour, endDate).forEach((k, count) -> counts.merge(k, count, Long::sum));
+        return counts;
+    }
+
+    private String keyOf(Object[] result) {
+        if (result[0] instanceof AuditAction action) {
+            return action.name();
+        }
+        return (String) result[0];
+    }
+
+    /**
+     * Returns a window of the table entries matching {@code query}, starting at an arbitrary offset.
+     * The window is cut from the (at most two) pages of size {@code limit} that contain it.
+     */
+    private Page<AuditLog> liveSlice(AuditArchiveQuery query, Sort sort, long offset, int limit) {
+        int pageSize = Math.max(limit, 1);
+        int pageIndex = (int) (offset / pageSize);
+        Page<AuditLog> page = findLive(query, PageRequest.of(pageIndex, pageSize, sort));
+        List<AuditLog> rows = new ArrayList<>(page.getContent());
+        int skip = (int) (offset - (long) pageIndex * pageSize);
+        if (skip > 0 && page.hasNext()) {
+            rows.addAll(findLive(query, PageRequest.of(pageIndex + 1, pageSize, sort)).getContent());
+        }
+        int from = Math.min(skip, rows.size());
+        int to = Math.min(skip + limit, rows.size());
+        return new PageImpl<>(rows.subList(from, to), PageRequest.of(pageIndex, pageSize, sort), page.getTotalElements());
+    }
+
+    /**
+     * Whether a sort orders by event timestamp first, so that archived entries, which are older than all table
+     * entries, can simply be placed before or after the table entries.
+     */
+    private static boolean sortsByTimestamp(Sort sort) {
+        return sort.isUnsorted() || "eventTimestamp".equals(sort.iterator().next().getProperty());
+    }
+
+    /**
+     * Returns a page of table and archived entries merged by the sort of the pageable.
+     * The first {@code offset + size} entries of both sources are merged, so deep pages cost more than under an
+     * event timestamp sort.
+     */
+    private Page<AuditLog> mergedPage(AuditArchiveQuery query, Pageable pageable) {
+        int window = (int) Math.min(Integer.MAX_VALUE - 1, pageable.getOffset() + pageable.getPageSize());
+        Page<AuditLog> live = findLive(query, PageRequest.of(0, window, pageable.getSort()));
+        Comparator<AuditLog> order = comparatorOf(pageable.getSort());
+        AuditArchiveSlice archived = archiveService.top(query, order, window);
+
+        List<AuditLog> merged = new ArrayList<>(live.getContent());
+        merged.addAll(archived.rows());
+        merged.sort(order);
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable,
+                live.getTotalElements() + archived.total());
+    }
+
+    /**
+     * Builds the in-memory equivalent of a sort. Null values sort first in ascending order, as in MySQL.
+     */
+    private static Comparator<AuditLog> comparatorOf(Sort sort) {
+        Comparator<AuditLog> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<AuditLog> byProperty = Comparator.comparing(
+                    auditLog -> propertyOf(auditLog, order.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> propertyOf(AuditLog auditLog, String property) {
+        Object value = new BeanWrapperImpl(auditLog).getPropertyValue(property);
+        if (value == null || value instanceof Comparable<?>) {
+            return (Comparable<Object>) value;
+        }
+        return (Comparable<Object>) (Object) value.toString();
+    }
+
+    private Page<AuditLog> findLive(AuditArchiveQuery query, Pageable pageable) {
+        return auditLogRepository.findByFilters(query.userId(), query.action(), query.targetEntity(),
+                query.startDate(), query.endDate(), pageable);
+    }
+
+    /**
+     * Adds the counts of archived entries if the date range reaches into archived months.
+     */
+    private Map<String, Long> withArchived(Map<String, Long> counts, LocalDateTime startDate,
+                                           LocalDateTime endDate, Function<AuditArchiveRecord, String> key) {
+        if (archiveService.reaches(startDate)) {
+            AuditArchiveQuery query = new AuditArchiveQuery(null, null, null, startDate, endDate);
+            archiveService.count(query, key).forEach((k, count) -> counts.merge(k, count, Long::sum));
+        }
+        return counts;
     }
 
     // Helper method to convert query results to map
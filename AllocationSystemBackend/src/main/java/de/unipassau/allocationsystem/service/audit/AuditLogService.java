@@ -6,17 +6,18 @@ import de.unipassau.allocationsystem.entity.AuditLog;
 import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.entity.User;
 import de.unipassau.allocationsystem.repository.AuditLogRepository;
-import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditEvent;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditEventCoalescer;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditLogWriter;
+import de.unipassau.allocationsystem.service.audit.rollup.AuditRollupService;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
+import de.unipassau.allocationsystem.service.cache.UserCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.dao.DataAccessException;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestAttributes;
@@ -24,6 +25,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Service for managing audit logs.
@@ -35,16 +37,11 @@ import java.time.LocalDateTime;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ObjectMapper objectMapper;
-
-    /**
-     * Self proxy to ensure {@link Async} and {@link Transactional} are applied (avoids self-invocation).
-     * Injected lazily via field injection to avoid constructor circular dependencies.
-     */
-    @Lazy
-    @org.springframework.beans.factory.annotation.Autowired
-    private AuditLogService self;
+    private final AuditEventCoalescer auditEventCoalescer;
+    private final AuditSearchIndex searchIndex;
+    private final AuditRollupService rollupService;
 
     /**
      * Synchronously logs an audit event with an explicit user.
@@ -62,11 +59,14 @@ public class AuditLogService {
     public AuditLog log(User user, AuditAction action, String targetEntity, String targetRecordId,
                         Object previousValue, Object newValue, String description) {
         AuditLogContext context = captureContext(user);
-        return persistAuditLog(context, action, targetEntity, targetRecordId, previousValue, newValue, description);
+        return persistAuditLog(context.getUser(),
+                toEvent(context, action, targetEntity, targetRecordId, previousValue, newValue, description));
     }
 
     /**
      * Asynchronously logs an audit event with an explicit user.
+     * The event is queued for the {@link AuditLogWriter}, which persists it in a batch; repeated views may be
+     * coalesced into one entry by the {@link AuditEventCoalescer}.
      *
      * @param user the user that performed the action (may be {@code null} for system actions)
      * @param action the audit action type
@@ -80,12 +80,13 @@ public class AuditLogService {
                          String targetRecordId, Object previousValue, Object newValue,
                          String description) {
         AuditLogContext context = captureContext(user);
-        // IMPORTANT: call through proxy, not "this"
-        self.logAsyncInternal(context, action, targetEntity, targetRecordId, previousValue, newValue, description);
+        auditEventCoalescer.submit(toEvent(context, action, targetEntity, targetRecordId, previousValue, newValue, description));
     }
 
     /**
      * Asynchronously logs an audit event using the currently authenticated user.
+     * The event is queued for the {@link AuditLogWriter}, which persists it in a batch; repeated views may be
+     * coalesced into one entry by the {@link AuditEventCoalescer}.
      *
      * @param action the audit action type
      * @param targetEntity the target entity type name
@@ -98,8 +99,7 @@ public class AuditLogService {
                                    String targetRecordId, Object previousValue,
                                    Object newValue, String description) {
         AuditLogContext context = captureContext(getCurrentUser());
-        // IMPORTANT: call through proxy, not "this"
-        self.logAsyncInternal(context, action, targetEntity, targetRecordId, previousValue, newValue, description);
+        auditEventCoalescer.submit(toEvent(context, action, targetEntity, targetRecordId, previousValue, newValue, description));
     }
 
     // ==================== Convenience Methods ====================
@@ -154,49 +154,55 @@ public class AuditLogService {
 
     /**
      * Asynchronously logs a custom action using the current user.
+     * The event is queued for the {@link AuditLogWriter} like the other asynchronous variants.
      *
      * @param action the audit action type
      * @param targetEntity the target entity type name
      * @param description human-readable description
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logAction(AuditAction action, String targetEntity, String description) {
         logWithCurrentUser(action, targetEntity, null, null, null, description);
     }
 
     // ==================== Internal Methods ====================
 
-    @Async("auditExecutor")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void logAsyncInternal(AuditLogContext context, AuditAction action,
-                                    String targetEntity, String targetRecordId,
-                                    Object previousValue, Object newValue, String description) {
-        try {
-            persistAuditLog(context, action, targetEntity, targetRecordId, previousValue, newValue, description);
-        } catch (DataAccessException | TransactionException e) {
-            log.error("Failed to create audit log asynchronously", e);
+    /**
+     * Builds a queued event. Values are serialized on the calling thread, while the snapshots are still consistent.
+     */
+    private AuditEvent toEvent(AuditLogContext context, AuditAction action,
+                               String targetEntity, String targetRecordId,
+                               Object previousValue, Object newValue, String description) {
+        Long userId = null;
+        if (context.getUser() != null) {
+            userId = context.getUser().getId();
         }
+        return new AuditEvent(userId, context.getUserIdentifier(), action, targetEntity, targetRecordId,
+                serializeValue(previousValue), serializeValue(newValue), description, LocalDateTime.now(),
+                context.getIpAddress(), context.getUserAgent(), 1);
     }
 
-    private AuditLog persistAuditLog(AuditLogContext context, AuditAction action,
-                                     String targetEntity, String targetRecordId,
-                                     Object previousValue, Object newValue, String description) {
+    /**
+     * Writes an event synchronously. Like the {@link AuditLogWriter}, late events are added to the rollups.
+     */
+    private AuditLog persistAuditLog(User user, AuditEvent event) {
         AuditLog auditLog = AuditLog.builder()
-                .user(context.getUser())
-                .userIdentifier(context.getUserIdentifier())
-                .action(action)
-                .targetEntity(targetEntity)
-                .targetRecordId(targetRecordId)
-                .previousValue(serializeValue(previousValue))
-                .newValue(serializeValue(newValue))
-                .description(description)
-                .eventTimestamp(LocalDateTime.now())
-                .ipAddress(context.getIpAddress())
-                .userAgent(context.getUserAgent())
+                .user(user)
+                .userIdentifier(event.userIdentifier())
+                .action(event.action())
+                .targetEntity(event.targetEntity())
+                .targetRecordId(event.targetRecordId())
+                .previousValue(event.previousValue())
+                .newValue(event.newValue())
+                .description(event.description())
+                .eventTimestamp(event.eventTimestamp())
+                .ipAddress(event.ipAddress())
+                .userAgent(event.userAgent())
                 .build();
 
-        return auditLogRepository.save(auditLog);
+        AuditLog saved = auditLogRepository.save(auditLog);
+        rollupService.addLate(List.of(event));
+        searchIndex.markDirty();
+        return saved;
     }
 
     private AuditLogContext captureContext(User user) {
@@ -214,6 +220,10 @@ public class AuditLogService {
         return new AuditLogContext(user, userIdentifier, ipAddress, userAgent);
     }
 
+    /**
+     * Resolves the acting user without a query on the request path: the JWT filter already puts the {@link User}
+     * into the security context, other principals are looked up in the {@link UserCache}.
+     */
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
@@ -230,7 +240,7 @@ public class AuditLogService {
         }
 
         if (principal instanceof org.springframework.security.core.userdetails.UserDetails userDetails) {
-            return userRepository.findByEmail(userDetails.getUsername()).orElse(null);
+            return userCache.findByEmail(userDetails.getUsername()).orElse(null);
         }
 
         return null;
@@ -0,0 +1,218 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable archive of one month of audit entries: a gzip-compressed NDJSON data file and a sparse index.
+ * The data file is a sequence of independent gzip members of up to {@link #BLOCK_SIZE} entries each (a valid
+ * multi-member gzip file). The index stores offset, length, entry count and time span of every block, so a reader
+ * decompresses only the blocks overlapping its date range. The index is written last; a data file without index
+ * is incomplete and ignored.
+ */
+final class AuditArchiveFile {
+
+    static final String DATA_SUFFIX = ".ndjson.gz";
+    static final String INDEX_SUFFIX = ".idx";
+    static final int BLOCK_SIZE = 1000;
+
+    private static final int MAGIC = 0x41554458; // "AUDX"
+    private static final short VERSION = 1;
+
+    /**
+     * Location and time span of one gzip member in the data file.
+     *
+     * @param offset byte offset in the data file
+     * @param length compressed length in bytes
+     * @param count number of entries
+     * @param first first event timestamp
+     * @param last last event timestamp
+     */
+    record Block(long offset, int length, int count, LocalDateTime first, LocalDateTime last) {
+    }
+
+    /**
+     * Sparse index of an archive.
+     *
+     * @param month the archived month
+     * @param part sequence number of the archive within the month
+     * @param recordCount number of entries
+     * @param blocks blocks in event timestamp order
+     */
+    record Index(YearMonth month, int part, long recordCount, List<Block> blocks) {
+    }
+
+    private AuditArchiveFile() {
+    }
+
+    /**
+     * Writes an archive. Entries must be in event timestamp order. Both files are written under temporary names
+     * and moved into place, data file first.
+     *
+     * @param dataFile target data file
+     * @param indexFile target index file
+     * @param month the archived month
+     * @param part sequence number of the archive within the month
+     * @param records entries in event timestamp order
+     * @param writer JSON writer for single-line entries
+     * @return the written index
+     * @throws IOException if writing fails
+     */
+    static Index write(Path dataFile, Path indexFile, YearMonth month, int part,
+                       Iterator<AuditArchiveRecord> records, ObjectWriter writer) throws IOException {
+        Path tempData = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+        List<Block> blocks = new ArrayList<>();
+        long recordCount = 0;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempData))) {
+            long offset = 0;
+            List<AuditArchiveRecord> block = new ArrayList<>(BLOCK_SIZE);
+            while (records.hasNext()) {
+                block.add(records.next());
+                if (block.size() == BLOCK_SIZE || !records.hasNext()) {
+                    byte[] compressed = compress(block, writer);
+                    out.write(compressed);
+                    blocks.add(new Block(offset, compressed.length, block.size(),
+                            block.get(0).eventTimestamp(), block.get(block.size() - 1).eventTimestamp()));
+                    offset += compressed.length;
+                    recordCount += block.size();
+                    block.clear();
+                }
+            }
+        }
+
+        Index index = new Index(month, part, recordCount, blocks);
+        Path tempIndex = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempIndex)))) {
+            writeIndex(out, index);
+        }
+        Files.move(tempData, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempIndex, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return index;
+    }
+
+    /**
+     * Reads an index file.
+     *
+     * @param indexFile the index file
+     * @return the index
+     * @throws IOException if the file cannot be read or is not an archive index
+     */
+    static Index readIndex(Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(indexFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an audit archive index: " + indexFile);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported audit archive version " + version + ": " + indexFile);
+            }
+            YearMonth month = YearMonth.of(in.readInt(), in.readByte());
+            int part = in.readInt();
+            long recordCount = in.readLong();
+            int blockCount = in.readInt();
+            List<Block> blocks = new ArrayList<>(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                blocks.add(new Block(in.readLong(), in.readInt(), in.readInt(), readTime(in), readTime(in)));
+            }
+            return new Index(month, part, recordCount, blocks);
+        }
+    }
+
+    /**
+     * Decompresses one block.
+     *
+     * @param dataFile the data file
+     * @param block the block
+     * @param reader JSON reader for entries
+     * @return the entries of the block in event timestamp order
+     * @throws IOException if the block cannot be read
+     */
+    static List<AuditArchiveRecord> readBlock(Path dataFile, Block block, ObjectReader reader) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(block.length());
+        try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            long position = block.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Truncated audit archive: " + dataFile);
+                }
+                position += read;
+            }
+        }
+
+        List<AuditArchiveRecord> records = new ArrayList<>(block.count());
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(buffer.array())), StandardCharsets.UTF_8))) {
+            String line = in.readLine();
+            while (line != null) {
+                records.add(reader.readValue(line));
+                line = in.readLine();
+            }
+        }
+        return records;
+    }
+
+    private static byte[] compress(List<AuditArchiveRecord> block, ObjectWriter writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            for (AuditArchiveRecord entry : block) {
+                out.write(writer.writeValueAsString(entry));
+                out.write('\n');
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeIndex(DataOutputStream out, Index index) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(index.month().getYear());
+        out.writeByte(index.month().getMonthValue());
+        out.writeInt(index.part());
+        out.writeLong(index.recordCount());
+        out.writeInt(index.blocks().size());
+        for (Block block : index.blocks()) {
+            out.writeLong(block.offset());
+            out.writeInt(block.length());
+            out.writeInt(block.count());
+            writeTime(out, block.first());
+            writeTime(out, block.last());
+        }
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time.getNano());
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
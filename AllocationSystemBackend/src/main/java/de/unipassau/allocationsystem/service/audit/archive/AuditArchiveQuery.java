@@ -0,0 +1,46 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter applied to archived audit entries. Every {@code null} criterion matches all entries.
+ *
+ * @param userId the acting user ID
+ * @param action the audit action
+ * @param targetEntity the target entity type name
+ * @param startDate inclusive lower bound of the event timestamp
+ * @param endDate inclusive upper bound of the event timestamp
+ */
+public record AuditArchiveQuery(Long userId,
+                                AuditAction action,
+                                String targetEntity,
+                                LocalDateTime startDate,
+                                LocalDateTime endDate) {
+
+    /**
+     * Checks whether an entry matches all criteria.
+     *
+     * @param entry the archived entry
+     * @return true if the entry matches
+     */
+    public boolean matches(AuditArchiveRecord entry) {
+        return (userId == null || userId.equals(entry.userId()))
+                && (action == null || action == entry.action())
+                && (targetEntity == null || targetEntity.equals(entry.targetEntity()))
+                && overlaps(entry.eventTimestamp(), entry.eventTimestamp());
+    }
+
+    /**
+     * Checks whether a time span overlaps the date range.
+     *
+     * @param first first event timestamp of the span
+     * @param last last event timestamp of the span
+     * @return true if the span may contain matching entries
+     */
+    boolean overlaps(LocalDateTime first, LocalDateTime last) {
+        return (startDate == null || !last.isBefore(startDate))
+                && (endDate == null || !first.isAfter(endDate));
+    }
+}
@@ -0,0 +1,96 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audit log entry as stored in an archive file.
+ *
+ * @param id original audit log ID
+ * @param userId ID of the acting user, {@code null} for system actions
+ * @param userIdentifier email of the acting user or {@code SYSTEM}
+ * @param action the audit action
+ * @param targetEntity the target entity type name
+ * @param targetRecordId the target record identifier
+ * @param previousValue previous value as JSON
+ * @param newValue new value as JSON
+ * @param description human-readable description
+ * @param eventTimestamp time the event occurred
+ * @param ipAddress client IP address
+ * @param userAgent client user agent
+ * @param createdAt time the entry was stored
+ * @param eventCount number of coalesced events, at least 1
+ */
+public record AuditArchiveRecord(Long id,
+                                 Long userId,
+                                 String userIdentifier,
+                                 AuditAction action,
+                                 String targetEntity,
+                                 String targetRecordId,
+                                 String previousValue,
+                                 String newValue,
+                                 String description,
+                                 LocalDateTime eventTimestamp,
+                                 String ipAddress,
+                                 String userAgent,
+                                 LocalDateTime createdAt,
+                                 int eventCount) {
+
+    /**
+     * Archives written before the counter existed have no count; each of their entries stands for one event.
+     */
+    public AuditArchiveRecord {
+        if (eventCount < 1) {
+            eventCount = 1;
+        }
+    }
+
+    /**
+     * Creates the archive record of an audit log entry.
+     *
+     * @param log the audit log entry
+     * @return the archive record
+     */
+    public static AuditArchiveRecord from(AuditLog log) {
+        Long userId = null;
+        if (log.getUser() != null) {
+            userId = log.getUser().getId();
+        }
+        return new AuditArchiveRecord(log.getId(), userId, log.getUserIdentifier(), log.getAction(),
+                log.getTargetEntity(), log.getTargetRecordId(), log.getPreviousValue(), log.getNewValue(),
+                log.getDescription(), log.getEventTimestamp(), log.getIpAddress(), log.getUserAgent(), log.getCreatedAt(),
+                log.getEventCount());
+    }
+
+    /**
+     * Restores a detached audit log entry. The user is a reference holding only the ID.
+     *
+     * @return the audit log entry
+     */
+    public AuditLog toAuditLog() {
+        User user = null;
+        if (userId != null) {
+            user = new User();
+            user.setId(userId);
+        }
+        return AuditLog.builder()
+                .id(id)
+                .user(user)
+                .userIdentifier(userIdentifier)
+                .action(action)
+                .targetEntity(targetEntity)
+                .targetRecordId(targetRecordId)
+                .previousValue(previousValue)
+                .newValue(newValue)
+                .description(description)
+                .eventTimestamp(eventTimestamp)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .createdAt(createdAt)
+                .eventCount(eventCount)
+                .build();
+    }
+}
@@ -0,0 +1,574 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.unipassau.allocationsystem.dto.auditlog.AuditArchiveDto;
+import de.unipassau.allocationsystem.entity.AuditLog;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Service moving audit logs past the retention period from the database into compressed monthly archives,
+ * and searching those archives.
+ * The {@code audit_logs} table holds the months within retention; every older month is compacted into one
+ * immutable archive part per compaction run (see {@link AuditArchiveFile}) and deleted from the table in the
+ * same transaction. Exactly the archived IDs are deleted, so a row committed into the month while it was being
+ * streamed stays in the table for the next run. If the transaction rolls back, the written part is removed again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditArchiveService {
+
+    /**
+     * Receives archived entries during a {@link #scan}.
+     */
+    @FunctionalInterface
+    public interface RecordSink {
+        /**
+         * Consumes one archived entry.
+         *
+         * @param entry the entry
+         * @throws IOException if the entry cannot be written
+         */
+        void accept(AuditArchiveRecord entry) throws IOException;
+    }
+
+    private static final String FILE_PREFIX = "audit-";
+
+    /**
+     * Number of streamed rows after which the persistence context is cleared to keep it bounded.
+     */
+    private static final int CLEAR_INTERVAL = 500;
+
+    /**
+     * Number of archived IDs deleted per statement.
+     */
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final AuditLogRepository auditLogRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final AuditSearchIndex searchIndex;
+
+    @Value("${audit.retention.months:12}")
+    private int retentionMonths;
+
+    @Value("${audit.archive.directory:./data/audit-archive}")
+    private String archiveDirectory;
+
+    /**
+     * Self proxy so that {@link #archiveMonth(YearMonth)} runs in its own transaction per month.
+     */
+    @Lazy
+    @Autowired
+    private AuditArchiveService self;
+
+    private final Map<Path, AuditArchiveFile.Index> indexCache = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the retention job on its configured schedule.
+     */
+    @Scheduled(cron = "${audit.retention.cron:0 30 3 * * *}")
+    public void compactScheduled() {
+        List<AuditArchiveDto> archived = compact();
+        log.info("Audit retention run archived {} month(s)", archived.size());
+    }
+
+    /**
+     * Archives every month that lies completely before the retention period.
+     *
+     * @return the written archive parts
+     */
+    public List<AuditArchiveDto> compact() {
+        YearMonth firstRetained = YearMonth.now().minusMonths(retentionMonths);
+        List<AuditArchiveDto> archived = new ArrayList<>();
+        Optional<AuditLog> oldest = auditLogRepository.findFirstByOrderByEventTimestampAsc();
+        if (oldest.isEmpty()) {
+            return archived;
+        }
+
+        YearMonth month = YearMonth.from(oldest.get().getEventTimestamp());
+        while (month.isBefore(firstRetained)) {
+            self.archiveMonth(month).ifPresent(archived::add);
+            month = month.plusMonths(1);
+        }
+        return archived;
+    }
+
+    /**
+     * Archives the audit logs of one month and deletes them from the table.
+     *
+     * @param month the month
+     * @return the written archive part, empty if the month has no audit logs
+     */
+    @Transactional
+    public Optional<AuditArchiveDto> archiveMonth(YearMonth month) {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        int part = nextPart(month);
+        Path dataFile = directory().resolve(baseName(month, part) + AuditArchiveFile.DATA_SUFFIX);
+        Path indexFile = directory().resolve(baseName(month, part) + AuditArchiveFile.INDEX_SUFFIX);
+
+        AuditArchiveFile.Index index;
+        RecordIterator records;
+        try (Stream<AuditLog> rows = auditLogRepository.streamByEventTimestampRange(from, to)) {
+            records = new RecordIterator(rows.iterator());
+            if (!records.hasNext()) {
+                return Optional.empty();
+            }
+            Files.createDirectories(directory());
+            index = AuditArchiveFile.write(dataFile, indexFile, month, part, records, lineWriter());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive audit logs of " + month, e);
+        }
+        onCompletion(dataFile, indexFile);
+
+        int deleted = deleteArchived(records.ids, records.count);
+        indexCache.put(indexFile, index);
+        log.info("Archived {} audit logs of {} to {} ({} deleted from the table)",
+                index.recordCount(), month, dataFile, deleted);
+        return Optional.of(toDto(dataFile, index));
+    }
+
+    private int deleteArchived(long[] ids, int count) {
+        int deleted = 0;
+        List<Long> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(ids[i]);
+            if (batch.size() == DELETE_BATCH_SIZE || i == count - 1) {
+                deleted += auditLogRepository.deleteByIdIn(batch);
+                batch.clear();
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Checks whether a query starting at {@code startDate} reaches into archived months.
+     * Queries without a start date only cover the table.
+     *
+     * @param startDate inclusive lower bound of the query, may be {@code null}
+     * @return true if archives must be searched as well
+     */
+    public boolean reaches(LocalDateTime startDate) {
+        if (startDate == null) {
+            return false;
+        }
+        YearMonth startMonth = YearMonth.from(startDate);
+        return parts().stream().anyMatch(p -> !p.index().month().isBefore(startMonth));
+    }
+
+    /**
+     * Searches the archives.
+     * Matching entries are numbered in event timestamp order (newest first unless {@code ascending}),
+     * and the entries from {@code offset} to {@code offset + limit} are returned.
+     *
+     * @param query the filter
+     * @param ascending true for oldest first
+     * @param offset number of matching entries to skip
+     * @param limit maximum number of entries to return
+     * @return the window of entries and the total number of matches
+     */
+    public AuditArchiveSlice search(AuditArchiveQuery query, boolean ascending, long offset, int limit) {
+        List<AuditLog> rows = new ArrayList<>();
+        long total = 0;
+        for (ArchivePart archivePart : ordered(parts(), ascending)) {
+            for (AuditArchiveFile.Block block : ordered(archivePart.index().blocks(), ascending)) {
+                if (!query.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                boolean windowDone = rows.size() == limit || total + block.count() <= offset;
+                if (windowDone && coversBlock(query, block)) {
+                    total += block.count();
+                    continue;
+                }
+                List<AuditArchiveRecord> records = ordered(readBlock(archivePart, block), ascending);
+                for (AuditArchiveRecord entry : records) {
+                    if (query.matches(entry)) {
+                        if (total >= offset && rows.size() < limit) {
+                            rows.add(entry.toAuditLog());
+                        }
+                        total++;
+                    }
+                }
+            }
+        }
+        return new AuditArchiveSlice(total, rows);
+    }
+
+    /**
+     * Searches the archives in an arbitrary order.
+     * The archives are stored in event timestamp order, so every overlapping block is decoded; only the first
+     * {@code limit} matching entries in {@code order} are kept.
+     *
+     * @param query the filter
+     * @param order the order of the returned entries
+     * @param limit maximum number of entries to return
+     * @return the first entries in {@code order} and the total number of matches
+     */
+    public AuditArchiveSlice top(AuditArchiveQuery query, Comparator<AuditLog> order, int limit) {
+        PriorityQueue<AuditLog> last = new PriorityQueue<>(Math.max(limit, 1), order.reversed());
+        long total = 0;
+        for (ArchivePart archivePart : parts()) {
+            for (AuditArchiveFile.Block block : archivePart.index().blocks()) {
+                if (!query.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                for (AuditArchiveRecord entry : readBlock(archivePart, block)) {
+                    if (!query.matches(entry)) {
+                        continue;
+                    }
+                    total++;
+                    AuditLog row = entry.toAuditLog();
+                    if (last.size() < limit) {
+                        last.add(row);
+                    } else if (limit > 0 && order.compare(row, last.peek()) < 0) {
+                        last.poll();
+                        last.add(row);
+                    }
+                }
+            }
+        }
+        List<AuditLog> rows = new ArrayList<>(last);
+        rows.sort(order);
+        return new AuditArchiveSlice(total, rows);
+    }
+
+    /**
+     * Counts the matching archived entries.
+     * Blocks matched as a whole are counted from the index, so only the blocks at either end of the date range,
+     * or all overlapping blocks if other criteria are set, are decoded.
+     *
+     * @param query the filter
+     * @return number of matching entries
+     */
+    public long countEntries(AuditArchiveQuery query) {
+        long total = 0;
+        for (ArchivePart archivePart : parts()) {
+            for (AuditArchiveFile.Block block : archivePart.index().blocks()) {
+                if (!query.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                if (coversBlock(query, block)) {
+                    total += block.count();
+                    continue;
+                }
+                for (AuditArchiveRecord entry : readBlock(archivePart, block)) {
+                    if (query.matches(entry)) {
+                        total++;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns matching archived entries older than a keyset position, newest first.
+     * Blocks newer than the position are skipped using the index, so only the block containing
+     * the position is decoded in addition to the returned entries.
+     *
+     * @param query the filter
+     * @param beforeTimestamp event timestamp of the position, or {@code null} to start at the newest entry
+     * @param beforeId ID of the position
+     * @param limit maximum number of entries to return
+     * @return the entries, as detached audit logs
+     */
+    public List<AuditLog> before(AuditArchiveQuery query, LocalDateTime beforeTimestamp, long beforeId, int limit) {
+        AuditArchiveQuery bounded = query;
+        if (beforeTimestamp != null && (query.endDate() == null || beforeTimestamp.isBefore(query.endDate()))) {
+            bounded = new AuditArchiveQuery(query.userId(), query.action(), query.targetEntity(),
+                    query.startDate(), beforeTimestamp);
+        }
+        List<AuditLog> rows = new ArrayList<>();
+        for (ArchivePart archivePart : ordered(parts(), false)) {
+            for (AuditArchiveFile.Block block : ordered(archivePart.index().blocks(), false)) {
+                if (!bounded.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                for (AuditArchiveRecord entry : ordered(readBlock(archivePart, block), false)) {
+                    if (rows.size() == limit) {
+                        return rows;
+                    }
+                    if (bounded.matches(entry) && isBefore(entry, beforeTimestamp, beforeId)) {
+                        rows.add(entry.toAuditLog());
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Passes matching archived entries to a sink, newest first, without collecting them.
+     * Only one decoded block is held in memory at a time.
+     *
+     * @param query the filter
+     * @param limit maximum number of entries to pass, or a negative value for no limit
+     * @param sink receives the entries
+     * @return number of entries passed to the sink
+     * @throws IOException if the sink fails
+     */
+    public long scan(AuditArchiveQuery query, long limit, RecordSink sink) throws IOException {
+        long passed = 0;
+        for (ArchivePart archivePart : ordered(parts(), false)) {
+            for (AuditArchiveFile.Block block : ordered(archivePart.index().blocks(), false)) {
+                if (!query.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                for (AuditArchiveRecord entry : ordered(readBlock(archivePart, block), false)) {
+                    if (limit >= 0 && passed >= limit) {
+                        return passed;
+                    }
+                    if (query.matches(entry)) {
+                        sink.accept(entry);
+                        passed++;
+                    }
+                }
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Counts the events of matching archived entries grouped by a key.
+     * Every overlapping block is decoded; use {@link #countEntries} for a plain number of entries.
+     *
+     * @param query the filter
+     * @param key extracts the group key of an entry
+     * @return number of events per key
+     */
+    public Map<String, Long> count(AuditArchiveQuery query, Function<AuditArchiveRecord, String> key) {
+        Map<String, Long> counts = new HashMap<>();
+        for (ArchivePart archivePart : parts()) {
+            for (AuditArchiveFile.Block block : archivePart.index().blocks()) {
+                if (!query.overlaps(block.first(), block.last())) {
+                    continue;
+                }
+                for (AuditArchiveRecord entry : readBlock(archivePart, block)) {
+                    if (query.matches(entry)) {
+                        counts.merge(key.apply(entry), (long) entry.eventCount(), Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Lists all archive parts in month order.
+     *
+     * @return archive descriptions
+     */
+    public List<AuditArchiveDto> listArchives() {
+        return parts().stream()
+                .map(p -> toDto(p.dataFile(), p.index()))
+                .toList();
+    }
+
+    private static boolean isBefore(AuditArchiveRecord entry, LocalDateTime timestamp, long id) {
+        if (timestamp == null) {
+            return true;
+        }
+        int cmp = entry.eventTimestamp().compareTo(timestamp);
+        return cmp < 0 || (cmp == 0 && entry.id() < id);
+    }
+
+    /**
+     * Whether every entry of a block matches, so it can be counted from the index alone.
+     */
+    private static boolean coversBlock(AuditArchiveQuery query, AuditArchiveFile.Block block) {
+        return query.userId() == null && query.action() == null && query.targetEntity() == null
+                && (query.startDate() == null || !block.first().isBefore(query.startDate()))
+                && (query.endDate() == null || !block.last().isAfter(query.endDate()));
+    }
+
+    private List<AuditArchiveRecord> readBlock(ArchivePart archivePart, AuditArchiveFile.Block block) {
+        try {
+            return AuditArchiveFile.readBlock(archivePart.dataFile(), block, lineReader());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read audit archive " + archivePart.dataFile(), e);
+        }
+    }
+
+    private List<ArchivePart> parts() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<ArchivePart> parts = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path indexFile : files.filter(AuditArchiveService::isIndexFile).toList()) {
+                AuditArchiveFile.Index index = loadIndex(indexFile);
+                String name = indexFile.getFileName().toString();
+                String base = name.substring(0, name.length() - AuditArchiveFile.INDEX_SUFFIX.length());
+                parts.add(new ArchivePart(indexFile.resolveSibling(base + AuditArchiveFile.DATA_SUFFIX), index));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list audit archives in " + directory, e);
+        }
+        parts.sort(Comparator.comparing((ArchivePart p) -> p.index().month()).thenComparingInt(p -> p.index().part()));
+        return parts;
+    }
+
+    private AuditArchiveFile.Index loadIndex(Path indexFile) throws IOException {
+        AuditArchiveFile.Index index = indexCache.get(indexFile);
+        if (index == null) {
+            index = AuditArchiveFile.readIndex(indexFile);
+            indexCache.put(indexFile, index);
+        }
+        return index;
+    }
+
+    private static boolean isIndexFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(AuditArchiveFile.INDEX_SUFFIX);
+    }
+
+    private int nextPart(YearMonth month) {
+        int part = 1;
+        for (ArchivePart archivePart : parts()) {
+            if (archivePart.index().month().equals(month)) {
+                part = Math.max(part, archivePart.index().part() + 1);
+            }
+        }
+        return part;
+    }
+
+    /**
+     * Removes the written files again if the transaction rolls back; once it commits, tells the search index that
+     * the archived logs left the table.
+     */
+    private void onCompletion(Path dataFile, Path indexFile) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    searchIndex.logsRemoved();
+                } else {
+                    indexCache.remove(indexFile);
+                    try {
+                        Files.deleteIfExists(indexFile);
+                        Files.deleteIfExists(dataFile);
+                    } catch (IOException e) {
+                        log.error("Failed to remove audit archive {} after rollback", dataFile, e);
+                    }
+                }
+            }
+        });
+    }
+
+    private AuditArchiveDto toDto(Path dataFile, AuditArchiveFile.Index index) {
+        List<AuditArchiveFile.Block> blocks = index.blocks();
+        long compressedBytes = 0;
+        for (AuditArchiveFile.Block block : blocks) {
+            compressedBytes += block.length();
+        }
+        AuditArchiveDto.AuditArchiveDtoBuilder dto = AuditArchiveDto.builder()
+                .month(index.month().toString())
+                .part(index.part())
+                .records(index.recordCount())
+                .blocks(blocks.size())
+                .compressedBytes(compressedBytes);
+        if (!blocks.isEmpty()) {
+            dto.firstEvent(blocks.get(0).first()).lastEvent(blocks.get(blocks.size() - 1).last());
+        }
+        return dto.build();
+    }
+
+    private static <T> List<T> ordered(List<T> items, boolean ascending) {
+        if (ascending) {
+            return items;
+        }
+        List<T> reversed = new ArrayList<>(items);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static String baseName(YearMonth month, int part) {
+        return FILE_PREFIX + month + "." + part;
+    }
+
+    private Path directory() {
+        return Paths.get(archiveDirectory);
+    }
+
+    private ObjectWriter lineWriter() {
+        return objectMapper.writerFor(AuditArchiveRecord.class).without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    private ObjectReader lineReader() {
+        return objectMapper.readerFor(AuditArchiveRecord.class);
+    }
+
+    private record ArchivePart(Path dataFile, AuditArchiveFile.Index index) {
+    }
+
+    /**
+     * Maps streamed audit logs to archive records, tracking the highest ID and clearing the persistence context.
+     */
+    private final class RecordIterator implements Iterator<AuditArchiveRecord> {
+        private final Iterator<AuditLog> rows;
+        private long[] ids = new long[CLEAR_INTERVAL];
+        private int count;
+
+        RecordIterator(Iterator<AuditLog> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public AuditArchiveRecord next() {
+            AuditLog row = rows.next();
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+            ids[count] = row.getId();
+            AuditArchiveRecord entry = AuditArchiveRecord.from(row);
+            count++;
+            if (count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+            return entry;
+        }
+    }
+}
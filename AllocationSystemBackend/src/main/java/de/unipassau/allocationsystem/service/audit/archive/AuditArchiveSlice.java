@@ -0,0 +1,14 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+
+import java.util.List;
+
+/**
+ * Window of matching archived audit entries.
+ *
+ * @param total number of all matching archived entries
+ * @param rows the requested window of matching entries, as detached audit logs
+ */
+public record AuditArchiveSlice(long total, List<AuditLog> rows) {
+}
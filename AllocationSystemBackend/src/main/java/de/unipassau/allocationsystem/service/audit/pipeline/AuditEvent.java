@@ -0,0 +1,57 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fully resolved audit event as queued by the audit pipeline.
+ * Values are already serialized and the request context is captured, so the event can be written
+ * from any thread and stored in the spill file as one JSON line.
+ *
+ * @param userId ID of the acting user, {@code null} for system actions
+ * @param userIdentifier email of the acting user or {@code SYSTEM}
+ * @param action the audit action
+ * @param targetEntity the target entity type name
+ * @param targetRecordId the target record identifier
+ * @param previousValue previous value as JSON
+ * @param newValue new value as JSON
+ * @param description human-readable description
+ * @param eventTimestamp time the event occurred
+ * @param ipAddress client IP address
+ * @param userAgent client user agent
+ * @param eventCount number of coalesced events, at least 1
+ */
+public record AuditEvent(Long userId,
+                         String userIdentifier,
+                         AuditAction action,
+                         String targetEntity,
+                         String targetRecordId,
+                         String previousValue,
+                         String newValue,
+                         String description,
+                         LocalDateTime eventTimestamp,
+                         String ipAddress,
+                         String userAgent,
+                         int eventCount) {
+
+    /**
+     * Events spilled before the counter existed have no count; each of them stands for one event.
+     */
+    public AuditEvent {
+        if (eventCount < 1) {
+            eventCount = 1;
+        }
+    }
+
+    /**
+     * Returns this event standing for the given number of events.
+     *
+     * @param count the number of events
+     * @return the event with the count
+     */
+    public AuditEvent withEventCount(int count) {
+        return new AuditEvent(userId, userIdentifier, action, targetEntity, targetRecordId, previousValue, newValue,
+                description, eventTimestamp, ipAddress, userAgent, count);
+    }
+}
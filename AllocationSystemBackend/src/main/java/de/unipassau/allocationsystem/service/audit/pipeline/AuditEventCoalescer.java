@@ -0,0 +1,157 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import de.unipassau.allocationsystem.dto.auditlog.AuditPipelineStatsDto;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thins out read events before they reach the {@link AuditLogWriter}.
+ * <p>
+ * Events of the actions in {@code audit.coalesce.actions} are aggregated per action, user, entity and record
+ * within fixed time windows of {@code audit.coalesce.window-ms}: the first event of a window is kept, repeated
+ * ones only raise its count, and it is written with that count once the window has closed. List views, i.e.
+ * events of these actions without a record ID, are additionally sampled with {@code audit.coalesce.list-sample-rate};
+ * views not sampled are only counted in the pipeline metrics. All other events are passed on unchanged.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditEventCoalescer {
+
+    private final AuditLogWriter writer;
+
+    @Value("${audit.coalesce.actions:VIEW}")
+    private Set<AuditAction> actions;
+
+    @Value("${audit.coalesce.window-ms:60000}")
+    private long windowMillis;
+
+    @Value("${audit.coalesce.list-sample-rate:1.0}")
+    private double listSampleRate;
+
+    private final ConcurrentMap<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong sampledOut = new AtomicLong();
+
+    /**
+     * Identifies the events aggregated into one audit log entry.
+     */
+    private record Key(long window, AuditAction action, String userIdentifier, String targetEntity,
+                       String targetRecordId) {
+    }
+
+    /**
+     * First event of a window and the number of events since.
+     * Only changed inside the atomic map operations, so a bucket removed for flushing is final.
+     */
+    private static final class Bucket {
+        private final AuditEvent first;
+        private int count = 1;
+
+        private Bucket(AuditEvent first) {
+            this.first = first;
+        }
+    }
+
+    /**
+     * Passes an event on to the writer, or aggregates it if its action is coalesced. Never throws.
+     *
+     * @param event the event
+     */
+    public void submit(AuditEvent event) {
+        submit(event, System.currentTimeMillis());
+    }
+
+    /**
+     * Writes the entries of all closed windows on the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${audit.coalesce.flush-ms:1000}")
+    public void flushScheduled() {
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the metrics of the writer together with the coalescing counters.
+     *
+     * @return pipeline metrics
+     */
+    public AuditPipelineStatsDto getStats() {
+        AuditPipelineStatsDto stats = writer.getStats();
+        stats.setCoalesced(coalesced.get());
+        stats.setSampledOut(sampledOut.get());
+        stats.setOpenWindows(buckets.size());
+        return stats;
+    }
+
+    /**
+     * Writes all aggregated entries, including those of open windows, before the writer stops.
+     */
+    @PreDestroy
+    void flushAll() {
+        int flushed = flushWindowsBefore(Long.MAX_VALUE);
+        if (flushed > 0) {
+            log.info("Flushed {} coalesced audit entries on shutdown", flushed);
+        }
+    }
+
+    void submit(AuditEvent event, long nowMillis) {
+        if (!actions.contains(event.action())) {
+            writer.submit(event);
+            return;
+        }
+        if (event.targetRecordId() == null && listSampleRate < 1
+                && ThreadLocalRandom.current().nextDouble() >= listSampleRate) {
+            sampledOut.incrementAndGet();
+            return;
+        }
+        if (windowMillis <= 0) {
+            writer.submit(event);
+            return;
+        }
+        Key key = new Key(nowMillis / windowMillis, event.action(), event.userIdentifier(), event.targetEntity(),
+                event.targetRecordId());
+        buckets.compute(key, (k, bucket) -> {
+            if (bucket == null) {
+                return new Bucket(event);
+            }
+            bucket.count++;
+            coalesced.incrementAndGet();
+            return bucket;
+        });
+    }
+
+    int flush(long nowMillis) {
+        if (windowMillis <= 0) {
+            return flushWindowsBefore(Long.MAX_VALUE);
+        }
+        return flushWindowsBefore(nowMillis / windowMillis);
+    }
+
+    private int flushWindowsBefore(long window) {
+        int flushed = 0;
+        for (Key key : buckets.keySet()) {
+            if (key.window() >= window) {
+                continue;
+            }
+            // Events arriving after the removal start a new bucket, which the next flush writes
+            Bucket bucket = buckets.remove(key);
+            if (bucket != null) {
+                writer.submit(bucket.first.withEventCount(bucket.count));
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+}
@@ -0,0 +1,305 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.auditlog.AuditPipelineStatsDto;
+import de.unipassau.allocationsystem.service.audit.rollup.AuditRollupService;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dedicated write pipeline for audit events.
+ * Callers enqueue events into a bounded ring buffer; a single writer thread drains it and inserts the events
+ * with JDBC batches, one transaction per batch. When the buffer is full the configured {@link AuditOverflowPolicy}
+ * applies. Events still queued at shutdown are written before the application stops.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (user_id, user_identifier, event_timestamp, "
+            + "action, target_entity, target_record_id, previous_value, new_value, description, ip_address, "
+            + "user_agent, event_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Pause of a blocked producer between two attempts.
+     */
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * Upper bound of the time a producer waits under {@link AuditOverflowPolicy#BLOCK}, whatever is configured.
+     */
+    static final long MAX_BLOCK_TIMEOUT_MILLIS = 100;
+
+    /**
+     * Dropped events are logged for the first drop and then once per this many drops.
+     */
+    private static final long DROP_LOG_INTERVAL = 1000;
+    private static final long SHUTDOWN_JOIN_MILLIS = 10_000;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final AuditRollupService rollupService;
+    private final AuditSearchIndex searchIndex;
+
+    @Value("${audit.pipeline.capacity:8192}")
+    private int capacity;
+
+    @Value("${audit.pipeline.batch-size:500}")
+    private int batchSize;
+
+    @Value("${audit.pipeline.linger-ms:20}")
+    private long lingerMillis;
+
+    @Value("${audit.pipeline.overflow-policy:DROP}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    @Value("${audit.pipeline.block-timeout-ms:20}")
+    private long blockTimeoutMillis;
+
+    @Value("${audit.pipeline.spill-file:./data/audit-spill.ndjson}")
+    private String spillFilePath;
+
+    private MpscRingBuffer<AuditEvent> buffer;
+    private AuditSpillFile spillFile;
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile int maxBatchSize;
+
+    /**
+     * Creates the buffer and starts the writer thread.
+     */
+    @PostConstruct
+    void start() {
+        buffer = new MpscRingBuffer<>(capacity);
+        spillFile = new AuditSpillFile(Paths.get(spillFilePath), objectMapper);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit pipeline started (capacity {}, batch size {}, overflow policy {})",
+                buffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    /**
+     * Replays events spilled by a previous run once the schema is available.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replaySpilledEvents() {
+        try {
+            long replayed = spillFile.replay(batchSize, this::insertBatch);
+            if (replayed > 0) {
+                log.info("Replayed {} spilled audit events", replayed);
+            }
+        } catch (IOException | DataAccessException | TransactionException e) {
+            log.error("Failed to replay spilled audit events, will retry on next startup", e);
+        }
+    }
+
+    /**
+     * Signals the writer thread to finish and waits until it has written all queued events.
+     */
+    @PreDestroy
+    void stop() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_JOIN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer.size() > 0) {
+            log.warn("Audit writer did not finish in time, {} events remain queued", buffer.size());
+        }
+        try {
+            spillFile.close();
+        } catch (IOException e) {
+            log.warn("Failed to close audit spill file", e);
+        }
+    }
+
+    /**
+     * Enqueues an event for writing. Never throws; events that cannot be queued are handled by the overflow policy.
+     *
+     * @param event the event
+     */
+    public void submit(AuditEvent event) {
+        if (buffer.offer(event)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> blockUntilQueued(event);
+            case SPILL -> spill(List.of(event));
+            default -> drop(1);
+        }
+    }
+
+    /**
+     * Returns the current pipeline metrics.
+     *
+     * @return pipeline metrics
+     */
+    public AuditPipelineStatsDto getStats() {
+        long batchCount = batches.get();
+        double averageBatchSize = 0;
+        double averageWriteMillis = 0;
+        if (batchCount > 0) {
+            averageBatchSize = (double) written.get() / batchCount;
+            averageWriteMillis = totalWriteNanos.get() / NANOS_PER_MILLI / batchCount;
+        }
+        return AuditPipelineStatsDto.builder()
+                .overflowPolicy(overflowPolicy.name())
+                .queueCapacity(buffer.capacity())
+                .queueDepth(buffer.size())
+                .enqueued(enqueued.get())
+                .written(written.get())
+                .dropped(dropped.get())
+                .spilled(spilled.get())
+                .failed(failed.get())
+                .batches(batchCount)
+                .lastBatchSize(lastBatchSize)
+                .maxBatchSize(maxBatchSize)
+                .averageBatchSize(averageBatchSize)
+                .averageWriteMillis(averageWriteMillis)
+                .maxWriteMillis(maxWriteNanos.get() / NANOS_PER_MILLI)
+                .build();
+    }
+
+    private void blockUntilQueued(AuditEvent event) {
+        long timeoutMillis = Math.min(blockTimeoutMillis, MAX_BLOCK_TIMEOUT_MILLIS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(event)) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        }
+        drop(1);
+    }
+
+    private void drop(int count) {
+        long total = dropped.addAndGet(count);
+        if (total == count || total / DROP_LOG_INTERVAL != (total - count) / DROP_LOG_INTERVAL) {
+            log.warn("Audit buffer full, dropped {} event(s) ({} in total)", count, total);
+        }
+    }
+
+    private void spill(List<AuditEvent> events) {
+        try {
+            spillFile.append(events);
+            spilled.addAndGet(events.size());
+        } catch (IOException e) {
+            log.error("Failed to spill {} audit event(s)", events.size(), e);
+            dropped.addAndGet(events.size());
+        }
+    }
+
+    private void drainLoop() {
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(lingerNanos);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<AuditEvent> batch) {
+        long start = System.nanoTime();
+        try {
+            insertBatch(batch);
+        } catch (RuntimeException e) {
+            // any failure is contained here, the writer thread must keep draining
+            failed.addAndGet(batch.size());
+            log.error("Failed to write {} audit event(s)", batch.size(), e);
+            if (overflowPolicy == AuditOverflowPolicy.SPILL) {
+                spill(batch);
+            }
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        written.addAndGet(batch.size());
+        batches.incrementAndGet();
+        totalWriteNanos.addAndGet(elapsed);
+        maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+        lastBatchSize = batch.size();
+        if (batch.size() > maxBatchSize) {
+            maxBatchSize = batch.size();
+        }
+    }
+
+    private void insertBatch(List<AuditEvent> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> bind(ps, event, now));
+            rollupService.addLate(batch);
+        });
+        searchIndex.markDirty();
+    }
+
+    private static void bind(PreparedStatement ps, AuditEvent event, Timestamp now) throws SQLException {
+        if (event.userId() == null) {
+            ps.setNull(1, Types.BIGINT);
+        } else {
+            ps.setLong(1, event.userId());
+        }
+        ps.setString(2, event.userIdentifier());
+        ps.setTimestamp(3, Timestamp.valueOf(event.eventTimestamp()));
+        ps.setString(4, event.action().name());
+        ps.setString(5, event.targetEntity());
+        ps.setString(6, event.targetRecordId());
+        ps.setString(7, event.previousValue());
+        ps.setString(8, event.newValue());
+        ps.setString(9, event.description());
+        ps.setString(10, event.ipAddress());
+        ps.setString(11, event.userAgent());
+        ps.setInt(12, event.eventCount());
+        ps.setTimestamp(13, now);
+        ps.setTimestamp(14, now);
+    }
+}
@@ -0,0 +1,22 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+/**
+ * Behaviour of the audit pipeline when its buffer is full.
+ */
+public enum AuditOverflowPolicy {
+    /**
+     * The caller waits for free space, up to the configured block timeout; the event is dropped after that.
+     * The caller is usually a request thread, so the timeout is capped at
+     * {@link AuditLogWriter#MAX_BLOCK_TIMEOUT_MILLIS}.
+     */
+    BLOCK,
+    /**
+     * The event is dropped immediately and counted. This is the default, as it never delays the caller.
+     */
+    DROP,
+    /**
+     * The event is appended to the local spill file, which is replayed on the next startup.
+     * Batches that fail to write are spilled as well.
+     */
+    SPILL
+}
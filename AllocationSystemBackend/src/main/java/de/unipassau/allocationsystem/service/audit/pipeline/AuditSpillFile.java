@@ -0,0 +1,124 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local append-only file of audit events that could not be queued or written, one JSON object per line.
+ * On startup the file is moved aside and replayed; the moved file is only deleted after every event was written,
+ * so a failed replay is retried on the next startup. Replay is at-least-once: events of batches written before
+ * a failure are written again by the retry.
+ */
+final class AuditSpillFile {
+
+    /**
+     * Writes a batch of replayed events.
+     */
+    @FunctionalInterface
+    interface BatchWriter {
+        /**
+         * Writes the events.
+         *
+         * @param events the events
+         */
+        void write(List<AuditEvent> events);
+    }
+
+    private final Path file;
+    private final Path replayFile;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private BufferedWriter out;
+
+    AuditSpillFile(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.replayFile = file.resolveSibling(file.getFileName() + ".replay");
+        this.writer = objectMapper.writerFor(AuditEvent.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.reader = objectMapper.readerFor(AuditEvent.class);
+    }
+
+    /**
+     * Appends events and flushes them to the file.
+     *
+     * @param events the events
+     * @throws IOException if the file cannot be written
+     */
+    synchronized void append(List<AuditEvent> events) throws IOException {
+        if (out == null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        for (AuditEvent event : events) {
+            out.write(writer.writeValueAsString(event));
+            out.newLine();
+        }
+        out.flush();
+    }
+
+    /**
+     * Replays all spilled events in batches and removes them once written.
+     *
+     * @param batchSize maximum events per batch
+     * @param batchWriter writes one batch; an exception aborts the replay and keeps the file
+     * @return number of replayed events
+     * @throws IOException if the file cannot be read
+     */
+    synchronized long replay(int batchSize, BatchWriter batchWriter) throws IOException {
+        close();
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(file)) {
+                return 0;
+            }
+            Files.move(file, replayFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        long count = 0;
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        try (BufferedReader in = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line = in.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    batch.add(reader.readValue(line));
+                }
+                if (batch.size() == batchSize) {
+                    batchWriter.write(batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+                line = in.readLine();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchWriter.write(batch);
+            count += batch.size();
+        }
+        Files.delete(replayFile);
+        return count;
+    }
+
+    /**
+     * Closes the file if it is open.
+     *
+     * @throws IOException if closing fails
+     */
+    synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free multi-producer single-consumer ring buffer.
+ * Producers claim a slot by advancing the tail with a CAS and publish it through the slot's sequence;
+ * the single consumer takes slots in order and hands them back by advancing their sequence by one lap.
+ * {@link #offer(Object)} never blocks and fails when the buffer is full.
+ *
+ * @param <E> element type
+ */
+final class MpscRingBuffer<E> {
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to consume. Written by the consumer only, read by {@link #size()} from any thread.
+     */
+    private volatile long head;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity the capacity, rounded up to the next power of two
+     */
+    MpscRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        slots = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Adds an element. Safe to call from any number of threads.
+     *
+     * @param element the element, not {@code null}
+     * @return false if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the next element. Must only be called by the consumer thread.
+     *
+     * @return the element, or {@code null} if the buffer is empty or the next slot is not yet published
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) slots[index];
+        slots[index] = null;
+        sequences.set(index, position + slots.length);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Moves up to {@code max} elements to {@code target}. Must only be called by the consumer thread.
+     *
+     * @param target the list to add to
+     * @param max the maximum number of elements
+     * @return the number of elements moved
+     */
+    int drainTo(List<E> target, int max) {
+        int count = 0;
+        while (count < max) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the approximate number of queued elements.
+     *
+     * @return queued elements
+     */
+    int size() {
+        long size = tail.get() - head;
+        if (size < 0) {
+            return 0;
+        }
+        return (int) Math.min(size, slots.length);
+    }
+
+    /**
+     * Returns the capacity.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return slots.length;
+    }
+}
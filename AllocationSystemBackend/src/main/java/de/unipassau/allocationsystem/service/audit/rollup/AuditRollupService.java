@@ -0,0 +1,219 @@
+package de.unipassau.allocationsystem.service.audit.rollup;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.entity.AuditLogRollupState;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.repository.AuditLogRollupRepository;
+import de.unipassau.allocationsystem.repository.AuditLogRollupStateRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveService;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maintains hourly audit event counts per action, target entity and user.
+ * <p>
+ * A background compactor aggregates every hour once it is closed (plus a short lag for in-flight writes)
+ * and records how far it got in {@link AuditLogRollupState}. The first run also counts the archived months.
+ * Events that are written later with a timestamp in an already compacted hour, e.g. replayed spill files,
+ * are added to the rollups directly by {@link #addLate(Collection)}.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditRollupService {
+
+    private static final String UPDATE_COUNT = "UPDATE audit_log_rollups SET event_count = event_count + ? "
+            + "WHERE bucket_hour = ? AND action = ? AND target_entity = ? AND user_identifier = ?";
+    private static final String INSERT_COUNT = "INSERT INTO audit_log_rollups "
+            + "(bucket_hour, action, target_entity, user_identifier, event_count) VALUES (?, ?, ?, ?, ?)";
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogRollupRepository rollupRepository;
+    private final AuditLogRollupStateRepository stateRepository;
+    private final AuditArchiveService archiveService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${audit.rollup.lag-minutes:5}")
+    private long lagMinutes;
+
+    /**
+     * Self proxy so that scheduled runs go through the transactional {@link #compactUntil(LocalDateTime)}.
+     */
+    @Lazy
+    @Autowired
+    private AuditRollupService self;
+
+    /**
+     * Dimension the rollup counts are summed by.
+     */
+    public enum Dimension {
+        ACTION,
+        ENTITY,
+        USER
+    }
+
+    /**
+     * Identifies one rollup row.
+     */
+    private record Key(LocalDateTime hour, AuditAction action, String targetEntity, String userIdentifier) {
+    }
+
+    /**
+     * Compacts all closed hours on the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${audit.rollup.interval-ms:60000}",
+            initialDelayString = "${audit.rollup.interval-ms:60000}")
+    public void compactScheduled() {
+        LocalDateTime until = self.compactUntil(LocalDateTime.now().minusMinutes(lagMinutes));
+        log.debug("Audit rollups compacted until {}", until);
+    }
+
+    /**
+     * Adds all audit events before the start of the hour containing {@code boundary} to the rollups.
+     *
+     * @param boundary the time up to which events are final
+     * @return the new end of the compacted range
+     */
+    @Transactional
+    public LocalDateTime compactUntil(LocalDateTime boundary) {
+        LocalDateTime to = boundary.truncatedTo(ChronoUnit.HOURS);
+        Optional<AuditLogRollupState> state = stateRepository.findForUpdate(AuditLogRollupState.SINGLETON_ID);
+        LocalDateTime from = state.map(AuditLogRollupState::getCompactedUntil).orElse(null);
+        if (from != null && !from.isBefore(to)) {
+            return from;
+        }
+
+        Map<Key, Long> counts = new HashMap<>();
+        for (Object[] row : auditLogRepository.countByHour(from, to)) {
+            LocalDateTime hour = LocalDateTime.of(intOf(row[0]), intOf(row[1]), intOf(row[2]), intOf(row[3]), 0);
+            counts.merge(new Key(hour, (AuditAction) row[4], (String) row[5], (String) row[6]), (Long) row[7], Long::sum);
+        }
+        if (from == null) {
+            countArchived(to, counts);
+        }
+        List<Object[]> inserts = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> inserts.add(new Object[]{
+                Timestamp.valueOf(key.hour()), key.action().name(), key.targetEntity(), key.userIdentifier(), count}));
+        jdbcTemplate.batchUpdate(INSERT_COUNT, inserts);
+
+        AuditLogRollupState updated = state.orElseGet(() -> new AuditLogRollupState(AuditLogRollupState.SINGLETON_ID, to));
+        updated.setCompactedUntil(to);
+        stateRepository.save(updated);
+        log.debug("Compacted audit logs from {} until {} into {} rollup rows", from, to, inserts.size());
+        return to;
+    }
+
+    /**
+     * Returns the exclusive end of the compacted range.
+     *
+     * @return the start of the first hour not contained in the rollups, empty if compaction has not run yet
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> compactedUntil() {
+        return stateRepository.findById(AuditLogRollupState.SINGLETON_ID).map(AuditLogRollupState::getCompactedUntil);
+    }
+
+    /**
+     * Adds freshly written events whose hour has already been compacted to the rollups.
+     * Must run in the transaction that writes the events. The compaction state is read under the lock
+     * {@link #compactUntil(LocalDateTime)} holds before any event is filtered, so a concurrent compaction either
+     * counts the events itself (it runs after this transaction commits) or has committed before and the events
+     * are added here.
+     *
+     * @param events the written events
+     */
+    public void addLate(Collection<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Filtering before the lock could skip events of an hour a compaction closes before this transaction commits
+        Optional<LocalDateTime> until = stateRepository.findForUpdate(AuditLogRollupState.SINGLETON_ID)
+                .map(AuditLogRollupState::getCompactedUntil);
+        if (until.isEmpty()) {
+            return;
+        }
+        Map<Key, Long> counts = new HashMap<>();
+        for (AuditEvent event : events) {
+            if (event.eventTimestamp().isBefore(until.get())) {
+                counts.merge(keyOf(event.eventTimestamp(), event.action(), event.targetEntity(),
+                        event.userIdentifier()), (long) event.eventCount(), Long::sum);
+            }
+        }
+        counts.forEach(this::increment);
+    }
+
+    /**
+     * Sums the rollups of a range of whole hours by one dimension.
+     *
+     * @param dimension the dimension
+     * @param from first hour (inclusive)
+     * @param to last hour (exclusive)
+     * @return raw query rows of dimension value and count
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> sum(Dimension dimension, LocalDateTime from, LocalDateTime to) {
+        return switch (dimension) {
+            case ACTION -> rollupRepository.sumByAction(from, to);
+            case ENTITY -> rollupRepository.sumByEntity(from, to);
+            case USER -> rollupRepository.sumByUser(from, to);
+        };
+    }
+
+    private void countArchived(LocalDateTime to, Map<Key, Long> counts) {
+        AuditArchiveQuery query = new AuditArchiveQuery(null, null, null, null, to.minusNanos(1));
+        try {
+            archiveService.scan(query, -1, entry -> counts.merge(keyOf(entry.eventTimestamp(), entry.action(),
+                    entry.targetEntity(), entry.userIdentifier()), (long) entry.eventCount(), Long::sum));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void increment(Key key, long count) {
+        Timestamp hour = Timestamp.valueOf(key.hour());
+        int updated = jdbcTemplate.update(UPDATE_COUNT, count, hour, key.action().name(),
+                key.targetEntity(), key.userIdentifier());
+        if (updated > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_COUNT, hour, key.action().name(), key.targetEntity(),
+                    key.userIdentifier(), count);
+        } catch (DuplicateKeyException e) {
+            // Another writer created the row in the meantime
+            jdbcTemplate.update(UPDATE_COUNT, count, hour, key.action().name(),
+                    key.targetEntity(), key.userIdentifier());
+        }
+    }
+
+    private static Key keyOf(LocalDateTime timestamp, AuditAction action, String targetEntity, String userIdentifier) {
+        return new Key(timestamp.truncatedTo(ChronoUnit.HOURS), action, targetEntity, userIdentifier);
+    }
+
+    private static int intOf(Object value) {
+        return ((Number) value).intValue();
+    }
+}
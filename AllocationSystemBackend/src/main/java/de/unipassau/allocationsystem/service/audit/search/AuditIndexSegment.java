@@ -0,0 +1,505 @@
+package de.unipassau.allocationsystem.service.audit.search;
+
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Immutable part of the audit full-text index: an inverted index from terms to the audit logs containing them,
+ * plus the columns needed to apply the regular audit filters without touching the database.
+ * <p>
+ * Documents are numbered in ascending audit log ID order; every posting list holds document numbers in ascending
+ * order with the term frequency of each. On disk (deflate-compressed as a whole) a segment is: magic, format
+ * version, the target entity dictionary, one row of ID delta, timestamp, user, action and entity code per document,
+ * and the posting lists by term with delta-encoded document numbers.
+ * </p>
+ */
+final class AuditIndexSegment {
+
+    static final String EXTENSION = ".aidx";
+
+    private static final int MAGIC = 0x41494458; // "AIDX"
+    private static final short VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long NO_USER = 0L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1000;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION = 0x80;
+    private static final int FREQUENCY_BITS = 32;
+    private static final long FREQUENCY_MASK = 0xFFFFFFFFL;
+
+    private final long[] ids;
+    private final long[] timestamps;
+    private final long[] userIds;
+    private final byte[] actions;
+    private final String[] entities;
+    private final Map<String, Postings> postings;
+
+    private AuditIndexSegment(long[] ids, long[] timestamps, long[] userIds, byte[] actions, String[] entities,
+                              Map<String, Postings> postings) {
+        this.ids = ids;
+        this.timestamps = timestamps;
+        this.userIds = userIds;
+        this.actions = actions;
+        this.entities = entities;
+        this.postings = postings;
+    }
+
+    /**
+     * Documents containing one term.
+     *
+     * @param docs ascending document numbers
+     * @param frequencies occurrences of the term in each document
+     */
+    private record Postings(int[] docs, int[] frequencies) {
+    }
+
+    /**
+     * Receives matching audit logs.
+     */
+    @FunctionalInterface
+    interface HitConsumer {
+        void accept(long id, double score);
+    }
+
+    int docCount() {
+        return ids.length;
+    }
+
+    long maxId() {
+        if (ids.length == 0) {
+            return 0L;
+        }
+        return ids[ids.length - 1];
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /**
+     * Returns the event timestamp of an indexed audit log.
+     *
+     * @param id the audit log ID
+     * @return microseconds since the epoch (UTC), or {@code null} if the log is not in this segment
+     */
+    Long timestampOf(long id) {
+        int doc = Arrays.binarySearch(ids, id);
+        if (doc < 0) {
+            return null;
+        }
+        return timestamps[doc];
+    }
+
+    /**
+     * Returns the number of documents containing a term.
+     *
+     * @param term the term
+     * @return the document frequency
+     */
+    int documentFrequency(String term) {
+        Postings list = postings.get(term);
+        if (list == null) {
+            return 0;
+        }
+        return list.docs().length;
+    }
+
+    /**
+     * Finds the documents containing all terms and matching the filter.
+     * The score of a document is the sum over the terms of {@code weight * (1 + ln(frequency))}.
+     *
+     * @param terms the query terms
+     * @param weights weight of each term, usually its inverse document frequency
+     * @param filter the regular audit filters
+     * @param consumer receives the audit log ID and score of every match
+     */
+    void match(List<String> terms, double[] weights, AuditArchiveQuery filter, HitConsumer consumer) {
+        Postings[] lists = new Postings[terms.size()];
+        for (int t = 0; t < lists.length; t++) {
+            lists[t] = postings.get(terms.get(t));
+            if (lists[t] == null) {
+                return;
+            }
+        }
+        // Drive the intersection by the shortest list, the others are advanced with cursors
+        int shortest = 0;
+        for (int t = 1; t < lists.length; t++) {
+            if (lists[t].docs().length < lists[shortest].docs().length) {
+                shortest = t;
+            }
+        }
+        int[] cursors = new int[lists.length];
+        Filter compiled = new Filter(filter);
+        int[] candidates = lists[shortest].docs();
+        for (int c = 0; c < candidates.length; c++) {
+            int doc = candidates[c];
+            if (!compiled.accepts(doc)) {
+                continue;
+            }
+            double score = 0;
+            boolean all = true;
+            for (int t = 0; t < lists.length && all; t++) {
+                int position = c;
+                if (t != shortest) {
+                    position = advance(lists[t].docs(), cursors[t], doc);
+                    cursors[t] = position;
+                    all = position < lists[t].docs().length && lists[t].docs()[position] == doc;
+                }
+                if (all) {
+                    score += weights[t] * (1 + Math.log(lists[t].frequencies()[position]));
+                }
+            }
+            if (all) {
+                consumer.accept(ids[doc], score);
+            }
+        }
+    }
+
+    private static int advance(int[] docs, int from, int target) {
+        int position = from;
+        while (position < docs.length && docs[position] < target) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * The regular audit filters translated to the segment's columns.
+     */
+    private final class Filter {
+        private final Long userId;
+        private final int action;
+        private final String targetEntity;
+        private final long from;
+        private final long to;
+
+        Filter(AuditArchiveQuery query) {
+            userId = query.userId();
+            action = query.action() == null ? -1 : query.action().ordinal();
+            targetEntity = query.targetEntity();
+            from = query.startDate() == null ? Long.MIN_VALUE : toMicros(query.startDate());
+            to = query.endDate() == null ? Long.MAX_VALUE : toMicros(query.endDate());
+        }
+
+        boolean accepts(int doc) {
+            return (userId == null || userIds[doc] == userId)
+                    && (action < 0 || actions[doc] == action)
+                    && (targetEntity == null || targetEntity.equals(entities[doc]))
+                    && timestamps[doc] >= from && timestamps[doc] <= to;
+        }
+    }
+
+    /**
+     * Merges segments into one, dropping documents below a minimum ID and duplicates.
+     *
+     * @param segments the segments
+     * @param minId lowest audit log ID to keep
+     * @return the merged segment
+     */
+    static AuditIndexSegment merge(List<AuditIndexSegment> segments, long minId) {
+        List<int[]> order = new ArrayList<>();
+        for (int s = 0; s < segments.size(); s++) {
+            AuditIndexSegment segment = segments.get(s);
+            for (int doc = 0; doc < segment.docCount(); doc++) {
+                if (segment.ids[doc] >= minId) {
+                    order.add(new int[]{s, doc});
+                }
+            }
+        }
+        order.sort(Comparator.comparingLong(entry -> segments.get(entry[0]).ids[entry[1]]));
+
+        int[][] remap = new int[segments.size()][];
+        for (int s = 0; s < segments.size(); s++) {
+            remap[s] = new int[segments.get(s).docCount()];
+            Arrays.fill(remap[s], -1);
+        }
+        int count = 0;
+        long[] ids = new long[order.size()];
+        long[] timestamps = new long[order.size()];
+        long[] userIds = new long[order.size()];
+        byte[] actions = new byte[order.size()];
+        String[] entities = new String[order.size()];
+        for (int[] entry : order) {
+            AuditIndexSegment segment = segments.get(entry[0]);
+            int doc = entry[1];
+            if (count > 0 && ids[count - 1] == segment.ids[doc]) {
+                continue;
+            }
+            ids[count] = segment.ids[doc];
+            timestamps[count] = segment.timestamps[doc];
+            userIds[count] = segment.userIds[doc];
+            actions[count] = segment.actions[doc];
+            entities[count] = segment.entities[doc];
+            remap[entry[0]][doc] = count;
+            count++;
+        }
+
+        Map<String, PostingsBuilder> merged = new HashMap<>();
+        for (int s = 0; s < segments.size(); s++) {
+            int[] segmentRemap = remap[s];
+            for (Map.Entry<String, Postings> term : segments.get(s).postings.entrySet()) {
+                int[] docs = term.getValue().docs();
+                int[] frequencies = term.getValue().frequencies();
+                for (int i = 0; i < docs.length; i++) {
+                    int doc = segmentRemap[docs[i]];
+                    if (doc >= 0) {
+                        merged.computeIfAbsent(term.getKey(), k -> new PostingsBuilder()).add(doc, frequencies[i]);
+                    }
+                }
+            }
+        }
+        return new AuditIndexSegment(Arrays.copyOf(ids, count), Arrays.copyOf(timestamps, count),
+                Arrays.copyOf(userIds, count), Arrays.copyOf(actions, count), Arrays.copyOf(entities, count),
+                buildPostings(merged));
+    }
+
+    /**
+     * Writes the segment to {@code target}. The file is written next to the target and moved into place,
+     * so readers never observe a partially written segment.
+     *
+     * @param target the segment file
+     * @throws IOException if writing fails
+     */
+    void write(Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            Map<String, Integer> dictionary = new HashMap<>();
+            List<String> dictionaryValues = new ArrayList<>();
+            for (String entity : entities) {
+                dictionary.computeIfAbsent(entity, value -> {
+                    dictionaryValues.add(value);
+                    return dictionaryValues.size() - 1;
+                });
+            }
+            writeVarLong(out, dictionaryValues.size());
+            for (String value : dictionaryValues) {
+                out.writeUTF(value);
+            }
+
+            writeVarLong(out, ids.length);
+            long previousId = 0;
+            for (int doc = 0; doc < ids.length; doc++) {
+                writeVarLong(out, ids[doc] - previousId);
+                previousId = ids[doc];
+                out.writeLong(timestamps[doc]);
+                writeVarLong(out, userIds[doc]);
+                out.writeByte(actions[doc]);
+                writeVarLong(out, dictionary.get(entities[doc]));
+            }
+
+            Map<String, Postings> sorted = new TreeMap<>(postings);
+            writeVarLong(out, sorted.size());
+            for (Map.Entry<String, Postings> term : sorted.entrySet()) {
+                out.writeUTF(term.getKey());
+                int[] docs = term.getValue().docs();
+                int[] frequencies = term.getValue().frequencies();
+                writeVarLong(out, docs.length);
+                int previousDoc = 0;
+                for (int i = 0; i < docs.length; i++) {
+                    writeVarLong(out, docs[i] - previousDoc);
+                    previousDoc = docs[i];
+                    writeVarLong(out, frequencies[i]);
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a segment file.
+     *
+     * @param source the segment file
+     * @return the segment
+     * @throws IOException if the file cannot be read or is not a segment
+     */
+    static AuditIndexSegment read(Path source) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new BufferedInputStream(Files.newInputStream(source), BUFFER_SIZE)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an audit index segment: " + source);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported audit index segment version " + version + ": " + source);
+            }
+
+            String[] dictionary = new String[(int) readVarLong(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+
+            int count = (int) readVarLong(in);
+            long[] ids = new long[count];
+            long[] timestamps = new long[count];
+            long[] userIds = new long[count];
+            byte[] actions = new byte[count];
+            String[] entities = new String[count];
+            long previousId = 0;
+            for (int doc = 0; doc < count; doc++) {
+                previousId += readVarLong(in);
+                ids[doc] = previousId;
+                timestamps[doc] = in.readLong();
+                userIds[doc] = readVarLong(in);
+                actions[doc] = in.readByte();
+                entities[doc] = dictionary[(int) readVarLong(in)];
+            }
+
+            int termCount = (int) readVarLong(in);
+            Map<String, Postings> postings = new HashMap<>(termCount * 2);
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                int[] docs = new int[(int) readVarLong(in)];
+                int[] frequencies = new int[docs.length];
+                int previousDoc = 0;
+                for (int i = 0; i < docs.length; i++) {
+                    previousDoc += (int) readVarLong(in);
+                    docs[i] = previousDoc;
+                    frequencies[i] = (int) readVarLong(in);
+                }
+                postings.put(term, new Postings(docs, frequencies));
+            }
+            return new AuditIndexSegment(ids, timestamps, userIds, actions, entities, postings);
+        }
+    }
+
+    /**
+     * Collects audit logs and builds a segment from them.
+     */
+    static final class Builder {
+        private final List<Document> documents = new ArrayList<>();
+
+        private record Document(AuditLogIndexRow row, Map<String, Integer> terms) {
+        }
+
+        /**
+         * Adds an audit log, tokenizing its description and value snapshots.
+         *
+         * @param row the audit log
+         * @return this builder
+         */
+        Builder add(AuditLogIndexRow row) {
+            documents.add(new Document(row, AuditTextTokenizer.termFrequencies(
+                    row.description(), row.previousValue(), row.newValue())));
+            return this;
+        }
+
+        boolean isEmpty() {
+            return documents.isEmpty();
+        }
+
+        int size() {
+            return documents.size();
+        }
+
+        AuditIndexSegment build() {
+            documents.sort(Comparator.comparingLong(document -> document.row().id()));
+            int count = documents.size();
+            long[] ids = new long[count];
+            long[] timestamps = new long[count];
+            long[] userIds = new long[count];
+            byte[] actions = new byte[count];
+            String[] entities = new String[count];
+            Map<String, String> entityNames = new HashMap<>();
+            Map<String, PostingsBuilder> postings = new HashMap<>();
+            for (int doc = 0; doc < count; doc++) {
+                AuditLogIndexRow row = documents.get(doc).row();
+                ids[doc] = row.id();
+                timestamps[doc] = toMicros(row.eventTimestamp());
+                userIds[doc] = row.userId() == null ? NO_USER : row.userId();
+                actions[doc] = (byte) row.action().ordinal();
+                String entity = row.targetEntity() == null ? "" : row.targetEntity();
+                entities[doc] = entityNames.computeIfAbsent(entity, value -> value);
+                for (Map.Entry<String, Integer> term : documents.get(doc).terms().entrySet()) {
+                    postings.computeIfAbsent(term.getKey(), k -> new PostingsBuilder()).add(doc, term.getValue());
+                }
+            }
+            return new AuditIndexSegment(ids, timestamps, userIds, actions, entities, buildPostings(postings));
+        }
+    }
+
+    /**
+     * Growable posting list. Entries are packed as {@code doc << 32 | frequency}, so sorting orders them by document.
+     */
+    private static final class PostingsBuilder {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private long[] entries = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = ((long) doc << FREQUENCY_BITS) | frequency;
+        }
+
+        Postings build() {
+            long[] sorted = Arrays.copyOf(entries, size);
+            Arrays.sort(sorted);
+            int[] docs = new int[size];
+            int[] frequencies = new int[size];
+            for (int i = 0; i < size; i++) {
+                docs[i] = (int) (sorted[i] >>> FREQUENCY_BITS);
+                frequencies[i] = (int) (sorted[i] & FREQUENCY_MASK);
+            }
+            return new Postings(docs, frequencies);
+        }
+    }
+
+    private static Map<String, Postings> buildPostings(Map<String, PostingsBuilder> builders) {
+        Map<String, Postings> result = new HashMap<>(builders.size() * 2);
+        builders.forEach((term, builder) -> result.put(term, builder.build()));
+        return result;
+    }
+
+    static long toMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + timestamp.getNano() / NANOS_PER_MICRO;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((int) (remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b = in.readUnsignedByte();
+        while ((b & VARINT_CONTINUATION) != 0) {
+            value |= (long) (b & VARINT_PAYLOAD_MASK) << shift;
+            shift += VARINT_PAYLOAD_BITS;
+            b = in.readUnsignedByte();
+        }
+        return value | ((long) b << shift);
+    }
+}
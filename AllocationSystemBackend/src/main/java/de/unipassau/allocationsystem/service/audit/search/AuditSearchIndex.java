@@ -0,0 +1,385 @@
+package de.unipassau.allocationsystem.service.audit.search;
+
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Embedded full-text index over audit log descriptions and value snapshots.
+ * <p>
+ * New audit logs are indexed incrementally: the audit writer marks the index dirty after every batch, and the
+ * next refresh reads the logs behind the last indexed ID into a new {@link AuditIndexSegment}, written to its own
+ * file in {@code audit.search.directory}. The last few IDs are read again on every refresh, so logs whose
+ * transaction committed after a later ID was indexed are usually picked up right away. A background merge combines
+ * the segments into one once there are too many, adds any log below the last indexed ID that is still missing from
+ * the index, and drops logs that retention has removed from the table. Until then,
+ * searches skip hits below the oldest ID left in the table, which retention updates when it deletes logs.
+ * </p>
+ * <p>
+ * Searches read an immutable list of segments that refreshes and merges replace atomically, so they never wait
+ * for indexing. The index is rebuilt from the table when its files are missing or unreadable.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditSearchIndex {
+
+    /**
+     * IDs below the last indexed one that are read again on every refresh.
+     */
+    private static final long RESCAN_WINDOW = 100;
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Value("${audit.search.directory:./data/audit-search}")
+    private String directory;
+
+    @Value("${audit.search.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${audit.search.segment-size:50000}")
+    private int segmentSize;
+
+    @Value("${audit.search.max-segments:8}")
+    private int maxSegments;
+
+    private final Object writeLock = new Object();
+    private volatile List<LoadedSegment> segments = List.of();
+    private volatile boolean dirty = true;
+    private volatile long minLiveId;
+    private boolean verified;
+    private long lastIndexedId;
+    private long nextGeneration;
+
+    /**
+     * A segment together with the file it was written to.
+     */
+    private record LoadedSegment(Path file, AuditIndexSegment segment) {
+    }
+
+    /**
+     * One search result.
+     *
+     * @param id the audit log ID
+     * @param score relevance, higher is better
+     */
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * Loads the segment files.
+     */
+    @PostConstruct
+    void load() {
+        synchronized (writeLock) {
+            Path root = Paths.get(directory);
+            List<Path> files = new ArrayList<>();
+            try {
+                Files.createDirectories(root);
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(root, "*" + AuditIndexSegment.EXTENSION)) {
+                    stream.forEach(files::add);
+                }
+                files.sort(Comparator.comparing(Path::toString));
+                List<LoadedSegment> loaded = new ArrayList<>(files.size());
+                for (Path file : files) {
+                    loaded.add(new LoadedSegment(file, AuditIndexSegment.read(file)));
+                }
+                install(loaded);
+            } catch (IOException e) {
+                log.warn("Audit search index in {} is unreadable, rebuilding it", root, e);
+                deleteFiles(files);
+                install(List.of());
+            }
+            nextGeneration = files.size();
+            for (Path file : files) {
+                nextGeneration = Math.max(nextGeneration, generationOf(file) + 1);
+            }
+            log.info("Loaded audit search index with {} segment(s) up to ID {}", segments.size(), lastIndexedId);
+        }
+    }
+
+    /**
+     * Notes that new audit logs were written, so the next scheduled refresh indexes them.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Indexes new audit logs on the configured interval if any were written.
+     */
+    @Scheduled(fixedDelayString = "${audit.search.refresh-ms:2000}")
+    public void refreshScheduled() {
+        if (dirty) {
+            refresh();
+        }
+    }
+
+    /**
+     * Merges the segments on the configured interval once there are more than {@code audit.search.max-segments}.
+     */
+    @Scheduled(fixedDelayString = "${audit.search.merge-interval-ms:60000}",
+            initialDelayString = "${audit.search.merge-interval-ms:60000}")
+    public void mergeScheduled() {
+        if (segments.size() > maxSegments) {
+            merge();
+        }
+    }
+
+    /**
+     * Indexes all audit logs written since the last refresh.
+     *
+     * @return number of newly indexed audit logs
+     */
+    public int refresh() {
+        synchronized (writeLock) {
+            dirty = false;
+            if (!verified) {
+                verifyAgainstTable();
+                updateMinLiveId();
+                verified = true;
+            }
+            AuditIndexSegment.Builder builder = new AuditIndexSegment.Builder();
+            int added = 0;
+            long afterId = Math.max(0, lastIndexedId - RESCAN_WINDOW);
+            List<AuditLogIndexRow> rows;
+            try {
+                do {
+                    rows = auditLogRepository.findIndexRows(afterId, Limit.of(batchSize));
+                    for (AuditLogIndexRow row : rows) {
+                        if (row.id() > lastIndexedId || !isIndexed(segments, row.id())) {
+                            builder.add(row);
+                            added++;
+                        }
+                        afterId = row.id();
+                    }
+                    if (builder.size() >= segmentSize) {
+                        addSegment(builder.build());
+                        builder = new AuditIndexSegment.Builder();
+                    }
+                } while (rows.size() == batchSize);
+                if (!builder.isEmpty()) {
+                    addSegment(builder.build());
+                }
+            } catch (IOException e) {
+                // Nothing after the last written segment counts as indexed, so the next refresh retries it
+                log.warn("Failed to write audit search segment, will retry", e);
+                dirty = true;
+            }
+            if (added > 0) {
+                log.debug("Indexed {} audit log(s) up to ID {}", added, lastIndexedId);
+            }
+            return added;
+        }
+    }
+
+    /**
+     * Notes that retention deleted audit logs from the table, so searches stop returning them before the next merge.
+     */
+    public void logsRemoved() {
+        synchronized (writeLock) {
+            updateMinLiveId();
+        }
+    }
+
+    /**
+     * Merges all segments into one, adds audit logs the refreshes missed and drops audit logs no longer in the table.
+     */
+    public void merge() {
+        synchronized (writeLock) {
+            List<LoadedSegment> current = segments;
+            if (current.isEmpty()) {
+                return;
+            }
+            long minId = updateMinLiveId();
+            List<AuditIndexSegment> parts = new ArrayList<>(current.stream().map(LoadedSegment::segment).toList());
+            AuditIndexSegment missed = missedLogs(current, minId);
+            if (missed != null) {
+                parts.add(missed);
+            }
+            AuditIndexSegment merged = AuditIndexSegment.merge(parts, minId);
+            try {
+                install(List.of(new LoadedSegment(writeSegment(merged), merged)));
+            } catch (IOException e) {
+                log.warn("Failed to write merged audit search segment, keeping {} segment(s)", current.size(), e);
+                return;
+            }
+            deleteFiles(current.stream().map(LoadedSegment::file).toList());
+            log.info("Merged {} audit search segment(s) into one with {} document(s)", current.size(), merged.docCount());
+        }
+    }
+
+    /**
+     * Searches the indexed audit logs. All query terms must occur in a log's description or value snapshots;
+     * results are ranked by TF-IDF relevance, ties newest first.
+     *
+     * @param query the search text
+     * @param filter the regular audit filters
+     * @return all matching audit logs, best first
+     * @throws IllegalArgumentException if the query contains no searchable term
+     */
+    public List<Hit> search(String query, AuditArchiveQuery filter) {
+        List<String> terms = AuditTextTokenizer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word of two or more characters");
+        }
+        List<LoadedSegment> current = segments;
+        long documents = 0;
+        long[] frequencies = new long[terms.size()];
+        for (LoadedSegment loaded : current) {
+            documents += loaded.segment().docCount();
+            for (int t = 0; t < terms.size(); t++) {
+                frequencies[t] += loaded.segment().documentFrequency(terms.get(t));
+            }
+        }
+        double[] weights = new double[terms.size()];
+        for (int t = 0; t < terms.size(); t++) {
+            weights[t] = Math.log(1 + (double) documents / Math.max(1, frequencies[t]));
+        }
+
+        long minId = minLiveId;
+        List<Hit> hits = new ArrayList<>();
+        for (LoadedSegment loaded : current) {
+            loaded.segment().match(terms, weights, filter, (id, score) -> {
+                if (id >= minId) {
+                    hits.add(new Hit(id, score));
+                }
+            });
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::id, Comparator.reverseOrder()));
+        return hits;
+    }
+
+    /**
+     * Drops the index if its newest entry does not match the table, e.g. after the database was recreated.
+     */
+    private void verifyAgainstTable() {
+        if (segments.isEmpty()) {
+            return;
+        }
+        Long indexed = null;
+        for (LoadedSegment loaded : segments) {
+            Long timestamp = loaded.segment().timestampOf(lastIndexedId);
+            if (timestamp != null) {
+                indexed = timestamp;
+            }
+        }
+        Long stored = auditLogRepository.findById(lastIndexedId)
+                .map(auditLog -> AuditIndexSegment.toMicros(auditLog.getEventTimestamp()))
+                .orElse(null);
+        if (stored == null || !stored.equals(indexed)) {
+            log.info("Audit search index does not match the audit log table, rebuilding it");
+            deleteFiles(segments.stream().map(LoadedSegment::file).toList());
+            segments = List.of();
+            lastIndexedId = 0;
+        }
+    }
+
+    /**
+     * Reads the oldest audit log ID left in the table; must be called under the write lock.
+     */
+    private long updateMinLiveId() {
+        // Logs added after the last refresh are above lastIndexedId, so an empty table means nothing is kept
+        minLiveId = auditLogRepository.findMinId().orElse(lastIndexedId + 1);
+        return minLiveId;
+    }
+
+    /**
+     * Compares the table IDs up to the last indexed ID with the index and reads the logs that are missing, e.g.
+     * because their transaction committed after the refreshes had moved past the rescan window.
+     *
+     * @return a segment of the missed logs, or null if none are missing
+     */
+    private AuditIndexSegment missedLogs(List<LoadedSegment> current, long minId) {
+        List<Long> missing = new ArrayList<>();
+        long afterId = minId - 1;
+        List<Long> ids;
+        do {
+            ids = auditLogRepository.findIdsBetween(afterId, lastIndexedId, Limit.of(batchSize));
+            for (Long id : ids) {
+                if (!isIndexed(current, id)) {
+                    missing.add(id);
+                }
+                afterId = id;
+            }
+        } while (ids.size() == batchSize);
+        if (missing.isEmpty()) {
+            return null;
+        }
+        AuditIndexSegment.Builder builder = new AuditIndexSegment.Builder();
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<Long> batch = missing.subList(from, Math.min(missing.size(), from + batchSize));
+            auditLogRepository.findIndexRowsByIdIn(batch).forEach(builder::add);
+        }
+        log.info("Indexed {} audit log(s) missed by earlier refreshes", missing.size());
+        return builder.isEmpty() ? null : builder.build();
+    }
+
+    private boolean isIndexed(List<LoadedSegment> current, long id) {
+        for (LoadedSegment loaded : current) {
+            if (loaded.segment().contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void install(List<LoadedSegment> next) {
+        long maxId = 0;
+        for (LoadedSegment loaded : next) {
+            maxId = Math.max(maxId, loaded.segment().maxId());
+        }
+        segments = List.copyOf(next);
+        lastIndexedId = Math.max(lastIndexedId, maxId);
+    }
+
+    private void addSegment(AuditIndexSegment segment) throws IOException {
+        List<LoadedSegment> next = new ArrayList<>(segments);
+        next.add(new LoadedSegment(writeSegment(segment), segment));
+        install(next);
+    }
+
+    private Path writeSegment(AuditIndexSegment segment) throws IOException {
+        Path file = Paths.get(directory).resolve(String.format("segment-%010d%s",
+                nextGeneration++, AuditIndexSegment.EXTENSION));
+        segment.write(file);
+        return file;
+    }
+
+    private void deleteFiles(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete audit search segment {}", file, e);
+            }
+        }
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        String digits = name.substring(name.indexOf('-') + 1, name.length() - AuditIndexSegment.EXTENSION.length());
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package de.unipassau.allocationsystem.service.audit.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits audit text into index terms: maximal runs of letters and digits, lower-cased.
+ * An email such as {@code anna.berger@uni-passau.de} becomes {@code anna}, {@code berger}, {@code uni},
+ * {@code passau} and {@code de}; JSON punctuation never forms a term. Terms shorter than two characters
+ * are dropped, longer ones are cut to {@value #MAX_TERM_LENGTH} characters.
+ */
+final class AuditTextTokenizer {
+
+    static final int MAX_TERM_LENGTH = 64;
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private AuditTextTokenizer() {
+    }
+
+    /**
+     * Counts the terms of several texts together.
+     *
+     * @param texts the texts, {@code null} entries are skipped
+     * @return number of occurrences per term
+     */
+    static Map<String, Integer> termFrequencies(String... texts) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String text : texts) {
+            if (text != null) {
+                forEachTerm(text, term -> frequencies.merge(term, 1, Integer::sum));
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Returns the distinct terms of a search query in order of appearance.
+     *
+     * @param query the query
+     * @return the terms
+     */
+    static List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(query, terms::add);
+        return new ArrayList<>(terms);
+    }
+
+    private static void forEachTerm(String text, Consumer<String> consumer) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean partOfTerm = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (partOfTerm && start < 0) {
+                start = i;
+            } else if (!partOfTerm && start >= 0) {
+                if (i - start >= MIN_TERM_LENGTH) {
+                    int end = Math.min(i, start + MAX_TERM_LENGTH);
+                    consumer.accept(text.substring(start, end).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+    }
+}
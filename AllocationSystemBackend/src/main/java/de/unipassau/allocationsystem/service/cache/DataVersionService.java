@@ -0,0 +1,181 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory content version counters used to build ETags without touching the database.
+ * Keeps one monotonically increasing counter per entity table, one per allocation plan and one per user.
+ * Counters are bumped by {@link EntityVersionListener} after a transaction commits.
+ *
+ * <p>Because every counter only ever grows, the sum of the counters an endpoint depends on changes
+ * whenever any of them changes, so it can be used directly as the version part of an ETag.
+ * The process start time is part of every ETag so that tags from a previous run never match.
+ * Bulk JPQL updates bypass Hibernate events and therefore do not bump counters; their callers
+ * record the change themselves, e.g. with {@link #bumpPlansAfterCommit(Collection)}.</p>
+ */
+@Service
+public class DataVersionService {
+
+    /**
+     * Tables whose content appears in an allocation report besides the plan's own assignments.
+     */
+    private static final List<Class<?>> REPORT_SOURCES = List.of(
+            Teacher.class, School.class, AcademicYear.class, InternshipType.class, Subject.class
+    );
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final Map<Class<?>, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> planVersions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the current version of an entity table.
+     *
+     * @param entityType mapped entity class
+     * @return version counter, 0 if the table has not changed since startup
+     */
+    public long getTableVersion(Class<?> entityType) {
+        AtomicLong counter = tableVersions.get(entityType);
+        return counter == null ? 0L : counter.get();
+    }
+
+    /**
+     * Returns the content version of an allocation plan (its own fields and its assignments).
+     *
+     * @param planId allocation plan ID
+     * @return version counter, 0 if the plan has not changed since startup
+     */
+    public long getPlanVersion(Long planId) {
+        AtomicLong counter = planVersions.get(planId);
+        return counter == null ? 0L : counter.get();
+    }
+
+    /**
+     * Returns the version of a single user row.
+     *
+     * @param userId user ID
+     * @return version counter, 0 if the user has not changed since startup
+     */
+    public long getUserVersion(Long userId) {
+        AtomicLong counter = userVersions.get(userId);
+        return counter == null ? 0L : counter.get();
+    }
+
+    /**
+     * Records a committed change to an entity table.
+     *
+     * @param entityType mapped entity class
+     */
+    public void bumpTable(Class<?> entityType) {
+        tableVersions.computeIfAbsent(entityType, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Records a committed change to the content of an allocation plan.
+     *
+     * @param planId allocation plan ID
+     */
+    public void bumpPlan(Long planId) {
+        if (planId == null) {
+            return;
+        }
+        planVersions.computeIfAbsent(planId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Records a bulk update of allocation plans, which bypasses {@link EntityVersionListener}.
+     * The plan table and every given plan are bumped once the current transaction has committed,
+     * or right away outside a transaction.
+     *
+     * @param planIds IDs of the plans the update may have changed
+     */
+    public void bumpPlansAfterCommit(Collection<Long> planIds) {
+        List<Long> ids = List.copyOf(planIds);
+        Runnable bump = () -> {
+            bumpTable(AllocationPlan.class);
+            ids.forEach(this::bumpPlan);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+
+    /**
+     * Records a committed change to a user.
+     *
+     * @param userId user ID
+     */
+    public void bumpUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        userVersions.computeIfAbsent(userId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Builds a strong ETag over the given tables.
+     *
+     * @param entityTypes tables the response is derived from
+     * @return quoted ETag value
+     */
+    public String tableETag(List<Class<?>> entityTypes) {
+        return formatETag(sumTableVersions(entityTypes));
+    }
+
+    /**
+     * Builds a strong ETag for the allocation report of a specific plan.
+     *
+     * @param planId allocation plan ID
+     * @return quoted ETag value
+     */
+    public String planReportETag(Long planId) {
+        return formatETag(getPlanVersion(planId) + sumTableVersions(REPORT_SOURCES));
+    }
+
+    /**
+     * Builds a strong ETag for the report of the most recent plan. Any change to plans or
+     * assignments may change which plan is the latest, so whole-table versions are used.
+     *
+     * @return quoted ETag value
+     */
+    public String latestReportETag() {
+        long version = getTableVersion(AllocationPlan.class)
+                + getTableVersion(TeacherAssignment.class)
+                + sumTableVersions(REPORT_SOURCES);
+        return formatETag(version);
+    }
+
+    private long sumTableVersions(List<Class<?>> entityTypes) {
+        long sum = 0L;
+        for (Class<?> type : entityTypes) {
+            sum += getTableVersion(type);
+        }
+        return sum;
+    }
+
+    private String formatETag(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,74 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate post-commit listener that bumps {@link DataVersionService} counters.
+ * Runs only after the surrounding transaction committed, so a version never advances
+ * for changes that were rolled back or are not yet visible to other transactions.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityVersionListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final DataVersionService dataVersionService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getPersister(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getPersister(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getPersister(), event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, versions stay unchanged
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, versions stay unchanged
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, versions stay unchanged
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return true;
+    }
+
+    private void onChange(EntityPersister persister, Object entity) {
+        dataVersionService.bumpTable(persister.getMappedClass());
+
+        if (entity instanceof TeacherAssignment assignment && assignment.getAllocationPlan() != null) {
+            dataVersionService.bumpPlan(assignment.getAllocationPlan().getId());
+        } else if (entity instanceof AllocationPlan plan) {
+            dataVersionService.bumpPlan(plan.getId());
+        } else if (entity instanceof User user) {
+            dataVersionService.bumpUser(user.getId());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.InternshipCombinationRule;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.ZoneConstraint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshots of small, rarely changing reference tables, shared by the {@code getAll} endpoints and allocation runs.
+ * <p>
+ * Every snapshot remembers the {@link DataVersionService} versions of the tables it was loaded from, including
+ * those of the associations fetched with it. A committed change to any of them, through the owning service or
+ * elsewhere, makes the next read load a new snapshot, which then replaces the old one as a whole. Snapshots are
+ * loaded in their own persistence context, so their entities are detached, with the listed associations loaded,
+ * and must only be read; assigning them to associations of new entities is fine.
+ * </p>
+ * <p>
+ * With {@code reference.cache.enabled=false} every read queries the current transaction instead.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private static final Map<Class<?>, Table> TABLES = Map.of(
+            AcademicYear.class, new Table("SELECT y FROM AcademicYear y ORDER BY y.id",
+                    List.of(AcademicYear.class)),
+            InternshipType.class, new Table("SELECT t FROM InternshipType t ORDER BY t.id",
+                    List.of(InternshipType.class)),
+            InternshipCombinationRule.class, new Table("SELECT r FROM InternshipCombinationRule r"
+                    + " JOIN FETCH r.internshipType1 JOIN FETCH r.internshipType2 ORDER BY r.id",
+                    List.of(InternshipCombinationRule.class, InternshipType.class)),
+            School.class, new Table("SELECT s FROM School s ORDER BY s.id",
+                    List.of(School.class)),
+            Subject.class, new Table("SELECT s FROM Subject s LEFT JOIN FETCH s.subjectCategory ORDER BY s.id",
+                    List.of(Subject.class, SubjectCategory.class)),
+            SubjectCategory.class, new Table("SELECT c FROM SubjectCategory c ORDER BY c.id",
+                    List.of(SubjectCategory.class)),
+            ZoneConstraint.class, new Table("SELECT z FROM ZoneConstraint z LEFT JOIN FETCH z.internshipType"
+                    + " ORDER BY z.id", List.of(ZoneConstraint.class, InternshipType.class))
+    );
+
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataVersionService dataVersionService;
+
+    @Value("${reference.cache.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Class<?>, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private record Table(String query, List<Class<?>> sources) {
+    }
+
+    private record Snapshot(long version, List<?> rows) {
+    }
+
+    /**
+     * Returns all rows of a reference table, ordered by ID.
+     *
+     * @param entityType the entity type of the table
+     * @param <T> entity type
+     * @return an unmodifiable list of the rows
+     * @throws IllegalArgumentException if the table is not a cached reference table
+     */
+    public <T> List<T> getAll(Class<T> entityType) {
+        Table table = TABLES.get(entityType);
+        if (table == null) {
+            throw new IllegalArgumentException(entityType.getSimpleName() + " is not a reference table");
+        }
+        if (!enabled) {
+            return List.copyOf(entityManager.createQuery(table.query(), entityType).getResultList());
+        }
+
+        // Read the version before loading, so a change committed during the load is noticed
+        long version = version(table);
+        Snapshot snapshot = snapshots.get(entityType);
+        if (snapshot != null && snapshot.version() == version) {
+            return cast(snapshot.rows());
+        }
+
+        List<T> rows;
+        EntityManager loader = entityManagerFactory.createEntityManager();
+        try {
+            rows = List.copyOf(loader.createQuery(table.query(), entityType).getResultList());
+        } finally {
+            loader.close();
+        }
+        if (version(table) == version) {
+            snapshots.put(entityType, new Snapshot(version, rows));
+        }
+        return rows;
+    }
+
+    /**
+     * Drops all snapshots.
+     */
+    public void evictAll() {
+        snapshots.clear();
+    }
+
+    private long version(Table table) {
+        long version = 0L;
+        for (Class<?> type : table.sources()) {
+            version += dataVersionService.getTableVersion(type);
+        }
+        return version;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<?> rows) {
+        return (List<T>) rows;
+    }
+}
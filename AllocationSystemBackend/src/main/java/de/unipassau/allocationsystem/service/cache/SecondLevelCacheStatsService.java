@@ -0,0 +1,66 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.dto.cache.CacheRegionStatsDto;
+import de.unipassau.allocationsystem.dto.cache.SecondLevelCacheStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the Hibernate second-level and query cache statistics. Counters stay at zero unless
+ * {@code hibernate.generate_statistics} is enabled.
+ */
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheStatsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Returns the overall and per-region cache statistics since startup.
+     *
+     * @return the cache statistics
+     */
+    public SecondLevelCacheStatsDto getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheRegionStatsDto> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> toDto(name, statistics.getCacheRegionStatistics(name)))
+                .filter(Objects::nonNull)
+                .toList();
+
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        return SecondLevelCacheStatsDto.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(statistics.getSecondLevelCachePutCount())
+                .hitRatio(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .queryCacheHitCount(statistics.getQueryCacheHitCount())
+                .queryCacheMissCount(statistics.getQueryCacheMissCount())
+                .queryCachePutCount(statistics.getQueryCachePutCount())
+                .regions(regions)
+                .build();
+    }
+
+    private static CacheRegionStatsDto toDto(String name, CacheRegionStatistics region) {
+        if (region == null) {
+            return null;
+        }
+        return CacheRegionStatsDto.builder()
+                .regionName(name)
+                .hitCount(region.getHitCount())
+                .missCount(region.getMissCount())
+                .putCount(region.getPutCount())
+                .elementCountInMemory(region.getElementCountInMemory())
+                .build();
+    }
+}
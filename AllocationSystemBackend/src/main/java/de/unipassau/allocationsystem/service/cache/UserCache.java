@@ -0,0 +1,114 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.Permission;
+import de.unipassau.allocationsystem.entity.Role;
+import de.unipassau.allocationsystem.entity.RolePermission;
+import de.unipassau.allocationsystem.entity.User;
+import de.unipassau.allocationsystem.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of users by email, used as the principal of authenticated requests and for resolving the
+ * current user of audit logs without a query per call.
+ * <p>
+ * Every entry remembers the {@link DataVersionService} version of its user and of the role tables it was loaded
+ * at. A committed change to the user, whether through {@code UserService}, a password change or reset, a lockout
+ * in {@code AuthService} or elsewhere, bumps the user's version and invalidates only that user's entry; a change
+ * to roles or their permissions invalidates all entries. Entries also expire after a short TTL. Cached users are
+ * detached, with their role entity loaded, and must only be read.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCache {
+
+    /**
+     * Tables a user's role and authorities are derived from besides the user row.
+     */
+    private static final List<Class<?>> ROLE_SOURCES = List.of(Role.class, RolePermission.class, Permission.class);
+
+    private final UserRepository userRepository;
+    private final DataVersionService dataVersionService;
+
+    @Value("${user.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${user.cache.max-size:1000}")
+    private int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private record Entry(User user, long userVersion, long roleVersion, long expiresAt) {
+    }
+
+    /**
+     * Returns the user with the given email, from the cache if it is still current.
+     *
+     * @param email the user's email
+     * @return the user, or empty if no user has this email
+     */
+    public Optional<User> findByEmail(String email) {
+        // Read the versions before loading, so a change committed during the load is noticed
+        long tableVersion = dataVersionService.getTableVersion(User.class);
+        long roleVersion = roleVersion();
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && isCurrent(entry, roleVersion, now)) {
+            return Optional.of(entry.user());
+        }
+
+        Optional<User> user = userRepository.findWithRoleByEmail(email);
+        if (user.isEmpty()) {
+            entries.remove(email);
+            return user;
+        }
+        long userVersion = dataVersionService.getUserVersion(user.get().getId());
+        if (dataVersionService.getTableVersion(User.class) == tableVersion) {
+            put(email, new Entry(user.get(), userVersion, roleVersion, now + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        } else {
+            // A user changed while loading; the loaded state may predate the version read above
+            entries.remove(email);
+        }
+        return user;
+    }
+
+    /**
+     * Drops all cached users.
+     */
+    public void evictAll() {
+        entries.clear();
+    }
+
+    private boolean isCurrent(Entry entry, long roleVersion, long now) {
+        return now - entry.expiresAt() < 0
+                && entry.roleVersion() == roleVersion
+                && entry.userVersion() == dataVersionService.getUserVersion(entry.user().getId());
+    }
+
+    private long roleVersion() {
+        long version = 0L;
+        for (Class<?> type : ROLE_SOURCES) {
+            version += dataVersionService.getTableVersion(type);
+        }
+        return version;
+    }
+
+    private void put(String email, Entry entry) {
+        if (entries.size() >= maxSize) {
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> e.roleVersion() != entry.roleVersion() || now - e.expiresAt() >= 0);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(email, entry);
+    }
+}
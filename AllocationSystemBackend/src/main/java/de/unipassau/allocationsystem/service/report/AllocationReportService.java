@@ -7,6 +7,7 @@ import de.unipassau.allocationsystem.dto.report.allocation.TeacherAssignmentDeta
 import de.unipassau.allocationsystem.dto.report.allocation.TeacherUtilizationDto;
 import de.unipassau.allocationsystem.dto.report.allocation.UtilizationAnalysisDto;
 import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary;
 import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.TeacherAssignment;
@@ -14,6 +15,7 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
 import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.service.summary.PlanSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,6 +40,7 @@ public class AllocationReportService {
     private final AllocationPlanRepository planRepository;
     private final TeacherAssignmentRepository assignmentRepository;
     private final TeacherRepository teacherRepository;
+    private final PlanSummaryService planSummaryService;
 
     /**
      * Generates an allocation report for the most recently created allocation plan.
@@ -77,9 +81,19 @@ public class AllocationReportService {
      */
     @Transactional(readOnly = true)
     public AllocationReportDto generateReport(Long planId) {
-        AllocationPlan plan = planRepository.findByIdWithAcademicYear(planId)
+        return generateReportForPlan(requirePlan(planId));
+    }
+
+    /**
+     * Loads a plan together with its academic year for report generation.
+     *
+     * @param planId the allocation plan ID
+     * @return the plan with its academic year initialized
+     * @throws ResourceNotFoundException if the plan does not exist
+     */
+    AllocationPlan requirePlan(Long planId) {
+        return planRepository.findByIdWithAcademicYear(planId)
                 .orElseThrow(() -> new ResourceNotFoundException("Plan not found: " + planId));
-        return generateReportForPlan(plan);
     }
 
     private AllocationReportDto generateReportForPlan(AllocationPlan plan) {
@@ -96,25 +110,27 @@ public class AllocationReportService {
                 .map(this::mapToDetailDto)
                 .collect(Collectors.toList());
 
-        BudgetSummaryDto budgetSummary = calculateBudget(plan, assignments);
-        UtilizationAnalysisDto utilizationAnalysis = analyzeUtilization(allTeachers, assignments);
-
-        String academicYearName = getAcademicYearName(plan);
+        BudgetSummaryDto budgetSummary = calculateBudget(plan);
+        UtilizationAnalysisDto utilizationAnalysis = analyzeUtilization(allTeachers, teacherAssignmentCounts(plan.getId()));
 
         return AllocationReportDto.builder()
-                .header(ReportHeaderDto.builder()
-                        .planName(plan.getPlanName())
-                        .planVersion(plan.getPlanVersion())
-                        .academicYear(academicYearName)
-                        .status(plan.getStatus().name())
-                        .generatedAt(LocalDateTime.now())
-                        .build())
+                .header(buildHeader(plan))
                 .assignments(detailDtos)
                 .budgetSummary(budgetSummary)
                 .utilizationAnalysis(utilizationAnalysis)
                 .build();
     }
 
+    ReportHeaderDto buildHeader(AllocationPlan plan) {
+        return ReportHeaderDto.builder()
+                .planName(plan.getPlanName())
+                .planVersion(plan.getPlanVersion())
+                .academicYear(getAcademicYearName(plan))
+                .status(plan.getStatus().name())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
     private String getAcademicYearName(AllocationPlan plan) {
         String academicYearName = "Unknown";
         if (plan.getAcademicYear() != null && plan.getAcademicYear().getYearName() != null) {
@@ -123,7 +139,7 @@ public class AllocationReportService {
         return academicYearName;
     }
 
-    private TeacherAssignmentDetailDto mapToDetailDto(TeacherAssignment ta) {
+    TeacherAssignmentDetailDto mapToDetailDto(TeacherAssignment ta) {
         Teacher teacher = getTeacherOrNull(ta);
 
         return TeacherAssignmentDetailDto.builder()
@@ -139,9 +155,7 @@ public class AllocationReportService {
                 .build();
     }
 
-    private UtilizationAnalysisDto analyzeUtilization(List<Teacher> allTeachers, List<TeacherAssignment> assignments) {
-        Map<Long, Long> assignmentCounts = buildAssignmentCounts(assignments);
-
+    UtilizationAnalysisDto analyzeUtilization(List<Teacher> allTeachers, Map<Long, Long> assignmentCounts) {
         List<TeacherUtilizationDto> unassigned = new ArrayList<>();
         List<TeacherUtilizationDto> underUtilized = new ArrayList<>();
         List<TeacherUtilizationDto> overUtilized = new ArrayList<>();
@@ -251,10 +265,11 @@ public class AllocationReportService {
         return sb.toString();
     }
 
-    private Map<Long, Long> buildAssignmentCounts(List<TeacherAssignment> assignments) {
-        return assignments.stream()
-                .filter(a -> a.getTeacher() != null && a.getTeacher().getId() != null)
-                .collect(Collectors.groupingBy(a -> a.getTeacher().getId(), Collectors.counting()));
+    private Map<Long, Long> teacherAssignmentCounts(Long planId) {
+        Map<Long, Long> counts = new HashMap<>();
+        planSummaryService.getCounts(planId, PlanAssignmentSummary.Dimension.TEACHER)
+                .forEach((teacherId, count) -> counts.put(Long.valueOf(teacherId), count));
+        return counts;
     }
 
     private TeacherUtilizationDto buildUtilizationDto(Teacher teacher, long count) {
@@ -294,20 +309,17 @@ public class AllocationReportService {
         overUtilized.add(dto);
     }
 
-    private BudgetSummaryDto calculateBudget(AllocationPlan plan, List<TeacherAssignment> assignments) {
-        double hoursUsed = assignments.size() * 0.5;
-
-        long elementaryAssignments = assignments.stream()
-                .filter(a -> a.getTeacher() != null
-                        && a.getTeacher().getSchool() != null
-                        && a.getTeacher().getSchool().getSchoolType() == School.SchoolType.PRIMARY)
-                .count();
+    private BudgetSummaryDto calculateBudget(AllocationPlan plan) {
+        Map<String, Long> bySchoolType = planSummaryService.getCounts(plan.getId(), PlanAssignmentSummary.Dimension.SCHOOL_TYPE);
+        return calculateBudget(plan,
+                planSummaryService.getTotal(plan.getId()),
+                bySchoolType.getOrDefault(School.SchoolType.PRIMARY.name(), 0L),
+                bySchoolType.getOrDefault(School.SchoolType.MIDDLE.name(), 0L));
+    }
 
-        long middleAssignments = assignments.stream()
-                .filter(a -> a.getTeacher() != null
-                        && a.getTeacher().getSchool() != null
-                        && a.getTeacher().getSchool().getSchoolType() == School.SchoolType.MIDDLE)
-                .count();
+    BudgetSummaryDto calculateBudget(AllocationPlan plan, long totalAssignments,
+                                     long elementaryAssignments, long middleAssignments) {
+        double hoursUsed = totalAssignments * 0.5;
 
         double totalBudgetHours = 0.0;
         if (plan.getAcademicYear() != null && plan.getAcademicYear().getTotalCreditHours() != null) {
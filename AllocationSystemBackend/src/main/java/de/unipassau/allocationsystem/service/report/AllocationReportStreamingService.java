@@ -0,0 +1,160 @@
+package de.unipassau.allocationsystem.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.mapper.TeacherAssignmentMapper;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.utils.JsonStreamWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Service for writing allocation reports and plan assignment listings as streamed JSON.
+ * Assignments are read through a database cursor and written one by one, so time to first byte
+ * and peak memory do not depend on the size of the plan. Only per-teacher counters are kept
+ * in memory to compute the budget and utilization sections after the assignment list.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AllocationReportStreamingService {
+
+    /**
+     * Number of rows after which the persistence context is cleared to keep it bounded.
+     */
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final AllocationReportService reportService;
+    private final AllocationPlanRepository planRepository;
+    private final TeacherAssignmentRepository assignmentRepository;
+    private final TeacherRepository teacherRepository;
+    private final TeacherAssignmentMapper assignmentMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Verifies that a plan exists. Called before the response is committed so that a missing plan
+     * still results in a regular 404 response instead of a truncated stream.
+     *
+     * @param planId the allocation plan ID
+     * @throws ResourceNotFoundException if the plan does not exist
+     */
+    @Transactional(readOnly = true)
+    public void assertPlanExists(Long planId) {
+        if (!planRepository.existsById(planId)) {
+            throw new ResourceNotFoundException("Plan not found: " + planId);
+        }
+    }
+
+    /**
+     * Writes the allocation report for a plan. As JSON the document has the same shape as the
+     * non-streaming report endpoint; as NDJSON each line is a {@code {type, data}} record with types
+     * {@code header}, {@code assignment}, {@code budgetSummary} and {@code utilizationAnalysis}.
+     *
+     * @param planId the allocation plan ID
+     * @param out target stream
+     * @param ndjson true for newline-delimited JSON output
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void writeReport(Long planId, OutputStream out, boolean ndjson) throws IOException {
+        AllocationPlan plan = reportService.requirePlan(planId);
+        log.info("Streaming report for plan ID: {} (ndjson: {})", planId, ndjson);
+
+        Map<Long, Long> assignmentCounts = new HashMap<>();
+        long total = 0;
+        long elementary = 0;
+        long middle = 0;
+
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, ndjson);
+             Stream<TeacherAssignment> rows = assignmentRepository.streamAllByPlanIdWithDetails(planId)) {
+            writer.beginEnvelope("Report generated successfully", false);
+            writer.writeSection("header", reportService.buildHeader(plan));
+            writer.flush();
+
+            writer.beginArraySection("assignments");
+            Iterator<TeacherAssignment> it = rows.iterator();
+            while (it.hasNext()) {
+                TeacherAssignment ta = it.next();
+                writer.writeItem("assignment", reportService.mapToDetailDto(ta));
+
+                Teacher teacher = ta.getTeacher();
+                if (teacher != null && teacher.getId() != null) {
+                    assignmentCounts.merge(teacher.getId(), 1L, Long::sum);
+                }
+                School.SchoolType schoolType = schoolTypeOf(teacher);
+                if (schoolType == School.SchoolType.PRIMARY) {
+                    elementary++;
+                } else if (schoolType == School.SchoolType.MIDDLE) {
+                    middle++;
+                }
+                total++;
+                clearPeriodically(total);
+            }
+            writer.endArraySection();
+
+            writer.writeSection("budgetSummary", reportService.calculateBudget(plan, total, elementary, middle));
+
+            List<Teacher> activeTeachers = teacherRepository.findAllByEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+            writer.writeSection("utilizationAnalysis", reportService.analyzeUtilization(activeTeachers, assignmentCounts));
+            writer.endEnvelope(false);
+        }
+        log.info("Streamed {} assignments for plan ID: {}", total, planId);
+    }
+
+    /**
+     * Writes all assignments of a plan as response DTOs, either as an enveloped JSON array
+     * or as one DTO per line.
+     *
+     * @param planId the allocation plan ID
+     * @param out target stream
+     * @param ndjson true for newline-delimited JSON output
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void writePlanAssignments(Long planId, OutputStream out, boolean ndjson) throws IOException {
+        long count = 0;
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, ndjson);
+             Stream<TeacherAssignment> rows = assignmentRepository.streamByPlanIdForResponse(planId)) {
+            writer.beginEnvelope("Teacher assignments retrieved successfully", true);
+            Iterator<TeacherAssignment> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.writeItem(null, assignmentMapper.toResponseDto(it.next()));
+                count++;
+                clearPeriodically(count);
+            }
+            writer.endEnvelope(true);
+        }
+        log.debug("Streamed {} assignments for plan ID: {}", count, planId);
+    }
+
+    private void clearPeriodically(long rowCount) {
+        if (rowCount % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private School.SchoolType schoolTypeOf(Teacher teacher) {
+        if (teacher == null || teacher.getSchool() == null) {
+            return null;
+        }
+        return teacher.getSchool().getSchoolType();
+    }
+}
@@ -0,0 +1,180 @@
+package de.unipassau.allocationsystem.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffDeltaDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffEntryDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffSummaryDto;
+import de.unipassau.allocationsystem.utils.CsvStreamWriter;
+import de.unipassau.allocationsystem.utils.JsonStreamWriter;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Service writing plan diffs as streamed JSON/NDJSON, CSV or Excel.
+ * Entries are written while {@link PlanDiffService} produces them, so none of the formats buffers the full diff.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlanDiffExportService {
+
+    /**
+     * Number of Excel rows kept in memory before they are flushed to a temporary file.
+     */
+    private static final int EXCEL_ROW_WINDOW = 200;
+
+    private static final String[] ENTRY_HEADERS = {
+            "Change", "Teacher ID", "Teacher Name", "Internship Type ID", "Internship Type",
+            "Subject ID", "Subject Code", "Base Group Size", "Target Group Size",
+            "Base Status", "Target Status", "Base Manual Override", "Target Manual Override", "Changed Fields"
+    };
+
+    private static final String[] DELTA_HEADERS = {
+            "ID", "Name", "Added", "Removed", "Changed", "Assignment Delta", "Student Delta"
+    };
+
+    private final PlanDiffService diffService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the diff as JSON ({@code data.entries} followed by {@code data.summary}) or as NDJSON
+     * ({@code entry} lines followed by one {@code summary} line).
+     *
+     * @param basePlanId base plan ID
+     * @param targetPlanId target plan ID
+     * @param out target stream
+     * @param ndjson true for newline-delimited JSON output
+     * @throws IOException if writing fails
+     */
+    public void writeJson(Long basePlanId, Long targetPlanId, OutputStream out, boolean ndjson) throws IOException {
+        try (JsonStreamWriter writer = JsonStreamWriter.open(objectMapper, out, ndjson)) {
+            writer.beginEnvelope("Plan diff generated successfully", false);
+            writer.beginArraySection("entries");
+            PlanDiffSummaryDto summary = diffService.diff(basePlanId, targetPlanId, entry -> writer.writeItem("entry", entry));
+            writer.endArraySection();
+            writer.writeSection("summary", summary);
+            writer.endEnvelope(false);
+        }
+    }
+
+    /**
+     * Writes the diff entries as UTF-8 CSV with a header row.
+     *
+     * @param basePlanId base plan ID
+     * @param targetPlanId target plan ID
+     * @param out target stream
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Long basePlanId, Long targetPlanId, OutputStream out) throws IOException {
+        try (CsvStreamWriter csv = CsvStreamWriter.open(out)) {
+            writeCsvRow(csv, ENTRY_HEADERS);
+            diffService.diff(basePlanId, targetPlanId, entry -> writeCsvRow(csv, toCells(entry)));
+        }
+    }
+
+    /**
+     * Writes the diff as an Excel workbook with sheets for the entries, the totals and the per-teacher
+     * and per-subject deltas. Uses a streaming workbook that keeps only a small window of rows in memory.
+     *
+     * @param basePlanId base plan ID
+     * @param targetPlanId target plan ID
+     * @param out target stream
+     * @throws IOException if writing fails
+     */
+    public void writeExcel(Long basePlanId, Long targetPlanId, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        try {
+            Sheet changes = workbook.createSheet("Changes");
+            createHeaderRow(changes, ENTRY_HEADERS);
+            int[] rowIdx = {1};
+            PlanDiffSummaryDto summary = diffService.diff(basePlanId, targetPlanId,
+                    entry -> writeRow(changes.createRow(rowIdx[0]++), toCells(entry)));
+
+            writeSummarySheet(workbook, summary);
+            writeDeltaSheet(workbook, "Teacher Deltas", summary.getTeacherDeltas());
+            writeDeltaSheet(workbook, "Subject Deltas", summary.getSubjectDeltas());
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void writeSummarySheet(SXSSFWorkbook workbook, PlanDiffSummaryDto summary) {
+        Sheet sheet = workbook.createSheet("Summary");
+        createHeaderRow(sheet, new String[]{"Metric", "Value"});
+        int rowIdx = 1;
+        rowIdx = writeMetric(sheet, rowIdx, "Base Plan ID", summary.getBasePlanId());
+        rowIdx = writeMetric(sheet, rowIdx, "Target Plan ID", summary.getTargetPlanId());
+        rowIdx = writeMetric(sheet, rowIdx, "Added", summary.getAdded());
+        rowIdx = writeMetric(sheet, rowIdx, "Removed", summary.getRemoved());
+        rowIdx = writeMetric(sheet, rowIdx, "Changed", summary.getChanged());
+        writeMetric(sheet, rowIdx, "Unchanged", summary.getUnchanged());
+    }
+
+    private int writeMetric(Sheet sheet, int rowIdx, String metric, long value) {
+        writeRow(sheet.createRow(rowIdx), new Object[]{metric, value});
+        return rowIdx + 1;
+    }
+
+    private void writeDeltaSheet(SXSSFWorkbook workbook, String sheetName, List<PlanDiffDeltaDto> deltas) {
+        Sheet sheet = workbook.createSheet(sheetName);
+        createHeaderRow(sheet, DELTA_HEADERS);
+
+        int rowIdx = 1;
+        for (PlanDiffDeltaDto delta : deltas) {
+            writeRow(sheet.createRow(rowIdx++), new Object[]{
+                    delta.getId(), delta.getLabel(), delta.getAdded(), delta.getRemoved(), delta.getChanged(),
+                    delta.getAssignmentDelta(), delta.getStudentDelta()
+            });
+        }
+    }
+
+    private Object[] toCells(PlanDiffEntryDto entry) {
+        return new Object[]{
+                entry.getChangeType().name(),
+                entry.getTeacherId(),
+                entry.getTeacherName(),
+                entry.getInternshipTypeId(),
+                entry.getInternshipCode(),
+                entry.getSubjectId(),
+                entry.getSubjectCode(),
+                entry.getBaseStudentGroupSize(),
+                entry.getTargetStudentGroupSize(),
+                entry.getBaseStatus(),
+                entry.getTargetStatus(),
+                entry.getBaseManualOverride(),
+                entry.getTargetManualOverride(),
+                String.join(";", entry.getChangedFields())
+        };
+    }
+
+    private void createHeaderRow(Sheet sheet, String[] headers) {
+        writeRow(sheet.createRow(0), headers);
+    }
+
+    private void writeRow(Row row, Object[] cells) {
+        for (int i = 0; i < cells.length; i++) {
+            Object value = cells[i];
+            if (value instanceof Number number) {
+                row.createCell(i).setCellValue(number.doubleValue());
+            } else if (value != null) {
+                row.createCell(i).setCellValue(String.valueOf(value));
+            }
+        }
+    }
+
+    private void writeCsvRow(CsvStreamWriter csv, Object[] cells) throws IOException {
+        for (Object cell : cells) {
+            csv.field(cell == null ? null : String.valueOf(cell));
+        }
+        csv.endRow();
+    }
+}
@@ -0,0 +1,267 @@
+package de.unipassau.allocationsystem.service.report;
+
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffDeltaDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffEntryDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffRow;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffSummaryDto;
+import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Service computing the differences between two allocation plans.
+ * Assignments are matched by (teacher, internship type, subject). Both plans are streamed from the
+ * database in key order and merge-joined, so the diff runs in linear time and keeps no assignment in memory;
+ * only per-teacher and per-subject counters for keys that actually differ are accumulated.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanDiffService {
+
+    /**
+     * Receives diff entries in key order as they are produced.
+     */
+    @FunctionalInterface
+    public interface EntrySink {
+        /**
+         * Consumes one diff entry.
+         *
+         * @param entry the entry
+         * @throws IOException if the entry cannot be written
+         */
+        void accept(PlanDiffEntryDto entry) throws IOException;
+    }
+
+    private final AllocationPlanRepository planRepository;
+    private final TeacherAssignmentRepository assignmentRepository;
+
+    /**
+     * Verifies that both plans exist. Called before a streamed response is committed.
+     *
+     * @param basePlanId base plan ID
+     * @param targetPlanId target plan ID
+     * @throws ResourceNotFoundException if either plan does not exist
+     */
+    @Transactional(readOnly = true)
+    public void assertPlansExist(Long basePlanId, Long targetPlanId) {
+        for (Long planId : List.of(basePlanId, targetPlanId)) {
+            if (!planRepository.existsById(planId)) {
+                throw new ResourceNotFoundException("Plan not found: " + planId);
+            }
+        }
+    }
+
+    /**
+     * Computes the diff from a base plan to a target plan.
+     * Entries are passed to {@code sink} in (teacher, internship type, subject) order; unchanged assignments are only counted.
+     *
+     * @param basePlanId base plan ID
+     * @param targetPlanId target plan ID
+     * @param sink receiver of the diff entries
+     * @return summary with totals and per-teacher and per-subject deltas
+     * @throws IOException if the sink fails
+     */
+    @Transactional(readOnly = true)
+    public PlanDiffSummaryDto diff(Long basePlanId, Long targetPlanId, EntrySink sink) throws IOException {
+        DiffAccumulator acc = new DiffAccumulator();
+
+        try (Stream<PlanDiffRow> baseRows = assignmentRepository.streamDiffRowsByPlanId(basePlanId);
+             Stream<PlanDiffRow> targetRows = assignmentRepository.streamDiffRowsByPlanId(targetPlanId)) {
+            Iterator<PlanDiffRow> baseIt = baseRows.iterator();
+            Iterator<PlanDiffRow> targetIt = targetRows.iterator();
+            PlanDiffRow base = next(baseIt);
+            PlanDiffRow target = next(targetIt);
+
+            while (base != null || target != null) {
+                int cmp = compare(base, target);
+                if (cmp < 0) {
+                    emit(sink, acc, removed(base));
+                    base = next(baseIt);
+                } else if (cmp > 0) {
+                    emit(sink, acc, added(target));
+                    target = next(targetIt);
+                } else {
+                    List<String> changedFields = changedFields(base, target);
+                    if (changedFields.isEmpty()) {
+                        acc.unchanged++;
+                    } else {
+                        emit(sink, acc, changed(base, target, changedFields));
+                    }
+                    base = next(baseIt);
+                    target = next(targetIt);
+                }
+            }
+        }
+
+        log.info("Diffed plan {} against plan {}: {} added, {} removed, {} changed, {} unchanged",
+                basePlanId, targetPlanId, acc.added, acc.removed, acc.changed, acc.unchanged);
+        return acc.toSummary(basePlanId, targetPlanId);
+    }
+
+    private static PlanDiffRow next(Iterator<PlanDiffRow> it) {
+        if (it.hasNext()) {
+            return it.next();
+        }
+        return null;
+    }
+
+    /**
+     * Compares the current heads of both sides; an exhausted side sorts after everything.
+     */
+    private static int compare(PlanDiffRow base, PlanDiffRow target) {
+        if (base == null) {
+            return 1;
+        }
+        if (target == null) {
+            return -1;
+        }
+        return base.compareKey(target);
+    }
+
+    private static void emit(EntrySink sink, DiffAccumulator acc, PlanDiffEntryDto entry) throws IOException {
+        acc.record(entry);
+        sink.accept(entry);
+    }
+
+    private static List<String> changedFields(PlanDiffRow base, PlanDiffRow target) {
+        List<String> fields = new ArrayList<>(3);
+        if (!Objects.equals(base.studentGroupSize(), target.studentGroupSize())) {
+            fields.add("studentGroupSize");
+        }
+        if (base.assignmentStatus() != target.assignmentStatus()) {
+            fields.add("assignmentStatus");
+        }
+        if (!Objects.equals(base.manualOverride(), target.manualOverride())) {
+            fields.add("manualOverride");
+        }
+        return fields;
+    }
+
+    private static PlanDiffEntryDto added(PlanDiffRow target) {
+        return keyOf(PlanDiffEntryDto.ChangeType.ADDED, target)
+                .targetStudentGroupSize(target.studentGroupSize())
+                .targetStatus(statusName(target))
+                .targetManualOverride(target.manualOverride())
+                .changedFields(List.of())
+                .build();
+    }
+
+    private static PlanDiffEntryDto removed(PlanDiffRow base) {
+        return keyOf(PlanDiffEntryDto.ChangeType.REMOVED, base)
+                .baseStudentGroupSize(base.studentGroupSize())
+                .baseStatus(statusName(base))
+                .baseManualOverride(base.manualOverride())
+                .changedFields(List.of())
+                .build();
+    }
+
+    private static PlanDiffEntryDto changed(PlanDiffRow base, PlanDiffRow target, List<String> changedFields) {
+        return keyOf(PlanDiffEntryDto.ChangeType.CHANGED, target)
+                .baseStudentGroupSize(base.studentGroupSize())
+                .targetStudentGroupSize(target.studentGroupSize())
+                .baseStatus(statusName(base))
+                .targetStatus(statusName(target))
+                .baseManualOverride(base.manualOverride())
+                .targetManualOverride(target.manualOverride())
+                .changedFields(changedFields)
+                .build();
+    }
+
+    private static PlanDiffEntryDto.PlanDiffEntryDtoBuilder keyOf(PlanDiffEntryDto.ChangeType type, PlanDiffRow row) {
+        return PlanDiffEntryDto.builder()
+                .changeType(type)
+                .teacherId(row.teacherId())
+                .teacherName(row.teacherName())
+                .internshipTypeId(row.internshipTypeId())
+                .internshipCode(row.internshipCode())
+                .subjectId(row.subjectId())
+                .subjectCode(row.subjectCode());
+    }
+
+    private static String statusName(PlanDiffRow row) {
+        if (row.assignmentStatus() == null) {
+            return null;
+        }
+        return row.assignmentStatus().name();
+    }
+
+    private static int sizeOf(Integer groupSize) {
+        if (groupSize == null) {
+            return 0;
+        }
+        return groupSize;
+    }
+
+    /**
+     * Running totals of a diff. Deltas are kept per teacher and per subject that has at least one difference.
+     */
+    private static final class DiffAccumulator {
+        private long added;
+        private long removed;
+        private long changed;
+        private long unchanged;
+        private final Map<Long, PlanDiffDeltaDto> teacherDeltas = new TreeMap<>();
+        private final Map<Long, PlanDiffDeltaDto> subjectDeltas = new TreeMap<>();
+
+        void record(PlanDiffEntryDto entry) {
+            PlanDiffDeltaDto teacher = teacherDeltas.computeIfAbsent(entry.getTeacherId(),
+                    id -> PlanDiffDeltaDto.builder().id(id).label(entry.getTeacherName()).build());
+            PlanDiffDeltaDto subject = subjectDeltas.computeIfAbsent(entry.getSubjectId(),
+                    id -> PlanDiffDeltaDto.builder().id(id).label(entry.getSubjectCode()).build());
+
+            int studentDelta = sizeOf(entry.getTargetStudentGroupSize()) - sizeOf(entry.getBaseStudentGroupSize());
+            switch (entry.getChangeType()) {
+                case ADDED -> {
+                    added++;
+                    apply(teacher, 1, 0, 0, studentDelta);
+                    apply(subject, 1, 0, 0, studentDelta);
+                }
+                case REMOVED -> {
+                    removed++;
+                    apply(teacher, 0, 1, 0, studentDelta);
+                    apply(subject, 0, 1, 0, studentDelta);
+                }
+                default -> {
+                    changed++;
+                    apply(teacher, 0, 0, 1, studentDelta);
+                    apply(subject, 0, 0, 1, studentDelta);
+                }
+            }
+        }
+
+        private static void apply(PlanDiffDeltaDto delta, int addedCount, int removedCount, int changedCount, int studentDelta) {
+            delta.setAdded(delta.getAdded() + addedCount);
+            delta.setRemoved(delta.getRemoved() + removedCount);
+            delta.setChanged(delta.getChanged() + changedCount);
+            delta.setAssignmentDelta(delta.getAdded() - delta.getRemoved());
+            delta.setStudentDelta(delta.getStudentDelta() + studentDelta);
+        }
+
+        PlanDiffSummaryDto toSummary(Long basePlanId, Long targetPlanId) {
+            return PlanDiffSummaryDto.builder()
+                    .basePlanId(basePlanId)
+                    .targetPlanId(targetPlanId)
+                    .added(added)
+                    .removed(removed)
+                    .changed(changed)
+                    .unchanged(unchanged)
+                    .teacherDeltas(new ArrayList<>(teacherDeltas.values()))
+                    .subjectDeltas(new ArrayList<>(subjectDeltas.values()))
+                    .build();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import de.unipassau.allocationsystem.entity.AcademicYear;
 import de.unipassau.allocationsystem.entity.AllocationPlan;
 import de.unipassau.allocationsystem.entity.CreditHourTracking;
 import de.unipassau.allocationsystem.entity.InternshipDemand;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary;
 import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.TeacherAssignment;
@@ -18,6 +19,7 @@ import de.unipassau.allocationsystem.repository.CreditHourTrackingRepository;
 import de.unipassau.allocationsystem.repository.InternshipDemandRepository;
 import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.service.summary.PlanSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +43,7 @@ public class ReportService {
     private final InternshipDemandRepository demandRepository;
     private final TeacherRepository teacherRepository;
     private final CreditHourTrackingRepository creditTrackingRepository;
+    private final PlanSummaryService planSummaryService;
 
     // ==========================================
     // 1. Health & Budget Report
@@ -89,20 +92,19 @@ public class ReportService {
     }
 
     private UsageBySchoolType calculateUsedHoursBySchoolType(Long planId) {
-        List<Object[]> counts = assignmentRepository.countAssignmentsBySchoolType(planId);
+        Map<String, Long> counts = planSummaryService.getCounts(planId, PlanAssignmentSummary.Dimension.SCHOOL_TYPE);
 
         double elementaryUsed = 0.0;
         double middleUsed = 0.0;
         int totalAssigned = 0;
 
-        for (Object[] result : counts) {
-            School.SchoolType type = (School.SchoolType) result[0];
-            Long count = (Long) result[1];
+        for (Map.Entry<String, Long> result : counts.entrySet()) {
+            Long count = result.getValue();
 
             totalAssigned += count.intValue();
 
             double usedHours = count.doubleValue() * 0.5; // 2 assignments = 1 hour
-            if (type == School.SchoolType.PRIMARY) {
+            if (School.SchoolType.PRIMARY.name().equals(result.getKey())) {
                 elementaryUsed += usedHours;
             } else {
                 middleUsed += usedHours;
@@ -0,0 +1,235 @@
+package de.unipassau.allocationsystem.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index answering case-insensitive substring searches over a few text fields per entity.
+ * <p>
+ * Every document is numbered in insertion order and listed under each trigram of its lowercased field values, so
+ * the posting lists stay sorted by document number. A term of three or more characters is answered by intersecting
+ * the posting lists of its trigrams and checking the few remaining candidates for the whole term; shorter terms
+ * scan the documents. Updating a document appends it under a new number and leaves a tombstone behind, and the
+ * index is compacted once tombstones make up most of it.
+ * </p>
+ */
+final class NgramIndex {
+
+    private static final int GRAM = 3;
+
+    /**
+     * Tombstones tolerated before a compaction is considered at all.
+     */
+    private static final int COMPACT_MIN_REMOVED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private int removed;
+
+    /**
+     * Adds a document or replaces the values of an indexed one.
+     *
+     * @param id the entity ID
+     * @param values the searchable field values, nulls allowed
+     */
+    void put(long id, String... values) {
+        String[] fields = Arrays.stream(values)
+                .filter(v -> v != null && !v.isEmpty())
+                .map(v -> v.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        lock.writeLock().lock();
+        try {
+            Integer previous = ordinals.get(id);
+            if (previous != null && Arrays.equals(documents.get(previous).fields(), fields)) {
+                return;
+            }
+            removeOrdinal(previous);
+            append(new Document(id, fields));
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document; unknown IDs are ignored.
+     *
+     * @param id the entity ID
+     */
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeOrdinal(ordinals.get(id));
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents with a field containing a term.
+     *
+     * @param term the search term
+     * @param maxMatches the most matches worth returning
+     * @return the matches, or empty if there are more than {@code maxMatches}
+     */
+    Optional<SearchMatch> search(String term, int maxMatches) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        Set<Long> ids = new HashSet<>();
+        Set<Long> prefixIds = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (int ordinal : candidates(needle)) {
+                Document document = documents.get(ordinal);
+                if (document == null || !document.contains(needle)) {
+                    continue;
+                }
+                if (ids.size() == maxMatches) {
+                    return Optional.empty();
+                }
+                ids.add(document.id());
+                if (document.startsWith(needle)) {
+                    prefixIds.add(document.id());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.of(new SearchMatch(ids, prefixIds));
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return the document count
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Iterable<Integer> candidates(String needle) {
+        if (needle.length() < GRAM) {
+            List<Integer> all = new ArrayList<>(documents.size());
+            for (int i = 0; i < documents.size(); i++) {
+                all.add(i);
+            }
+            return all;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (long gram : grams(needle)) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+        Postings smallest = lists.get(0);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < smallest.size(); i++) {
+            int ordinal = smallest.get(i);
+            if (lists.stream().skip(1).allMatch(list -> list.contains(ordinal))) {
+                result.add(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private void append(Document document) {
+        int ordinal = documents.size();
+        documents.add(document);
+        ordinals.put(document.id(), ordinal);
+        Set<Long> documentGrams = new HashSet<>();
+        for (String field : document.fields()) {
+            documentGrams.addAll(grams(field));
+        }
+        for (long gram : documentGrams) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+        }
+    }
+
+    private void removeOrdinal(Integer ordinal) {
+        if (ordinal == null) {
+            return;
+        }
+        ordinals.remove(documents.get(ordinal).id());
+        documents.set(ordinal, null);
+        removed++;
+    }
+
+    private void compactIfSparse() {
+        if (removed < COMPACT_MIN_REMOVED || removed * 2 < documents.size()) {
+            return;
+        }
+        List<Document> live = documents.stream().filter(d -> d != null).toList();
+        documents.clear();
+        ordinals.clear();
+        postings.clear();
+        removed = 0;
+        live.forEach(this::append);
+    }
+
+    private static Set<Long> grams(String value) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            result.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+        return result;
+    }
+
+    private record Document(long id, String[] fields) {
+
+        boolean contains(String needle) {
+            return Arrays.stream(fields).anyMatch(f -> f.contains(needle));
+        }
+
+        boolean startsWith(String needle) {
+            return Arrays.stream(fields).anyMatch(f -> f.startsWith(needle));
+        }
+    }
+
+    /**
+     * Ascending document numbers listed under one trigram.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        int get(int index) {
+            return ordinals[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
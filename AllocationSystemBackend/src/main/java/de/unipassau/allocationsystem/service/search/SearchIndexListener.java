@@ -0,0 +1,58 @@
+package de.unipassau.allocationsystem.service.search;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate post-commit listener that keeps the {@link SearchIndexService} indexes up to date.
+ * Runs only after the surrounding transaction committed, so rolled-back changes never become searchable.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final SearchIndexService searchIndexService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        searchIndexService.onSaved(event.getPersister().getMappedClass(), event.getId(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        searchIndexService.onSaved(event.getPersister().getMappedClass(), event.getId(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        searchIndexService.onDeleted(event.getPersister().getMappedClass(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, the index stays unchanged
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, the index stays unchanged
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, the index stays unchanged
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return searchIndexService.isIndexed(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,228 @@
+package de.unipassau.allocationsystem.service.search;
+
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.utils.PaginationUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Substring search over the names of teachers, schools and subjects, served from in-memory {@link NgramIndex}es
+ * instead of {@code LIKE '%term%'} table scans.
+ * <p>
+ * Each index is loaded from the table at startup and rebuilt every {@code search.index.rebuild-ms}; in between,
+ * {@link SearchIndexListener} applies committed inserts, updates and deletes. Changes committed while a rebuild
+ * reads the table are queued and replayed on the new index, so none are lost.
+ * </p>
+ * <p>
+ * Callers fall back to their {@code LIKE} specification whenever {@link #find(Class, String)} returns nothing:
+ * while the index is disabled or still loading, and for terms so broad that an ID list would cost more than the
+ * scan.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final Map<Class<?>, List<String>> INDEXED_FIELDS = Map.of(
+            Teacher.class, List.of("firstName", "lastName", "email"),
+            School.class, List.of("schoolName"),
+            Subject.class, List.of("subjectCode", "subjectTitle", "schoolType")
+    );
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Class<?>, IndexHolder> holders = INDEXED_FIELDS.keySet().stream()
+            .collect(Collectors.toUnmodifiableMap(t -> t, t -> new IndexHolder()));
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.max-matches:2000}")
+    private int maxMatches;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Looks up the entities of a type whose indexed fields contain a search term.
+     *
+     * @param entityType the entity type
+     * @param searchValue the search term as entered
+     * @return the matches, or empty if the caller has to search the table itself
+     */
+    public Optional<SearchMatch> find(Class<?> entityType, String searchValue) {
+        IndexHolder holder = holders.get(entityType);
+        if (!enabled || holder == null || searchValue == null || searchValue.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        NgramIndex index = holder.index;
+        return index == null ? Optional.empty() : index.search(searchValue.trim(), maxMatches);
+    }
+
+    /**
+     * Chooses the order of a page of search results: prefix matches first unless the request names a sort field.
+     *
+     * @param match the index matches, if any
+     * @param queryParams the request parameters
+     * @param params the validated pagination parameters
+     * @return the sort for the page query
+     */
+    public static Sort pageSort(Optional<SearchMatch> match, Map<String, String> queryParams,
+                                PaginationUtils.PaginationParams params) {
+        return match.isPresent() && !queryParams.containsKey("sortBy")
+                ? Sort.unsorted()
+                : Sort.by(params.sortOrder(), params.sortBy());
+    }
+
+    /**
+     * Reports whether an entity type is indexed.
+     *
+     * @param entityType the entity type
+     * @return true if changes to the type have to be applied to an index
+     */
+    public boolean isIndexed(Class<?> entityType) {
+        return enabled && holders.containsKey(entityType);
+    }
+
+    /**
+     * Loads all indexes from their tables, replacing the current ones.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.index.rebuild-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        INDEXED_FIELDS.forEach(this::rebuild);
+    }
+
+    /**
+     * Indexes the current values of a committed entity.
+     *
+     * @param entityType the entity type
+     * @param id the entity ID
+     * @param entity the entity
+     */
+    void onSaved(Class<?> entityType, Object id, Object entity) {
+        IndexHolder holder = holders.get(entityType);
+        if (holder == null || !(id instanceof Number number)) {
+            return;
+        }
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        String[] values = INDEXED_FIELDS.get(entityType).stream()
+                .map(field -> Objects.toString(wrapper.getPropertyValue(field), null))
+                .toArray(String[]::new);
+        holder.apply(index -> index.put(number.longValue(), values));
+    }
+
+    /**
+     * Drops a deleted entity from its index.
+     *
+     * @param entityType the entity type
+     * @param id the entity ID
+     */
+    void onDeleted(Class<?> entityType, Object id) {
+        IndexHolder holder = holders.get(entityType);
+        if (holder == null || !(id instanceof Number number)) {
+            return;
+        }
+        holder.apply(index -> index.remove(number.longValue()));
+    }
+
+    private void rebuild(Class<?> entityType, List<String> fields) {
+        IndexHolder holder = holders.get(entityType);
+        holder.startRebuild();
+        try {
+            NgramIndex index = readOnlyTransaction.execute(status -> load(entityType, fields));
+            holder.finishRebuild(index);
+            log.debug("Indexed {} {} rows for search", index.size(), entityType.getSimpleName());
+        } catch (RuntimeException e) {
+            holder.abortRebuild();
+            log.warn("Failed to rebuild the search index of {}", entityType.getSimpleName(), e);
+        }
+    }
+
+    private NgramIndex load(Class<?> entityType, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<?> root = query.from(entityType);
+        List<Selection<?>> columns = new ArrayList<>();
+        columns.add(root.get("id"));
+        fields.forEach(field -> columns.add(root.get(field)));
+        query.multiselect(columns);
+
+        NgramIndex index = new NgramIndex();
+        try (var rows = entityManager.createQuery(query).getResultStream()) {
+            rows.forEach(row -> {
+                String[] values = new String[fields.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Objects.toString(row[i + 1], null);
+                }
+                index.put(((Number) row[0]).longValue(), values);
+            });
+        }
+        return index;
+    }
+
+    /**
+     * The current index of one entity type, plus the changes to replay while a rebuild is loading its successor.
+     */
+    private static final class IndexHolder {
+
+        private volatile NgramIndex index;
+        private List<Consumer<NgramIndex>> pending;
+
+        synchronized void apply(Consumer<NgramIndex> change) {
+            if (pending != null) {
+                pending.add(change);
+            }
+            if (index != null) {
+                change.accept(index);
+            }
+        }
+
+        synchronized void startRebuild() {
+            pending = new ArrayList<>();
+        }
+
+        synchronized void finishRebuild(NgramIndex rebuilt) {
+            pending.forEach(change -> change.accept(rebuilt));
+            pending = null;
+            index = rebuilt;
+        }
+
+        synchronized void abortRebuild() {
+            pending = null;
+        }
+    }
+}
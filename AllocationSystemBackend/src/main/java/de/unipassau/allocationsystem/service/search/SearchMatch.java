@@ -0,0 +1,39 @@
+package de.unipassau.allocationsystem.service.search;
+
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Entities whose indexed fields contain a search term.
+ *
+ * @param ids the IDs of all matching entities
+ * @param prefixIds the IDs of the matches with a field starting with the term
+ */
+public record SearchMatch(Set<Long> ids, Set<Long> prefixIds) {
+
+    /**
+     * Restricts a query to the matching entities. Without a sort of its own the query lists prefix matches first,
+     * each group by descending ID; count queries drop this order.
+     *
+     * @param <T> entity type
+     * @return the specification
+     */
+    public <T> Specification<T> toSpecification() {
+        return (root, query, cb) -> {
+            if (ids.isEmpty()) {
+                return cb.disjunction();
+            }
+            if (query != null && !prefixIds.isEmpty()) {
+                Expression<Integer> rank = cb.<Integer>selectCase()
+                        .when(root.get("id").in(prefixIds), 0)
+                        .otherwise(1);
+                query.orderBy(cb.asc(rank), cb.desc(root.get("id")));
+            } else if (query != null) {
+                query.orderBy(cb.desc(root.get("id")));
+            }
+            return root.get("id").in(ids);
+        };
+    }
+}
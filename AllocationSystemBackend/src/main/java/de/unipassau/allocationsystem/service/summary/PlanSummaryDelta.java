@@ -0,0 +1,173 @@
+package de.unipassau.allocationsystem.service.summary;
+
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary.Dimension;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Count changes collected during one transaction, written to {@code plan_assignment_summaries}
+ * right before the transaction commits, after Hibernate's final flush.
+ * Changes to the same key are merged first, so a bulk allocation run costs one statement per distinct key
+ * instead of several per assignment. Changes to plans without a summary and invalidated plans leave a stale
+ * marker instead: a rebuild running concurrently may have read the assignments before this transaction commits,
+ * and the marker, committed with the change, makes the next read rebuild the summary again.
+ */
+@Slf4j
+final class PlanSummaryDelta implements BeforeTransactionCompletionProcess {
+
+    private static final String TABLE = "plan_assignment_summaries";
+    private static final String SELECT_TOTAL =
+            "SELECT 1 FROM " + TABLE + " WHERE plan_id = ? AND dimension = '" + Dimension.TOTAL.name() + "'";
+    private static final String UPDATE_COUNT =
+            "UPDATE " + TABLE + " SET assignment_count = assignment_count + ? "
+                    + "WHERE plan_id = ? AND dimension = ? AND dimension_key = ?";
+    private static final String INSERT_COUNT =
+            "INSERT INTO " + TABLE + " (plan_id, dimension, dimension_key, assignment_count) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_PLAN = "DELETE FROM " + TABLE + " WHERE plan_id = ?";
+    private static final String SELECT_STALE =
+            "SELECT 1 FROM " + TABLE + " WHERE plan_id = ? AND dimension = '" + Dimension.STALE.name() + "'";
+
+    private final Map<Key, Long> deltas = new HashMap<>();
+    private final Set<Long> invalidatedPlans = new HashSet<>();
+    private final Set<Long> deletedPlans = new HashSet<>();
+
+    /**
+     * Identifies one summary row.
+     */
+    record Key(Long planId, Dimension dimension, String dimensionKey) {
+    }
+
+    void add(Long planId, Map<Dimension, String> keys, long delta) {
+        if (planId == null) {
+            return;
+        }
+        keys.forEach((dimension, key) -> deltas.merge(new Key(planId, dimension, key), delta, Long::sum));
+    }
+
+    /**
+     * Drops the summary of a plan because a change could not be applied incrementally.
+     * The summary is rebuilt the next time it is read.
+     */
+    void invalidate(Long planId) {
+        if (planId != null) {
+            invalidatedPlans.add(planId);
+        }
+    }
+
+    /**
+     * Drops the summary of a deleted plan.
+     */
+    void planDeleted(Long planId) {
+        if (planId != null) {
+            deletedPlans.add(planId);
+        }
+    }
+
+    @Override
+    public void doBeforeTransactionCompletion(SessionImplementor session) {
+        if (deltas.isEmpty() && invalidatedPlans.isEmpty() && deletedPlans.isEmpty()) {
+            return;
+        }
+        session.doWork(this::write);
+    }
+
+    private void write(Connection connection) throws SQLException {
+        Map<Long, Boolean> complete = new HashMap<>();
+        Set<Long> stalePlans = new HashSet<>(invalidatedPlans);
+        for (Map.Entry<Key, Long> entry : deltas.entrySet()) {
+            Key key = entry.getKey();
+            if (entry.getValue() == 0 || stalePlans.contains(key.planId()) || deletedPlans.contains(key.planId())) {
+                continue;
+            }
+            if (!complete.computeIfAbsent(key.planId(), id -> exists(connection, SELECT_TOTAL, id))) {
+                stalePlans.add(key.planId());
+                continue;
+            }
+            apply(connection, key, entry.getValue());
+        }
+
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_PLAN)) {
+            for (Long planId : invalidatedPlans) {
+                delete(delete, planId);
+            }
+            for (Long planId : deletedPlans) {
+                delete(delete, planId);
+            }
+        }
+        stalePlans.removeAll(deletedPlans);
+        for (Long planId : stalePlans) {
+            markStale(connection, planId);
+        }
+        log.debug("Applied {} summary deltas, marked {} plans stale, dropped {} deleted plans",
+                deltas.size(), stalePlans.size(), deletedPlans.size());
+    }
+
+    private static void delete(PreparedStatement delete, Long planId) throws SQLException {
+        delete.setLong(1, planId);
+        delete.executeUpdate();
+    }
+
+    private void markStale(Connection connection, Long planId) throws SQLException {
+        if (exists(connection, SELECT_STALE, planId)) {
+            return;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_COUNT)) {
+            insert.setLong(1, planId);
+            insert.setString(2, Dimension.STALE.name());
+            insert.setString(3, "");
+            insert.setLong(4, 0);
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // A concurrent transaction marked the plan stale in the meantime
+            log.debug("Summary of plan {} was marked stale concurrently", planId);
+        }
+    }
+
+    private void apply(Connection connection, Key key, long delta) throws SQLException {
+        if (update(connection, key, delta) > 0) {
+            return;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_COUNT)) {
+            insert.setLong(1, key.planId());
+            insert.setString(2, key.dimension().name());
+            insert.setString(3, key.dimensionKey());
+            insert.setLong(4, delta);
+            insert.executeUpdate();
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // A concurrent transaction created the row in the meantime
+            update(connection, key, delta);
+        }
+    }
+
+    private int update(Connection connection, Key key, long delta) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_COUNT)) {
+            update.setLong(1, delta);
+            update.setLong(2, key.planId());
+            update.setString(3, key.dimension().name());
+            update.setString(4, key.dimensionKey());
+            return update.executeUpdate();
+        }
+    }
+
+    private static boolean exists(Connection connection, String query, Long planId) {
+        try (PreparedStatement select = connection.prepareStatement(query)) {
+            select.setLong(1, planId);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read summary of plan " + planId, e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package de.unipassau.allocationsystem.service.summary;
+
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary.Dimension;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Hibernate listener keeping {@code plan_assignment_summaries} in step with teacher assignment writes.
+ * Inserts and deletes adjust the counts of every dimension of the assignment; status changes move
+ * one count between statuses. Other updates that change a grouping key invalidate the plan's summary.
+ * Only keys owned by the assignment are counted; school type and zone are derived from the teacher counts on read,
+ * so the listener never has to follow the teacher to its school.
+ * All changes of a transaction are collected in one {@link PlanSummaryDelta} and written before commit,
+ * so the summary commits or rolls back together with the assignments.
+ */
+@Component
+public class PlanSummaryListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String[] KEY_PROPERTIES = {"allocationPlan", "teacher", "internshipType", "subject"};
+    private static final String STATUS_PROPERTY = "assignmentStatus";
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof TeacherAssignment assignment) {
+            delta(event.getSession()).add(planIdOf(assignment.getAllocationPlan()), keysOf(assignment.getTeacher(),
+                    assignment.getInternshipType(), assignment.getSubject(), assignment.getAssignmentStatus()), 1);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof TeacherAssignment assignment) {
+            delta(event.getSession()).add(planIdOf(assignment.getAllocationPlan()), keysOf(assignment.getTeacher(),
+                    assignment.getInternshipType(), assignment.getSubject(), assignment.getAssignmentStatus()), -1);
+        } else if (event.getEntity() instanceof AllocationPlan plan) {
+            delta(event.getSession()).planDeleted(plan.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof TeacherAssignment assignment)) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        Long planId = planIdOf(assignment.getAllocationPlan());
+        PlanSummaryDelta delta = delta(event.getSession());
+        if (oldState == null || keyChanged(event.getPersister(), oldState, event.getState())) {
+            delta.invalidate(planId);
+            if (oldState != null) {
+                delta.invalidate(planIdOf(valueOf(event.getPersister(), oldState, "allocationPlan")));
+            }
+            return;
+        }
+
+        Object oldStatus = valueOf(event.getPersister(), oldState, STATUS_PROPERTY);
+        if (oldStatus != assignment.getAssignmentStatus()) {
+            if (oldStatus != null) {
+                delta.add(planId, Map.of(Dimension.STATUS, ((TeacherAssignment.AssignmentStatus) oldStatus).name()), -1);
+            }
+            if (assignment.getAssignmentStatus() != null) {
+                delta.add(planId, Map.of(Dimension.STATUS, assignment.getAssignmentStatus().name()), 1);
+            }
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Returns the summary keys an assignment is counted under.
+     */
+    static Map<Dimension, String> keysOf(Teacher teacher, InternshipType type, Subject subject,
+                                         TeacherAssignment.AssignmentStatus status) {
+        Map<Dimension, String> keys = new EnumMap<>(Dimension.class);
+        keys.put(Dimension.TOTAL, "");
+        if (teacher != null) {
+            keys.put(Dimension.TEACHER, String.valueOf(teacher.getId()));
+        }
+        if (type != null) {
+            keys.put(Dimension.INTERNSHIP_TYPE, String.valueOf(type.getId()));
+        }
+        if (subject != null) {
+            keys.put(Dimension.SUBJECT, String.valueOf(subject.getId()));
+        }
+        if (status != null) {
+            keys.put(Dimension.STATUS, status.name());
+        }
+        return keys;
+    }
+
+    private static boolean keyChanged(EntityPersister persister, Object[] oldState, Object[] state) {
+        for (String property : KEY_PROPERTIES) {
+            if (!Objects.equals(idOf(valueOf(persister, oldState, property)), idOf(valueOf(persister, state, property)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object valueOf(EntityPersister persister, Object[] state, String property) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        return null;
+    }
+
+    private static Object idOf(Object reference) {
+        if (reference instanceof Teacher teacher) {
+            return teacher.getId();
+        }
+        if (reference instanceof InternshipType type) {
+            return type.getId();
+        }
+        if (reference instanceof Subject subject) {
+            return subject.getId();
+        }
+        if (reference instanceof AllocationPlan plan) {
+            return plan.getId();
+        }
+        return reference;
+    }
+
+    private static Long planIdOf(Object plan) {
+        if (plan instanceof AllocationPlan allocationPlan) {
+            return allocationPlan.getId();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the delta of the current transaction, registering it with the session on first use.
+     * Without Spring transaction synchronization every event gets its own delta.
+     */
+    private PlanSummaryDelta delta(EventSource session) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PlanSummaryDelta bound = (PlanSummaryDelta) TransactionSynchronizationManager.getResource(this);
+            if (bound != null) {
+                return bound;
+            }
+            PlanSummaryDelta delta = new PlanSummaryDelta();
+            TransactionSynchronizationManager.bindResource(this, delta);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PlanSummaryListener.this);
+                }
+            });
+            session.getActionQueue().registerProcess(delta);
+            return delta;
+        }
+        PlanSummaryDelta delta = new PlanSummaryDelta();
+        session.getActionQueue().registerProcess(delta);
+        return delta;
+    }
+}
@@ -0,0 +1,280 @@
+package de.unipassau.allocationsystem.service.summary;
+
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary.Dimension;
+import de.unipassau.allocationsystem.repository.PlanAssignmentSummaryRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for reading pre-aggregated assignment counts of allocation plans.
+ * Counts are kept up to date by {@link PlanSummaryListener}, so reads are single indexed lookups instead of
+ * grouped joins over all assignments. A plan without a complete summary (new plan, rows loaded by SQL scripts,
+ * or a change that could not be applied incrementally or raced a rebuild and was marked stale) is rebuilt from the
+ * assignments on first read.
+ * School type and zone counts are not stored, since a teacher may move schools and a school may change its type
+ * or zone without touching any assignment; they are derived on read by one grouped join of the per-teacher counts
+ * with the teachers' current schools.
+ * Counts reflect committed data only; uncommitted changes of the current transaction are not visible.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanSummaryService {
+
+    private static final String TOTAL_QUERY =
+            "SELECT COUNT(ta) FROM TeacherAssignment ta WHERE ta.allocationPlan.id = :planId";
+
+    /**
+     * Sums the stored per-teacher counts of a plan by a school expression; {@code %s} is the expression.
+     */
+    private static final String SCHOOL_SUMMARY_QUERY =
+            "SELECT %s, SUM(ps.assignmentCount) FROM PlanAssignmentSummary ps, Teacher t JOIN t.school s "
+                    + "WHERE ps.planId = :planId AND ps.dimension = :dimension "
+                    + "AND t.id = CAST(ps.dimensionKey AS Long) AND %s IS NOT NULL "
+                    + "GROUP BY %s HAVING SUM(ps.assignmentCount) <> 0";
+
+    /**
+     * Counts the assignments of a plan by a school expression, for plans whose summary is being rebuilt.
+     */
+    private static final String SCHOOL_ASSIGNMENT_QUERY =
+            "SELECT %s, COUNT(ta) FROM TeacherAssignment ta JOIN ta.teacher t JOIN t.school s "
+                    + "WHERE ta.allocationPlan.id = :planId AND %s IS NOT NULL GROUP BY %s";
+
+    /**
+     * Group-by expression of each stored dimension in the rebuild query.
+     */
+    private static final Map<Dimension, String> GROUP_EXPRESSIONS = new EnumMap<>(Map.of(
+            Dimension.INTERNSHIP_TYPE, "ta.internshipType.id",
+            Dimension.SUBJECT, "ta.subject.id",
+            Dimension.TEACHER, "ta.teacher.id",
+            Dimension.STATUS, "ta.assignmentStatus"));
+
+    /**
+     * School expression of each dimension derived from the teacher counts on read.
+     */
+    private static final Map<Dimension, String> SCHOOL_EXPRESSIONS = new EnumMap<>(Map.of(
+            Dimension.SCHOOL_TYPE, "s.schoolType",
+            Dimension.ZONE, "s.zoneNumber"));
+
+    private final PlanAssignmentSummaryRepository summaryRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Self proxy so that {@link #rebuild(Long)} runs in its own transaction when called from a read.
+     */
+    @Lazy
+    @Autowired
+    private PlanSummaryService self;
+
+    /**
+     * Returns the total number of assignments of a plan.
+     *
+     * @param planId the allocation plan ID
+     * @return number of assignments
+     */
+    @Transactional(readOnly = true)
+    public long getTotal(Long planId) {
+        return getCount(planId, Dimension.TOTAL, "");
+    }
+
+    /**
+     * Returns the assignment counts of a plan grouped by one dimension.
+     *
+     * @param planId the allocation plan ID
+     * @param dimension the dimension
+     * @return counts by dimension key, without zero counts
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCounts(Long planId, Dimension dimension) {
+        if (SCHOOL_EXPRESSIONS.containsKey(dimension)) {
+            return schoolCounts(planId, dimension);
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (PlanAssignmentSummary row : load(planId, dimension)) {
+            if (row.getAssignmentCount() != 0) {
+                counts.put(row.getDimensionKey(), row.getAssignmentCount());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of assignments of a plan for a single dimension value.
+     *
+     * @param planId the allocation plan ID
+     * @param dimension the dimension
+     * @param key the dimension value
+     * @return number of assignments, 0 if there are none
+     */
+    @Transactional(readOnly = true)
+    public long getCount(Long planId, Dimension dimension, String key) {
+        return getCounts(planId, dimension).getOrDefault(key, 0L);
+    }
+
+    /**
+     * Returns the number of teachers with at least {@code minAssignments} assignments in a plan.
+     *
+     * @param planId the allocation plan ID
+     * @param minAssignments the minimum number of assignments
+     * @return number of teachers
+     */
+    @Transactional(readOnly = true)
+    public long countTeachersWithAtLeast(Long planId, long minAssignments) {
+        return load(planId, Dimension.TEACHER).stream()
+                .filter(row -> row.getAssignmentCount() >= minAssignments)
+                .count();
+    }
+
+    /**
+     * Returns all counts of a plan grouped by dimension.
+     *
+     * @param planId the allocation plan ID
+     * @return counts by dimension and dimension key
+     */
+    @Transactional(readOnly = true)
+    public Map<Dimension, Map<String, Long>> getSummary(Long planId) {
+        Map<Dimension, Map<String, Long>> summary = new EnumMap<>(Dimension.class);
+        for (PlanAssignmentSummary row : load(planId, null)) {
+            if (row.getAssignmentCount() != 0 && !SCHOOL_EXPRESSIONS.containsKey(row.getDimension())
+                    && row.getDimension() != Dimension.STALE) {
+                summary.computeIfAbsent(row.getDimension(), d -> new LinkedHashMap<>())
+                        .put(row.getDimensionKey(), row.getAssignmentCount());
+            }
+        }
+        for (Dimension dimension : SCHOOL_EXPRESSIONS.keySet()) {
+            Map<String, Long> counts = schoolCounts(planId, dimension);
+            if (!counts.isEmpty()) {
+                summary.put(dimension, counts);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Recomputes and stores the summary of a plan from its assignments.
+     *
+     * @param planId the allocation plan ID
+     * @return the stored summary rows
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PlanAssignmentSummary> rebuild(Long planId) {
+        summaryRepository.deleteByPlanId(planId);
+        List<PlanAssignmentSummary> rows = summaryRepository.saveAll(computeRows(planId));
+        log.debug("Rebuilt assignment summary of plan {} ({} rows)", planId, rows.size());
+        return rows;
+    }
+
+    /**
+     * Rebuilds the missing and stale summaries once the application is ready, covering data loaded by SQL scripts.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        List<Long> planIds = summaryRepository.findPlanIdsWithoutCompleteSummary(Dimension.TOTAL, Dimension.STALE);
+        for (Long planId : planIds) {
+            self.rebuild(planId);
+        }
+        log.info("Rebuilt assignment summaries of {} plans", planIds.size());
+    }
+
+    /**
+     * Loads the rows of one dimension (or all rows if {@code dimension} is null), rebuilding an incomplete summary.
+     * Freshly rebuilt rows are returned directly, since the caller's transaction may not see the new commit.
+     */
+    private List<PlanAssignmentSummary> load(Long planId, Dimension dimension) {
+        List<PlanAssignmentSummary> rows;
+        if (hasSummary(planId)) {
+            if (dimension == null) {
+                return summaryRepository.findByPlanId(planId);
+            }
+            return summaryRepository.findByPlanIdAndDimension(planId, dimension);
+        }
+        try {
+            rows = self.rebuild(planId);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Summary of plan {} was rebuilt concurrently", planId);
+            rows = computeRows(planId);
+        }
+        return rows.stream()
+                .filter(row -> dimension == null || row.getDimension() == dimension)
+                .toList();
+    }
+
+    private boolean hasSummary(Long planId) {
+        List<PlanAssignmentSummary> markers =
+                summaryRepository.findByPlanIdAndDimensionIn(planId, EnumSet.of(Dimension.TOTAL, Dimension.STALE));
+        return markers.size() == 1 && markers.get(0).getDimension() == Dimension.TOTAL;
+    }
+
+    private List<PlanAssignmentSummary> computeRows(Long planId) {
+        List<PlanAssignmentSummary> rows = new ArrayList<>();
+        Long total = entityManager.createQuery(TOTAL_QUERY, Long.class)
+                .setParameter("planId", planId)
+                .getSingleResult();
+        rows.add(new PlanAssignmentSummary(null, planId, Dimension.TOTAL, "", total));
+
+        GROUP_EXPRESSIONS.forEach((dimension, expression) -> {
+            String jpql = "SELECT " + expression + ", COUNT(ta) FROM TeacherAssignment ta "
+                    + "WHERE ta.allocationPlan.id = :planId AND " + expression + " IS NOT NULL "
+                    + "GROUP BY " + expression;
+            List<Object[]> groups = entityManager.createQuery(jpql, Object[].class)
+                    .setParameter("planId", planId)
+                    .getResultList();
+            for (Object[] group : groups) {
+                rows.add(new PlanAssignmentSummary(null, planId, dimension, keyOf(group[0]), (Long) group[1]));
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * Adds up the counts of a plan by the type or zone of each teacher's current school. A complete summary is
+     * grouped from its teacher rows; otherwise the summary is rebuilt and this read groups the assignments, since
+     * the caller's transaction may not see the rebuilt rows yet.
+     */
+    private Map<String, Long> schoolCounts(Long planId, Dimension dimension) {
+        String expression = SCHOOL_EXPRESSIONS.get(dimension);
+        List<Object[]> groups;
+        if (hasSummary(planId)) {
+            groups = entityManager.createQuery(
+                            SCHOOL_SUMMARY_QUERY.formatted(expression, expression, expression), Object[].class)
+                    .setParameter("planId", planId)
+                    .setParameter("dimension", Dimension.TEACHER)
+                    .getResultList();
+        } else {
+            load(planId, Dimension.TOTAL);
+            groups = entityManager.createQuery(
+                            SCHOOL_ASSIGNMENT_QUERY.formatted(expression, expression, expression), Object[].class)
+                    .setParameter("planId", planId)
+                    .getResultList();
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] group : groups) {
+            counts.put(keyOf(group[0]), ((Number) group[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static String keyOf(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,155 @@
+package de.unipassau.allocationsystem.utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Incremental RFC 4180 CSV writer for large exports.
+ * Fields are appended directly to a buffered UTF-8 writer: no format strings are parsed and no row strings
+ * are built, and a field is only quoted if it contains a separator, quote or line break.
+ */
+public final class CsvStreamWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer out;
+    private boolean rowStarted;
+
+    private CsvStreamWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Opens a writer on the given output stream.
+     *
+     * @param out target stream, closed together with this writer
+     * @return a new writer
+     */
+    public static CsvStreamWriter open(OutputStream out) {
+        return new CsvStreamWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * Writes a complete row of text fields.
+     *
+     * @param fields the fields
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public CsvStreamWriter row(String... fields) throws IOException {
+        for (String field : fields) {
+            field(field);
+        }
+        return endRow();
+    }
+
+    /**
+     * Appends a text field; {@code null} is written as an empty field.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public CsvStreamWriter field(String value) throws IOException {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return this;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                out.write(value, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+        return this;
+    }
+
+    /**
+     * Appends a numeric field; {@code null} is written as an empty field.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public CsvStreamWriter field(Long value) throws IOException {
+        separate();
+        if (value != null) {
+            out.write(Long.toString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Appends an ISO-8601 timestamp field; {@code null} is written as an empty field.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public CsvStreamWriter field(LocalDateTime value) throws IOException {
+        separate();
+        if (value != null) {
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(value, out);
+        }
+        return this;
+    }
+
+    /**
+     * Terminates the current row.
+     *
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public CsvStreamWriter endRow() throws IOException {
+        out.write('\n');
+        rowStarted = false;
+        return this;
+    }
+
+    /**
+     * Flushes buffered rows to the underlying stream.
+     *
+     * @throws IOException if flushing fails
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void separate() throws IOException {
+        if (rowStarted) {
+            out.write(',');
+        }
+        rowStarted = true;
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,188 @@
+package de.unipassau.allocationsystem.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Incremental JSON writer for large responses.
+ * Writes either the standard {@code {success, message, data}} envelope used by {@link ResponseHandler}
+ * or newline-delimited JSON (one value per line), without building the full payload in memory.
+ */
+public final class JsonStreamWriter implements Closeable {
+
+    private static final String TYPE_FIELD = "type";
+    private static final String DATA_FIELD = "data";
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final boolean ndjson;
+
+    private JsonStreamWriter(JsonGenerator generator, ObjectWriter writer, boolean ndjson) {
+        this.generator = generator;
+        this.writer = writer;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * Opens a writer on the given output stream.
+     * Indentation and per-value flushing are disabled so rows are buffered by the generator.
+     *
+     * @param objectMapper application object mapper (date/time modules are reused)
+     * @param out target stream, closed together with this writer
+     * @param ndjson true for newline-delimited JSON, false for a single enveloped JSON document
+     * @return a new writer
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonStreamWriter open(ObjectMapper objectMapper, OutputStream out, boolean ndjson) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new JsonStreamWriter(generator, writer, ndjson);
+    }
+
+    /**
+     * Returns whether this writer produces newline-delimited JSON.
+     *
+     * @return true for NDJSON output
+     */
+    public boolean isNdjson() {
+        return ndjson;
+    }
+
+    /**
+     * Starts the response envelope. The {@code data} member is opened as an object or array.
+     * No-op for NDJSON output.
+     *
+     * @param message success message
+     * @param arrayData true if {@code data} is an array, false if it is an object
+     * @throws IOException on write failure
+     */
+    public void beginEnvelope(String message, boolean arrayData) throws IOException {
+        if (ndjson) {
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeStringField("message", message);
+        generator.writeFieldName(DATA_FIELD);
+        if (arrayData) {
+            generator.writeStartArray();
+        } else {
+            generator.writeStartObject();
+        }
+    }
+
+    /**
+     * Closes the response envelope opened by {@link #beginEnvelope(String, boolean)}.
+     * No-op for NDJSON output.
+     *
+     * @param arrayData must match the value passed to {@link #beginEnvelope(String, boolean)}
+     * @throws IOException on write failure
+     */
+    public void endEnvelope(boolean arrayData) throws IOException {
+        if (ndjson) {
+            return;
+        }
+        if (arrayData) {
+            generator.writeEndArray();
+        } else {
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a named section. As JSON this is a member of the current object;
+     * as NDJSON it is a line of the form {@code {"type": name, "data": value}}.
+     *
+     * @param name section name
+     * @param value section value
+     * @throws IOException on write failure
+     */
+    public void writeSection(String name, Object value) throws IOException {
+        if (ndjson) {
+            writeTypedLine(name, value);
+            return;
+        }
+        generator.writeFieldName(name);
+        writer.writeValue(generator, value);
+    }
+
+    /**
+     * Opens a named array section. No-op for NDJSON output, where items become individual lines.
+     *
+     * @param name section name
+     * @throws IOException on write failure
+     */
+    public void beginArraySection(String name) throws IOException {
+        if (ndjson) {
+            return;
+        }
+        generator.writeArrayFieldStart(name);
+    }
+
+    /**
+     * Closes an array section opened by {@link #beginArraySection(String)}.
+     *
+     * @throws IOException on write failure
+     */
+    public void endArraySection() throws IOException {
+        if (ndjson) {
+            return;
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes one array item. For NDJSON the item is written as its own line, wrapped with
+     * {@code type} when a type is given, or bare otherwise.
+     *
+     * @param type NDJSON record type (may be {@code null})
+     * @param value item value
+     * @throws IOException on write failure
+     */
+    public void writeItem(String type, Object value) throws IOException {
+        if (!ndjson) {
+            writer.writeValue(generator, value);
+            return;
+        }
+        if (type != null) {
+            writeTypedLine(type, value);
+            return;
+        }
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    private void writeTypedLine(String type, Object value) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(TYPE_FIELD, type);
+        generator.writeFieldName(DATA_FIELD);
+        writer.writeValue(generator, value);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Pushes buffered output to the client.
+     *
+     * @throws IOException on write failure
+     */
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
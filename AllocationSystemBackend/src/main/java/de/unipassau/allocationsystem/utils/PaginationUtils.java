@@ -1,34 +1,75 @@
 package de.unipassau.allocationsystem.utils;
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Utility class for handling pagination parameters and formatting responses.
+ * <p>
+ * Besides page numbers, list endpoints support keyset (cursor) pagination: passing an {@code after} parameter,
+ * empty for the first page, switches to seeking past the sort key and ID of the previous page's last row instead
+ * of skipping rows with an offset, and the response carries a {@code nextCursor} for the following page. Every page
+ * then costs the same as the first, and the count query only runs when {@code includeTotal=true}. Cursors are
+ * bound to the sort they were created for. NULL sort keys are treated as the lowest values, as in H2 and MySQL.
+ * </p>
  */
 public class PaginationUtils {
 
     /**
      * Record holding pagination parameters.
-     * 
+     *
      * @param page the page number (1-indexed)
      * @param pageSize the number of items per page
      * @param sortBy the field name to sort by
      * @param sortOrder the sort direction (ASC or DESC)
+     * @param after the cursor to continue after, empty for the first page, or null for page-number pagination
+     * @param includeTotal whether a keyset page also reports the total number of items
      */
-    public record PaginationParams(int page, int pageSize, String sortBy, Sort.Direction sortOrder) {
+    public record PaginationParams(int page, int pageSize, String sortBy, Sort.Direction sortOrder,
+                                   String after, boolean includeTotal) {
+
+        /**
+         * Returns whether keyset (cursor) pagination was requested.
+         *
+         * @return true if an {@code after} parameter was given
+         */
+        public boolean isKeyset() {
+            return after != null;
+        }
     }
 
     private static final int MAX_PAGE_SIZE = 100;
     private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final String ID = "id";
+    private static final String INVALID_CURSOR = "Invalid pagination cursor";
 
     /**
      * Validates and normalizes pagination parameters from query params.
      * Applies default values and constraints (max page size, min values).
-     * 
+     *
      * @param queryParams the query parameters map
      * @return validated pagination parameters
      */
@@ -68,12 +109,15 @@ public class PaginationUtils {
             }
         }
 
-        return new PaginationParams(page, pageSize, sortBy, sortOrder);
+        String after = queryParams.containsKey("after") ? nullToEmpty(queryParams.get("after")).trim() : null;
+        boolean includeTotal = Boolean.parseBoolean(queryParams.get("includeTotal"));
+
+        return new PaginationParams(page, pageSize, sortBy, sortOrder, after, includeTotal);
     }
 
     /**
      * Formats a Spring Data Page object into a standard pagination response.
-     * 
+     *
      * @param page the page object containing items and metadata
      * @return map containing items, total counts, and pagination info
      */
@@ -86,4 +130,218 @@ public class PaginationUtils {
         result.put("pageSize", page.getSize());
         return result;
     }
+
+    /**
+     * Source of keyset pages: rows matching a specification in a given order, and their total count.
+     *
+     * @param <T> entity type the specification applies to
+     * @param <R> type of the rows returned
+     */
+    public interface KeysetQuery<T, R> {
+
+        /**
+         * Finds the first rows matching a specification.
+         *
+         * @param spec the filter specification
+         * @param sort the order of the rows
+         * @param limit the maximum number of rows
+         * @return the matching rows
+         */
+        List<R> find(Specification<T> spec, Sort sort, int limit);
+
+        /**
+         * Counts the rows matching a specification.
+         *
+         * @param spec the filter specification
+         * @return the number of matching rows
+         */
+        long count(Specification<T> spec);
+    }
+
+    /**
+     * Loads one keyset page of entities and formats it into a pagination response.
+     *
+     * @param repository the repository to query
+     * @param spec the filter specification, or null for all rows
+     * @param params pagination parameters with {@link PaginationParams#isKeyset()} set
+     * @param mapper maps each entity to the item returned to the client
+     * @param <T> entity type
+     * @return map containing items, pageSize, nextCursor, hasNext and, if requested, totalItems
+     * @throws IllegalArgumentException if the cursor is malformed or was created for another sort
+     */
+    public static <T> Map<String, Object> findKeysetPage(
+            JpaSpecificationExecutor<T> repository,
+            Specification<T> spec,
+            PaginationParams params,
+            Function<? super T, ?> mapper
+    ) {
+        KeysetQuery<T, T> query = new KeysetQuery<>() {
+            @Override
+            public List<T> find(Specification<T> filter, Sort sort, int limit) {
+                return repository.findBy(filter, q -> q.sortBy(sort).limit(limit).all());
+            }
+
+            @Override
+            public long count(Specification<T> filter) {
+                return repository.count(filter);
+            }
+        };
+        return findKeysetPage(query, spec, params, rows -> rows.stream().map(mapper).toList());
+    }
+
+    /**
+     * Loads one keyset page and formats it into a pagination response.
+     * Rows are ordered by the sort field and then by ID in the same direction, and one row more than the page size
+     * is fetched to tell whether another page follows. The cursor is read from the rows before they are mapped, so
+     * they must expose the ID and the sort field, as bean properties or record components.
+     *
+     * @param query the source of the rows
+     * @param spec the filter specification, or null for all rows
+     * @param params pagination parameters with {@link PaginationParams#isKeyset()} set
+     * @param pageMapper maps the rows of the page to the items returned to the client
+     * @param <T> entity type
+     * @param <R> row type
+     * @return map containing items, pageSize, nextCursor, hasNext and, if requested, totalItems
+     * @throws IllegalArgumentException if the cursor is malformed or was created for another sort
+     */
+    public static <T, R> Map<String, Object> findKeysetPage(
+            KeysetQuery<T, R> query,
+            Specification<T> spec,
+            PaginationParams params,
+            Function<List<R>, List<?>> pageMapper
+    ) {
+        Cursor cursor = params.after().isEmpty() ? null : decodeCursor(params.after(), params);
+        Specification<T> filter = spec != null ? spec : (root, q, cb) -> cb.conjunction();
+        Specification<T> seek = cursor == null
+                ? filter
+                : filter.and(seekAfter(cursor, params.sortBy(), params.sortOrder()));
+
+        Sort sort = ID.equals(params.sortBy())
+                ? Sort.by(params.sortOrder(), ID)
+                : Sort.by(params.sortOrder(), params.sortBy(), ID);
+        List<R> rows = query.find(seek, sort, params.pageSize() + 1);
+
+        boolean hasNext = rows.size() > params.pageSize();
+        List<R> pageRows = hasNext ? rows.subList(0, params.pageSize()) : rows;
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", pageMapper.apply(pageRows));
+        result.put("pageSize", params.pageSize());
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", hasNext ? encodeCursor(pageRows.get(pageRows.size() - 1), params) : null);
+        if (params.includeTotal()) {
+            result.put("totalItems", query.count(filter));
+        }
+        return result;
+    }
+
+    /**
+     * Position after a row: its sort key (null if the row had none) and ID.
+     */
+    private record Cursor(String value, long id) {
+    }
+
+    private static String encodeCursor(Object row, PaginationParams params) {
+        Object id = propertyValue(row, ID);
+        Object value = propertyValue(row, params.sortBy());
+        String key = value instanceof Enum<?> e ? e.name() : value == null ? null : value.toString();
+        String raw = params.sortBy() + '\n' + params.sortOrder() + '\n' + id + '\n' + (key == null ? "" : "=" + key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object propertyValue(Object row, String property) {
+        if (!(row instanceof Record)) {
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+            return wrapper.getPropertyValue(property);
+        }
+        for (RecordComponent component : row.getClass().getRecordComponents()) {
+            if (component.getName().equals(property)) {
+                try {
+                    return component.getAccessor().invoke(row);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Failed to read " + property + " of " + row.getClass(), e);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot paginate with a cursor when sorting by " + property);
+    }
+
+    private static Cursor decodeCursor(String after, PaginationParams params) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split("\n", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR, e);
+        }
+        if (parts.length != 4 || !(parts[3].isEmpty() || parts[3].startsWith("="))) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        if (!parts[0].equals(params.sortBy()) || !parts[1].equals(params.sortOrder().name())) {
+            throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+        }
+        try {
+            return new Cursor(parts[3].isEmpty() ? null : parts[3].substring(1), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR, e);
+        }
+    }
+
+    /**
+     * Rows strictly after the cursor in (sort key, ID) order, with NULL sort keys lowest.
+     */
+    private static <T> Specification<T> seekAfter(Cursor cursor, String sortBy, Sort.Direction direction) {
+        boolean asc = direction.isAscending();
+        return (root, query, cb) -> {
+            Path<Long> id = root.get(ID);
+            Predicate idAfter = asc ? cb.gt(id, cursor.id()) : cb.lt(id, cursor.id());
+            if (ID.equals(sortBy)) {
+                return idAfter;
+            }
+            Path<Comparable<Object>> field = path(root, sortBy);
+            if (cursor.value() == null) {
+                Predicate sameKey = cb.and(cb.isNull(field), idAfter);
+                return asc ? cb.or(sameKey, cb.isNotNull(field)) : sameKey;
+            }
+            Comparable<Object> value = convert(cursor.value(), field.getJavaType());
+            Predicate keyAfter = asc ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+            Predicate sameKey = cb.and(cb.equal(field, value), idAfter);
+            return asc ? cb.or(keyAfter, sameKey) : cb.or(keyAfter, sameKey, cb.isNull(field));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Path<Comparable<Object>> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String segment : attributePath.split("\\.")) {
+            path = path.get(segment);
+        }
+        return (Path<Comparable<Object>>) path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> convert(String value, Class<?> type) {
+        try {
+            Object converted;
+            if (type == LocalDateTime.class) {
+                converted = LocalDateTime.parse(value);
+            } else if (type == LocalDate.class) {
+                converted = LocalDate.parse(value);
+            } else if (type == LocalTime.class) {
+                converted = LocalTime.parse(value);
+            } else if (type == Instant.class) {
+                converted = Instant.parse(value);
+            } else if (type == OffsetDateTime.class) {
+                converted = OffsetDateTime.parse(value);
+            } else {
+                converted = DefaultConversionService.getSharedInstance().convert(value, type);
+            }
+            return (Comparable<Object>) converted;
+        } catch (DateTimeParseException | ConversionException | ClassCastException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR, e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
 }
@@ -1,7 +1,11 @@
 package de.unipassau.allocationsystem.utils;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Map;
 
@@ -26,6 +30,71 @@ public class ResponseHandler {
         ));
     }
 
+    /**
+     * Creates a successful response (200 OK) with message, data and a strong ETag header.
+     *
+     * @param message the success message
+     * @param data the response data
+     * @param etag quoted entity tag describing the version of {@code data}
+     * @return response entity with 200 status and ETag header
+     */
+    public static ResponseEntity<?> success(String message, Object data, String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(Map.of(
+                    "success", true,
+                    "message", message,
+                    "data", data
+                ));
+    }
+
+    /**
+     * Creates a not modified response (304 NOT MODIFIED) carrying the current ETag.
+     *
+     * @param etag quoted entity tag that matched the request
+     * @return response entity with 304 status and empty body
+     */
+    public static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    /**
+     * Checks an {@code If-None-Match} request header against the current ETag.
+     * Accepts comma-separated lists and weak validators ({@code W/} prefix), using weak comparison as required for
+     * {@code If-None-Match}. The wildcard {@code *} is not matched here, since it only matches if the resource
+     * exists; see {@link #matchesAnyRepresentation(String)}.
+     *
+     * @param ifNoneMatch raw header value (may be {@code null})
+     * @param etag current quoted entity tag
+     * @return true if the client's cached representation is still current
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} request header is the wildcard {@code *}, which matches any
+     * current representation. Callers must resolve the resource first, so a missing one still yields 404.
+     *
+     * @param ifNoneMatch raw header value (may be {@code null})
+     * @return true if the header matches any existing representation
+     */
+    public static boolean matchesAnyRepresentation(String ifNoneMatch) {
+        return ifNoneMatch != null && "*".equals(ifNoneMatch.trim());
+    }
+
     /**
      * Creates a created response (201 CREATED) with message and data.
      * 
@@ -164,4 +233,47 @@ public class ResponseHandler {
         data.put("message", message);
         return ResponseEntity.ok(data);
     }
+
+    /**
+     * Checks whether a {@code format} request parameter asks for newline-delimited JSON.
+     *
+     * @param format the requested format (e.g. "json" or "ndjson"), may be {@code null}
+     * @return true if NDJSON output was requested
+     */
+    public static boolean isNdjson(String format) {
+        return "ndjson".equalsIgnoreCase(format);
+    }
+
+    /**
+     * Creates a streamed success response (200 OK) whose body is written incrementally.
+     *
+     * @param ndjson true for {@code application/x-ndjson}, false for {@code application/json}
+     * @param body the body writer, invoked after the response headers have been sent
+     * @return response entity with 200 status
+     */
+    public static ResponseEntity<StreamingResponseBody> streaming(boolean ndjson, StreamingResponseBody body) {
+        MediaType contentType = ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .body(body);
+    }
+
+    /**
+     * Creates a streamed file download response (200 OK) whose body is written incrementally.
+     *
+     * @param contentType media type of the file
+     * @param fileName file name suggested to the client
+     * @param body the body writer, invoked after the response headers have been sent
+     * @return response entity with 200 status and an attachment content disposition
+     */
+    public static ResponseEntity<StreamingResponseBody> download(MediaType contentType, String fileName,
+                                                                 StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName)
+                        .build()
+                        .toString())
+                .body(body);
+    }
 }
@@ -0,0 +1,13 @@
+-- V14__create_plan_assignment_summaries_table.sql
+-- Migration to create plan_assignment_summaries table holding pre-aggregated assignment counts per plan
+
+CREATE TABLE plan_assignment_summaries (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    plan_id BIGINT NOT NULL,
+    dimension VARCHAR(30) NOT NULL,
+    dimension_key VARCHAR(100) NOT NULL,
+    assignment_count BIGINT NOT NULL DEFAULT 0,
+
+    -- One row per plan, dimension and dimension value; also serves lookups by plan and dimension
+    CONSTRAINT uk_plan_assignment_summary_key UNIQUE (plan_id, dimension, dimension_key)
+);
@@ -0,0 +1,14 @@
+-- V15__add_audit_log_keyset_indexes.sql
+-- Migration to replace the single-column audit log indexes with composite indexes for keyset pagination.
+-- Each filter column is followed by (event_timestamp, id), so a filtered page newest first is one index range
+-- scan starting at the cursor, independent of how deep the page is.
+
+DROP INDEX idx_audit_user ON audit_logs;
+DROP INDEX idx_audit_entity ON audit_logs;
+DROP INDEX idx_audit_action ON audit_logs;
+DROP INDEX idx_audit_timestamp ON audit_logs;
+
+CREATE INDEX idx_audit_user_time ON audit_logs(user_id, event_timestamp, id);
+CREATE INDEX idx_audit_entity_time ON audit_logs(target_entity, event_timestamp, id);
+CREATE INDEX idx_audit_action_time ON audit_logs(action, event_timestamp, id);
+CREATE INDEX idx_audit_time ON audit_logs(event_timestamp, id);
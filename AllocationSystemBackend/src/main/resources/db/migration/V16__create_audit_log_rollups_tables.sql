@@ -0,0 +1,19 @@
+-- V16__create_audit_log_rollups_tables.sql
+-- Migration to create the hourly audit log rollups and the progress row of the rollup compactor
+
+CREATE TABLE audit_log_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bucket_hour TIMESTAMP NOT NULL,
+    action VARCHAR(50) NOT NULL,
+    target_entity VARCHAR(100) NOT NULL,
+    user_identifier VARCHAR(255) NOT NULL,
+    event_count BIGINT NOT NULL DEFAULT 0,
+
+    -- One row per hour, action, entity and user; also serves range scans by hour
+    CONSTRAINT uk_audit_log_rollup_key UNIQUE (bucket_hour, action, target_entity, user_identifier)
+);
+
+CREATE TABLE audit_log_rollup_state (
+    id BIGINT PRIMARY KEY,
+    compacted_until TIMESTAMP NOT NULL
+);
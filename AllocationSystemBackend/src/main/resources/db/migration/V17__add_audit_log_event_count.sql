@@ -0,0 +1,4 @@
+-- V17__add_audit_log_event_count.sql
+-- Migration to store how many coalesced events an audit log entry stands for
+
+ALTER TABLE audit_logs ADD COLUMN event_count INT NOT NULL DEFAULT 1;
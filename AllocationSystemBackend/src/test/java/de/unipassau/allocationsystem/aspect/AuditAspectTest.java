@@ -0,0 +1,117 @@
+package de.unipassau.allocationsystem.aspect;
+
+import de.unipassau.allocationsystem.constant.AuditEntityNames;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.School.SchoolType;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.service.SchoolService;
+import de.unipassau.allocationsystem.service.audit.AuditLogService;
+import de.unipassau.allocationsystem.testutil.TestSchoolFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Integration tests for the values {@link AuditAspect} records around real service calls.
+ * <p>
+ * The school is committed before each call, so the aspect snapshots it as it would in production.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AuditAspectTest {
+
+    private final SchoolService schoolService;
+    private final SchoolRepository schoolRepository;
+
+    @MockitoBean
+    private AuditLogService auditLogService;
+
+    private School school;
+
+    @Autowired
+    AuditAspectTest(SchoolService schoolService, SchoolRepository schoolRepository) {
+        this.schoolService = schoolService;
+        this.schoolRepository = schoolRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        school = schoolRepository.save(TestSchoolFactory.buildTestSchool(
+                null, "Aspect School " + UUID.randomUUID(), SchoolType.PRIMARY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        schoolRepository.deleteById(school.getId());
+    }
+
+    @Test
+    void updateRecordsOnlyTheChangedFieldsBeforeAndAfter() {
+        String oldName = school.getSchoolName();
+        Integer oldZone = school.getZoneNumber();
+        School changes = new School();
+        changes.setSchoolName(oldName + " (renamed)");
+        changes.setZoneNumber(oldZone + 1);
+
+        schoolService.update(school.getId(), changes);
+
+        Values values = captureUpdate("Updated school");
+        assertEquals(Map.of("schoolName", oldName, "zoneNumber", oldZone), values.previous());
+        assertEquals(Map.of("schoolName", oldName + " (renamed)", "zoneNumber", oldZone + 1), values.current());
+    }
+
+    @Test
+    void statusUpdateRecordsTheFlagBeforeAndAfter() {
+        schoolService.updateStatus(school.getId(), false);
+
+        Values values = captureUpdate("Updated school status");
+        assertEquals(Map.of("isActive", true), values.previous());
+        assertEquals(Map.of("isActive", false), values.current());
+    }
+
+    @Test
+    void updateWithoutChangesRecordsEmptyDiffs() {
+        School changes = new School();
+        changes.setZoneNumber(school.getZoneNumber());
+
+        schoolService.update(school.getId(), changes);
+
+        Values values = captureUpdate("Updated school");
+        assertEquals(Map.of(), values.previous());
+        assertEquals(Map.of(), values.current());
+    }
+
+    @Test
+    void viewRecordsNoValues() {
+        schoolService.getById(school.getId());
+
+        verify(auditLogService).logWithCurrentUser(eq(AuditAction.VIEW), eq(AuditEntityNames.SCHOOL),
+                eq(school.getId().toString()), isNull(), isNull(), eq("Viewed school by id"));
+    }
+
+    private Values captureUpdate(String description) {
+        ArgumentCaptor<Object> previous = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> current = ArgumentCaptor.forClass(Object.class);
+        verify(auditLogService).logWithCurrentUser(eq(AuditAction.UPDATE), eq(AuditEntityNames.SCHOOL),
+                eq(school.getId().toString()), previous.capture(), current.capture(), eq(description));
+        return new Values(previous.getValue(), current.getValue());
+    }
+
+    private record Values(Object previous, Object current) {
+    }
+}
@@ -0,0 +1,46 @@
+package de.unipassau.allocationsystem.aspect;
+
+import de.unipassau.allocationsystem.entity.Subject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdAccessorsTest {
+
+    public record Reference(long id, String name) {
+    }
+
+    @Test
+    void readsIdThroughGetter() {
+        Subject subject = new Subject();
+        subject.setId(5L);
+
+        assertEquals(5L, IdAccessors.idOf(subject));
+    }
+
+    @Test
+    void readsIdOfRecord() {
+        assertEquals(9L, IdAccessors.idOf(new Reference(9L, "x")));
+    }
+
+    @Test
+    void returnsNullForClassesWithoutId() {
+        assertFalse(IdAccessors.hasId(StringBuilder.class));
+        assertNull(IdAccessors.idOf(new StringBuilder("abc")));
+        assertNull(IdAccessors.idOf(null));
+    }
+
+    @Test
+    void recognizesNumericIds() {
+        assertTrue(IdAccessors.isNumericId("42"));
+        assertTrue(IdAccessors.isNumericId("-7"));
+        assertTrue(IdAccessors.isNumericId(String.valueOf(Long.MAX_VALUE)));
+        assertFalse(IdAccessors.isNumericId("9223372036854775808"));
+        assertFalse(IdAccessors.isNumericId("12a"));
+        assertFalse(IdAccessors.isNumericId("-"));
+        assertFalse(IdAccessors.isNumericId(""));
+    }
+}
@@ -0,0 +1,74 @@
+package de.unipassau.allocationsystem.aspect;
+
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PropertySnapshotsTest {
+
+    @Test
+    void snapshotRecordsSimpleValuesAndReferenceIds() {
+        Subject subject = subject();
+
+        Map<String, Object> snapshot = PropertySnapshots.snapshot(subject);
+
+        assertEquals(1L, snapshot.get("id"));
+        assertEquals("MATH", snapshot.get("subjectCode"));
+        assertEquals(7L, snapshot.get("subjectCategory"));
+        assertEquals(true, snapshot.get("isActive"));
+    }
+
+    @Test
+    void snapshotLeavesOutCredentials() {
+        User user = new User();
+        user.setEmail("someone@example.com");
+        user.setPassword("hash");
+
+        Map<String, Object> snapshot = PropertySnapshots.snapshot(user);
+
+        assertEquals("someone@example.com", snapshot.get("email"));
+        assertFalse(snapshot.containsKey("password"));
+    }
+
+    @Test
+    void changesContainOnlyChangedProperties() {
+        Subject subject = subject();
+        Map<String, Object> before = PropertySnapshots.snapshot(subject);
+        subject.setSubjectTitle("Mathematics II");
+        subject.setIsActive(false);
+
+        PropertySnapshots.Changes changes = PropertySnapshots.changes(before, PropertySnapshots.snapshot(subject));
+
+        assertEquals(Map.of("subjectTitle", "Mathematics", "isActive", true), changes.previous());
+        assertEquals(Map.of("subjectTitle", "Mathematics II", "isActive", false), changes.current());
+    }
+
+    @Test
+    void changesOfUnchangedEntityAreEmpty() {
+        Subject subject = subject();
+
+        PropertySnapshots.Changes changes = PropertySnapshots.changes(
+                PropertySnapshots.snapshot(subject), PropertySnapshots.snapshot(subject));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    private Subject subject() {
+        SubjectCategory category = new SubjectCategory();
+        category.setId(7L);
+        Subject subject = new Subject();
+        subject.setId(1L);
+        subject.setSubjectCode("MATH");
+        subject.setSubjectTitle("Mathematics");
+        subject.setSubjectCategory(category);
+        subject.setIsActive(true);
+        return subject;
+    }
+}
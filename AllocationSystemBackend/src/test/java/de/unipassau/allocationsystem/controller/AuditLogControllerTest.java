@@ -1,10 +1,12 @@
 package de.unipassau.allocationsystem.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
 import de.unipassau.allocationsystem.entity.User;
 import de.unipassau.allocationsystem.repository.AuditLogRepository;
 import de.unipassau.allocationsystem.repository.UserRepository;
 import de.unipassau.allocationsystem.service.audit.AuditLogService;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,12 +16,20 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.everyItem;
@@ -28,10 +38,14 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -63,6 +77,7 @@ class AuditLogControllerTest {
     private final AuditLogRepository auditLogRepository;
     private final AuditLogService auditLogService;
     private final UserRepository userRepository;
+    private final AuditSearchIndex searchIndex;
 
     private User testUser;
     private User adminUser;
@@ -73,12 +88,14 @@ class AuditLogControllerTest {
             MockMvc mockMvc,
             AuditLogRepository auditLogRepository,
             AuditLogService auditLogService,
-            UserRepository userRepository
+            UserRepository userRepository,
+            AuditSearchIndex searchIndex
     ) {
         this.mockMvc = mockMvc;
         this.auditLogRepository = auditLogRepository;
         this.auditLogService = auditLogService;
         this.userRepository = userRepository;
+        this.searchIndex = searchIndex;
     }
 
     @BeforeEach
@@ -278,10 +295,14 @@ class AuditLogControllerTest {
     void testExportAuditLogs() throws Exception {
         DateRange range = DateRange.aroundNowDays(1);
 
-        ResultActions result = mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/export")
+        MvcResult started = mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/export")
                         .param("startDate", range.startIso())
                         .param("endDate", range.endIso())
-                        .param("maxRecords", "1000"));
+                        .param("maxRecords", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions result = mockMvc.perform(asyncDispatch(started));
 
         result.andExpect(status().isOk());
         result.andExpect(header().string("Content-Type", containsString("text/csv")));
@@ -292,14 +313,39 @@ class AuditLogControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void testExportAuditLogsWithActionFilter() throws Exception {
-        ResultActions result = mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/export")
+        MvcResult started = mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/export")
                         .param("action", "CREATE")
-                        .param("maxRecords", "1000"));
+                        .param("maxRecords", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions result = mockMvc.perform(asyncDispatch(started));
 
         result.andExpect(status().isOk());
         result.andExpect(header().string("Content-Type", containsString("text/csv")));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testExportAuditLogsGzip() throws Exception {
+        MvcResult started = mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/export")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/gzip")))
+                .andExpect(header().string("Content-Disposition", containsString(".csv.gz")))
+                .andReturn();
+
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(csv.startsWith("ID,User,Event Time,Action"));
+        }
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testPaginationWorks() throws Exception {
@@ -316,6 +362,81 @@ class AuditLogControllerTest {
         secondPage.andExpect(jsonPath("$.data.number").value(1));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testCursorPaginationVisitsEveryAuditLogOnce() throws Exception {
+        Set<Integer> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get(AUDIT_LOGS_ENDPOINT + "/cursor").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content", hasSize(lessThanOrEqualTo(2))))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<Integer> ids = JsonPath.read(body, "$.data.content[*].id");
+            for (Integer id : ids) {
+                assertTrue(seen.add(id), "Audit log " + id + " returned twice");
+            }
+            cursor = JsonPath.read(body, "$.data.nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(auditLogRepository.count(), seen.size());
+        assertTrue(pages > 1);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testCursorPaginationWithTotalAndFilter() throws Exception {
+        mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/cursor")
+                        .param("action", "UPDATE")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[*].action", everyItem(is("UPDATE"))))
+                .andExpect(jsonPath("$.data.totalElements", greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testCursorPaginationRejectsInvalidCursor() throws Exception {
+        mockMvc.perform(get(AUDIT_LOGS_ENDPOINT + "/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testSearchAuditLogsByText() throws Exception {
+        String marker = "teacher" + System.nanoTime();
+        auditLogService.log(testUser, AuditAction.UPDATE, "Teacher", "7",
+                Map.of("email", marker + "@uni-passau.de"), Map.of("email", "new@uni-passau.de"), "Updated teacher");
+        auditLogService.log(testUser, AuditAction.VIEW, "Teacher", "7", null, null, "Viewed teacher " + marker);
+        searchIndex.refresh();
+
+        mockMvc.perform(get(AUDIT_LOGS_ENDPOINT).param("q", marker.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2));
+        mockMvc.perform(get(AUDIT_LOGS_ENDPOINT)
+                        .param("q", marker + " passau")
+                        .param("action", "UPDATE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].targetRecordId").value("7"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testSearchAuditLogsRejectsQueryWithoutWords() throws Exception {
+        mockMvc.perform(get(AUDIT_LOGS_ENDPOINT).param("q", "- ."))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testGetAuditLogsWithMultipleFilters() throws Exception {
@@ -11,6 +11,7 @@ import de.unipassau.allocationsystem.entity.User;
 import de.unipassau.allocationsystem.repository.PasswordResetTokenRepository;
 import de.unipassau.allocationsystem.repository.UserRepository;
 import de.unipassau.allocationsystem.service.EmailService;
+import de.unipassau.allocationsystem.service.FailedLoginAttemptBuffer;
 import de.unipassau.allocationsystem.service.JwtService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +72,7 @@ class AuthControllerTest {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final FailedLoginAttemptBuffer failedLoginAttemptBuffer;
 
     @MockBean
     private EmailService emailService;
@@ -85,7 +87,8 @@ class AuthControllerTest {
             UserRepository userRepository,
             PasswordResetTokenRepository passwordResetTokenRepository,
             PasswordEncoder passwordEncoder,
-            JwtService jwtService
+            JwtService jwtService,
+            FailedLoginAttemptBuffer failedLoginAttemptBuffer
     ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
@@ -93,6 +96,7 @@ class AuthControllerTest {
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.failedLoginAttemptBuffer = failedLoginAttemptBuffer;
     }
 
     @BeforeEach
@@ -166,6 +170,7 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.message").value("Invalid email or password"));
 
+        failedLoginAttemptBuffer.flush();
         User updatedUser = userRepository.findById(testUser.getId()).orElseThrow();
         assert updatedUser.getFailedLoginAttempts() == 1;
     }
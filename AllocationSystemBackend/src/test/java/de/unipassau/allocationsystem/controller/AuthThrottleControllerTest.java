@@ -0,0 +1,78 @@
+package de.unipassau.allocationsystem.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.auth.LoginRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for login throttling.
+ * <p>
+ * The test profile disables the throttle, so it is enabled here with a small burst per email. Every test uses
+ * its own emails, so their buckets do not interfere.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "auth.throttle.enabled=true",
+        "auth.throttle.email.burst=2",
+        "auth.throttle.email.interval-ms=60000",
+        "auth.throttle.address.burst=1000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthThrottleControllerTest {
+
+    private static final String LOGIN_URL = "/api/auth/login";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    AuthThrottleControllerTest(MockMvc mockMvc, ObjectMapper objectMapper) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Test
+    void attemptsBeyondTheBurstAreRejectedWithTooManyRequests() throws Exception {
+        String email = "throttled+" + UUID.randomUUID() + "@example.com";
+
+        login(email).andExpect(status().isUnauthorized());
+        login(email).andExpect(status().isUnauthorized());
+        login(email)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message").value("Too many login attempts. Please try again later."));
+    }
+
+    @Test
+    void throttledEmailDoesNotThrottleOtherEmails() throws Exception {
+        String throttled = "throttled+" + UUID.randomUUID() + "@example.com";
+        for (int i = 0; i < 3; i++) {
+            login(throttled);
+        }
+
+        login(throttled.toUpperCase()).andExpect(status().isTooManyRequests());
+        login("other+" + UUID.randomUUID() + "@example.com").andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login(String email) throws Exception {
+        LoginRequestDto dto = new LoginRequestDto();
+        dto.setEmail(email);
+        dto.setPassword("WrongPwd-" + UUID.randomUUID() + "-Aa1!");
+        return mockMvc.perform(post(LOGIN_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+    }
+}
@@ -0,0 +1,49 @@
+package de.unipassau.allocationsystem.controller;
+
+import de.unipassau.allocationsystem.entity.School;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for {@link CacheController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CacheControllerTest {
+
+    private static final String STATISTICS_ENDPOINT = "/api/cache/statistics";
+
+    private final MockMvc mockMvc;
+
+    @Autowired
+    CacheControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void statisticsListEntityRegions() throws Exception {
+        mockMvc.perform(get(STATISTICS_ENDPOINT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.data.regions[*].regionName", hasItem(School.class.getName())));
+    }
+
+    @Test
+    @WithMockUser
+    void statisticsRequireAdmin() throws Exception {
+        mockMvc.perform(get(STATISTICS_ENDPOINT))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -12,6 +12,8 @@ import de.unipassau.allocationsystem.repository.InternshipDemandRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.testutil.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,6 +26,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -33,6 +36,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -56,6 +60,7 @@ class InternshipDemandControllerTest {
     private final AcademicYearRepository academicYearRepository;
     private final SubjectRepository subjectRepository;
     private final SubjectCategoryRepository subjectCategoryRepository;
+    private final EntityManager entityManager;
 
     private AcademicYear testYear;
     private InternshipType it1;
@@ -70,7 +75,8 @@ class InternshipDemandControllerTest {
             InternshipTypeRepository internshipTypeRepository,
             AcademicYearRepository academicYearRepository,
             SubjectRepository subjectRepository,
-            SubjectCategoryRepository subjectCategoryRepository
+            SubjectCategoryRepository subjectCategoryRepository,
+            EntityManager entityManager
     ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
@@ -79,6 +85,7 @@ class InternshipDemandControllerTest {
         this.academicYearRepository = academicYearRepository;
         this.subjectRepository = subjectRepository;
         this.subjectCategoryRepository = subjectCategoryRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
@@ -168,6 +175,26 @@ class InternshipDemandControllerTest {
                 .andExpect(jsonPath("$.data.items", not(empty())));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getPaginateIssuesSameStatementsForAnyNumberOfDemands() throws Exception {
+        paginateStatements(); // warms up data loaded once per context
+        List<String> two = paginateStatements();
+
+        SubjectCategory cat = createAndPersistSubjectCategory("Sciences");
+        for (int i = 0; i < 4; i++) {
+            InternshipType type = createAndPersistInternshipType("IT-EXTRA-" + i, "Extra Type " + i, 1);
+            Subject subject = createAndPersistSubject("SCI-" + i, "Science " + i, cat);
+            createAndPersistDemand(testYear, type, subject, 1);
+        }
+        List<String> six = paginateStatements();
+
+        assertEquals(two.size(), six.size(), () -> "Statements per page grew with its rows: " + six);
+        performGet("/api/internship-demands/paginate")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(6)));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllSuccess() throws Exception {
@@ -221,6 +248,16 @@ class InternshipDemandControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    /**
+     * Requests the first page with a clean persistence context and returns the statements of the request.
+     */
+    private List<String> paginateStatements() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        return SqlStatementCounter.record(() -> performGet("/api/internship-demands/paginate")
+                .andExpect(status().isOk()));
+    }
+
     private ResultActions performGet(String url) throws Exception {
         return mockMvc.perform(get(url).contentType(MediaType.APPLICATION_JSON));
     }
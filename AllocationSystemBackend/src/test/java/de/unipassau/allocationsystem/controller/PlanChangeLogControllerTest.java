@@ -63,21 +63,6 @@ class PlanChangeLogControllerTest {
         this.planChangeLogRepository = planChangeLogRepository;
     }
 
-    @Autowired
-    PlanChangeLogControllerTest(
-            @Autowired
-            MockMvc mockMvc,
-            UserRepository userRepository,
-            AllocationPlanRepository allocationPlanRepository,
-            AcademicYearRepository academicYearRepository,
-            PlanChangeLogRepository planChangeLogRepository
-    ) {
-        this.mockMvc = mockMvc;
-        this.userRepository = userRepository;
-        this.allocationPlanRepository = allocationPlanRepository;
-        this.academicYearRepository = academicYearRepository;
-        this.planChangeLogRepository = planChangeLogRepository;
-    }
 
     @BeforeEach
     void setUp() {
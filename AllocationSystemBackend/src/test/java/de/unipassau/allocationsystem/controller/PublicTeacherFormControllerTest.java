@@ -0,0 +1,217 @@
+package de.unipassau.allocationsystem.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.teacher.formsubmission.PublicFormSubmissionDto;
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherFormSubmission;
+import de.unipassau.allocationsystem.repository.AcademicYearRepository;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.TeacherFormSubmissionRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.service.FormTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the unauthenticated endpoints of {@link PublicTeacherFormController}.
+ * <p>
+ * Validates that signed tokens open and submit the form once, that forged tokens are rejected, and that
+ * unsigned links issued before tokens were signed still work during the transition window if they were stored.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.sql.init.mode=never",
+        "form.token.legacy-accepted-until=2099-12-31"
+})
+@AutoConfigureMockMvc
+@Transactional
+class PublicTeacherFormControllerTest {
+
+    private static final String FORM_URL = "/api/public/teacher-form-submission/{token}";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final FormTokenService formTokenService;
+    private final TeacherFormSubmissionRepository submissionRepo;
+    private final TeacherRepository teacherRepo;
+    private final AcademicYearRepository yearRepo;
+    private final SchoolRepository schoolRepo;
+    private final SubjectCategoryRepository categoryRepo;
+    private final SubjectRepository subjectRepo;
+
+    private School school;
+    private Teacher teacher;
+    private AcademicYear academicYear;
+    private Subject subject;
+
+    @Autowired
+    PublicTeacherFormControllerTest(
+            MockMvc mockMvc,
+            ObjectMapper objectMapper,
+            FormTokenService formTokenService,
+            TeacherFormSubmissionRepository submissionRepo,
+            TeacherRepository teacherRepo,
+            AcademicYearRepository yearRepo,
+            SchoolRepository schoolRepo,
+            SubjectCategoryRepository categoryRepo,
+            SubjectRepository subjectRepo
+    ) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.formTokenService = formTokenService;
+        this.submissionRepo = submissionRepo;
+        this.teacherRepo = teacherRepo;
+        this.yearRepo = yearRepo;
+        this.schoolRepo = schoolRepo;
+        this.categoryRepo = categoryRepo;
+        this.subjectRepo = subjectRepo;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        school = new School();
+        school.setSchoolName("Public Form School " + suffix);
+        school.setSchoolType(School.SchoolType.MIDDLE);
+        school.setZoneNumber(1);
+        school.setIsActive(true);
+        school = schoolRepo.save(school);
+
+        teacher = new Teacher();
+        teacher.setSchool(school);
+        teacher.setFirstName("Jane");
+        teacher.setLastName("Roe");
+        teacher.setEmail("jane.roe+" + suffix + "@test.com");
+        teacher.setIsPartTime(false);
+        teacher.setEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+        teacher = teacherRepo.save(teacher);
+
+        academicYear = new AcademicYear();
+        academicYear.setYearName("Public-" + suffix);
+        academicYear.setTotalCreditHours(100);
+        academicYear.setElementarySchoolHours(20);
+        academicYear.setMiddleSchoolHours(25);
+        academicYear.setBudgetAnnouncementDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        academicYear.setIsLocked(false);
+        academicYear = yearRepo.save(academicYear);
+
+        SubjectCategory category = new SubjectCategory();
+        category.setCategoryTitle("Public Form Category " + suffix);
+        category = categoryRepo.save(category);
+
+        subject = new Subject();
+        subject.setSubjectCode("PF-" + suffix);
+        subject.setSubjectTitle("Public Form Subject");
+        subject.setSubjectCategory(category);
+        subject.setIsActive(true);
+        subject = subjectRepo.save(subject);
+    }
+
+    @Test
+    void signedTokenOpensAndSubmitsTheFormOnce() throws Exception {
+        String token = formTokenService.generateFormToken(teacher.getId(), academicYear.getId());
+        saveInvitation(token);
+
+        mockMvc.perform(get(FORM_URL, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.teacherId").value(teacher.getId()))
+                .andExpect(jsonPath("$.data.yearId").value(academicYear.getId()));
+
+        submit(token).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.formToken").value(token));
+        submit(token).andExpect(status().isConflict());
+        mockMvc.perform(get(FORM_URL, token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void signedTokenWithoutInvitationCreatesTheSubmission() throws Exception {
+        String token = formTokenService.generateFormToken(teacher.getId(), academicYear.getId());
+
+        submit(token).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.teacherId").value(teacher.getId()));
+    }
+
+    @Test
+    void forgedTokenIsRejected() throws Exception {
+        byte[] bytes = Base64.getUrlDecoder().decode(
+                formTokenService.generateFormToken(teacher.getId(), academicYear.getId()));
+        bytes[8] ^= 1;
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        mockMvc.perform(get(FORM_URL, forged))
+                .andExpect(status().isBadRequest());
+        submit(forged).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void storedLegacyTokenIsAcceptedDuringTheTransitionWindow() throws Exception {
+        String legacy = legacyToken(teacher.getId(), academicYear.getId());
+        saveInvitation(legacy);
+
+        mockMvc.perform(get(FORM_URL, legacy))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.teacherId").value(teacher.getId()));
+        submit(legacy).andExpect(status().isCreated());
+    }
+
+    @Test
+    void unknownLegacyTokenIsRejected() throws Exception {
+        String legacy = legacyToken(teacher.getId(), academicYear.getId());
+
+        mockMvc.perform(get(FORM_URL, legacy))
+                .andExpect(status().isBadRequest());
+        submit(legacy).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions submit(String token) throws Exception {
+        PublicFormSubmissionDto dto = new PublicFormSubmissionDto(school.getId(), "Notes",
+                List.of(subject.getId()), List.of(1L));
+        return mockMvc.perform(post(FORM_URL, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+    }
+
+    private void saveInvitation(String token) {
+        TeacherFormSubmission invitation = new TeacherFormSubmission();
+        invitation.setTeacher(teacher);
+        invitation.setAcademicYear(academicYear);
+        invitation.setFormToken(token);
+        invitation.setIsProcessed(false);
+        submissionRepo.save(invitation);
+    }
+
+    /**
+     * Builds a token in the unsigned format issued before tokens were signed.
+     */
+    private static String legacyToken(Long teacherId, Long yearId) {
+        String json = "{\"teacherId\":" + teacherId + ",\"yearId\":" + yearId
+                + ",\"uuid\":\"" + UUID.randomUUID() + "\"}";
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,6 @@
 package de.unipassau.allocationsystem.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.unipassau.allocationsystem.dto.teacherassignment.TeacherAssignmentCreateDto;
 import de.unipassau.allocationsystem.dto.teacherassignment.TeacherAssignmentUpdateDto;
@@ -10,6 +11,7 @@ import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.Subject;
 import de.unipassau.allocationsystem.entity.SubjectCategory;
 import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
@@ -18,6 +20,9 @@ import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
 import de.unipassau.allocationsystem.repository.SubjectRepository;
 import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.testutil.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,18 +31,27 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -64,8 +78,10 @@ class TeacherAssignmentControllerTest {
     private final SchoolRepository schoolRepository;
     private final SubjectCategoryRepository subjectCategoryRepository;
     private final TeacherAssignmentRepository teacherAssignmentRepository;
+    private final EntityManager entityManager;
 
     private AllocationPlan plan;
+    private School school;
     private Teacher teacher;
     private InternshipType internshipType;
     private Subject subject;
@@ -82,7 +98,8 @@ class TeacherAssignmentControllerTest {
             SubjectRepository subjectRepository,
             SchoolRepository schoolRepository,
             SubjectCategoryRepository subjectCategoryRepository,
-            TeacherAssignmentRepository teacherAssignmentRepository
+            TeacherAssignmentRepository teacherAssignmentRepository,
+            EntityManager entityManager
     ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
@@ -94,6 +111,7 @@ class TeacherAssignmentControllerTest {
         this.schoolRepository = schoolRepository;
         this.subjectCategoryRepository = subjectCategoryRepository;
         this.teacherAssignmentRepository = teacherAssignmentRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
@@ -103,7 +121,7 @@ class TeacherAssignmentControllerTest {
         AcademicYear year = createAndPersistYear();
         plan = createAndPersistPlan(year);
 
-        School school = createAndPersistSchool();
+        school = createAndPersistSchool();
         teacher = createAndPersistTeacher(school);
 
         internshipType = createAndPersistInternshipType();
@@ -112,6 +130,16 @@ class TeacherAssignmentControllerTest {
         subject = createAndPersistSubject(cat);
     }
 
+    /**
+     * Removes the data committed by tests that run outside the test transaction.
+     */
+    @AfterEach
+    void tearDown() {
+        if (!TestTransaction.isActive()) {
+            clearRepositories();
+        }
+    }
+
     private void clearRepositories() {
         teacherAssignmentRepository.deleteAll();
         allocationPlanRepository.deleteAll();
@@ -144,7 +172,7 @@ class TeacherAssignmentControllerTest {
 
     private School createAndPersistSchool() {
         School school = new School();
-        school.setSchoolName("Test School");
+        school.setSchoolName("Test School " + System.nanoTime());
         school.setZoneNumber(1);
         school.setSchoolType(School.SchoolType.PRIMARY);
         school.setIsActive(true);
@@ -196,12 +224,111 @@ class TeacherAssignmentControllerTest {
         assertFalse(teacherAssignmentRepository.existsById(createdId));
     }
 
+    /**
+     * The stream is written on another thread in its own transaction, so the test data is committed.
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void streamPlanAssignmentsReturnsEnvelope() throws Exception {
+        persistAssignment(teacher);
+        persistAssignment(createAndPersistTeacher(school));
+
+        mockMvc.perform(asyncDispatch(startStream("json")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].planId").value(plan.getId()))
+                .andExpect(jsonPath("$.data[0].teacherId").value(teacher.getId()))
+                .andExpect(jsonPath("$.data[0].teacherTitle").value("John Doe"))
+                .andExpect(jsonPath("$.data[0].subjectTitle").value("Subject 1"))
+                .andExpect(jsonPath("$.data[0].assignmentStatus").value("PLANNED"))
+                .andExpect(jsonPath("$.data[1].internshipTypeId").value(internshipType.getId()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void streamPlanAssignmentsAsNdjsonWritesOneAssignmentPerLine() throws Exception {
+        persistAssignment(teacher);
+        persistAssignment(createAndPersistTeacher(school));
+
+        String body = mockMvc.perform(asyncDispatch(startStream("ndjson")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        for (String line : lines) {
+            JsonNode assignment = objectMapper.readTree(line);
+            assertEquals(plan.getId(), assignment.get("planId").asLong());
+            assertEquals(subject.getId(), assignment.get("subjectId").asLong());
+        }
+        assertEquals(teacher.getId(), objectMapper.readTree(lines.get(0)).get("teacherId").asLong());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamPlanAssignmentsForUnknownPlanReturnsNotFound() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/plan/{planId}/stream", Long.MAX_VALUE).param("format", "ndjson"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getPaginateIssuesSameStatementsForAnyNumberOfAssignments() throws Exception {
+        persistAssignment(teacher);
+        paginateStatements(); // warms up data loaded once per context
+        List<String> single = paginateStatements();
+
+        for (int i = 0; i < 4; i++) {
+            persistAssignment(createAndPersistTeacher(createAndPersistSchool()));
+        }
+        List<String> many = paginateStatements();
+
+        assertEquals(single.size(), many.size(), () -> "Statements per page grew with its rows: " + many);
+        mockMvc.perform(get(BASE_URL + "/paginate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(5)))
+                .andExpect(jsonPath("$.data.items[0].teacherTitle").value("John Doe"))
+                .andExpect(jsonPath("$.data.items[0].subjectTitle").value("Subject 1"))
+                .andExpect(jsonPath("$.data.items[0].planTitle").value(plan.getAcademicYear().getYearName() + " (v1)"));
+    }
+
     @Test
     void unauthorizedAccessShouldReturnUnauthorized() throws Exception {
         mockMvc.perform(get(BASE_URL))
                 .andExpect(status().isUnauthorized());
     }
 
+    private MvcResult startStream(String format) throws Exception {
+        return mockMvc.perform(get(BASE_URL + "/plan/{planId}/stream", plan.getId()).param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void persistAssignment(Teacher assignedTeacher) {
+        TeacherAssignment assignment = new TeacherAssignment();
+        assignment.setAllocationPlan(plan);
+        assignment.setTeacher(assignedTeacher);
+        assignment.setInternshipType(internshipType);
+        assignment.setSubject(subject);
+        assignment.setAssignmentStatus(TeacherAssignment.AssignmentStatus.PLANNED);
+        teacherAssignmentRepository.save(assignment);
+    }
+
+    /**
+     * Requests the first page with a clean persistence context and returns the statements of the request.
+     */
+    private List<String> paginateStatements() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        return SqlStatementCounter.record(() -> mockMvc.perform(get(BASE_URL + "/paginate"))
+                .andExpect(status().isOk()));
+    }
+
     private long createAssignmentAndReturnId() throws Exception {
         TeacherAssignmentCreateDto dto = new TeacherAssignmentCreateDto();
         dto.setPlanId(plan.getId());
@@ -1,8 +1,17 @@
 package de.unipassau.allocationsystem.controller;
 
+import de.unipassau.allocationsystem.entity.AcademicYear;
 import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAvailability;
+import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
 import de.unipassau.allocationsystem.repository.TeacherAvailabilityRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.testutil.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -14,9 +23,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -36,23 +51,37 @@ class TeacherAvailabilityControllerTest {
     private final MockMvc mockMvc;
     private final InternshipTypeRepository internshipTypeRepository;
     private final TeacherAvailabilityRepository teacherAvailabilityRepository;
+    private final TeacherRepository teacherRepository;
+    private final SchoolRepository schoolRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final EntityManager entityManager;
+
+    private InternshipType internshipType;
 
         @Autowired
         TeacherAvailabilityControllerTest(
             MockMvc mockMvc,
             InternshipTypeRepository internshipTypeRepository,
-            TeacherAvailabilityRepository teacherAvailabilityRepository
+            TeacherAvailabilityRepository teacherAvailabilityRepository,
+            TeacherRepository teacherRepository,
+            SchoolRepository schoolRepository,
+            AcademicYearRepository academicYearRepository,
+            EntityManager entityManager
         ) {
         this.mockMvc = mockMvc;
         this.internshipTypeRepository = internshipTypeRepository;
         this.teacherAvailabilityRepository = teacherAvailabilityRepository;
+        this.teacherRepository = teacherRepository;
+        this.schoolRepository = schoolRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
     void setUp() {
         teacherAvailabilityRepository.deleteAll();
         internshipTypeRepository.deleteAll();
-        internshipTypeRepository.save(buildInternshipType());
+        internshipType = internshipTypeRepository.save(buildInternshipType());
     }
 
     private InternshipType buildInternshipType() {
@@ -82,6 +111,24 @@ class TeacherAvailabilityControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
     }
 
+    @Test
+    void getPaginateIssuesSameStatementsForAnyNumberOfAvailabilities() throws Exception {
+        persistAvailability();
+        paginateStatements(); // warms up data loaded once per context
+        List<String> single = paginateStatements();
+
+        for (int i = 0; i < 4; i++) {
+            persistAvailability();
+        }
+        List<String> many = paginateStatements();
+
+        assertEquals(single.size(), many.size(), () -> "Statements per page grew with its rows: " + many);
+        mockMvc.perform(get("/api/teacher-availability/paginate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(5)));
+    }
+
     @Test
     void getAllSuccessWithNoData() throws Exception {
         mockMvc.perform(get("/api/teacher-availability")
@@ -102,4 +149,53 @@ class TeacherAvailabilityControllerTest {
         mockMvc.perform(delete("/api/teacher-availability/{id}", 9999L))
                 .andExpect(status().isNotFound());
     }
+
+    /**
+     * Persists an availability of a new teacher at a new school in a new academic year, so that every row has its
+     * own associations to load.
+     */
+    private void persistAvailability() {
+        long suffix = System.nanoTime();
+
+        School school = new School();
+        school.setSchoolName("Availability School " + suffix);
+        school.setZoneNumber(1);
+        school.setSchoolType(School.SchoolType.PRIMARY);
+        school.setIsActive(true);
+        school = schoolRepository.save(school);
+
+        Teacher teacher = new Teacher();
+        teacher.setFirstName("John");
+        teacher.setLastName("Doe");
+        teacher.setEmail("john.doe+" + suffix + "@example.com");
+        teacher.setEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+        teacher.setSchool(school);
+        teacher = teacherRepository.save(teacher);
+
+        AcademicYear year = new AcademicYear();
+        year.setYearName("2025-" + suffix);
+        year.setTotalCreditHours(100);
+        year.setElementarySchoolHours(40);
+        year.setMiddleSchoolHours(60);
+        year.setBudgetAnnouncementDate(LocalDateTime.now());
+        year = academicYearRepository.save(year);
+
+        TeacherAvailability availability = new TeacherAvailability();
+        availability.setTeacher(teacher);
+        availability.setAcademicYear(year);
+        availability.setInternshipType(internshipType);
+        availability.setStatus(TeacherAvailability.AvailabilityStatus.AVAILABLE);
+        teacherAvailabilityRepository.save(availability);
+    }
+
+    /**
+     * Requests the first page with a clean persistence context and returns the statements of the request.
+     */
+    private List<String> paginateStatements() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        return SqlStatementCounter.record(() -> mockMvc.perform(get("/api/teacher-availability/paginate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()));
+    }
 }
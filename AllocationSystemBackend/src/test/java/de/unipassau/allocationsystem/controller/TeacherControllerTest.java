@@ -1,15 +1,22 @@
 package de.unipassau.allocationsystem.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.unipassau.allocationsystem.dto.teacher.TeacherCreateDto;
 import de.unipassau.allocationsystem.dto.teacher.TeacherUpdateDto;
 import de.unipassau.allocationsystem.entity.School;
 import de.unipassau.allocationsystem.entity.School.SchoolType;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
 import de.unipassau.allocationsystem.entity.Teacher;
 import de.unipassau.allocationsystem.entity.Teacher.EmploymentStatus;
 import de.unipassau.allocationsystem.entity.Teacher.UsageCycle;
 import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.repository.SubjectRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.testutil.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,11 +26,16 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -46,6 +58,9 @@ class TeacherControllerTest {
     private final ObjectMapper objectMapper;
     private final TeacherRepository teacherRepository;
     private final SchoolRepository schoolRepository;
+    private final SubjectRepository subjectRepository;
+    private final SubjectCategoryRepository subjectCategoryRepository;
+    private final EntityManager entityManager;
 
     private School testSchool;
     private Teacher testTeacher;
@@ -56,12 +71,18 @@ class TeacherControllerTest {
             MockMvc mockMvc,
             ObjectMapper objectMapper,
             TeacherRepository teacherRepository,
-            SchoolRepository schoolRepository
+            SchoolRepository schoolRepository,
+            SubjectRepository subjectRepository,
+            SubjectCategoryRepository subjectCategoryRepository,
+            EntityManager entityManager
     ) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.teacherRepository = teacherRepository;
         this.schoolRepository = schoolRepository;
+        this.subjectRepository = subjectRepository;
+        this.subjectCategoryRepository = subjectCategoryRepository;
+        this.entityManager = entityManager;
     }
 
     @BeforeEach
@@ -143,6 +164,117 @@ class TeacherControllerTest {
                 .andExpect(jsonPath("$.data.items").isArray());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTeachersPaginateWithCursorVisitsEveryTeacherOnceInOrder() throws Exception {
+        String[] lastNames = {"Beta", "Alpha", "Beta", "Alpha", "Beta"};
+        for (int i = 0; i < lastNames.length; i++) {
+            Teacher t = buildTeacher(testSchool);
+            t.setFirstName("Cursor");
+            t.setLastName(lastNames[i]);
+            t.setEmail("cursor" + i + "@school.de");
+            teacherRepository.save(t);
+        }
+
+        List<String> visited = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get(BASE_URL + "/paginate")
+                            .param("searchValue", "Cursor")
+                            .param("sortBy", "lastName")
+                            .param("sortOrder", "asc")
+                            .param("pageSize", "2")
+                            .param("after", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalItems").doesNotExist())
+                    .andReturn();
+            JsonNode data = objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+            for (JsonNode item : data.get("items")) {
+                visited.add(item.get("lastName").asText() + ":" + item.get("email").asText());
+            }
+            cursor = data.get("hasNext").asBoolean() ? data.get("nextCursor").asText() : null;
+        }
+
+        assertEquals(List.of(
+                "Alpha:cursor1@school.de", "Alpha:cursor3@school.de",
+                "Beta:cursor0@school.de", "Beta:cursor2@school.de", "Beta:cursor4@school.de"), visited);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTeachersPaginateWithCursorOfOtherSortShouldFail() throws Exception {
+        teacherRepository.save(buildTeacherWithEmail(testSchool, "second@school.de"));
+        MvcResult first = mockMvc.perform(get(BASE_URL + "/paginate")
+                        .param("pageSize", "1")
+                        .param("after", "")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalItems").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+        String cursor = objectMapper.readTree(first.getResponse().getContentAsString())
+                .get("data").get("nextCursor").asText();
+
+        mockMvc.perform(get(BASE_URL + "/paginate")
+                        .param("sortBy", "lastName")
+                        .param("after", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getTeachersPaginateIssuesSameStatementsForAnyNumberOfTeachers() throws Exception {
+        SubjectCategory category = new SubjectCategory();
+        category.setCategoryTitle("Paging");
+        category = subjectCategoryRepository.save(category);
+        Subject math = persistSubject(category, "MATH", "Mathematics");
+        Subject art = persistSubject(category, "ART", "Art");
+        testTeacher.getSubjects().add(math);
+        teacherRepository.save(testTeacher);
+
+        paginateStatements(); // warms up data loaded once per context
+        List<String> single = paginateStatements();
+
+        for (int i = 0; i < 4; i++) {
+            School school = buildSchool();
+            school.setSchoolName("Paging School " + i);
+            Teacher t = buildTeacherWithEmail(schoolRepository.save(school), "paging" + i + "@school.de");
+            t.getSubjects().add(math);
+            t.getSubjects().add(art);
+            teacherRepository.save(t);
+        }
+        List<String> many = paginateStatements();
+
+        assertEquals(single.size(), many.size(), () -> "Statements per page grew with its rows: " + many);
+        mockMvc.perform(get(BASE_URL + "/paginate").param("sortBy", "id").param("sortOrder", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(5)))
+                .andExpect(jsonPath("$.data.items[0].schoolName").value("Test School"))
+                .andExpect(jsonPath("$.data.items[0].subjects", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].subjects[0].subjectTitle").value("Mathematics"))
+                .andExpect(jsonPath("$.data.items[1].schoolName").value("Paging School 0"))
+                .andExpect(jsonPath("$.data.items[1].subjects", hasSize(2)));
+    }
+
+    private Subject persistSubject(SubjectCategory category, String code, String title) {
+        Subject subject = new Subject();
+        subject.setSubjectCode(code);
+        subject.setSubjectTitle(title);
+        subject.setSubjectCategory(category);
+        subject.setIsActive(true);
+        return subjectRepository.save(subject);
+    }
+
+    /**
+     * Requests the first page with a clean persistence context and returns the statements of the request.
+     */
+    private List<String> paginateStatements() throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        return SqlStatementCounter.record(() -> mockMvc.perform(get(BASE_URL + "/paginate"))
+                .andExpect(status().isOk()));
+    }
+
     // ==================== GET /api/teachers/{id} ====================
 
     @Test
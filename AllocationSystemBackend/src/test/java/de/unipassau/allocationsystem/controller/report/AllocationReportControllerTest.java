@@ -0,0 +1,251 @@
+package de.unipassau.allocationsystem.controller.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.repository.AcademicYearRepository;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the streamed allocation report of {@link AllocationReportController}.
+ * <p>
+ * The report is written on another thread in its own transaction, so the test data is committed and removed
+ * after each test.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.sql.init.mode=never")
+@AutoConfigureMockMvc(addFilters = true)
+@ActiveProfiles("test")
+class AllocationReportControllerTest {
+
+    private static final String STREAM_URL = "/api/reports/allocation/{planId}/stream";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final AcademicYearRepository academicYearRepository;
+    private final AllocationPlanRepository allocationPlanRepository;
+    private final SchoolRepository schoolRepository;
+    private final TeacherRepository teacherRepository;
+    private final InternshipTypeRepository internshipTypeRepository;
+    private final SubjectCategoryRepository subjectCategoryRepository;
+    private final SubjectRepository subjectRepository;
+    private final TeacherAssignmentRepository teacherAssignmentRepository;
+
+    private AcademicYear year;
+    private AllocationPlan plan;
+    private School school;
+    private Teacher teacher;
+    private InternshipType internshipType;
+    private SubjectCategory category;
+    private Subject math;
+    private Subject physics;
+
+    @Autowired
+    AllocationReportControllerTest(
+            MockMvc mockMvc,
+            ObjectMapper objectMapper,
+            AcademicYearRepository academicYearRepository,
+            AllocationPlanRepository allocationPlanRepository,
+            SchoolRepository schoolRepository,
+            TeacherRepository teacherRepository,
+            InternshipTypeRepository internshipTypeRepository,
+            SubjectCategoryRepository subjectCategoryRepository,
+            SubjectRepository subjectRepository,
+            TeacherAssignmentRepository teacherAssignmentRepository
+    ) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.academicYearRepository = academicYearRepository;
+        this.allocationPlanRepository = allocationPlanRepository;
+        this.schoolRepository = schoolRepository;
+        this.teacherRepository = teacherRepository;
+        this.internshipTypeRepository = internshipTypeRepository;
+        this.subjectCategoryRepository = subjectCategoryRepository;
+        this.subjectRepository = subjectRepository;
+        this.teacherAssignmentRepository = teacherAssignmentRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        year = new AcademicYear();
+        year.setYearName("Report-" + suffix);
+        year.setTotalCreditHours(10);
+        year.setElementarySchoolHours(4);
+        year.setMiddleSchoolHours(6);
+        year.setBudgetAnnouncementDate(LocalDateTime.now());
+        year = academicYearRepository.save(year);
+
+        plan = new AllocationPlan();
+        plan.setAcademicYear(year);
+        plan.setPlanName("Report Plan");
+        plan.setPlanVersion("v1");
+        plan.setStatus(AllocationPlan.PlanStatus.DRAFT);
+        plan = allocationPlanRepository.save(plan);
+
+        school = new School();
+        school.setSchoolName("Report School " + suffix);
+        school.setZoneNumber(2);
+        school.setSchoolType(School.SchoolType.PRIMARY);
+        school.setIsActive(true);
+        school = schoolRepository.save(school);
+
+        teacher = new Teacher();
+        teacher.setFirstName("Jane");
+        teacher.setLastName("Roe");
+        teacher.setEmail("jane.roe+" + suffix + "@example.com");
+        teacher.setEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+        teacher.setSchool(school);
+        teacher = teacherRepository.save(teacher);
+
+        internshipType = new InternshipType();
+        internshipType.setInternshipCode("REP-" + suffix);
+        internshipType.setFullName("Report Internship");
+        internshipType.setSemester(1);
+        internshipType = internshipTypeRepository.save(internshipType);
+
+        category = new SubjectCategory();
+        category.setCategoryTitle("Report Category " + suffix);
+        category = subjectCategoryRepository.save(category);
+
+        math = saveSubject("MA-" + suffix);
+        physics = saveSubject("PH-" + suffix);
+
+        saveAssignment(math);
+        saveAssignment(physics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        teacherAssignmentRepository.deleteAll(teacherAssignmentRepository.findByAllocationPlanId(plan.getId()));
+        allocationPlanRepository.deleteById(plan.getId());
+        academicYearRepository.deleteById(year.getId());
+        teacherRepository.deleteById(teacher.getId());
+        schoolRepository.deleteById(school.getId());
+        internshipTypeRepository.deleteById(internshipType.getId());
+        subjectRepository.deleteById(math.getId());
+        subjectRepository.deleteById(physics.getId());
+        subjectCategoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamReportWritesTheFullReport() throws Exception {
+        mockMvc.perform(asyncDispatch(startStream("json")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.header.planName").value("Report Plan"))
+                .andExpect(jsonPath("$.data.header.academicYear").value(year.getYearName()))
+                .andExpect(jsonPath("$.data.assignments", hasSize(2)))
+                .andExpect(jsonPath("$.data.assignments[0].teacherName").value("Roe, Jane"))
+                .andExpect(jsonPath("$.data.assignments[0].schoolName").value(school.getSchoolName()))
+                .andExpect(jsonPath("$.data.assignments[0].subjectCode").value(math.getSubjectCode()))
+                .andExpect(jsonPath("$.data.assignments[1].subjectCode").value(physics.getSubjectCode()))
+                .andExpect(jsonPath("$.data.budgetSummary.totalBudgetHours").value(10.0))
+                .andExpect(jsonPath("$.data.budgetSummary.usedHours").value(1.0))
+                .andExpect(jsonPath("$.data.budgetSummary.elementaryHoursUsed").value(1.0))
+                .andExpect(jsonPath("$.data.utilizationAnalysis.perfectlyUtilizedTeachers[?(@.teacherId == "
+                        + teacher.getId() + ")].assignmentCount").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamReportAsNdjsonWritesOneTypedRecordPerLine() throws Exception {
+        String body = mockMvc.perform(asyncDispatch(startStream("ndjson")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> records = body.lines().map(this::readTree).toList();
+        assertEquals(List.of("header", "assignment", "assignment", "budgetSummary", "utilizationAnalysis"),
+                records.stream().map(node -> node.get("type").asText()).toList());
+        assertEquals("Report Plan", records.get(0).at("/data/planName").asText());
+        assertEquals(math.getSubjectCode(), records.get(1).at("/data/subjectCode").asText());
+        assertEquals(1.0, records.get(3).at("/data/usedHours").asDouble());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamReportForUnknownPlanReturnsNotFound() throws Exception {
+        mockMvc.perform(get(STREAM_URL, Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void streamReportRequiresAuthentication() throws Exception {
+        mockMvc.perform(get(STREAM_URL, plan.getId()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MvcResult startStream(String format) throws Exception {
+        return mockMvc.perform(get(STREAM_URL, plan.getId()).param("format", format))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private Subject saveSubject(String code) {
+        Subject subject = new Subject();
+        subject.setSubjectCode(code);
+        subject.setSubjectTitle(code);
+        subject.setSubjectCategory(category);
+        subject.setIsActive(true);
+        return subjectRepository.save(subject);
+    }
+
+    private void saveAssignment(Subject subject) {
+        TeacherAssignment assignment = new TeacherAssignment();
+        assignment.setAllocationPlan(plan);
+        assignment.setTeacher(teacher);
+        assignment.setInternshipType(internshipType);
+        assignment.setSubject(subject);
+        assignment.setAssignmentStatus(TeacherAssignment.AssignmentStatus.PLANNED);
+        teacherAssignmentRepository.save(assignment);
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.unipassau.allocationsystem.controller.report;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the access rules of {@link PlanAnalyticsController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PlanAnalyticsControllerTest {
+
+    private static final String EXPORT_URL = "/api/reports/analytics/archive/{planId}";
+
+    private final MockMvc mockMvc;
+
+    @Autowired
+    PlanAnalyticsControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @WithMockUser
+    void exportPlanRequiresAdmin() throws Exception {
+        mockMvc.perform(post(EXPORT_URL, Long.MAX_VALUE).with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportPlanOfUnknownPlanReturnsNotFound() throws Exception {
+        mockMvc.perform(post(EXPORT_URL, Long.MAX_VALUE).with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,128 @@
+package de.unipassau.allocationsystem.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LoginThrottle}.
+ * <p>
+ * Validates bursts, refilling, that distinct keys never share a bucket, the bounded key count, that email and client
+ * address are throttled independently and that an attempt rejected for its address leaves the email untouched.
+ * </p>
+ */
+class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void bucketAllowsBurstThenRefillsPerInterval() {
+        LoginThrottle.Buckets buckets = new LoginThrottle.Buckets(64, 3, 1000);
+
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 0));
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 0));
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 0));
+        assertFalse(buckets.tryAcquire("a@uni-passau.de", 0));
+        assertFalse(buckets.tryAcquire("a@uni-passau.de", SECOND / 2));
+
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", SECOND));
+        assertFalse(buckets.tryAcquire("a@uni-passau.de", SECOND));
+
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 10 * SECOND));
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 10 * SECOND));
+        assertTrue(buckets.tryAcquire("a@uni-passau.de", 10 * SECOND));
+        assertFalse(buckets.tryAcquire("a@uni-passau.de", 10 * SECOND));
+    }
+
+    @Test
+    void distinctKeysNeverShareABucket() {
+        LoginThrottle.Buckets buckets = new LoginThrottle.Buckets(64, 1, 1000);
+
+        // Equal String hash codes, which picked the same slot in a hashed table
+        assertTrue(buckets.tryAcquire("Aa", 0));
+        assertTrue(buckets.tryAcquire("BB", 0));
+        assertFalse(buckets.tryAcquire("Aa", 0));
+    }
+
+    @Test
+    void fullTableDropsRefilledBucketsFirst() {
+        LoginThrottle.Buckets buckets = new LoginThrottle.Buckets(2, 2, 1000);
+        assertTrue(buckets.tryAcquire("a", 0));
+        assertTrue(buckets.tryAcquire("a", 0));
+        assertTrue(buckets.tryAcquire("b", 0));
+
+        // "b" has refilled and is dropped, "a" is still draining and kept
+        assertTrue(buckets.tryAcquire("c", SECOND + SECOND / 2));
+        assertEquals(2, buckets.size());
+        assertTrue(buckets.tryAcquire("a", SECOND + SECOND / 2));
+        assertFalse(buckets.tryAcquire("a", SECOND + SECOND / 2));
+    }
+
+    @Test
+    void fullTableEvictsTheBucketClosestToRefillInsteadOfRefusingNewKeys() {
+        LoginThrottle.Buckets buckets = new LoginThrottle.Buckets(2, 2, 1000);
+        assertTrue(buckets.tryAcquire("a", 0));
+        assertTrue(buckets.tryAcquire("a", 0));
+        assertTrue(buckets.tryAcquire("b", 0));
+
+        assertTrue(buckets.tryAcquire("c", 0));
+        assertEquals(2, buckets.size());
+        // "b" was evicted, "a" kept its exhausted bucket
+        assertFalse(buckets.tryAcquire("a", 0));
+        assertTrue(buckets.tryAcquire("c", 0));
+    }
+
+    @Test
+    void throttlesEmailAcrossAddressesAndAddressAcrossEmails() {
+        LoginThrottle throttle = newThrottle();
+
+        assertTrue(throttle.tryAcquire("a@uni-passau.de", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("A@uni-passau.de ", "10.0.0.2"));
+        assertFalse(throttle.tryAcquire("a@uni-passau.de", "10.0.0.3"));
+
+        assertTrue(throttle.tryAcquire("b@uni-passau.de", "10.0.0.9"));
+        assertTrue(throttle.tryAcquire("c@uni-passau.de", "10.0.0.9"));
+        assertTrue(throttle.tryAcquire("d@uni-passau.de", "10.0.0.9"));
+        assertFalse(throttle.tryAcquire("e@uni-passau.de", "10.0.0.9"));
+    }
+
+    @Test
+    void attemptRejectedForItsAddressDoesNotChargeTheEmail() {
+        LoginThrottle throttle = newThrottle();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(throttle.tryAcquire("flood" + i + "@uni-passau.de", "10.0.0.9"));
+        }
+
+        assertFalse(throttle.tryAcquire("a@uni-passau.de", "10.0.0.9"));
+        assertFalse(throttle.tryAcquire("a@uni-passau.de", "10.0.0.9"));
+        assertTrue(throttle.tryAcquire("a@uni-passau.de", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("a@uni-passau.de", "10.0.0.2"));
+    }
+
+    @Test
+    void disabledThrottleAllowsEverything() {
+        LoginThrottle throttle = newThrottle();
+        ReflectionTestUtils.setField(throttle, "enabled", false);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(throttle.tryAcquire("a@uni-passau.de", "10.0.0.1"));
+        }
+    }
+
+    private static LoginThrottle newThrottle() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "maxKeys", 1024);
+        ReflectionTestUtils.setField(throttle, "emailBurst", 2);
+        ReflectionTestUtils.setField(throttle, "emailIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(throttle, "addressBurst", 3);
+        ReflectionTestUtils.setField(throttle, "addressIntervalMillis", 60_000L);
+        throttle.init();
+        return throttle;
+    }
+}
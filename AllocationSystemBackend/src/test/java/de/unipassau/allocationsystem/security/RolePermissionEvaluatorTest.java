@@ -0,0 +1,100 @@
+package de.unipassau.allocationsystem.security;
+
+import de.unipassau.allocationsystem.entity.Permission;
+import de.unipassau.allocationsystem.entity.Role;
+import de.unipassau.allocationsystem.entity.RolePermission;
+import de.unipassau.allocationsystem.repository.RolePermissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RolePermissionEvaluator} and {@link PermissionMatrix}.
+ * <p>
+ * Validates role and access level matching, rebuilding after changes and matrices spanning several words.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class RolePermissionEvaluatorTest {
+
+    @Mock
+    private RolePermissionRepository rolePermissionRepository;
+
+    private RolePermissionEvaluator evaluator;
+    private Authentication moderator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new RolePermissionEvaluator(rolePermissionRepository);
+        moderator = new UsernamePasswordAuthenticationToken("moderator@uni-passau.de", null,
+                List.of(new SimpleGrantedAuthority("ROLE_MODERATOR")));
+    }
+
+    @Test
+    void grantsOnlyAssignedAccessLevels() {
+        when(rolePermissionRepository.findAllWithRoleAndPermission()).thenReturn(List.of(
+                assignment("MODERATOR", "TEACHER", "view,edit"),
+                assignment("ADMIN", "SCHOOL", "delete")));
+        evaluator.rebuild();
+
+        assertTrue(evaluator.hasPermission(moderator, "teacher", "view"));
+        assertTrue(evaluator.hasPermission(moderator, 7L, "TEACHER", "EDIT"));
+        assertFalse(evaluator.hasPermission(moderator, "TEACHER", "delete"));
+        assertFalse(evaluator.hasPermission(moderator, "SCHOOL", "delete"));
+        assertFalse(evaluator.hasPermission(moderator, "UNKNOWN", "view"));
+        assertFalse(evaluator.hasPermission(moderator, "TEACHER", "approve"));
+    }
+
+    @Test
+    void rebuildReplacesMatrix() {
+        when(rolePermissionRepository.findAllWithRoleAndPermission())
+                .thenReturn(List.of(assignment("MODERATOR", "TEACHER", "view")))
+                .thenReturn(List.of());
+
+        evaluator.rebuildAfterCommit();
+        assertTrue(evaluator.hasPermission(moderator, "TEACHER", "view"));
+
+        evaluator.rebuildAfterCommit();
+        assertFalse(evaluator.hasPermission(moderator, "TEACHER", "view"));
+    }
+
+    @Test
+    void matrixHandlesPermissionsBeyondFirstWord() {
+        List<RolePermission> assignments = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            assignments.add(assignment("USER", "PERMISSION_" + i, "view"));
+        }
+        assignments.add(assignment("MODERATOR", "PERMISSION_39", "delete"));
+
+        PermissionMatrix matrix = PermissionMatrix.build(assignments);
+
+        assertTrue(matrix.allows("USER", "PERMISSION_39", "view"));
+        assertFalse(matrix.allows("USER", "PERMISSION_39", "delete"));
+        assertTrue(matrix.allows("MODERATOR", "PERMISSION_39", "delete"));
+        assertFalse(matrix.allows("MODERATOR", "PERMISSION_0", "view"));
+    }
+
+    private static RolePermission assignment(String roleTitle, String permissionTitle, String accessLevel) {
+        Role role = new Role();
+        role.setTitle(roleTitle);
+        Permission permission = new Permission();
+        permission.setTitle(permissionTitle);
+        RolePermission rolePermission = new RolePermission();
+        rolePermission.setRole(role);
+        rolePermission.setPermission(permission);
+        rolePermission.setAccessLevel(accessLevel);
+        return rolePermission;
+    }
+}
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +36,19 @@ class AllocationPlanServiceStateChangeTest extends AllocationPlanServiceTestBase
         verify(planChangeLogService).logPlanChange(anyLong(), anyString(), anyString(), anyLong(), any(), any(), anyString());
     }
 
+    @Test
+    void setCurrentPlanShouldBumpVersionsOfPlansUnsetInBulk() {
+        when(allocationPlanRepository.findById(1L)).thenReturn(Optional.of(testPlan));
+        when(allocationPlanRepository.findIdsByAcademicYearId(1L)).thenReturn(List.of(1L, 2L));
+        stubSaveReturns(testPlan);
+        stubMapperToResponse(testPlan, responseDto);
+
+        allocationPlanService.setCurrentPlan(1L);
+
+        assertEquals(1L, dataVersionService.getPlanVersion(2L));
+        assertEquals(1L, dataVersionService.getTableVersion(AllocationPlan.class));
+    }
+
     @Test
     void setCurrentPlanShouldThrowWhenMissing() {
         when(allocationPlanRepository.findById(anyLong())).thenReturn(Optional.empty());
@@ -10,8 +10,10 @@ import de.unipassau.allocationsystem.entity.AllocationPlan.PlanStatus;
 import de.unipassau.allocationsystem.mapper.AllocationPlanMapper;
 import de.unipassau.allocationsystem.repository.AcademicYearRepository;
 import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 
@@ -33,11 +35,16 @@ abstract class AllocationPlanServiceTestBase {
     @Mock
     protected PlanChangeLogService planChangeLogService;
 
+    protected DataVersionService dataVersionService;
+
     protected AllocationPlanWriteSupport writeSupport;
 
     @Mock
     protected TeacherAllocationService teacherAllocationService;
 
+    @Mock
+    protected ApplicationEventPublisher eventPublisher;
+
     protected AllocationPlanService allocationPlanService;
 
     protected AcademicYear testYear;
@@ -54,11 +61,14 @@ abstract class AllocationPlanServiceTestBase {
         updateDto = buildUpdateDto("Updated Plan", PlanStatus.IN_REVIEW, null, "Updated notes");
         responseDto = buildResponseDtoFromPlan(testPlan);
 
+        dataVersionService = new DataVersionService();
+
         // Use a real writeSupport (spied) so validation and logging behave like production
-        writeSupport = spy(new AllocationPlanWriteSupport(allocationPlanRepository, academicYearRepository, allocationPlanMapper, planChangeLogService));
+        writeSupport = spy(new AllocationPlanWriteSupport(allocationPlanRepository, academicYearRepository, allocationPlanMapper,
+                planChangeLogService, dataVersionService));
 
         // Instantiate service with mocks and the spied writeSupport
-        allocationPlanService = new AllocationPlanService(allocationPlanRepository, allocationPlanMapper, planChangeLogService, teacherAllocationService, writeSupport);
+        allocationPlanService = new AllocationPlanService(allocationPlanRepository, allocationPlanMapper, planChangeLogService, teacherAllocationService, writeSupport, eventPublisher);
     }
 
     protected AcademicYear buildAcademicYear(Long id, String yearName) {
@@ -2,6 +2,8 @@ package de.unipassau.allocationsystem.service;
 
 import de.unipassau.allocationsystem.dto.auth.LoginRequestDto;
 import de.unipassau.allocationsystem.dto.auth.LoginResponseDto;
+import de.unipassau.allocationsystem.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -17,9 +19,13 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,6 +34,13 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceLoginTest extends AuthServiceTestBase {
 
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+
+    @BeforeEach
+    void allowLogins() {
+        lenient().when(loginThrottle.tryAcquire(anyString(), anyString())).thenReturn(true);
+    }
+
     /**
      * Verifies that a valid login produces a token response and updates user state.
      */
@@ -43,28 +56,64 @@ class AuthServiceLoginTest extends AuthServiceTestBase {
         when(authenticationManager.authenticate(any())).thenReturn(auth);
         when(jwtService.generateToken(any(UserDetails.class))).thenReturn("token-xyz");
 
-        LoginResponseDto resp = authService.login(req);
+        LoginResponseDto resp = authService.login(req, CLIENT_ADDRESS);
 
         assertNotNull(resp);
         assertEquals(user.getEmail(), resp.getEmail());
         assertEquals(user.getId(), resp.getUserId());
         verify(userRepository).save(any(User.class));
+        verify(failedLoginAttemptBuffer).clear(user.getId());
         verify(auditLogService).logAction(any(), anyString(), anyString());
     }
 
     /**
-     * Verifies that bad credentials increment failed attempts and an exception is thrown.
+     * Verifies that bad credentials record a failed attempt without writing the user and an exception is thrown.
      */
     @Test
-    void loginBadCredentialsIncrementsAttemptsAndThrows() {
+    void loginBadCredentialsRecordsAttemptAndThrows() {
         LoginRequestDto req = loginRequest(user.getEmail(), testSecret());
 
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+        when(failedLoginAttemptBuffer.record(user)).thenReturn(1);
 
-        assertThrows(BadCredentialsException.class, () -> authService.login(req));
+        assertThrows(BadCredentialsException.class, () -> authService.login(req, CLIENT_ADDRESS));
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository, never()).save(any(User.class));
         verify(auditLogService).logAction(any(), anyString(), anyString());
     }
+
+    /**
+     * Verifies that the failed attempt reaching the limit locks the account right away.
+     */
+    @Test
+    void loginBadCredentialsLocksAccountAtLimit() {
+        LoginRequestDto req = loginRequest(user.getEmail(), testSecret());
+
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
+        when(failedLoginAttemptBuffer.record(user)).thenReturn(5);
+
+        assertThrows(BadCredentialsException.class, () -> authService.login(req, CLIENT_ADDRESS));
+
+        assertTrue(user.isAccountLocked());
+        assertEquals(5, user.getFailedLoginAttempts());
+        verify(userRepository).save(user);
+        verify(failedLoginAttemptBuffer).clear(user.getId());
+        verify(emailService).sendAccountLockedEmail(user.getEmail(), user.getFullName());
+    }
+
+    /**
+     * Verifies that a throttled attempt is rejected before the user is loaded or authenticated.
+     */
+    @Test
+    void loginThrottledIsRejectedBeforeLookup() {
+        LoginRequestDto req = loginRequest(user.getEmail(), testSecret());
+
+        when(loginThrottle.tryAcquire(user.getEmail(), CLIENT_ADDRESS)).thenReturn(false);
+
+        assertThrows(TooManyRequestsException.class, () -> authService.login(req, CLIENT_ADDRESS));
+
+        verifyNoInteractions(userRepository, authenticationManager);
+    }
 }
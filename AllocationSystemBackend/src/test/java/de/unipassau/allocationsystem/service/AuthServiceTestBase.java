@@ -9,6 +9,7 @@ import de.unipassau.allocationsystem.entity.PasswordResetToken;
 import de.unipassau.allocationsystem.entity.User;
 import de.unipassau.allocationsystem.repository.PasswordResetTokenRepository;
 import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.security.LoginThrottle;
 import de.unipassau.allocationsystem.service.audit.AuditLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.InjectMocks;
@@ -53,6 +54,12 @@ abstract class AuthServiceTestBase {
     @Mock
     protected EmailService emailService;
 
+    @Mock
+    protected LoginThrottle loginThrottle;
+
+    @Mock
+    protected FailedLoginAttemptBuffer failedLoginAttemptBuffer;
+
     @InjectMocks
     protected AuthService authService;
 
@@ -0,0 +1,105 @@
+package de.unipassau.allocationsystem.service;
+
+import de.unipassau.allocationsystem.entity.User;
+import de.unipassau.allocationsystem.repository.UserRepository;
+import de.unipassau.allocationsystem.service.cache.DataVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link FailedLoginAttemptBuffer}.
+ * <p>
+ * Validates that pending attempts are flushed in one update per distinct count and that clearing a user waits for
+ * an in-flight flush, so drained attempts cannot be written after the count was reset.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class FailedLoginAttemptBufferTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FailedLoginAttemptBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new FailedLoginAttemptBuffer(userRepository, dataVersionService, transactionManager);
+        buffer.init();
+    }
+
+    @Test
+    void recordCountsPendingAttemptsAndFlushGroupsThemByCount() {
+        assertEquals(1, buffer.record(user(1L)));
+        assertEquals(2, buffer.record(user(1L)));
+        assertEquals(1, buffer.record(user(2L)));
+
+        buffer.flush();
+
+        verify(userRepository).addFailedLoginAttempts(2, List.of(1L));
+        verify(userRepository).addFailedLoginAttempts(1, List.of(2L));
+        assertEquals(1, buffer.record(user(1L)));
+    }
+
+    @Test
+    void clearedAttemptsAreNotFlushed() {
+        buffer.record(user(1L));
+        buffer.clear(1L);
+
+        buffer.flush();
+
+        verify(userRepository, never()).addFailedLoginAttempts(anyInt(), anyCollection());
+    }
+
+    @Test
+    void clearWaitsForAnInFlightFlush() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.addFailedLoginAttempts(anyInt(), anyCollection())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return 1;
+        });
+        buffer.record(user(1L));
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> clear = CompletableFuture.runAsync(() -> buffer.clear(1L));
+        Thread.sleep(100);
+        assertFalse(clear.isDone());
+
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        clear.get(5, TimeUnit.SECONDS);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setFailedLoginAttempts(0);
+        return user;
+    }
+}
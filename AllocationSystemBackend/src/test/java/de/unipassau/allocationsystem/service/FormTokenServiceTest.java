@@ -0,0 +1,123 @@
+package de.unipassau.allocationsystem.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link FormTokenService}.
+ * <p>
+ * Validates round trips, uniqueness, rejection of tampered, foreign, expired and malformed tokens, the key
+ * derived from the JWT secret and the transition window for legacy tokens.
+ * </p>
+ */
+class FormTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-01T08:00:00Z");
+
+    private FormTokenService formTokenService;
+
+    @BeforeEach
+    void setUp() {
+        formTokenService = newService("form-token-secret", NOW);
+    }
+
+    @Test
+    void decodeReturnsEncodedIdsAndExpiry() {
+        String token = formTokenService.generateFormToken(42L, 7L);
+
+        FormTokenService.TokenData data = formTokenService.decodeFormToken(token);
+
+        assertEquals(42L, data.getTeacherId());
+        assertEquals(7L, data.getYearId());
+        assertEquals(NOW.plus(Duration.ofDays(30)), data.getExpiresAt());
+    }
+
+    @Test
+    void tokensForSameTeacherAndYearDiffer() {
+        assertNotEquals(formTokenService.generateFormToken(1L, 1L), formTokenService.generateFormToken(1L, 1L));
+    }
+
+    @Test
+    void decodeRejectsTamperedToken() {
+        byte[] bytes = Base64.getUrlDecoder().decode(formTokenService.generateFormToken(42L, 7L));
+        bytes[8] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThrows(IllegalArgumentException.class, () -> formTokenService.decodeFormToken(tampered));
+    }
+
+    @Test
+    void decodeRejectsTokenSignedWithOtherSecret() {
+        String foreign = newService("other-secret", NOW).generateFormToken(42L, 7L);
+
+        assertThrows(IllegalArgumentException.class, () -> formTokenService.decodeFormToken(foreign));
+    }
+
+    @Test
+    void decodeRejectsExpiredToken() {
+        String token = formTokenService.generateFormToken(42L, 7L);
+        FormTokenService later = newService("form-token-secret", NOW.plus(Duration.ofDays(31)));
+
+        assertThrows(IllegalArgumentException.class, () -> later.decodeFormToken(token));
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> formTokenService.decodeFormToken(null));
+        assertThrows(IllegalArgumentException.class, () -> formTokenService.decodeFormToken("unique-token-123"));
+        assertThrows(IllegalArgumentException.class,
+                () -> formTokenService.decodeFormToken("*".repeat(66)));
+    }
+
+    @Test
+    void keyDerivedFromJwtSecretDiffersFromTheJwtSecret() {
+        FormTokenService derived = new FormTokenService(Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(derived, "jwtSecret", "form-token-secret");
+        ReflectionTestUtils.setField(derived, "validityDays", 30L);
+        derived.init();
+
+        String token = derived.generateFormToken(42L, 7L);
+
+        assertEquals(42L, derived.decodeFormToken(token).getTeacherId());
+        assertThrows(IllegalArgumentException.class, () -> formTokenService.decodeFormToken(token));
+    }
+
+    @Test
+    void legacyTokensAreAcceptedUntilTheEndOfTheConfiguredDay() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"teacherId\":42,\"yearId\":7,\"uuid\":\"x\"}".getBytes(StandardCharsets.UTF_8));
+        ReflectionTestUtils.setField(formTokenService, "legacyAcceptedUntil", LocalDate.of(2025, 10, 1));
+        FormTokenService later = newService("form-token-secret", NOW.plus(Duration.ofDays(1)));
+        ReflectionTestUtils.setField(later, "legacyAcceptedUntil", LocalDate.of(2025, 10, 1));
+
+        assertTrue(formTokenService.isLegacyFormat(legacy));
+        assertFalse(formTokenService.isLegacyFormat(formTokenService.generateFormToken(42L, 7L)));
+        assertEquals(Optional.of(Instant.parse("2025-10-02T00:00:00Z")), formTokenService.legacyTokensAcceptedUntil());
+        assertEquals(Optional.empty(), later.legacyTokensAcceptedUntil());
+        assertEquals(Optional.empty(), newService("form-token-secret", NOW).legacyTokensAcceptedUntil());
+    }
+
+    private static FormTokenService newService(String secret, Instant now) {
+        FormTokenService service = new FormTokenService(Clock.fixed(now, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "validityDays", 30L);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,81 @@
+package de.unipassau.allocationsystem.service;
+
+import de.unipassau.allocationsystem.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link JwtService}.
+ * <p>
+ * Validates token verification, rejection of forged and expired tokens and the cache of verified tokens.
+ * </p>
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "dGhpc0lzQVZlcnlTZWN1cmVTZWNyZXRLZXlGb3JKV1RBdXRoZW50aWNhdGlvbjEyMzQ1Njc4OTA=";
+    private static final String OTHER_SECRET = "YW5vdGhlclZlcnlTZWN1cmVTZWNyZXRLZXlGb3JKV1RBdXRoZW50aWNhdGlvbjEyMzQ1Ng==";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newService(SECRET, 60_000L);
+        user = new User();
+        user.setEmail("teacher@uni-passau.de");
+    }
+
+    @Test
+    void verifyReturnsSubjectAndCachesToken() {
+        String token = jwtService.generateToken(user);
+
+        JwtService.VerifiedToken first = jwtService.verify(token);
+        JwtService.VerifiedToken second = jwtService.verify(token);
+
+        assertEquals("teacher@uni-passau.de", first.username());
+        assertSame(first, second);
+        assertTrue(jwtService.validateToken(token, user));
+    }
+
+    @Test
+    void verifyRejectsTokenSignedWithOtherKey() {
+        String forged = newService(OTHER_SECRET, 60_000L).generateToken(user);
+
+        assertThrows(JwtException.class, () -> jwtService.verify(forged));
+    }
+
+    @Test
+    void verifyRejectsExpiredToken() {
+        String expired = newService(SECRET, -1_000L).generateToken(Map.of(), user);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(expired));
+    }
+
+    @Test
+    void validateTokenRejectsOtherUser() {
+        User other = new User();
+        other.setEmail("admin@uni-passau.de");
+
+        assertFalse(jwtService.validateToken(jwtService.generateToken(user), other));
+    }
+
+    private static JwtService newService(String secret, long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "expiration", expiration);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", 100);
+        service.init();
+        return service;
+    }
+}
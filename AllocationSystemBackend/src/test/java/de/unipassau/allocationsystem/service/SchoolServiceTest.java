@@ -5,6 +5,8 @@ import de.unipassau.allocationsystem.entity.School.SchoolType;
 import de.unipassau.allocationsystem.exception.DuplicateResourceException;
 import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
+import de.unipassau.allocationsystem.service.search.SearchIndexService;
 import de.unipassau.allocationsystem.testutil.TestSchoolFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +43,12 @@ class SchoolServiceTest {
     @Mock
     private SchoolRepository schoolRepository;
 
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private SchoolService schoolService;
 
@@ -66,14 +74,14 @@ class SchoolServiceTest {
 
     @Test
     void getAllReturnsAllSchools() {
-        when(schoolRepository.findAll()).thenReturn(List.of(testSchool));
+        when(referenceDataCache.getAll(School.class)).thenReturn(List.of(testSchool));
 
         List<School> result = schoolService.getAll();
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testSchool, result.get(0));
-        verify(schoolRepository).findAll();
+        verify(referenceDataCache).getAll(School.class);
     }
 
     @Test
@@ -13,6 +13,10 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.TeacherMapper;
 import de.unipassau.allocationsystem.repository.SchoolRepository;
 import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.repository.projection.ProjectionQueryExecutor;
+import de.unipassau.allocationsystem.repository.projection.TeacherRow;
+import de.unipassau.allocationsystem.repository.projection.TeacherSubjectRow;
+import de.unipassau.allocationsystem.service.search.SearchIndexService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +39,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -55,6 +61,12 @@ class TeacherServiceTest {
     @Mock
     private TeacherMapper teacherMapper;
 
+    @Mock
+    private ProjectionQueryExecutor projectionQueryExecutor;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
     @InjectMocks
     private TeacherService teacherService;
 
@@ -89,30 +101,37 @@ class TeacherServiceTest {
 
     @Test
     void getPaginatedDefaultSuccess() {
-        Page<Teacher> page = new PageImpl<>(List.of(testTeacher));
+        TeacherRow row = buildRow(testTeacher);
+        Page<TeacherRow> page = new PageImpl<>(List.of(row));
         Map<String, String> queryParams = new HashMap<>();
 
-        when(teacherRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(projectionQueryExecutor.findPage(eq(TeacherRow.PROJECTION), any(), any(Pageable.class)))
+                .thenReturn(page);
+        when(teacherRepository.findSubjectRowsByTeacherIdIn(List.of(1L)))
+                .thenReturn(List.of(new TeacherSubjectRow(1L, 7L, "Math")));
+        when(teacherMapper.toResponseDto(eq(row), any())).thenReturn(responseDto);
 
         Map<String, Object> resp = teacherService.getPaginated(queryParams, null);
 
         assertNotNull(resp);
-        assertTrue(resp.containsKey("items"));
+        assertEquals(List.of(responseDto), resp.get("items"));
         assertTrue(resp.containsKey("totalItems"));
-        verify(teacherRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(teacherMapper).toResponseDto(eq(row), argThat(s -> s.size() == 1 && s.get(0).getId() == 7L));
+        verify(teacherRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
     void getPaginatedWithSearchSuccess() {
-        Page<Teacher> page = new PageImpl<>(List.of(testTeacher));
+        Page<TeacherRow> page = new PageImpl<>(List.of(buildRow(testTeacher)));
         Map<String, String> queryParams = new HashMap<>();
 
-        when(teacherRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        when(projectionQueryExecutor.findPage(eq(TeacherRow.PROJECTION), any(), any(Pageable.class)))
+                .thenReturn(page);
 
         Map<String, Object> resp = teacherService.getPaginated(queryParams, "John");
 
         assertNotNull(resp);
-        verify(teacherRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(projectionQueryExecutor).findPage(eq(TeacherRow.PROJECTION), any(), any(Pageable.class));
     }
 
     @Test
@@ -326,4 +345,12 @@ class TeacherServiceTest {
                 .usageCycle(UsageCycle.FLEXIBLE)
                 .build();
     }
+
+    private static TeacherRow buildRow(Teacher teacher) {
+        School school = teacher.getSchool();
+        return new TeacherRow(teacher.getId(), school.getId(), school.getSchoolName(), teacher.getFirstName(),
+                teacher.getLastName(), teacher.getEmail(), teacher.getPhone(), teacher.getIsPartTime(),
+                teacher.getWorkingHoursPerWeek(), teacher.getEmploymentStatus(), teacher.getUsageCycle(),
+                teacher.getCreditHourBalance(), teacher.getCreatedAt(), teacher.getUpdatedAt());
+    }
 }
@@ -10,6 +10,7 @@ import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
 import de.unipassau.allocationsystem.mapper.ZoneConstraintMapper;
 import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
 import de.unipassau.allocationsystem.repository.ZoneConstraintRepository;
+import de.unipassau.allocationsystem.service.cache.ReferenceDataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +55,9 @@ class ZoneConstraintServiceTest {
     @Mock
     private ZoneConstraintMapper zoneConstraintMapper;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private ZoneConstraintService zoneConstraintService;
 
@@ -87,13 +91,13 @@ class ZoneConstraintServiceTest {
 
     @Test
     void getAllReturnsAllConstraints() {
-        when(zoneConstraintRepository.findAll()).thenReturn(List.of(testConstraint));
+        when(referenceDataCache.getAll(ZoneConstraint.class)).thenReturn(List.of(testConstraint));
 
         List<ZoneConstraint> result = zoneConstraintService.getAll();
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(zoneConstraintRepository).findAll();
+        verify(referenceDataCache).getAll(ZoneConstraint.class);
     }
 
     @Test
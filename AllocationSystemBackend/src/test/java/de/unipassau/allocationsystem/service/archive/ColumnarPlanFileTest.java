@@ -0,0 +1,98 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ColumnarPlanFile} and {@link PlanColumns}.
+ * <p>
+ * Validates that archives round-trip, are replaced without leftover files and that column aggregations match the
+ * written rows.
+ * </p>
+ */
+class ColumnarPlanFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndReadRoundTripsColumnsAndMetadata() throws IOException {
+        PlanArchiveMetadata metadata = new PlanArchiveMetadata(7L, "Final", "v2", "2024/2025", "ARCHIVED",
+                LocalDateTime.of(2025, 9, 1, 12, 0));
+        PlanColumns columns = PlanColumns.builder(metadata)
+                .add(row("MATH", "PRIMARY", "1"), 2)
+                .add(row("GERMAN", "PRIMARY", "2"), 3)
+                .add(row("MATH", "MIDDLE", ""), 4)
+                .build();
+
+        Path file = tempDir.resolve("plan-7" + ColumnarPlanFile.EXTENSION);
+        ColumnarPlanFile.write(columns, file);
+
+        assertEquals(metadata, ColumnarPlanFile.readMetadata(file));
+
+        PlanColumns read = ColumnarPlanFile.read(file);
+        assertEquals(3, read.getRowCount());
+        assertEquals(metadata, read.getMetadata());
+        assertEquals("MATH", read.valueOf(PlanColumns.Column.SUBJECT, 0));
+        assertEquals("GERMAN", read.valueOf(PlanColumns.Column.SUBJECT, 1));
+        assertArrayEquals(new long[]{2, 1}, read.countBy(PlanColumns.Column.SUBJECT));
+        assertArrayEquals(new long[]{6, 3}, read.sumStudentsBy(PlanColumns.Column.SUBJECT));
+        assertArrayEquals(new long[]{1, 1, 1}, read.countBy(PlanColumns.Column.ZONE));
+        assertEquals("", read.valueOf(PlanColumns.Column.ZONE, 2));
+    }
+
+    @Test
+    void emptyPlanRoundTrips() throws IOException {
+        PlanArchiveMetadata metadata = new PlanArchiveMetadata(8L, "Empty", "v1", "2025/2026", "APPROVED",
+                LocalDateTime.of(2025, 9, 1, 12, 0));
+        Path file = tempDir.resolve("plan-8" + ColumnarPlanFile.EXTENSION);
+        ColumnarPlanFile.write(PlanColumns.builder(metadata).build(), file);
+
+        PlanColumns read = ColumnarPlanFile.read(file);
+        assertEquals(0, read.getRowCount());
+        assertEquals(0, read.countBy(PlanColumns.Column.TEACHER).length);
+    }
+
+    @Test
+    void rewriteReplacesTheArchiveAndLeavesNoTemporaryFiles() throws IOException {
+        Path file = tempDir.resolve("plan-9" + ColumnarPlanFile.EXTENSION);
+        for (String version : new String[]{"v1", "v2"}) {
+            PlanArchiveMetadata metadata = new PlanArchiveMetadata(9L, "Plan", version, "2025/2026", "APPROVED",
+                    LocalDateTime.of(2025, 9, 1, 12, 0));
+            ColumnarPlanFile.write(PlanColumns.builder(metadata).build(), file);
+        }
+
+        assertEquals("v2", ColumnarPlanFile.readMetadata(file).planVersion());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void readRejectsForeignFile() throws IOException {
+        Path file = tempDir.resolve("other" + ColumnarPlanFile.EXTENSION);
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> ColumnarPlanFile.read(file));
+    }
+
+    private Map<PlanColumns.Column, String> row(String subject, String schoolType, String zone) {
+        return Map.of(
+                PlanColumns.Column.SUBJECT, subject,
+                PlanColumns.Column.SCHOOL_TYPE, schoolType,
+                PlanColumns.Column.ZONE, zone,
+                PlanColumns.Column.TEACHER, subject + zone);
+    }
+}
@@ -0,0 +1,77 @@
+package de.unipassau.allocationsystem.service.archive;
+
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the archive column values computed by {@link PlanArchiveService} and its cache of decoded
+ * archives.
+ */
+class PlanArchiveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void valuesOfLeavesOutMissingZoneAndStatus() {
+        School school = new School();
+        school.setSchoolType(School.SchoolType.PRIMARY);
+        Teacher teacher = new Teacher();
+        teacher.setId(7L);
+        teacher.setSchool(school);
+        InternshipType type = new InternshipType();
+        type.setInternshipCode("PDP1");
+        Subject subject = new Subject();
+        subject.setSubjectCode("MA");
+        TeacherAssignment assignment = new TeacherAssignment();
+        assignment.setTeacher(teacher);
+        assignment.setInternshipType(type);
+        assignment.setSubject(subject);
+
+        assertEquals(Map.of(
+                PlanColumns.Column.TEACHER, "7",
+                PlanColumns.Column.SCHOOL_TYPE, "PRIMARY",
+                PlanColumns.Column.INTERNSHIP_TYPE, "PDP1",
+                PlanColumns.Column.SUBJECT, "MA"), PlanArchiveService.valuesOf(assignment));
+    }
+
+    @Test
+    void readColumnsCachesDecodedArchivesUpToTheLimit() throws IOException {
+        PlanArchiveService service = new PlanArchiveService(null, null, null);
+        ReflectionTestUtils.setField(service, "cacheMaxEntries", 2);
+        Path first = archive(1L);
+        Path second = archive(2L);
+        Path third = archive(3L);
+
+        PlanColumns columns = service.readColumns(first);
+        assertSame(columns, service.readColumns(first));
+        service.readColumns(second);
+        service.readColumns(third);
+
+        assertEquals(2, service.cachedArchives());
+        assertEquals(1L, service.readColumns(first).getMetadata().planId());
+        assertEquals(2, service.cachedArchives());
+    }
+
+    private Path archive(Long planId) throws IOException {
+        PlanArchiveMetadata metadata = new PlanArchiveMetadata(planId, "Plan", "v1", "2024/2025", "ARCHIVED",
+                LocalDateTime.of(2025, 9, 1, 12, 0));
+        Path file = tempDir.resolve("plan-" + planId + ColumnarPlanFile.EXTENSION);
+        ColumnarPlanFile.write(PlanColumns.builder(metadata).build(), file);
+        return file;
+    }
+}
@@ -0,0 +1,145 @@
+package de.unipassau.allocationsystem.service.audit;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for {@link AuditLogQueryService} queries that reach into archived months.
+ * <p>
+ * Three entries are archived and three stay in the table. The archive files are written inside the test
+ * transaction and removed again when it rolls back.
+ * </p>
+ */
+@SpringBootTest(properties = "audit.archive.directory=build/test-audit-archive")
+@ActiveProfiles("test")
+@Transactional
+class AuditLogQueryServiceArchiveTest {
+
+    private static final YearMonth ARCHIVED_MONTH = YearMonth.now().minusMonths(24);
+    private static final LocalDateTime START = ARCHIVED_MONTH.atDay(1).atStartOfDay();
+
+    private final AuditLogQueryService auditLogQueryService;
+    private final AuditArchiveService auditArchiveService;
+    private final AuditLogRepository auditLogRepository;
+
+    @Autowired
+    AuditLogQueryServiceArchiveTest(AuditLogQueryService auditLogQueryService,
+                                    AuditArchiveService auditArchiveService,
+                                    AuditLogRepository auditLogRepository) {
+        this.auditLogQueryService = auditLogQueryService;
+        this.auditArchiveService = auditArchiveService;
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        auditLogRepository.deleteAll();
+        save("A", ARCHIVED_MONTH.atDay(1).atTime(10, 0));
+        save("C", ARCHIVED_MONTH.atDay(2).atTime(10, 0));
+        save("E", ARCHIVED_MONTH.atDay(3).atTime(10, 0));
+        auditArchiveService.archiveMonth(ARCHIVED_MONTH).orElseThrow();
+
+        LocalDateTime now = LocalDateTime.now();
+        save("B", now.minusMinutes(3));
+        save("D", now.minusMinutes(2));
+        save("F", now.minusMinutes(1));
+    }
+
+    @Test
+    void newestFirstPagesContinueFromTheTableIntoTheArchive() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "eventTimestamp");
+
+        assertEquals(List.of("F", "D"), entities(page(0, sort)));
+        assertEquals(List.of("B", "E"), entities(page(1, sort)));
+        assertEquals(List.of("C", "A"), entities(page(2, sort)));
+        assertEquals(6, page(0, sort).getTotalElements());
+    }
+
+    @Test
+    void oldestFirstPagesStartInTheArchive() {
+        Sort sort = Sort.by(Sort.Direction.ASC, "eventTimestamp");
+
+        assertEquals(List.of("A", "C"), entities(page(0, sort)));
+        assertEquals(List.of("E", "B"), entities(page(1, sort)));
+    }
+
+    @Test
+    void otherSortsMergeTableAndArchiveEntries() {
+        Sort ascending = Sort.by(Sort.Direction.ASC, "targetEntity");
+        Sort descending = Sort.by(Sort.Direction.DESC, "targetEntity");
+
+        assertEquals(List.of("A", "B"), entities(page(0, ascending)));
+        assertEquals(List.of("C", "D"), entities(page(1, ascending)));
+        assertEquals(List.of("E", "F"), entities(page(2, ascending)));
+        assertEquals(List.of("F", "E"), entities(page(0, descending)));
+        assertEquals(6, page(1, ascending).getTotalElements());
+    }
+
+    @Test
+    void keysetPageTotalsIncludeArchivedEntries() {
+        AuditLogCursorPage all = auditLogQueryService.getAuditLogPage(null, null, null, START, null, null, 2, true);
+        AuditLogCursorPage filtered = auditLogQueryService.getAuditLogPage(null, null, "C", START, null, null, 2, true);
+
+        assertEquals(6L, all.totalElements());
+        assertEquals(1L, filtered.totalElements());
+        assertTrue(auditArchiveService.reaches(START));
+    }
+
+    @Test
+    void coalescedArchivedEntriesCountAsOneRowButAllTheirEvents() {
+        YearMonth month = ARCHIVED_MONTH.minusMonths(1);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        save("G", month.atDay(1).atTime(10, 0), 4);
+        save("G", month.atDay(2).atTime(10, 0), 1);
+        auditArchiveService.archiveMonth(month).orElseThrow();
+
+        AuditLogCursorPage page = auditLogQueryService.getAuditLogPage(null, null, "G", start, null, null, 2, true);
+        Map<String, Long> statistics = auditLogQueryService.getEntityStatistics(start,
+                month.atEndOfMonth().atTime(23, 0));
+
+        assertEquals(2L, page.totalElements());
+        assertEquals(Map.of("G", 5L), statistics);
+    }
+
+    private Page<AuditLog> page(int index, Sort sort) {
+        return auditLogQueryService.getAuditLogs(null, null, null, START, null, PageRequest.of(index, 2, sort));
+    }
+
+    private static List<String> entities(Page<AuditLog> page) {
+        return page.getContent().stream().map(AuditLog::getTargetEntity).toList();
+    }
+
+    private void save(String entity, LocalDateTime timestamp) {
+        save(entity, timestamp, 1);
+    }
+
+    private void save(String entity, LocalDateTime timestamp, int eventCount) {
+        auditLogRepository.save(AuditLog.builder()
+                .userIdentifier("SYSTEM")
+                .action(AuditAction.UPDATE)
+                .targetEntity(entity)
+                .description("Updated " + entity)
+                .eventTimestamp(timestamp)
+                .eventCount(eventCount)
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package de.unipassau.allocationsystem.service.audit.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.unipassau.allocationsystem.config.JacksonConfig;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link AuditArchiveFile} and {@link AuditArchiveQuery}.
+ * <p>
+ * Validates block layout, the sparse index and reading single blocks back.
+ * </p>
+ */
+class AuditArchiveFileTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeSplitsIntoIndexedBlocks() throws IOException {
+        int count = AuditArchiveFile.BLOCK_SIZE * 2 + 500;
+        List<AuditArchiveRecord> entries = entries(count);
+
+        AuditArchiveFile.Index written = write(entries);
+        AuditArchiveFile.Index read = AuditArchiveFile.readIndex(tempDir.resolve("audit-2024-03.1.idx"));
+
+        assertEquals(written, read);
+        assertEquals(count, read.recordCount());
+        assertEquals(3, read.blocks().size());
+        assertEquals(500, read.blocks().get(2).count());
+        assertEquals(START.plusMinutes(AuditArchiveFile.BLOCK_SIZE), read.blocks().get(1).first());
+    }
+
+    @Test
+    void readBlockReturnsExactlyTheEntriesOfThatBlock() throws IOException {
+        List<AuditArchiveRecord> entries = entries(AuditArchiveFile.BLOCK_SIZE + 10);
+        AuditArchiveFile.Index index = write(entries);
+        ObjectReader reader = objectMapper.readerFor(AuditArchiveRecord.class);
+
+        List<AuditArchiveRecord> second = AuditArchiveFile.readBlock(
+                tempDir.resolve("audit-2024-03.1.ndjson.gz"), index.blocks().get(1), reader);
+
+        assertEquals(entries.subList(AuditArchiveFile.BLOCK_SIZE, entries.size()), second);
+    }
+
+    @Test
+    void queryMatchesFiltersAndSkipsBlocksOutsideRange() {
+        AuditArchiveQuery query = new AuditArchiveQuery(7L, AuditAction.VIEW, null,
+                START.plusMinutes(10), START.plusMinutes(20));
+
+        assertEquals(List.of(11L, 13L, 17L, 19L), entries(100).stream()
+                .filter(query::matches)
+                .map(AuditArchiveRecord::id)
+                .toList());
+        assertTrue(query.overlaps(START, START.plusMinutes(10)));
+        assertFalse(query.overlaps(START.plusMinutes(21), START.plusMinutes(30)));
+    }
+
+    private AuditArchiveFile.Index write(List<AuditArchiveRecord> entries) throws IOException {
+        return AuditArchiveFile.write(tempDir.resolve("audit-2024-03.1.ndjson.gz"), tempDir.resolve("audit-2024-03.1.idx"),
+                YearMonth.of(2024, 3), 1, entries.iterator(),
+                objectMapper.writerFor(AuditArchiveRecord.class).without(SerializationFeature.INDENT_OUTPUT));
+    }
+
+    private List<AuditArchiveRecord> entries(int count) {
+        List<AuditArchiveRecord> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Long userId = null;
+            if (i % 2 == 1) {
+                userId = 7L;
+            }
+            AuditAction action = AuditAction.VIEW;
+            if (i % 3 == 0) {
+                action = AuditAction.CREATE;
+            }
+            entries.add(new AuditArchiveRecord((long) i, userId, "user@example.com", action, "User", String.valueOf(i),
+                    "{\"name\":\n\"old\"}", null, "Entry " + i, START.plusMinutes(i), null, null, START, 1));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,116 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link AuditEventCoalescer}.
+ * <p>
+ * Validates that repeated views are written once per window with their count, that other actions pass through
+ * and that list views can be sampled out.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditEventCoalescerTest {
+
+    private static final long WINDOW = 60_000;
+
+    @Mock
+    private AuditLogWriter writer;
+
+    private AuditEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new AuditEventCoalescer(writer);
+        ReflectionTestUtils.setField(coalescer, "actions", Set.of(AuditAction.VIEW));
+        ReflectionTestUtils.setField(coalescer, "windowMillis", WINDOW);
+        ReflectionTestUtils.setField(coalescer, "listSampleRate", 1.0);
+    }
+
+    @Test
+    void repeatedViewsAreWrittenOncePerWindowWithCount() {
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed teacher 7"), 0);
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed teacher 7 again"), 10);
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed teacher 7 again"), WINDOW - 1);
+        coalescer.submit(event(AuditAction.VIEW, "8", "Viewed teacher 8"), 20);
+
+        assertEquals(0, coalescer.flush(WINDOW - 1));
+        verifyNoInteractions(writer);
+
+        assertEquals(2, coalescer.flush(WINDOW));
+        ArgumentCaptor<AuditEvent> written = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(writer, times(2)).submit(written.capture());
+        AuditEvent teacher7 = written.getAllValues().stream()
+                .filter(e -> "7".equals(e.targetRecordId()))
+                .findFirst().orElseThrow();
+        assertEquals(3, teacher7.eventCount());
+        assertEquals("Viewed teacher 7", teacher7.description());
+    }
+
+    @Test
+    void eventsOfNextWindowStartNewEntry() {
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed"), 0);
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed"), WINDOW);
+
+        coalescer.flush(WINDOW);
+        coalescer.flush(2 * WINDOW);
+
+        ArgumentCaptor<AuditEvent> written = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(writer, times(2)).submit(written.capture());
+        assertEquals(List.of(1, 1), written.getAllValues().stream().map(AuditEvent::eventCount).toList());
+    }
+
+    @Test
+    void otherActionsPassThroughImmediately() {
+        AuditEvent update = event(AuditAction.UPDATE, "7", "Updated teacher 7");
+
+        coalescer.submit(update, 0);
+
+        verify(writer).submit(update);
+    }
+
+    @Test
+    void listViewsCanBeSampledOut() {
+        ReflectionTestUtils.setField(coalescer, "listSampleRate", 0.0);
+
+        coalescer.submit(event(AuditAction.VIEW, null, "Viewed all teachers"), 0);
+        coalescer.flushAll();
+
+        verify(writer, never()).submit(any());
+    }
+
+    @Test
+    void shutdownFlushesOpenWindows() {
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed"), 0);
+        coalescer.submit(event(AuditAction.VIEW, "7", "Viewed"), 1);
+
+        coalescer.flushAll();
+
+        ArgumentCaptor<AuditEvent> written = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(writer).submit(written.capture());
+        assertEquals(2, written.getValue().eventCount());
+    }
+
+    private static AuditEvent event(AuditAction action, String recordId, String description) {
+        return new AuditEvent(3L, "teacher@uni-passau.de", action, "Teacher", recordId, null, null, description,
+                LocalDateTime.of(2025, 3, 1, 10, 0), "127.0.0.1", "JUnit", 1);
+    }
+}
@@ -0,0 +1,167 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.auditlog.AuditPipelineStatsDto;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.service.audit.rollup.AuditRollupService;
+import de.unipassau.allocationsystem.service.audit.search.AuditSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AuditLogWriter}.
+ * <p>
+ * Validates that queued events are written in batches, including those still queued at shutdown, and that a full
+ * buffer drops and counts events without stalling the caller beyond the capped block timeout.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    private static final int CAPACITY = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AuditRollupService rollupService;
+
+    @Mock
+    private AuditSearchIndex searchIndex;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<AuditEvent> inserted = new ArrayList<>();
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new AuditLogWriter(jdbcTemplate, transactionManager, new ObjectMapper(), rollupService, searchIndex);
+        ReflectionTestUtils.setField(writer, "capacity", CAPACITY);
+        ReflectionTestUtils.setField(writer, "batchSize", 500);
+        ReflectionTestUtils.setField(writer, "lingerMillis", 1L);
+        ReflectionTestUtils.setField(writer, "overflowPolicy", AuditOverflowPolicy.DROP);
+        ReflectionTestUtils.setField(writer, "blockTimeoutMillis", 20L);
+        ReflectionTestUtils.setField(writer, "spillFilePath", tempDir.resolve("spill.ndjson").toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        writer.stop();
+    }
+
+    @Test
+    void queuedEventsAreWrittenBeforeShutdown() {
+        recordInserts(false);
+        writer.start();
+
+        writer.submit(event("1"));
+        writer.submit(event("2"));
+        writer.stop();
+
+        assertEquals(List.of("1", "2"), inserted.stream().map(AuditEvent::targetRecordId).toList());
+        AuditPipelineStatsDto stats = writer.getStats();
+        assertEquals(2, stats.getEnqueued());
+        assertEquals(2, stats.getWritten());
+        assertEquals(0, stats.getDropped());
+        verify(rollupService, atLeastOnce()).addLate(any());
+        verify(searchIndex, atLeastOnce()).markDirty();
+    }
+
+    @Test
+    void fullBufferDropsAndCountsEvents() throws InterruptedException {
+        recordInserts(true);
+        writer.start();
+        writer.submit(event("1"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        for (int i = 2; i <= CAPACITY + 3; i++) {
+            writer.submit(event(String.valueOf(i)));
+        }
+
+        AuditPipelineStatsDto stats = writer.getStats();
+        assertEquals(1 + CAPACITY, stats.getEnqueued());
+        assertEquals(2, stats.getDropped());
+        assertEquals(CAPACITY, stats.getQueueDepth());
+
+        release.countDown();
+        writer.stop();
+        assertEquals(1 + CAPACITY, writer.getStats().getWritten());
+    }
+
+    @Test
+    void blockingProducersGiveUpAfterTheCappedTimeout() throws InterruptedException {
+        ReflectionTestUtils.setField(writer, "overflowPolicy", AuditOverflowPolicy.BLOCK);
+        ReflectionTestUtils.setField(writer, "blockTimeoutMillis", 60_000L);
+        recordInserts(true);
+        writer.start();
+        writer.submit(event("1"));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        writer.submit(event("2"));
+        writer.submit(event("3"));
+
+        long start = System.nanoTime();
+        writer.submit(event("4"));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(waitedMillis >= AuditLogWriter.MAX_BLOCK_TIMEOUT_MILLIS / 2, "waited " + waitedMillis + " ms");
+        assertTrue(waitedMillis < 5_000, "waited " + waitedMillis + " ms");
+        assertEquals(1, writer.getStats().getDropped());
+    }
+
+    /**
+     * Records the inserted events; if {@code block} is set, the first batch waits until the test releases it.
+     */
+    private void recordInserts(boolean block) {
+        doAnswer(invocation -> {
+            Collection<AuditEvent> batch = invocation.getArgument(1);
+            synchronized (inserted) {
+                inserted.addAll(batch);
+            }
+            writing.countDown();
+            if (block) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    private static AuditEvent event(String recordId) {
+        return new AuditEvent(3L, "teacher@uni-passau.de", AuditAction.UPDATE, "Teacher", recordId, null, null,
+                "Updated teacher " + recordId, LocalDateTime.of(2025, 3, 1, 10, 0), "127.0.0.1", "JUnit", 1);
+    }
+}
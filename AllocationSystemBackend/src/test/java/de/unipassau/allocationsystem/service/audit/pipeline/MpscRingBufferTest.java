@@ -0,0 +1,96 @@
+package de.unipassau.allocationsystem.service.audit.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link MpscRingBuffer}.
+ * <p>
+ * Validates capacity handling, FIFO order and that concurrent producers lose no elements.
+ * </p>
+ */
+class MpscRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpAndFullBufferRejectsOffers() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+    }
+
+    @Test
+    void drainReturnsElementsInOrderAcrossWrapAround() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 3; i++) {
+                buffer.offer(round * 10 + i);
+            }
+            assertEquals(3, buffer.drainTo(drained, 10));
+        }
+
+        assertEquals(List.of(0, 1, 2, 10, 11, 12, 20, 21, 22), drained);
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void concurrentProducersDeliverEveryElementOnce() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            Set<Integer> received = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+                buffer.drainTo(batch, 100);
+                received.addAll(batch);
+                batch.clear();
+            }
+
+            assertEquals(producers * perProducer, received.size());
+            assertNull(buffer.poll());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package de.unipassau.allocationsystem.service.audit.rollup;
+
+import de.unipassau.allocationsystem.entity.AuditLog;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.AuditLogQueryService;
+import de.unipassau.allocationsystem.service.audit.pipeline.AuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Integration tests for {@link AuditRollupService}.
+ * <p>
+ * Uses audit logs on a day in the future, so the compacted hours only contain the logs of the test.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AuditRollupServiceTest {
+
+    private final AuditRollupService rollupService;
+    private final AuditLogQueryService queryService;
+    private final AuditLogRepository auditLogRepository;
+
+    private LocalDateTime day;
+
+    @Autowired
+    AuditRollupServiceTest(AuditRollupService rollupService,
+                           AuditLogQueryService queryService,
+                           AuditLogRepository auditLogRepository) {
+        this.rollupService = rollupService;
+        this.queryService = queryService;
+        this.auditLogRepository = auditLogRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        day = LocalDateTime.now().plusDays(40).truncatedTo(ChronoUnit.DAYS);
+        save(AuditAction.CREATE, "User", day.withHour(10).withMinute(15));
+        save(AuditAction.CREATE, "User", day.withHour(10).withMinute(45));
+        save(AuditAction.UPDATE, "User", day.withHour(11).withMinute(20));
+        save(AuditAction.DELETE, "Role", day.withHour(13).withMinute(5));
+    }
+
+    @Test
+    void compactAggregatesClosedHours() {
+        assertEquals(day.withHour(12), rollupService.compactUntil(day.withHour(12).withMinute(30)));
+
+        Map<String, Long> counts = sum(AuditRollupService.Dimension.ACTION, day.withHour(10), day.withHour(14));
+        assertEquals(2L, counts.get("CREATE"));
+        assertEquals(1L, counts.get("UPDATE"));
+        assertNull(counts.get("DELETE"));
+
+        Map<String, Long> users = sum(AuditRollupService.Dimension.USER, day.withHour(10), day.withHour(11));
+        assertEquals(2L, users.get("rollup@example.com"));
+    }
+
+    @Test
+    void compactIsIdempotent() {
+        rollupService.compactUntil(day.withHour(12));
+        assertEquals(day.withHour(12), rollupService.compactUntil(day.withHour(11)));
+        rollupService.compactUntil(day.withHour(12).withMinute(59));
+
+        Map<String, Long> counts = sum(AuditRollupService.Dimension.ENTITY, day, day.plusDays(1));
+        assertEquals(3L, counts.get("User"));
+    }
+
+    @Test
+    void statisticsCombineRollupsWithPartialHours() {
+        rollupService.compactUntil(day.withHour(12));
+
+        Map<String, Long> statistics = queryService.getActionStatistics(
+                day.withHour(10).withMinute(30), day.withHour(13).withMinute(30));
+
+        assertEquals(1L, statistics.get("CREATE"));
+        assertEquals(1L, statistics.get("UPDATE"));
+        assertEquals(1L, statistics.get("DELETE"));
+    }
+
+    @Test
+    void lateEventsAreAddedToCompactedHours() {
+        LocalDateTime hour = LocalDateTime.now().minusHours(3).truncatedTo(ChronoUnit.HOURS);
+        rollupService.compactUntil(LocalDateTime.now().minusHours(1));
+        long before = sum(AuditRollupService.Dimension.ENTITY, hour, hour.plusHours(1)).getOrDefault("LateEntity", 0L);
+
+        rollupService.addLate(List.of(new AuditEvent(null, "rollup@example.com", AuditAction.VIEW, "LateEntity", "1",
+                null, null, "Viewed late", hour.plusMinutes(10), null, null, 3)));
+
+        Map<String, Long> counts = sum(AuditRollupService.Dimension.ENTITY, hour, hour.plusHours(1));
+        assertEquals(before + 3, counts.get("LateEntity"));
+    }
+
+    private void save(AuditAction action, String entity, LocalDateTime timestamp) {
+        auditLogRepository.save(AuditLog.builder()
+                .userIdentifier("rollup@example.com")
+                .action(action)
+                .targetEntity(entity)
+                .targetRecordId("1")
+                .eventTimestamp(timestamp)
+                .build());
+    }
+
+    private Map<String, Long> sum(AuditRollupService.Dimension dimension, LocalDateTime from, LocalDateTime to) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rollupService.sum(dimension, from, to)) {
+            counts.put(String.valueOf(row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+}
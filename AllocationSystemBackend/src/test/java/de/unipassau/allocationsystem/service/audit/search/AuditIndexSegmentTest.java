@@ -0,0 +1,117 @@
+package de.unipassau.allocationsystem.service.audit.search;
+
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link AuditIndexSegment} and {@link AuditTextTokenizer}.
+ * <p>
+ * Validates matching with filters, ranking input, the file round trip and merging.
+ * </p>
+ */
+class AuditIndexSegmentTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 1, 10, 0);
+    private static final AuditArchiveQuery ALL = new AuditArchiveQuery(null, null, null, null, null);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokenizerSplitsEmailsAndDropsShortWords() {
+        assertEquals(List.of("anna", "berger", "uni", "passau", "de"),
+                AuditTextTokenizer.queryTerms("Anna.Berger@uni-passau.de, a"));
+    }
+
+    @Test
+    void matchRequiresAllTermsAndAppliesFilters() {
+        AuditIndexSegment segment = sampleSegment();
+
+        assertEquals(List.of(1L, 3L), matches(segment, List.of("berger"), ALL));
+        assertEquals(List.of(1L), matches(segment, List.of("anna", "created"), ALL));
+        assertEquals(List.of(3L), matches(segment, List.of("berger"),
+                new AuditArchiveQuery(7L, AuditAction.UPDATE, "Teacher", TIME, TIME)));
+        assertEquals(List.of(), matches(segment, List.of("berger", "unknown"), ALL));
+    }
+
+    @Test
+    void frequentTermsScoreHigher() {
+        AuditIndexSegment segment = sampleSegment();
+        List<Double> scores = new ArrayList<>();
+
+        segment.match(List.of("berger"), new double[]{1}, ALL, (id, score) -> scores.add(score));
+
+        // "Berger" occurs twice in log 1 and once in log 3
+        assertTrue(scores.get(0) > scores.get(1));
+    }
+
+    @Test
+    void writeAndReadRoundTripsSegment() throws IOException {
+        Path file = tempDir.resolve("segment-1" + AuditIndexSegment.EXTENSION);
+        sampleSegment().write(file);
+
+        AuditIndexSegment read = AuditIndexSegment.read(file);
+
+        assertEquals(2, read.docCount());
+        assertEquals(3L, read.maxId());
+        assertEquals(2, read.documentFrequency("berger"));
+        assertEquals(List.of(3L), matches(read, List.of("passau"), new AuditArchiveQuery(7L, null, null, null, null)));
+    }
+
+    @Test
+    void readRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("broken" + AuditIndexSegment.EXTENSION);
+        Files.write(file, new byte[]{1, 2, 3});
+
+        assertThrows(IOException.class, () -> AuditIndexSegment.read(file));
+    }
+
+    @Test
+    void mergeDropsRemovedAndDuplicateLogs() {
+        AuditIndexSegment newer = new AuditIndexSegment.Builder()
+                .add(row(5L, null, AuditAction.VIEW, "School", "Viewed school Berger Schule", null))
+                .add(row(3L, 7L, AuditAction.UPDATE, "Teacher", "Updated teacher", null))
+                .build();
+
+        AuditIndexSegment merged = AuditIndexSegment.merge(List.of(sampleSegment(), newer), 2L);
+
+        assertEquals(2, merged.docCount());
+        assertEquals(5L, merged.maxId());
+        assertEquals(List.of(3L, 5L), matches(merged, List.of("berger"), ALL));
+    }
+
+    private static AuditIndexSegment sampleSegment() {
+        return new AuditIndexSegment.Builder()
+                .add(row(3L, 7L, AuditAction.UPDATE, "Teacher", "Updated teacher",
+                        "{\"email\":\"anna.berger@uni-passau.de\"}"))
+                .add(row(1L, null, AuditAction.CREATE, "Teacher", "Created teacher Anna Berger",
+                        "{\"lastName\":\"Berger\"}"))
+                .build();
+    }
+
+    private static AuditLogIndexRow row(Long id, Long userId, AuditAction action, String entity,
+                                        String description, String newValue) {
+        return new AuditLogIndexRow(id, userId, TIME, action, entity, description, null, newValue);
+    }
+
+    private static List<Long> matches(AuditIndexSegment segment, List<String> terms, AuditArchiveQuery filter) {
+        List<Long> ids = new ArrayList<>();
+        double[] weights = new double[terms.size()];
+        segment.match(terms, weights, filter, (id, score) -> ids.add(id));
+        return ids;
+    }
+}
@@ -0,0 +1,104 @@
+package de.unipassau.allocationsystem.service.audit.search;
+
+import de.unipassau.allocationsystem.dto.auditlog.AuditLogIndexRow;
+import de.unipassau.allocationsystem.entity.AuditLog.AuditAction;
+import de.unipassau.allocationsystem.repository.AuditLogRepository;
+import de.unipassau.allocationsystem.service.audit.archive.AuditArchiveQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AuditSearchIndex}.
+ * <p>
+ * Validates that logs deleted by retention disappear from results and totals before the segments are merged, and
+ * that a merge indexes logs the refreshes missed.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditSearchIndexTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2025, 3, 1, 10, 0);
+    private static final AuditArchiveQuery ALL = new AuditArchiveQuery(null, null, null, null, null);
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private AuditSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AuditSearchIndex(auditLogRepository);
+        ReflectionTestUtils.setField(index, "directory", tempDir.toString());
+        ReflectionTestUtils.setField(index, "batchSize", 1000);
+        ReflectionTestUtils.setField(index, "segmentSize", 50000);
+        ReflectionTestUtils.setField(index, "maxSegments", 8);
+        index.load();
+
+        when(auditLogRepository.findIndexRows(anyLong(), any())).thenReturn(List.of(
+                row(1L, "Updated teacher Berger"),
+                row(2L, "Updated teacher Berger"),
+                row(3L, "Updated teacher Berger")));
+        when(auditLogRepository.findMinId()).thenReturn(Optional.of(1L));
+        index.refresh();
+    }
+
+    @Test
+    void searchSkipsLogsRemovedByRetentionBeforeTheNextMerge() {
+        assertEquals(List.of(3L, 2L, 1L), ids(index.search("berger", ALL)));
+
+        when(auditLogRepository.findMinId()).thenReturn(Optional.of(3L));
+        index.logsRemoved();
+
+        assertEquals(List.of(3L), ids(index.search("berger", ALL)));
+    }
+
+    @Test
+    void searchFindsNothingOnceTheTableIsEmpty() {
+        when(auditLogRepository.findMinId()).thenReturn(Optional.empty());
+        index.logsRemoved();
+
+        assertEquals(List.of(), ids(index.search("berger", ALL)));
+    }
+
+    @Test
+    void mergeIndexesLogsCommittedBelowTheRescanWindow() {
+        when(auditLogRepository.findIndexRows(anyLong(), any()))
+                .thenReturn(List.of(row(500L, "Updated teacher Berger")));
+        index.refresh();
+        assertEquals(List.of(500L, 3L, 2L, 1L), ids(index.search("berger", ALL)));
+
+        // Log 4 committed after 500 was indexed and lies below the rescan window
+        when(auditLogRepository.findIdsBetween(anyLong(), anyLong(), any())).thenReturn(List.of(1L, 2L, 3L, 4L, 500L));
+        when(auditLogRepository.findIndexRowsByIdIn(List.of(4L)))
+                .thenReturn(List.of(row(4L, "Updated teacher Berger")));
+        index.merge();
+
+        assertEquals(List.of(500L, 4L, 3L, 2L, 1L), ids(index.search("berger", ALL)));
+    }
+
+    private static List<Long> ids(List<AuditSearchIndex.Hit> hits) {
+        return hits.stream().map(AuditSearchIndex.Hit::id).toList();
+    }
+
+    private static AuditLogIndexRow row(Long id, String description) {
+        return new AuditLogIndexRow(id, null, TIME, AuditAction.UPDATE, "Teacher", description, null, null);
+    }
+}
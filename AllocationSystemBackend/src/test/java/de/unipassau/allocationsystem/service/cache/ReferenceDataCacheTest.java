@@ -0,0 +1,118 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.ZoneConstraint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReferenceDataCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataCacheTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager loader;
+
+    @Mock
+    private TypedQuery<InternshipType> typeQuery;
+
+    private DataVersionService dataVersionService;
+    private ReferenceDataCache referenceDataCache;
+    private InternshipType type;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = new DataVersionService();
+        referenceDataCache = new ReferenceDataCache(entityManager, entityManagerFactory, dataVersionService);
+        ReflectionTestUtils.setField(referenceDataCache, "enabled", true);
+        type = new InternshipType();
+        type.setId(1L);
+        type.setInternshipCode("SFP");
+    }
+
+    @Test
+    void repeatedReadsShareOneSnapshot() {
+        stubLoader();
+
+        List<InternshipType> first = referenceDataCache.getAll(InternshipType.class);
+        List<InternshipType> second = referenceDataCache.getAll(InternshipType.class);
+
+        assertEquals(List.of(type), first);
+        assertSame(first, second);
+        verify(entityManagerFactory, times(1)).createEntityManager();
+        verify(loader).close();
+    }
+
+    @Test
+    void committedChangeReloadsSnapshot() {
+        stubLoader();
+        referenceDataCache.getAll(InternshipType.class);
+
+        dataVersionService.bumpTable(InternshipType.class);
+        referenceDataCache.getAll(InternshipType.class);
+
+        verify(entityManagerFactory, times(2)).createEntityManager();
+    }
+
+    @Test
+    void changeToUnrelatedTableKeepsSnapshot() {
+        stubLoader();
+        referenceDataCache.getAll(InternshipType.class);
+
+        dataVersionService.bumpTable(ZoneConstraint.class);
+        referenceDataCache.getAll(InternshipType.class);
+
+        verify(entityManagerFactory, times(1)).createEntityManager();
+    }
+
+    @Test
+    void disabledCacheQueriesCurrentTransaction() {
+        ReflectionTestUtils.setField(referenceDataCache, "enabled", false);
+        when(entityManager.createQuery(anyString(), eq(InternshipType.class))).thenReturn(typeQuery);
+        when(typeQuery.getResultList()).thenReturn(List.of(type));
+
+        referenceDataCache.getAll(InternshipType.class);
+        referenceDataCache.getAll(InternshipType.class);
+
+        verify(typeQuery, times(2)).getResultList();
+        verify(entityManagerFactory, never()).createEntityManager();
+    }
+
+    @Test
+    void rejectsTablesThatAreNotReferenceData() {
+        assertThrows(IllegalArgumentException.class, () -> referenceDataCache.getAll(Teacher.class));
+    }
+
+    private void stubLoader() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(loader);
+        when(loader.createQuery(anyString(), eq(InternshipType.class))).thenReturn(typeQuery);
+        when(typeQuery.getResultList()).thenReturn(List.of(type));
+    }
+}
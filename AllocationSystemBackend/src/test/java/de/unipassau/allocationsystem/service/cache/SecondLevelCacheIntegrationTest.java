@@ -0,0 +1,102 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.School.SchoolType;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.testutil.TestSchoolFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests of the Hibernate second-level and query caches, with committed data.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SchoolRepository schoolRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private School school;
+
+    @Autowired
+    SecondLevelCacheIntegrationTest(EntityManagerFactory entityManagerFactory,
+                                    SchoolRepository schoolRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.schoolRepository = schoolRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        school = schoolRepository.save(TestSchoolFactory.buildTestSchool(
+                null, "L2 School " + UUID.randomUUID(), SchoolType.PRIMARY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        schoolRepository.deleteById(school.getId());
+    }
+
+    @Test
+    void entityLoadsAreServedFromTheCache() {
+        findInNewSession(school.getId());
+        long hits = statistics.getSecondLevelCacheHitCount();
+
+        School cached = findInNewSession(school.getId());
+
+        assertEquals(school.getSchoolName(), cached.getSchoolName());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hits);
+    }
+
+    @Test
+    void committedUpdatesReplaceCachedEntities() {
+        findInNewSession(school.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            School managed = schoolRepository.findById(school.getId()).orElseThrow();
+            managed.setZoneNumber(3);
+        });
+
+        assertEquals(3, findInNewSession(school.getId()).getZoneNumber());
+    }
+
+    @Test
+    void naturalKeyLookupsUseTheQueryCache() {
+        schoolRepository.findBySchoolName(school.getSchoolName());
+        long hits = statistics.getQueryCacheHitCount();
+
+        School found = schoolRepository.findBySchoolName(school.getSchoolName()).orElseThrow();
+
+        assertEquals(school.getId(), found.getId());
+        assertTrue(statistics.getQueryCacheHitCount() > hits);
+    }
+
+    private School findInNewSession(Long id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(School.class, id);
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package de.unipassau.allocationsystem.service.cache;
+
+import de.unipassau.allocationsystem.entity.RolePermission;
+import de.unipassau.allocationsystem.entity.User;
+import de.unipassau.allocationsystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link UserCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    private static final String EMAIL = "teacher@uni-passau.de";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private DataVersionService dataVersionService;
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = new DataVersionService();
+        userCache = new UserCache(userRepository, dataVersionService);
+        ReflectionTestUtils.setField(userCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userCache, "maxSize", 10);
+        user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+    }
+
+    @Test
+    void repeatedLookupsHitTheCache() {
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        assertSame(user, userCache.findByEmail(EMAIL).orElseThrow());
+        assertSame(user, userCache.findByEmail(EMAIL).orElseThrow());
+
+        verify(userRepository, times(1)).findWithRoleByEmail(EMAIL);
+    }
+
+    @Test
+    void committedUserChangeInvalidatesEntries() {
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.of(user));
+        userCache.findByEmail(EMAIL);
+
+        dataVersionService.bumpTable(User.class);
+        dataVersionService.bumpUser(1L);
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findWithRoleByEmail(EMAIL);
+    }
+
+    @Test
+    void changeToOtherUserKeepsEntry() {
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.of(user));
+        userCache.findByEmail(EMAIL);
+
+        dataVersionService.bumpTable(User.class);
+        dataVersionService.bumpUser(2L);
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(1)).findWithRoleByEmail(EMAIL);
+    }
+
+    @Test
+    void rolePermissionChangeInvalidatesEntries() {
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.of(user));
+        userCache.findByEmail(EMAIL);
+
+        dataVersionService.bumpTable(RolePermission.class);
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findWithRoleByEmail(EMAIL);
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        ReflectionTestUtils.setField(userCache, "ttlSeconds", 0L);
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        userCache.findByEmail(EMAIL);
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findWithRoleByEmail(EMAIL);
+    }
+
+    @Test
+    void unknownEmailIsNotCached() {
+        when(userRepository.findWithRoleByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertTrue(userCache.findByEmail(EMAIL).isEmpty());
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findWithRoleByEmail(EMAIL);
+    }
+}
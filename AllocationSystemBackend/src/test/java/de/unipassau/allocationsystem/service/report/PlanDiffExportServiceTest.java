@@ -0,0 +1,55 @@
+package de.unipassau.allocationsystem.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffEntryDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffSummaryDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the CSV output of {@link PlanDiffExportService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlanDiffExportServiceTest {
+
+    @Mock
+    private PlanDiffService diffService;
+
+    @Test
+    void writeCsvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        PlanDiffEntryDto entry = PlanDiffEntryDto.builder()
+                .changeType(PlanDiffEntryDto.ChangeType.CHANGED)
+                .teacherId(7L)
+                .teacherName("Doe, \"Jo\"")
+                .internshipTypeId(1L)
+                .internshipCode("PDP\r1")
+                .subjectId(2L)
+                .subjectCode("MA\n2")
+                .baseStudentGroupSize(2)
+                .targetStudentGroupSize(3)
+                .changedFields(List.of("studentGroupSize"))
+                .build();
+        when(diffService.diff(eq(1L), eq(2L), any())).thenAnswer(invocation -> {
+            invocation.<PlanDiffService.EntrySink>getArgument(2).accept(entry);
+            return PlanDiffSummaryDto.builder().build();
+        });
+        PlanDiffExportService exportService = new PlanDiffExportService(diffService, new ObjectMapper());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeCsv(1L, 2L, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", 2);
+        assertEquals("CHANGED,7,\"Doe, \"\"Jo\"\"\",1,\"PDP\r1\",2,\"MA\n2\",2,3,,,,,studentGroupSize\n", lines[1]);
+    }
+}
@@ -0,0 +1,107 @@
+package de.unipassau.allocationsystem.service.report;
+
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffDeltaDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffEntryDto;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffRow;
+import de.unipassau.allocationsystem.dto.report.plandiff.PlanDiffSummaryDto;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.exception.ResourceNotFoundException;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PlanDiffService}.
+ * <p>
+ * Validates the merge-join of two sorted plan streams and the aggregated deltas.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class PlanDiffServiceTest {
+
+    @Mock
+    private AllocationPlanRepository planRepository;
+
+    @Mock
+    private TeacherAssignmentRepository assignmentRepository;
+
+    @InjectMocks
+    private PlanDiffService planDiffService;
+
+    @Test
+    void diffReportsAddedRemovedAndChangedInKeyOrder() throws Exception {
+        when(assignmentRepository.streamDiffRowsByPlanId(1L)).thenReturn(Stream.of(
+                row(10L, 100L, 2, TeacherAssignment.AssignmentStatus.PLANNED),
+                row(10L, 200L, 1, TeacherAssignment.AssignmentStatus.PLANNED),
+                row(20L, 100L, 1, TeacherAssignment.AssignmentStatus.CONFIRMED)));
+        when(assignmentRepository.streamDiffRowsByPlanId(2L)).thenReturn(Stream.of(
+                row(10L, 100L, 3, TeacherAssignment.AssignmentStatus.PLANNED),
+                row(20L, 100L, 1, TeacherAssignment.AssignmentStatus.CONFIRMED),
+                row(20L, 200L, 4, TeacherAssignment.AssignmentStatus.PLANNED)));
+
+        List<PlanDiffEntryDto> entries = new ArrayList<>();
+        PlanDiffSummaryDto summary = planDiffService.diff(1L, 2L, entries::add);
+
+        assertEquals(3, entries.size());
+        assertEquals(PlanDiffEntryDto.ChangeType.CHANGED, entries.get(0).getChangeType());
+        assertEquals(List.of("studentGroupSize"), entries.get(0).getChangedFields());
+        assertEquals(PlanDiffEntryDto.ChangeType.REMOVED, entries.get(1).getChangeType());
+        assertEquals(200L, entries.get(1).getSubjectId());
+        assertEquals(PlanDiffEntryDto.ChangeType.ADDED, entries.get(2).getChangeType());
+        assertEquals(20L, entries.get(2).getTeacherId());
+
+        assertEquals(1, summary.getAdded());
+        assertEquals(1, summary.getRemoved());
+        assertEquals(1, summary.getChanged());
+        assertEquals(1, summary.getUnchanged());
+
+        PlanDiffDeltaDto teacher10 = summary.getTeacherDeltas().get(0);
+        assertEquals(10L, teacher10.getId());
+        assertEquals(-1, teacher10.getAssignmentDelta());
+        assertEquals(0, teacher10.getStudentDelta());
+
+        PlanDiffDeltaDto subject200 = summary.getSubjectDeltas().get(1);
+        assertEquals(200L, subject200.getId());
+        assertEquals(0, subject200.getAssignmentDelta());
+        assertEquals(3, subject200.getStudentDelta());
+    }
+
+    @Test
+    void diffOfEmptyBaseReportsEverythingAsAdded() throws Exception {
+        when(assignmentRepository.streamDiffRowsByPlanId(1L)).thenReturn(Stream.empty());
+        when(assignmentRepository.streamDiffRowsByPlanId(2L)).thenReturn(Stream.of(
+                row(10L, 100L, 1, TeacherAssignment.AssignmentStatus.PLANNED),
+                row(11L, 100L, 1, TeacherAssignment.AssignmentStatus.PLANNED)));
+
+        PlanDiffSummaryDto summary = planDiffService.diff(1L, 2L, entry -> { });
+
+        assertEquals(2, summary.getAdded());
+        assertEquals(0, summary.getRemoved());
+        assertEquals(2, summary.getTeacherDeltas().size());
+    }
+
+    @Test
+    void assertPlansExistThrowsForUnknownPlan() {
+        when(planRepository.existsById(1L)).thenReturn(true);
+        when(planRepository.existsById(2L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> planDiffService.assertPlansExist(1L, 2L));
+    }
+
+    private PlanDiffRow row(Long teacherId, Long subjectId, int groupSize, TeacherAssignment.AssignmentStatus status) {
+        return new PlanDiffRow(teacherId, "First", "Last" + teacherId, 5L, "PDP1",
+                subjectId, "S" + subjectId, groupSize, status, false);
+    }
+}
@@ -0,0 +1,94 @@
+package de.unipassau.allocationsystem.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link NgramIndex}.
+ * <p>
+ * Validates substring and prefix matching, updates and removals, compaction and the match limit.
+ * </p>
+ */
+class NgramIndexTest {
+
+    @Test
+    void findsSubstringsCaseInsensitively() {
+        NgramIndex index = sampleIndex();
+
+        assertEquals(Set.of(1L, 3L), match(index, "BERG").ids());
+        assertEquals(Set.of(2L), match(index, "mayer@uni").ids());
+        assertEquals(Set.of(), match(index, "bergerx").ids());
+    }
+
+    @Test
+    void shortTermsScanAllDocuments() {
+        NgramIndex index = sampleIndex();
+
+        assertEquals(Set.of(1L, 2L, 3L), match(index, "er").ids());
+        assertEquals(Set.of(2L), match(index, "y").ids());
+    }
+
+    @Test
+    void reportsPrefixMatches() {
+        NgramIndex index = sampleIndex();
+
+        SearchMatch result = match(index, "berg");
+
+        assertEquals(Set.of(1L, 3L), result.ids());
+        assertEquals(Set.of(3L), result.prefixIds());
+    }
+
+    @Test
+    void putReplacesValuesAndRemoveDropsDocument() {
+        NgramIndex index = sampleIndex();
+
+        index.put(1L, "Anna", "Schmidt", null);
+        index.remove(2L);
+        index.remove(99L);
+
+        assertEquals(Set.of(3L), match(index, "berger").ids());
+        assertEquals(Set.of(1L), match(index, "schmidt").ids());
+        assertEquals(Set.of(), match(index, "mayer").ids());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void compactionKeepsLiveDocuments() {
+        NgramIndex index = new NgramIndex();
+        IntStream.range(0, 3000).forEach(i -> index.put(i, "teacher" + i));
+        IntStream.range(0, 2500).forEach(i -> index.remove(i));
+
+        assertEquals(500, index.size());
+        assertEquals(Set.of(2999L), match(index, "teacher2999").ids());
+        assertEquals(Set.of(), match(index, "teacher1234").ids());
+        assertEquals(500, index.search("teacher", 1000).orElseThrow().ids().size());
+    }
+
+    @Test
+    void tooManyMatchesReturnEmpty() {
+        NgramIndex index = sampleIndex();
+
+        assertTrue(index.search("er", 2).isEmpty());
+        assertTrue(index.search("berger", 2).isPresent());
+    }
+
+    private static SearchMatch match(NgramIndex index, String term) {
+        Optional<SearchMatch> result = index.search(term, 100);
+        assertTrue(result.isPresent());
+        return result.get();
+    }
+
+    private static NgramIndex sampleIndex() {
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Anna", "Weinberger", "anna.weinberger@uni-passau.de");
+        index.put(2L, "Peter", "Mayer", "peter.mayer@uni-passau.de");
+        index.put(3L, "Berger", "Lukas", "lukas.b@example.org");
+        return index;
+    }
+}
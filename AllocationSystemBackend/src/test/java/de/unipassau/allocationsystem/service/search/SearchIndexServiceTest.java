@@ -0,0 +1,162 @@
+package de.unipassau.allocationsystem.service.search;
+
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import de.unipassau.allocationsystem.service.SchoolService;
+import de.unipassau.allocationsystem.service.SubjectService;
+import de.unipassau.allocationsystem.service.TeacherService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for searches served by {@link SearchIndexService}.
+ * <p>
+ * The test profile disables the index because test data is usually rolled back, so it is enabled here and the
+ * data is committed, reaching the index through its post-commit listener, and removed after each test. Every
+ * search term is unique to the test, so data committed by other tests cannot match it.
+ * </p>
+ */
+@SpringBootTest(properties = "search.index.enabled=true")
+@ActiveProfiles("test")
+class SearchIndexServiceTest {
+
+    private final SearchIndexService searchIndexService;
+    private final SchoolService schoolService;
+    private final TeacherService teacherService;
+    private final SubjectService subjectService;
+    private final SchoolRepository schoolRepository;
+    private final TeacherRepository teacherRepository;
+    private final SubjectRepository subjectRepository;
+    private final SubjectCategoryRepository subjectCategoryRepository;
+
+    private String term;
+    private School prefixSchool;
+    private School otherSchool;
+    private Teacher teacher;
+    private SubjectCategory category;
+    private Subject subject;
+
+    @Autowired
+    SearchIndexServiceTest(SearchIndexService searchIndexService,
+                           SchoolService schoolService,
+                           TeacherService teacherService,
+                           SubjectService subjectService,
+                           SchoolRepository schoolRepository,
+                           TeacherRepository teacherRepository,
+                           SubjectRepository subjectRepository,
+                           SubjectCategoryRepository subjectCategoryRepository) {
+        this.searchIndexService = searchIndexService;
+        this.schoolService = schoolService;
+        this.teacherService = teacherService;
+        this.subjectService = subjectService;
+        this.schoolRepository = schoolRepository;
+        this.teacherRepository = teacherRepository;
+        this.subjectRepository = subjectRepository;
+        this.subjectCategoryRepository = subjectCategoryRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        // The scheduled initial load may still be running; load synchronously so the test never races it
+        searchIndexService.rebuild();
+        term = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+
+        prefixSchool = schoolRepository.save(school(term + " Grundschule"));
+        otherSchool = schoolRepository.save(school("Mittelschule " + term));
+
+        Teacher t = new Teacher();
+        t.setFirstName("Anna");
+        t.setLastName("Berger-" + term);
+        t.setEmail("anna.berger+" + UUID.randomUUID() + "@example.com");
+        t.setEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+        t.setSchool(otherSchool);
+        teacher = teacherRepository.save(t);
+
+        SubjectCategory c = new SubjectCategory();
+        c.setCategoryTitle("Search Category " + term);
+        category = subjectCategoryRepository.save(c);
+
+        Subject s = new Subject();
+        s.setSubjectCode("SRCH-" + term.substring(2, 8));
+        s.setSubjectTitle("Mathematik " + term);
+        s.setSubjectCategory(category);
+        s.setIsActive(true);
+        subject = subjectRepository.save(s);
+    }
+
+    @AfterEach
+    void tearDown() {
+        teacherRepository.deleteById(teacher.getId());
+        subjectRepository.deleteById(subject.getId());
+        subjectCategoryRepository.deleteById(category.getId());
+        schoolRepository.findById(prefixSchool.getId()).ifPresent(schoolRepository::delete);
+        schoolRepository.findById(otherSchool.getId()).ifPresent(schoolRepository::delete);
+    }
+
+    @Test
+    void schoolSearchIsServedFromTheIndexWithPrefixMatchesFirst() {
+        assertTrue(searchIndexService.find(School.class, term).isPresent());
+
+        List<Long> ids = ids(schoolService.getPaginated(Map.of(), term.toUpperCase()));
+
+        assertEquals(List.of(prefixSchool.getId(), otherSchool.getId()), ids);
+    }
+
+    @Test
+    void teacherSearchIsServedFromTheIndex() {
+        assertTrue(searchIndexService.find(Teacher.class, term).isPresent());
+
+        assertEquals(List.of(teacher.getId()), ids(teacherService.getPaginated(Map.of(), "berger-" + term)));
+    }
+
+    @Test
+    void subjectSearchIsServedFromTheIndex() {
+        assertTrue(searchIndexService.find(Subject.class, term).isPresent());
+
+        assertEquals(List.of(subject.getId()), ids(subjectService.getPaginated(Map.of(), term)));
+    }
+
+    @Test
+    void committedUpdatesAndDeletesReachTheIndex() {
+        String renamed = "zq" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        otherSchool.setSchoolName("Realschule " + renamed);
+        schoolRepository.save(otherSchool);
+        schoolRepository.deleteById(prefixSchool.getId());
+
+        assertEquals(List.of(otherSchool.getId()), ids(schoolService.getPaginated(Map.of(), renamed)));
+        assertEquals(List.of(), ids(schoolService.getPaginated(Map.of(), term)));
+    }
+
+    private static School school(String name) {
+        School school = new School();
+        school.setSchoolName(name);
+        school.setZoneNumber(1);
+        school.setSchoolType(School.SchoolType.PRIMARY);
+        school.setIsActive(true);
+        return school;
+    }
+
+    private static List<Long> ids(Map<String, Object> page) {
+        return ((List<?>) page.get("items")).stream()
+                .map(item -> (Long) new BeanWrapperImpl(item).getPropertyValue("id"))
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package de.unipassau.allocationsystem.service.summary;
+
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary.Dimension;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit tests for the summary keys computed by {@link PlanSummaryListener}.
+ */
+class PlanSummaryListenerTest {
+
+    @Test
+    void keysCoverEveryAssignmentOwnedDimension() {
+        Teacher teacher = new Teacher();
+        teacher.setId(7L);
+        InternshipType type = new InternshipType();
+        type.setId(11L);
+        Subject subject = new Subject();
+        subject.setId(13L);
+
+        Map<Dimension, String> keys = PlanSummaryListener.keysOf(teacher, type, subject,
+                TeacherAssignment.AssignmentStatus.PLANNED);
+
+        assertEquals("", keys.get(Dimension.TOTAL));
+        assertEquals("7", keys.get(Dimension.TEACHER));
+        assertEquals("11", keys.get(Dimension.INTERNSHIP_TYPE));
+        assertEquals("13", keys.get(Dimension.SUBJECT));
+        assertEquals("PLANNED", keys.get(Dimension.STATUS));
+        assertEquals(5, keys.size());
+    }
+
+    @Test
+    void keysNeverIncludeSchoolDimensions() {
+        Teacher teacher = new Teacher();
+        teacher.setId(7L);
+
+        Map<Dimension, String> keys = PlanSummaryListener.keysOf(teacher, null, null, null);
+
+        assertEquals(2, keys.size());
+        assertFalse(keys.containsKey(Dimension.SCHOOL_TYPE));
+        assertFalse(keys.containsKey(Dimension.ZONE));
+    }
+}
@@ -0,0 +1,289 @@
+package de.unipassau.allocationsystem.service.summary;
+
+import de.unipassau.allocationsystem.entity.AcademicYear;
+import de.unipassau.allocationsystem.entity.AllocationPlan;
+import de.unipassau.allocationsystem.entity.InternshipType;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary;
+import de.unipassau.allocationsystem.entity.PlanAssignmentSummary.Dimension;
+import de.unipassau.allocationsystem.entity.School;
+import de.unipassau.allocationsystem.entity.Subject;
+import de.unipassau.allocationsystem.entity.SubjectCategory;
+import de.unipassau.allocationsystem.entity.Teacher;
+import de.unipassau.allocationsystem.entity.TeacherAssignment;
+import de.unipassau.allocationsystem.entity.TeacherAssignment.AssignmentStatus;
+import de.unipassau.allocationsystem.repository.AcademicYearRepository;
+import de.unipassau.allocationsystem.repository.AllocationPlanRepository;
+import de.unipassau.allocationsystem.repository.InternshipTypeRepository;
+import de.unipassau.allocationsystem.repository.PlanAssignmentSummaryRepository;
+import de.unipassau.allocationsystem.repository.SchoolRepository;
+import de.unipassau.allocationsystem.repository.SubjectCategoryRepository;
+import de.unipassau.allocationsystem.repository.SubjectRepository;
+import de.unipassau.allocationsystem.repository.TeacherAssignmentRepository;
+import de.unipassau.allocationsystem.repository.TeacherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the assignment counts maintained by {@link PlanSummaryListener} and read through
+ * {@link PlanSummaryService}.
+ * <p>
+ * The summary is written when a transaction commits, so the test data is committed and removed after each test.
+ * </p>
+ */
+@SpringBootTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+class PlanSummaryServiceTest {
+
+    private final PlanSummaryService planSummaryService;
+    private final PlanAssignmentSummaryRepository summaryRepository;
+    private final AcademicYearRepository academicYearRepository;
+    private final AllocationPlanRepository allocationPlanRepository;
+    private final SchoolRepository schoolRepository;
+    private final TeacherRepository teacherRepository;
+    private final InternshipTypeRepository internshipTypeRepository;
+    private final SubjectCategoryRepository subjectCategoryRepository;
+    private final SubjectRepository subjectRepository;
+    private final TeacherAssignmentRepository teacherAssignmentRepository;
+
+    private AcademicYear year;
+    private AllocationPlan plan;
+    private School primarySchool;
+    private School middleSchool;
+    private Teacher teacher;
+    private InternshipType internshipType;
+    private SubjectCategory category;
+    private Subject math;
+    private Subject physics;
+
+    @Autowired
+    PlanSummaryServiceTest(
+            PlanSummaryService planSummaryService,
+            PlanAssignmentSummaryRepository summaryRepository,
+            AcademicYearRepository academicYearRepository,
+            AllocationPlanRepository allocationPlanRepository,
+            SchoolRepository schoolRepository,
+            TeacherRepository teacherRepository,
+            InternshipTypeRepository internshipTypeRepository,
+            SubjectCategoryRepository subjectCategoryRepository,
+            SubjectRepository subjectRepository,
+            TeacherAssignmentRepository teacherAssignmentRepository
+    ) {
+        this.planSummaryService = planSummaryService;
+        this.summaryRepository = summaryRepository;
+        this.academicYearRepository = academicYearRepository;
+        this.allocationPlanRepository = allocationPlanRepository;
+        this.schoolRepository = schoolRepository;
+        this.teacherRepository = teacherRepository;
+        this.internshipTypeRepository = internshipTypeRepository;
+        this.subjectCategoryRepository = subjectCategoryRepository;
+        this.subjectRepository = subjectRepository;
+        this.teacherAssignmentRepository = teacherAssignmentRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        year = new AcademicYear();
+        year.setYearName("Summary-" + suffix);
+        year.setTotalCreditHours(10);
+        year.setElementarySchoolHours(4);
+        year.setMiddleSchoolHours(6);
+        year.setBudgetAnnouncementDate(LocalDateTime.now());
+        year = academicYearRepository.save(year);
+
+        plan = new AllocationPlan();
+        plan.setAcademicYear(year);
+        plan.setPlanName("Summary Plan");
+        plan.setPlanVersion("v1");
+        plan.setStatus(AllocationPlan.PlanStatus.DRAFT);
+        plan = allocationPlanRepository.save(plan);
+
+        primarySchool = saveSchool("Summary Primary " + suffix, School.SchoolType.PRIMARY, 1);
+        middleSchool = saveSchool("Summary Middle " + suffix, School.SchoolType.MIDDLE, 2);
+
+        teacher = new Teacher();
+        teacher.setFirstName("Sam");
+        teacher.setLastName("Summary");
+        teacher.setEmail("sam.summary+" + suffix + "@example.com");
+        teacher.setEmploymentStatus(Teacher.EmploymentStatus.ACTIVE);
+        teacher.setSchool(primarySchool);
+        teacher = teacherRepository.save(teacher);
+
+        internshipType = new InternshipType();
+        internshipType.setInternshipCode("SUM-" + suffix);
+        internshipType.setFullName("Summary Internship");
+        internshipType.setSemester(1);
+        internshipType = internshipTypeRepository.save(internshipType);
+
+        category = new SubjectCategory();
+        category.setCategoryTitle("Summary Category " + suffix);
+        category = subjectCategoryRepository.save(category);
+
+        math = saveSubject("MA-" + suffix);
+        physics = saveSubject("PH-" + suffix);
+    }
+
+    @AfterEach
+    void tearDown() {
+        teacherAssignmentRepository.deleteAll(teacherAssignmentRepository.findByAllocationPlanId(plan.getId()));
+        summaryRepository.deleteAll(summaryRepository.findByPlanId(plan.getId()));
+        allocationPlanRepository.deleteById(plan.getId());
+        academicYearRepository.deleteById(year.getId());
+        teacherRepository.deleteById(teacher.getId());
+        schoolRepository.deleteById(primarySchool.getId());
+        schoolRepository.deleteById(middleSchool.getId());
+        internshipTypeRepository.deleteById(internshipType.getId());
+        subjectRepository.deleteById(math.getId());
+        subjectRepository.deleteById(physics.getId());
+        subjectCategoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    void insertsUpdatesAndDeletesAdjustTheStoredCounts() {
+        planSummaryService.getTotal(plan.getId());
+        TeacherAssignment first = saveAssignment(math, AssignmentStatus.PLANNED);
+        saveAssignment(physics, AssignmentStatus.PLANNED);
+
+        assertEquals(Map.of(
+                Dimension.TOTAL, Map.of("", 2L),
+                Dimension.TEACHER, Map.of(teacher.getId().toString(), 2L),
+                Dimension.INTERNSHIP_TYPE, Map.of(internshipType.getId().toString(), 2L),
+                Dimension.SUBJECT, Map.of(math.getId().toString(), 1L, physics.getId().toString(), 1L),
+                Dimension.STATUS, Map.of("PLANNED", 2L),
+                Dimension.SCHOOL_TYPE, Map.of("PRIMARY", 2L),
+                Dimension.ZONE, Map.of("1", 2L)), planSummaryService.getSummary(plan.getId()));
+
+        first.setAssignmentStatus(AssignmentStatus.CONFIRMED);
+        first = teacherAssignmentRepository.save(first);
+
+        assertEquals(Map.of("PLANNED", 1L, "CONFIRMED", 1L),
+                planSummaryService.getCounts(plan.getId(), Dimension.STATUS));
+
+        teacherAssignmentRepository.delete(first);
+
+        assertEquals(1L, planSummaryService.getTotal(plan.getId()));
+        assertEquals(Map.of("PLANNED", 1L), planSummaryService.getCounts(plan.getId(), Dimension.STATUS));
+        assertStoredCountsAreAssignmentOwned();
+    }
+
+    @Test
+    void schoolCountsFollowTeachersMovingSchools() {
+        planSummaryService.getTotal(plan.getId());
+        saveAssignment(math, AssignmentStatus.PLANNED);
+        saveAssignment(physics, AssignmentStatus.PLANNED);
+
+        teacher.setSchool(middleSchool);
+        teacher = teacherRepository.save(teacher);
+
+        assertEquals(Map.of("MIDDLE", 2L), planSummaryService.getCounts(plan.getId(), Dimension.SCHOOL_TYPE));
+        assertEquals(Map.of("2", 2L), planSummaryService.getCounts(plan.getId(), Dimension.ZONE));
+
+        teacherAssignmentRepository.deleteAll(teacherAssignmentRepository.findByAllocationPlanId(plan.getId()));
+
+        assertEquals(Map.of(), planSummaryService.getCounts(plan.getId(), Dimension.SCHOOL_TYPE));
+        assertStoredCountsAreAssignmentOwned();
+    }
+
+    @Test
+    void schoolCountsFollowSchoolTypeAndZoneChanges() {
+        planSummaryService.getTotal(plan.getId());
+        saveAssignment(math, AssignmentStatus.PLANNED);
+
+        primarySchool.setSchoolType(School.SchoolType.MIDDLE);
+        primarySchool.setZoneNumber(3);
+        primarySchool = schoolRepository.save(primarySchool);
+
+        assertEquals(Map.of("MIDDLE", 1L), planSummaryService.getCounts(plan.getId(), Dimension.SCHOOL_TYPE));
+        assertEquals(1L, planSummaryService.getCount(plan.getId(), Dimension.ZONE, "3"));
+    }
+
+    @Test
+    void schoolCountsOfAPlanWithoutSummaryAreCountedAndTheSummaryRebuilt() {
+        saveAssignment(math, AssignmentStatus.PLANNED);
+        saveAssignment(physics, AssignmentStatus.PLANNED);
+        summaryRepository.deleteAll(summaryRepository.findByPlanId(plan.getId()));
+
+        assertEquals(Map.of("PRIMARY", 2L), planSummaryService.getCounts(plan.getId(), Dimension.SCHOOL_TYPE));
+        assertTrue(summaryRepository.findByPlanIdAndDimensionAndDimensionKey(plan.getId(), Dimension.TOTAL, "")
+                .isPresent());
+        assertEquals(Map.of("1", 2L), planSummaryService.getCounts(plan.getId(), Dimension.ZONE));
+    }
+
+    @Test
+    void changeToAPlanWithoutSummaryMarksItStaleUntilTheNextRead() {
+        saveAssignment(math, AssignmentStatus.PLANNED);
+        // A rebuild that read the assignments before the change committed
+        summaryRepository.save(new PlanAssignmentSummary(null, plan.getId(), Dimension.TOTAL, "", 0));
+
+        assertTrue(summaryRepository.findByPlanIdAndDimensionAndDimensionKey(plan.getId(), Dimension.STALE, "")
+                .isPresent());
+        assertEquals(1L, planSummaryService.getTotal(plan.getId()));
+        assertTrue(summaryRepository.findByPlanIdAndDimensionAndDimensionKey(plan.getId(), Dimension.STALE, "")
+                .isEmpty());
+    }
+
+    @Test
+    void rebuildAllOnlyRebuildsMissingAndStaleSummaries() {
+        saveAssignment(math, AssignmentStatus.PLANNED);
+        planSummaryService.getTotal(plan.getId());
+        PlanAssignmentSummary total = summaryRepository
+                .findByPlanIdAndDimensionAndDimensionKey(plan.getId(), Dimension.TOTAL, "").orElseThrow();
+        total.setAssignmentCount(5);
+        summaryRepository.save(total);
+
+        planSummaryService.rebuildAll();
+        assertEquals(5L, planSummaryService.getTotal(plan.getId()));
+
+        summaryRepository.save(new PlanAssignmentSummary(null, plan.getId(), Dimension.STALE, "", 0));
+        planSummaryService.rebuildAll();
+        assertEquals(1L, planSummaryService.getTotal(plan.getId()));
+    }
+
+    private void assertStoredCountsAreAssignmentOwned() {
+        for (PlanAssignmentSummary row : summaryRepository.findByPlanId(plan.getId())) {
+            assertTrue(row.getAssignmentCount() >= 0, () -> "negative count " + row.getDimension());
+            assertTrue(row.getDimension() != Dimension.SCHOOL_TYPE && row.getDimension() != Dimension.ZONE,
+                    () -> "stored school count " + row.getDimension());
+        }
+    }
+
+    private School saveSchool(String name, School.SchoolType type, int zone) {
+        School school = new School();
+        school.setSchoolName(name);
+        school.setSchoolType(type);
+        school.setZoneNumber(zone);
+        school.setIsActive(true);
+        return schoolRepository.save(school);
+    }
+
+    private Subject saveSubject(String code) {
+        Subject subject = new Subject();
+        subject.setSubjectCode(code);
+        subject.setSubjectTitle(code);
+        subject.setSubjectCategory(category);
+        subject.setIsActive(true);
+        return subjectRepository.save(subject);
+    }
+
+    private TeacherAssignment saveAssignment(Subject subject, AssignmentStatus status) {
+        TeacherAssignment assignment = new TeacherAssignment();
+        assignment.setAllocationPlan(plan);
+        assignment.setTeacher(teacher);
+        assignment.setInternshipType(internshipType);
+        assignment.setSubject(subject);
+        assignment.setAssignmentStatus(status);
+        return teacherAssignmentRepository.save(assignment);
+    }
+}
@@ -0,0 +1,68 @@
+package de.unipassau.allocationsystem.testutil;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread, to assert how many statements a request
+ * issues.
+ * <p>
+ * Registered for the test profile through {@code hibernate.session_factory.statement_inspector}. MockMvc runs a
+ * request on the test thread, so statements of concurrent background work, such as the audit log writer, are not
+ * counted.
+ * </p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets the statements recorded so far on the current thread.
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * Returns the statements recorded on the current thread since the last {@link #reset()}.
+     *
+     * @return the SQL of the statements, in order
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Runs an action and returns the statements it issued on the current thread.
+     *
+     * @param action the action to run
+     * @return the SQL of the statements, in order
+     * @throws Exception if the action fails
+     */
+    public static List<String> record(Action action) throws Exception {
+        reset();
+        action.run();
+        return statements();
+    }
+
+    /**
+     * Action that may throw, such as a MockMvc request.
+     */
+    @FunctionalInterface
+    public interface Action {
+        /**
+         * Runs the action.
+         *
+         * @throws Exception if the action fails
+         */
+        void run() throws Exception;
+    }
+}